@@ -0,0 +1,214 @@
+package com.sdl.dxa.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import com.sdl.dxa.api.datamodel.DataModelSpringConfiguration;
+import com.sdl.dxa.benchmarks.model.Article;
+import com.sdl.dxa.benchmarks.model.ContentList;
+import com.sdl.dxa.benchmarks.model.ItemList;
+import com.sdl.dxa.benchmarks.model.Place;
+import com.sdl.dxa.benchmarks.model.Teaser;
+import com.sdl.dxa.caching.LocalizationAwareKeyGenerator;
+import com.sdl.dxa.caching.LocalizationIdProvider;
+import com.sdl.dxa.caching.NamedCacheProvider;
+import com.sdl.dxa.caching.WebRequestContextLocalizationIdProvider;
+import com.sdl.dxa.caching.wrapper.EntitiesCache;
+import com.sdl.dxa.caching.wrapper.PagesCopyingCache;
+import com.sdl.dxa.tridion.mapping.ModelBuilderPipeline;
+import com.sdl.dxa.tridion.mapping.impl.DefaultModelBuilder;
+import com.sdl.dxa.tridion.mapping.impl.ModelBuilderPipelineImpl;
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.content.LinkResolver;
+import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.mapping.semantic.SemanticMapper;
+import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingRegistry;
+import com.sdl.webapp.common.api.mapping.semantic.config.EntitySemantics;
+import com.sdl.webapp.common.api.mapping.semantic.config.FieldSemantics;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticField;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticSchema;
+import com.sdl.webapp.common.api.mapping.views.AbstractModuleInitializer;
+import com.sdl.webapp.common.api.mapping.views.RegisteredViewModel;
+import com.sdl.webapp.common.api.mapping.views.RegisteredViewModels;
+import com.sdl.webapp.common.api.model.ViewModelRegistry;
+import com.sdl.webapp.common.api.model.page.DefaultPageModel;
+import com.sdl.webapp.common.api.model.region.RegionModelImpl;
+import com.sdl.webapp.common.impl.localization.LocalizationImpl;
+import com.sdl.webapp.common.impl.mapping.SemanticMapperImpl;
+import com.sdl.webapp.common.impl.mapping.SemanticMappingRegistryImpl;
+import com.sdl.webapp.common.impl.model.ViewModelRegistryImpl;
+import com.sdl.webapp.common.util.ApplicationContextHolder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.sdl.webapp.common.api.mapping.semantic.config.SemanticVocabulary.SDL_CORE_VOCABULARY;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Spring context of the model builder benchmarks. Real framework beans are used wherever possible, only the request
+ * context and the cache provider are stubbed. Caching is disabled, so every benchmark iteration does the full work.
+ * <p>Semantic schemas and views match the entities of the recorded page {@code fixtures/page-model.json}.</p>
+ */
+@Configuration
+@ComponentScan("com.sdl.dxa.tridion.mapping.converter")
+public class BenchmarkConfiguration {
+
+    static final long PAGE_SCHEMA_ID = 10015L;
+
+    static final long ARTICLE_SCHEMA_ID = 80L;
+
+    @Bean
+    public ObjectMapper objectMapper() {
+        return new DataModelSpringConfiguration().dxaR2ObjectMapper();
+    }
+
+    @Bean
+    public Localization localization() {
+        return LocalizationImpl.newBuilder()
+                .setId("8")
+                .setPath("")
+                .setMediaRoot("/media/")
+                .addResources(ImmutableMap.of("core.pageTitleSeparator", "|", "core.pageTitlePostfix", "My Site"))
+                .addSemanticSchema(schema(PAGE_SCHEMA_ID, "PageMetadata"))
+                .addSemanticSchema(schema(ARTICLE_SCHEMA_ID, "Article",
+                        field("Article", "headline"),
+                        embedded("Article", "articleBody", "Paragraph", "subheading", "content", "caption")))
+                .addSemanticSchema(schema(139L, "ItemList",
+                        field("ItemList", "headline"),
+                        embedded("ItemList", "itemListElement", "Teaser", "subheading", "content")))
+                .addSemanticSchema(schema(3288L, "Place",
+                        field("Place", "name"), field("Place", "address"), field("Place", "telephone"),
+                        field("Place", "faxNumber"), field("Place", "email")))
+                .addSemanticSchema(schema(3263L, "ContentList", field("ContentList", "headline")))
+                .addSemanticSchema(schema(2829L, "Teaser"))
+                .build();
+    }
+
+    @Bean
+    public WebRequestContext webRequestContext() {
+        // stubOnly() as invocations must not be recorded during millions of benchmark calls
+        WebRequestContext webRequestContext = mock(WebRequestContext.class, withSettings().stubOnly());
+        Localization localization = localization();
+        when(webRequestContext.getLocalization()).thenReturn(localization);
+        return webRequestContext;
+    }
+
+    @Bean
+    public NamedCacheProvider namedCacheProvider() {
+        NamedCacheProvider cacheProvider = mock(NamedCacheProvider.class, withSettings().stubOnly());
+        when(cacheProvider.isCacheEnabled()).thenReturn(false);
+        when(cacheProvider.isCacheEnabled(anyString())).thenReturn(false);
+        return cacheProvider;
+    }
+
+    @Bean
+    public LinkResolver linkResolver() {
+        return (url, localizationId, resolveToBinary) -> url;
+    }
+
+    @Bean
+    public LocalizationIdProvider localizationIdProvider() {
+        return new WebRequestContextLocalizationIdProvider();
+    }
+
+    @Bean
+    public LocalizationAwareKeyGenerator localizationAwareKeyGenerator() {
+        return new LocalizationAwareKeyGenerator();
+    }
+
+    @Bean
+    public PagesCopyingCache pagesCopyingCache() {
+        return new PagesCopyingCache();
+    }
+
+    @Bean
+    public EntitiesCache entitiesCache() {
+        return new EntitiesCache();
+    }
+
+    @Bean
+    public DefaultModelBuilder defaultModelBuilder() {
+        return new DefaultModelBuilder();
+    }
+
+    @Bean
+    public ModelBuilderPipeline modelBuilderPipeline() {
+        return new ModelBuilderPipelineImpl();
+    }
+
+    @Bean
+    public SemanticMapper semanticMapper() {
+        return new SemanticMapperImpl(semanticMappingRegistry());
+    }
+
+    @Bean
+    public SemanticMappingRegistry semanticMappingRegistry() {
+        return new SemanticMappingRegistryImpl();
+    }
+
+    @Bean
+    public ViewModelRegistry viewModelRegistry() {
+        return new ViewModelRegistryImpl();
+    }
+
+    @Bean
+    public ApplicationContextHolder applicationContextHolder() {
+        return new ApplicationContextHolder();
+    }
+
+    @Bean
+    public BenchmarkViewsInitializer benchmarkViewsInitializer() {
+        return new BenchmarkViewsInitializer();
+    }
+
+    private static SemanticSchema schema(long id, String entityName, SemanticField... fields) {
+        Map<FieldSemantics, SemanticField> semanticFields = new HashMap<>();
+        for (SemanticField field : fields) {
+            semanticFields.put(new FieldSemantics(SDL_CORE_VOCABULARY, entityName, field.getName()), field);
+        }
+        return new SemanticSchema(id, entityName,
+                Collections.singleton(new EntitySemantics(SDL_CORE_VOCABULARY, entityName)), semanticFields);
+    }
+
+    private static SemanticField field(String entityName, String name) {
+        return new SemanticField(name, "/" + entityName + "/" + name, false, Collections.emptyMap());
+    }
+
+    private static SemanticField embedded(String entityName, String name, String embeddedEntityName, String... embeddedNames) {
+        String path = "/" + entityName + "/" + name;
+        Map<FieldSemantics, SemanticField> embeddedFields = new HashMap<>();
+        for (String embeddedName : embeddedNames) {
+            embeddedFields.put(new FieldSemantics(SDL_CORE_VOCABULARY, embeddedEntityName, embeddedName),
+                    new SemanticField(embeddedName, path + "/" + embeddedName, false, Collections.emptyMap()));
+        }
+        return new SemanticField(name, path, true, embeddedFields);
+    }
+
+    @RegisteredViewModels({
+            @RegisteredViewModel(viewName = "GeneralPage", modelClass = DefaultPageModel.class),
+            @RegisteredViewModel(viewName = "Header", modelClass = RegionModelImpl.class),
+            @RegisteredViewModel(viewName = "Footer", modelClass = RegionModelImpl.class),
+            @RegisteredViewModel(viewName = "Hero", modelClass = RegionModelImpl.class),
+            @RegisteredViewModel(viewName = "Main", modelClass = RegionModelImpl.class),
+            @RegisteredViewModel(viewName = "3-Column", modelClass = RegionModelImpl.class),
+            @RegisteredViewModel(viewName = "Article", modelClass = Article.class),
+            @RegisteredViewModel(viewName = "Carousel", modelClass = ItemList.class),
+            @RegisteredViewModel(viewName = "TeaserMap", modelClass = Place.class),
+            @RegisteredViewModel(viewName = "List", modelClass = ContentList.class, controllerName = "List"),
+            @RegisteredViewModel(viewName = "YouTubeVideo", modelClass = Teaser.class)
+    })
+    static class BenchmarkViewsInitializer extends AbstractModuleInitializer {
+
+        @Override
+        protected String getAreaName() {
+            return "Core";
+        }
+    }
+}
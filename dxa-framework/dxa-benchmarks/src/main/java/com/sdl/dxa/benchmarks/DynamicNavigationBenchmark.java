@@ -0,0 +1,250 @@
+package com.sdl.dxa.benchmarks;
+
+import com.sdl.dxa.api.datamodel.model.SitemapItemModelData;
+import com.sdl.dxa.api.datamodel.model.TaxonomyNodeModelData;
+import com.sdl.dxa.common.dto.SitemapRequestDto;
+import com.sdl.dxa.tridion.navigation.dynamic.DynamicNavigationModelProviderImpl;
+import com.sdl.web.api.dynamic.taxonomies.WebTaxonomyFactory;
+import com.sdl.webapp.common.api.navigation.NavigationFilter;
+import com.tridion.ItemTypes;
+import com.tridion.meta.PageMeta;
+import com.tridion.meta.PageMetaFactory;
+import com.tridion.taxonomies.Keyword;
+import com.tridion.taxonomies.TaxonomyFilter;
+import com.tridion.taxonomies.TaxonomyRelationManager;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Builds taxonomy navigation of a synthetic taxonomy of {@value #KEYWORDS} keywords
+ * with {@link DynamicNavigationModelProviderImpl}.
+ * <p>Each keyword has {@value #CHILDREN_PER_KEYWORD} child keywords and {@value #PAGES_PER_KEYWORD} pages.
+ * The broker is stubbed with mocks, so the time is mostly spent in the stubs. Taxonomy page lookups, which are
+ * broker calls on a real site, are reported next to the number of operations by {@link Lookups} counters.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DynamicNavigationBenchmark {
+
+    static final int KEYWORDS = 10000;
+
+    static final int CHILDREN_PER_KEYWORD = 10;
+
+    static final int PAGES_PER_KEYWORD = 2;
+
+    /**
+     * Number of keywords the page of {@link #ancestorsOfPage()} is classified with.
+     */
+    static final int PAGE_KEYWORDS = 100;
+
+    private static final int PUBLICATION_ID = 42;
+
+    private static final String TAXONOMY_URI = "tcm:42-1-512";
+
+    private static final String PAGE_URI = "tcm:42-1-64";
+
+    private final Map<String, Keyword> keywordsByUri = new HashMap<>();
+
+    private final Map<String, PageMeta[]> pagesByKeywordUri = new HashMap<>();
+
+    private final AtomicLong pageLookups = new AtomicLong();
+
+    private DynamicNavigationModelProviderImpl navigationModelProvider;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Keyword root = createTaxonomy();
+        Keyword[] pageAncestors = createPageAncestors();
+
+        WebTaxonomyFactory taxonomyFactory = mock(WebTaxonomyFactory.class, withSettings().stubOnly());
+        when(taxonomyFactory.getTaxonomies(anyString())).thenReturn(new String[]{TAXONOMY_URI});
+        when(taxonomyFactory.getTaxonomyKeywords(anyString(), any(TaxonomyFilter.class))).thenReturn(root);
+        when(taxonomyFactory.getTaxonomyKeywords(anyString(), any(TaxonomyFilter.class), anyString()))
+                .thenAnswer(invocation -> keywordsByUri.get((String) invocation.getArguments()[2]));
+
+        TaxonomyRelationManager relationManager = mock(TaxonomyRelationManager.class, withSettings().stubOnly());
+        when(relationManager.getTaxonomyKeywords(anyString(), eq(PAGE_URI), any(Keyword[].class), any(TaxonomyFilter.class), eq(ItemTypes.PAGE)))
+                .thenReturn(pageAncestors);
+
+        PageMetaFactory pageMetaFactory = mock(PageMetaFactory.class, withSettings().stubOnly());
+        when(pageMetaFactory.getTaxonomyPages(any(Keyword.class), anyBoolean()))
+                .thenAnswer(invocation -> {
+                    pageLookups.incrementAndGet();
+                    return pagesByKeywordUri.get(((Keyword) invocation.getArguments()[0]).getKeywordURI());
+                });
+
+        navigationModelProvider = new DynamicNavigationModelProviderImpl(taxonomyFactory, relationManager) {
+            {
+                taxonomyNavigationMarker = "[Taxonomy]";
+                sitemapItemTypeTaxonomyNode = "TaxonomyNode";
+                sitemapItemTypeStructureGroup = "StructureGroup";
+                sitemapItemTypePage = "Page";
+            }
+
+            @Override
+            protected PageMetaFactory createPageMetaFactory(int localizationId) {
+                return pageMetaFactory;
+            }
+        };
+    }
+
+    @Benchmark
+    public Optional<TaxonomyNodeModelData> navigationModel(Lookups lookups) {
+        long before = pageLookups.get();
+        Optional<TaxonomyNodeModelData> navigationModel =
+                navigationModelProvider.getNavigationModel(SitemapRequestDto.wholeTree(PUBLICATION_ID).build());
+        lookups.count(pageLookups.get() - before);
+        return navigationModel;
+    }
+
+    @Benchmark
+    public Optional<Collection<SitemapItemModelData>> ancestorsOfPage(Lookups lookups) {
+        long before = pageLookups.get();
+        Optional<Collection<SitemapItemModelData>> subtree = navigationModelProvider.getNavigationSubtree(SitemapRequestDto.builder(PUBLICATION_ID)
+                .sitemapId("t1-p1")
+                .navigationFilter(new NavigationFilter().setWithAncestors(true).setDescendantLevels(1))
+                .build());
+        lookups.count(pageLookups.get() - before);
+        return subtree;
+    }
+
+    /**
+     * Counts taxonomy page lookups and operations of a measurement iteration, their ratio is the number
+     * of lookups per operation.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Lookups {
+
+        public long pageLookups;
+
+        public long operations;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            pageLookups = 0;
+            operations = 0;
+        }
+
+        void count(long operationPageLookups) {
+            pageLookups += operationPageLookups;
+            operations++;
+        }
+    }
+
+    private Keyword createTaxonomy() {
+        Keyword root = keyword(TAXONOMY_URI, "[Taxonomy] Navigation");
+        List<Keyword> rootChildren = new ArrayList<>();
+        when(root.getKeywordChildren()).thenReturn(rootChildren);
+        when(root.hasKeywordChildren()).thenReturn(true);
+        keywordsByUri.put(TAXONOMY_URI, root);
+        pagesByKeywordUri.put(TAXONOMY_URI, new PageMeta[0]);
+
+        Map<Keyword, List<Keyword>> children = new HashMap<>();
+        children.put(root, rootChildren);
+
+        Queue<Keyword> parents = new ArrayDeque<>(Collections.singleton(root));
+        int keywordId = 2;
+        while (keywordId <= KEYWORDS) {
+            Keyword parent = parents.remove();
+            for (int i = 0; i < CHILDREN_PER_KEYWORD && keywordId <= KEYWORDS; i++, keywordId++) {
+                String uri = "tcm:42-" + keywordId + "-1024";
+                Keyword keyword = keyword(uri, String.format("%03d Keyword %d", i, keywordId));
+                List<Keyword> keywordChildren = new ArrayList<>();
+                when(keyword.getKeywordChildren()).thenReturn(keywordChildren);
+                when(keyword.getParentKeyword()).thenReturn(parent);
+                when(keyword.hasKeywordChildren()).thenReturn(true);
+                when(keyword.getReferencedContentCount()).thenReturn(PAGES_PER_KEYWORD);
+
+                children.get(parent).add(keyword);
+                children.put(keyword, keywordChildren);
+                keywordsByUri.put(uri, keyword);
+                pagesByKeywordUri.put(uri, pages(keywordId));
+                parents.add(keyword);
+            }
+        }
+        return root;
+    }
+
+    /**
+     * Creates ancestors of the page as the broker returns them: one chain of keywords from the root per classification.
+     */
+    private Keyword[] createPageAncestors() {
+        Keyword[] ancestors = new Keyword[PAGE_KEYWORDS];
+        int step = KEYWORDS / PAGE_KEYWORDS;
+        for (int i = 0; i < PAGE_KEYWORDS; i++) {
+            Keyword keyword = keywordsByUri.get("tcm:42-" + (KEYWORDS - i * step) + "-1024");
+            Keyword chain = null;
+            while (keyword != null) {
+                int referencedContentCount = keyword.getReferencedContentCount();
+                Keyword ancestor = keyword(keyword.getKeywordURI(), keyword.getKeywordName());
+                when(ancestor.getKeywordChildren()).thenReturn(chain == null ? Collections.emptyList() : Collections.singletonList(chain));
+                when(ancestor.hasKeywordChildren()).thenReturn(chain != null);
+                when(ancestor.getReferencedContentCount()).thenReturn(referencedContentCount);
+                chain = ancestor;
+                keyword = keyword.getParentKeyword();
+            }
+            ancestors[i] = chain;
+        }
+        return ancestors;
+    }
+
+    private static Keyword keyword(String uri, String name) {
+        Keyword keyword = mock(Keyword.class, withSettings().stubOnly());
+        when(keyword.getKeywordURI()).thenReturn(uri);
+        when(keyword.getTaxonomyURI()).thenReturn(TAXONOMY_URI);
+        when(keyword.getKeywordName()).thenReturn(name);
+        when(keyword.getKeywordKey()).thenReturn("");
+        return keyword;
+    }
+
+    private static PageMeta[] pages(int keywordId) {
+        Date publicationDate = new Date();
+        PageMeta[] pages = new PageMeta[PAGES_PER_KEYWORD];
+        for (int i = 0; i < PAGES_PER_KEYWORD; i++) {
+            int pageId = keywordId * PAGES_PER_KEYWORD + i;
+            PageMeta page = mock(PageMeta.class, withSettings().stubOnly());
+            when(page.getId()).thenReturn(pageId);
+            when(page.getTitle()).thenReturn(String.format("%03d Page %d", i, pageId));
+            when(page.getURLPath()).thenReturn(i == 0 ? "/keyword-" + keywordId + "/index.html" : "/keyword-" + keywordId + "/page-" + pageId + ".html");
+            when(page.getLastPublicationDate()).thenReturn(publicationDate);
+            pages[i] = page;
+        }
+        return pages;
+    }
+}
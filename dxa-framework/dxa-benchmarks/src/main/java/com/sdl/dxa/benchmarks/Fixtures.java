@@ -0,0 +1,79 @@
+package com.sdl.dxa.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.io.Resources;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Access to the recorded JSON fixtures in {@code fixtures/} on the classpath, so that the benchmarks run offline.
+ * <ul>
+ * <li>{@code page-model.json} is an R2 page model of the example site home page as returned by the Model Service</li>
+ * <li>{@code navigation.json} is the static navigation model of the example site</li>
+ * </ul>
+ * <p>Images are generated rather than recorded, see {@link #image(int, int, String)}.</p>
+ */
+final class Fixtures {
+
+    static final String PAGE_MODEL = "page-model.json";
+
+    static final String NAVIGATION = "navigation.json";
+
+    private Fixtures() {
+    }
+
+    static String read(String fixture) throws IOException {
+        return Resources.toString(Resources.getResource("fixtures/" + fixture), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Generates an image with gradients and seeded noise, so that it compresses like a photo and is the same on every run.
+     *
+     * @param width  width of the image
+     * @param height height of the image
+     * @param format image format name, like {@code jpg} or {@code png}
+     * @return content of the encoded image
+     * @throws IOException if the image cannot be encoded
+     */
+    static byte[] image(int width, int height, String format) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int noise = random.nextInt(32);
+                int red = Math.min(255, 255 * x / width + noise);
+                int green = Math.min(255, 255 * y / height + noise);
+                int blue = Math.min(255, 128 + noise);
+                image.setRGB(x, y, (red << 16) | (green << 8) | blue);
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, format, out)) {
+            throw new IllegalArgumentException("No image writer for format " + format);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Collects HTML fragments of all rich text fields in the given JSON tree.
+     *
+     * @param node      JSON tree of a model
+     * @param fragments list to add fragments to
+     */
+    static void collectRichTextFragments(JsonNode node, List<String> fragments) {
+        if ("RichTextData".equals(node.path("$type").asText()) && node.has("Fragments")) {
+            node.get("Fragments").forEach(fragment -> {
+                if (fragment.isTextual()) {
+                    fragments.add(fragment.asText());
+                }
+            });
+        }
+        node.forEach(child -> collectRichTextFragments(child, fragments));
+    }
+}
@@ -0,0 +1,138 @@
+package com.sdl.dxa.benchmarks;
+
+import com.sdl.webapp.common.api.content.ContentProviderException;
+import com.sdl.webapp.common.util.ImageResizer;
+import com.sdl.webapp.common.util.ImageUtils;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Resizes a generated image to a requested variant with {@link ImageResizer}, compared to reading
+ * the image header twice as the resizer did before ({@code headerReadTwice}) and to {@link ImageUtils#resizeImage}
+ * on the calling thread. Run with {@code -prof gc} to see allocations per resize. The 8000x6000 image is decoded
+ * with subsampling.
+ * <p>{@code resizerPeakHeap} reports by {@link PeakHeap} counters how much heap a single resize on the pool takes
+ * at most, measured after a GC; its time includes nothing meaningful.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ImageResizerBenchmark {
+
+    @Param({"jpg", "png"})
+    public String format;
+
+    @Param({"_w200", "_w300_h300_n"})
+    public String variant;
+
+    @Param({"2400x1600", "8000x6000"})
+    public String size;
+
+    private byte[] original;
+
+    private ImageUtils.StaticContentPathInfo pathInfo;
+
+    private ImageResizer resizer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        String[] widthHeight = size.split("x");
+        original = Fixtures.image(Integer.parseInt(widthHeight[0]), Integer.parseInt(widthHeight[1]), format);
+        pathInfo = new ImageUtils.StaticContentPathInfo("/media/image" + variant + "." + format);
+        resizer = new ImageResizer(1, 25_000_000);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        resizer.shutdown();
+    }
+
+    @Benchmark
+    public byte[] resizer() throws ContentProviderException {
+        return resizer.resize(original, pathInfo);
+    }
+
+    @Benchmark
+    public void headerReadTwice(Blackhole blackhole) throws ContentProviderException {
+        blackhole.consume(ImageUtils.getResizePixels(original, pathInfo));
+        blackhole.consume(ImageUtils.resizeImage(original, pathInfo));
+    }
+
+    @Benchmark
+    public byte[] resizeImage() throws ContentProviderException {
+        return ImageUtils.resizeImage(original, pathInfo);
+    }
+
+    @Benchmark
+    public byte[] resizerPeakHeap(PeakHeap peakHeap) throws ContentProviderException {
+        return resizer.resize(original, pathInfo);
+    }
+
+    /**
+     * Max number of kilobytes the heap grows by during a single operation of a measurement iteration. The heap
+     * is collected before every operation, so that only what the operation allocates counts, including its garbage
+     * as long as no GC runs meanwhile.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PeakHeap {
+
+        public long peakHeapKb;
+
+        private long baseline;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            peakHeapKb = 0;
+        }
+
+        @Setup(Level.Invocation)
+        public void collect() {
+            System.gc();
+            baseline = 0;
+            for (MemoryPoolMXBean pool : _heapPools()) {
+                pool.resetPeakUsage();
+                baseline += pool.getUsage().getUsed();
+            }
+        }
+
+        @TearDown(Level.Invocation)
+        public void measure() {
+            long peak = 0;
+            for (MemoryPoolMXBean pool : _heapPools()) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+            peakHeapKb = Math.max(peakHeapKb, (peak - baseline) / 1024);
+        }
+
+        private static List<MemoryPoolMXBean> _heapPools() {
+            return ManagementFactory.getMemoryPoolMXBeans().stream()
+                    .filter(pool -> pool.getType() == MemoryType.HEAP)
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.sdl.dxa.benchmarks;
+
+import com.sdl.webapp.common.api.model.PageModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the page model of the recorded page with {@code DefaultModelBuilder}, including entities, semantic mapping
+ * and link resolving, with caching disabled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelBuilderBenchmark {
+
+    @Benchmark
+    public PageModel buildPageModel(ModelBuilderState state) {
+        return state.modelBuilder.buildPageModel(null, state.pageModelData);
+    }
+}
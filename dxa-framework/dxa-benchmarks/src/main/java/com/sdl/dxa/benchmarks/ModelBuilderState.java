@@ -0,0 +1,84 @@
+package com.sdl.dxa.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sdl.dxa.api.datamodel.model.EntityModelData;
+import com.sdl.dxa.api.datamodel.model.PageModelData;
+import com.sdl.dxa.api.datamodel.model.RegionModelData;
+import com.sdl.dxa.tridion.mapping.impl.DefaultModelBuilder;
+import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.mapping.semantic.SemanticMapper;
+import com.sdl.webapp.common.api.model.PageModel;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Spring context of {@link BenchmarkConfiguration} with the recorded page model, shared by all model builder benchmarks.
+ */
+@State(Scope.Benchmark)
+public class ModelBuilderState {
+
+    AnnotationConfigApplicationContext context;
+
+    DefaultModelBuilder modelBuilder;
+
+    SemanticMapper semanticMapper;
+
+    Localization localization;
+
+    PageModelData pageModelData;
+
+    /**
+     * Page model built out of {@link #pageModelData} once on setup.
+     */
+    PageModel pageModel;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = new AnnotationConfigApplicationContext(BenchmarkConfiguration.class);
+        modelBuilder = context.getBean(DefaultModelBuilder.class);
+        semanticMapper = context.getBean(SemanticMapper.class);
+        localization = context.getBean(Localization.class);
+
+        pageModelData = context.getBean(ObjectMapper.class).readValue(Fixtures.read(Fixtures.PAGE_MODEL), PageModelData.class);
+        pageModel = modelBuilder.buildPageModel(null, pageModelData);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Nullable
+    EntityModelData findEntity(String id) {
+        return findEntity(pageModelData.getRegions(), id);
+    }
+
+    @Nullable
+    private static EntityModelData findEntity(@Nullable List<RegionModelData> regions, String id) {
+        if (regions == null) {
+            return null;
+        }
+        for (RegionModelData region : regions) {
+            if (region.getEntities() != null) {
+                for (EntityModelData entity : region.getEntities()) {
+                    if (id.equals(entity.getId())) {
+                        return entity;
+                    }
+                }
+            }
+            EntityModelData nested = findEntity(region.getRegions(), id);
+            if (nested != null) {
+                return nested;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,63 @@
+package com.sdl.dxa.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sdl.dxa.api.datamodel.DataModelSpringConfiguration;
+import com.sdl.dxa.api.datamodel.model.PageModelData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserializes the recorded R2 page model into {@link PageModelData} with the DXA R2 object mapper, whose polymorphic
+ * types are resolved by {@code ModelDataTypeIdResolver}.
+ * <p>{@link #treeToValue()} and {@link #treeToStringAndReadValue()} compare the two ways of mapping a JSON tree,
+ * as received from the GraphQL client, to the model.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PageModelDataDeserializationBenchmark {
+
+    private ObjectMapper objectMapper;
+
+    private String json;
+
+    private JsonNode tree;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        objectMapper = new DataModelSpringConfiguration().dxaR2ObjectMapper();
+        json = Fixtures.read(Fixtures.PAGE_MODEL);
+        tree = objectMapper.readTree(json);
+    }
+
+    @Benchmark
+    public PageModelData readValue() throws IOException {
+        return objectMapper.readValue(json, PageModelData.class);
+    }
+
+    @Benchmark
+    public PageModelData treeToValue() throws IOException {
+        return objectMapper.treeToValue(tree, PageModelData.class);
+    }
+
+    @Benchmark
+    public PageModelData treeToStringAndReadValue() throws IOException {
+        return objectMapper.readValue(tree.toString(), PageModelData.class);
+    }
+}
@@ -0,0 +1,57 @@
+package com.sdl.dxa.benchmarks;
+
+import com.sdl.dxa.caching.wrapper.PagesCopyingCache;
+import com.sdl.webapp.common.api.content.ConditionalEntityEvaluator;
+import com.sdl.webapp.common.api.model.PageModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copies the page model of the recorded page the way {@link PagesCopyingCache} does it for every cache hit.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PagesCopyingCacheBenchmark {
+
+    private final ExposedPagesCopyingCache pagesCopyingCache = new ExposedPagesCopyingCache();
+
+    private final List<ConditionalEntityEvaluator> evaluators = Collections.singletonList(entity -> true);
+
+    @Benchmark
+    public PageModel deepCopy(ModelBuilderState state) {
+        return pagesCopyingCache.copy(state.pageModel);
+    }
+
+    /**
+     * Copy of a cache hit filtered by an evaluator that keeps all entities, which is the most common case.
+     */
+    @Benchmark
+    public PageModel deepCopyAndFilter(ModelBuilderState state) {
+        PageModel copy = pagesCopyingCache.copy(state.pageModel);
+        copy.filterConditionalEntities(evaluators);
+        return copy;
+    }
+
+    private static final class ExposedPagesCopyingCache extends PagesCopyingCache {
+
+        @Override
+        protected PageModel copy(PageModel value) {
+            return super.copy(value);
+        }
+    }
+}
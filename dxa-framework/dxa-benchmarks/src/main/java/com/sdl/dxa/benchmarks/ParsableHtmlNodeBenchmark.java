@@ -0,0 +1,52 @@
+package com.sdl.dxa.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sdl.webapp.common.markup.html.ParsableHtmlNode;
+import org.jsoup.nodes.Element;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses all rich text fragments of the recorded page with {@link ParsableHtmlNode}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParsableHtmlNodeBenchmark {
+
+    private final List<String> fragments = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Fixtures.collectRichTextFragments(new ObjectMapper().readTree(Fixtures.read(Fixtures.PAGE_MODEL)), fragments);
+        if (fragments.isEmpty()) {
+            throw new IllegalStateException("No rich text fragments in the page fixture");
+        }
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) {
+        for (String fragment : fragments) {
+            Element element = new ParsableHtmlNode(fragment).getHtmlElement();
+            blackhole.consume(element);
+        }
+    }
+}
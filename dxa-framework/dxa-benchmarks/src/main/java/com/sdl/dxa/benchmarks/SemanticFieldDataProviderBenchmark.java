@@ -0,0 +1,91 @@
+package com.sdl.dxa.benchmarks;
+
+import com.sdl.dxa.api.datamodel.model.ContentModelData;
+import com.sdl.dxa.api.datamodel.model.EntityModelData;
+import com.sdl.dxa.api.datamodel.model.util.ListWrapper;
+import com.sdl.dxa.benchmarks.model.ItemList;
+import com.sdl.dxa.tridion.mapping.ModelBuilderPipeline;
+import com.sdl.dxa.tridion.mapping.converter.GenericSemanticModelDataConverter;
+import com.sdl.dxa.tridion.mapping.impl.DefaultSemanticFieldDataProvider;
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingException;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticSchema;
+import com.sdl.webapp.common.api.model.EntityModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maps a carousel with a long list of embedded teasers, made out of the teasers of the recorded carousel (1472).
+ * Every teaser is read through its own child {@link DefaultSemanticFieldDataProvider}, so the benchmark shows
+ * the cost of the provider tree rather than of the semantic mapper. The provider is created with the collaborators
+ * shared by its children, as {@link com.sdl.dxa.tridion.mapping.impl.DefaultModelBuilder} does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SemanticFieldDataProviderBenchmark {
+
+    private static final String CAROUSEL_ID = "1472";
+
+    @Param({"10", "100", "1000"})
+    private int items;
+
+    private EntityModelData entityModelData;
+
+    private SemanticSchema semanticSchema;
+
+    private GenericSemanticModelDataConverter genericSemanticModelDataConverter;
+
+    private ModelBuilderPipeline modelBuilderPipeline;
+
+    private WebRequestContext webRequestContext;
+
+    @Setup(Level.Trial)
+    public void setUp(ModelBuilderState state) {
+        EntityModelData carousel = state.findEntity(CAROUSEL_ID);
+        if (carousel == null) {
+            throw new IllegalStateException("Entity " + CAROUSEL_ID + " is not in the page fixture");
+        }
+        genericSemanticModelDataConverter = state.context.getBean(GenericSemanticModelDataConverter.class);
+        modelBuilderPipeline = state.context.getBean(ModelBuilderPipeline.class);
+        webRequestContext = state.context.getBean(WebRequestContext.class);
+        semanticSchema = state.localization.getSemanticSchemas().get(Long.parseLong(carousel.getSchemaId()));
+
+        List<ContentModelData> teasers = ((ListWrapper.ContentModelDataListWrapper) carousel.getContent().get("itemListElement")).getValues();
+        List<ContentModelData> elements = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            elements.add(new ContentModelData(teasers.get(i % teasers.size())));
+        }
+
+        ContentModelData content = new ContentModelData(carousel.getContent());
+        content.put("itemListElement", new ListWrapper.ContentModelDataListWrapper(elements));
+        entityModelData = new EntityModelData()
+                .setId(carousel.getId())
+                .setContent(content);
+        entityModelData.setSchemaId(carousel.getSchemaId());
+    }
+
+    @Benchmark
+    public EntityModel createEntity(ModelBuilderState state) throws SemanticMappingException {
+        return state.semanticMapper.createEntity(ItemList.class, semanticSchema.getSemanticFields(),
+                DefaultSemanticFieldDataProvider.getFor(entityModelData, semanticSchema,
+                        genericSemanticModelDataConverter, modelBuilderPipeline, webRequestContext));
+    }
+}
@@ -0,0 +1,69 @@
+package com.sdl.dxa.benchmarks;
+
+import com.google.common.collect.ImmutableMap;
+import com.sdl.dxa.api.datamodel.model.EntityModelData;
+import com.sdl.dxa.benchmarks.model.Article;
+import com.sdl.dxa.benchmarks.model.ItemList;
+import com.sdl.dxa.benchmarks.model.Place;
+import com.sdl.dxa.tridion.mapping.impl.DefaultSemanticFieldDataProvider;
+import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingException;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticSchema;
+import com.sdl.webapp.common.api.model.EntityModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maps single entities of the recorded page with {@code SemanticMapperImpl.createEntity}:
+ * an article with embedded paragraphs (4975), a carousel with a list of teasers (1472) and a flat place teaser (4479).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SemanticMapperBenchmark {
+
+    private static final Map<String, Class<? extends EntityModel>> MODEL_TYPES = ImmutableMap.of(
+            "4975", Article.class,
+            "1472", ItemList.class,
+            "4479", Place.class);
+
+    @Param({"4975", "1472", "4479"})
+    private String entityId;
+
+    private EntityModelData entityModelData;
+
+    private SemanticSchema semanticSchema;
+
+    private Class<? extends EntityModel> modelType;
+
+    @Setup(Level.Trial)
+    public void setUp(ModelBuilderState state) {
+        entityModelData = state.findEntity(entityId);
+        if (entityModelData == null) {
+            throw new IllegalStateException("Entity " + entityId + " is not in the page fixture");
+        }
+        semanticSchema = state.localization.getSemanticSchemas().get(Long.parseLong(entityModelData.getSchemaId()));
+        modelType = MODEL_TYPES.get(entityId);
+    }
+
+    @Benchmark
+    public EntityModel createEntity(ModelBuilderState state) throws SemanticMappingException {
+        return state.semanticMapper.createEntity(modelType, semanticSchema.getSemanticFields(),
+                DefaultSemanticFieldDataProvider.getFor(entityModelData, semanticSchema));
+    }
+}
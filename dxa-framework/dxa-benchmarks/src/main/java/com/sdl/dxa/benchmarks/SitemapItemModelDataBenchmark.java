@@ -0,0 +1,100 @@
+package com.sdl.dxa.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sdl.dxa.api.datamodel.model.SitemapItemModelData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looks up items in a navigation tree of about {@value #TREE_SIZE} items with {@link SitemapItemModelData#findWithUrl(String)}.
+ * <p>The tree is made of copies of the recorded navigation model, each copy in its own section {@code /section-N},
+ * so it has the shape of a real site.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SitemapItemModelDataBenchmark {
+
+    static final int TREE_SIZE = 5000;
+
+    private SitemapItemModelData root;
+
+    private String url;
+
+    @Param({"FIRST", "LAST", "MISSING"})
+    private Target target;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        JsonNode section = new ObjectMapper().readTree(Fixtures.read(Fixtures.NAVIGATION));
+
+        root = new SitemapItemModelData().setId("0").setTitle("Root").setUrl("/");
+        int size = 1;
+        int sections = 0;
+        while (size < TREE_SIZE) {
+            String prefix = "/section-" + sections++;
+            root.addItem(copy(section, prefix));
+            size += count(section);
+        }
+
+        switch (target) {
+            case FIRST:
+                url = "/section-0/index";
+                break;
+            case LAST:
+                url = last(root).getUrl();
+                break;
+            default:
+                url = "/section-" + sections + "/index";
+        }
+    }
+
+    @Benchmark
+    public SitemapItemModelData findWithUrl() {
+        return root.findWithUrl(url);
+    }
+
+    private static SitemapItemModelData copy(JsonNode item, String prefix) {
+        SitemapItemModelData copy = new SitemapItemModelData()
+                .setId(prefix + "/" + item.path("Id").asText())
+                .setType(item.path("Type").asText())
+                .setTitle(item.path("Title").asText())
+                .setUrl(item.has("Url") ? prefix + item.get("Url").asText() : null)
+                .setVisible(item.path("Visible").asBoolean());
+        item.path("Items").forEach(child -> copy.addItem(copy(child, prefix)));
+        return copy;
+    }
+
+    private static int count(JsonNode item) {
+        int count = 1;
+        for (JsonNode child : item.path("Items")) {
+            count += count(child);
+        }
+        return count;
+    }
+
+    private static SitemapItemModelData last(SitemapItemModelData item) {
+        return item.getItems().isEmpty() ? item : last(item.getItems().last());
+    }
+
+    public enum Target {
+        FIRST, LAST, MISSING
+    }
+}
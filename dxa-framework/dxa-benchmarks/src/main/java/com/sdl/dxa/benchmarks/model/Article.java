@@ -0,0 +1,19 @@
+package com.sdl.dxa.benchmarks.model;
+
+import com.sdl.webapp.common.api.model.entity.AbstractEntityModel;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.util.List;
+
+/**
+ * Article of the recorded page, mapped from schema 80.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class Article extends AbstractEntityModel {
+
+    private String headline;
+
+    private List<Paragraph> articleBody;
+}
@@ -0,0 +1,15 @@
+package com.sdl.dxa.benchmarks.model;
+
+import com.sdl.webapp.common.api.model.entity.AbstractEntityModel;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Content list of the recorded page, mapped from schema 3263.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class ContentList extends AbstractEntityModel {
+
+    private String headline;
+}
@@ -0,0 +1,19 @@
+package com.sdl.dxa.benchmarks.model;
+
+import com.sdl.webapp.common.api.model.entity.AbstractEntityModel;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.util.List;
+
+/**
+ * Carousel of the recorded page, mapped from schema 139.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class ItemList extends AbstractEntityModel {
+
+    private String headline;
+
+    private List<Teaser> itemListElement;
+}
@@ -0,0 +1,20 @@
+package com.sdl.dxa.benchmarks.model;
+
+import com.sdl.webapp.common.api.model.RichText;
+import com.sdl.webapp.common.api.model.entity.AbstractEntityModel;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Paragraph embedded in {@link Article}.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class Paragraph extends AbstractEntityModel {
+
+    private String subheading;
+
+    private RichText content;
+
+    private String caption;
+}
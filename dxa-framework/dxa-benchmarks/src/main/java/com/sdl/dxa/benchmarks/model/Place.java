@@ -0,0 +1,24 @@
+package com.sdl.dxa.benchmarks.model;
+
+import com.sdl.webapp.common.api.model.RichText;
+import com.sdl.webapp.common.api.model.entity.AbstractEntityModel;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Location teaser of the recorded page, mapped from schema 3288.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class Place extends AbstractEntityModel {
+
+    private String name;
+
+    private RichText address;
+
+    private String telephone;
+
+    private String faxNumber;
+
+    private String email;
+}
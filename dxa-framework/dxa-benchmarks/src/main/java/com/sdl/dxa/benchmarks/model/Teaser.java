@@ -0,0 +1,17 @@
+package com.sdl.dxa.benchmarks.model;
+
+import com.sdl.webapp.common.api.model.entity.AbstractEntityModel;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Teaser embedded in {@link ItemList}, also used for entities without mapped fields.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class Teaser extends AbstractEntityModel {
+
+    private String subheading;
+
+    private String content;
+}
@@ -7,6 +7,9 @@ import com.fasterxml.jackson.databind.ser.FilterProvider;
 import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import com.fasterxml.jackson.databind.util.StdDateFormat;
 import com.fasterxml.jackson.datatype.joda.JodaModule;
+import com.sdl.dxa.metrics.InMemoryMetricsRegistry;
+import com.sdl.dxa.metrics.MetricsRegistry;
+import com.sdl.dxa.metrics.NoOpMetricsRegistry;
 import com.sdl.webapp.common.api.contextengine.ContextEngine;
 import com.sdl.webapp.common.api.serialization.json.DxaViewModelJsonChainFilter;
 import com.sdl.webapp.common.util.ApplicationContextHolder;
@@ -56,6 +59,9 @@ public class DxaSpringInitialization {
     @Value("${dxa.web.views.override.folder}")
     private String viewResolverOverride;
 
+    @Value("${dxa.metrics.enabled:#{false}}")
+    private boolean metricsEnabled;
+
     @Bean
     public static PropertySourcesPlaceholderConfigurer placeholderConfigurer() {
         PropertySourcesPlaceholderConfigurer configurer = new PropertySourcesPlaceholderConfigurer();
@@ -170,6 +176,19 @@ public class DxaSpringInitialization {
         return objectMapper;
     }
 
+    /**
+     * Registry of DXA metrics, which is {@link InMemoryMetricsRegistry} if {@code dxa.metrics.enabled} is set,
+     * and {@link NoOpMetricsRegistry} otherwise. Declare a {@code @Primary} bean to use your own registry.
+     *
+     * @return metrics registry
+     */
+    @Bean
+    public MetricsRegistry metricsRegistry() {
+        MetricsRegistry metricsRegistry = metricsEnabled ? new InMemoryMetricsRegistry() : NoOpMetricsRegistry.INSTANCE;
+        traceBeanInitialization(metricsRegistry);
+        return metricsRegistry;
+    }
+
     @Bean
     public FilterProvider jsonFilterProvider() {
         SimpleFilterProvider provider = new SimpleFilterProvider();
@@ -0,0 +1,361 @@
+package com.sdl.dxa.caching;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Warms up the caches after startup and on demand, for instance after they are flushed, by requesting pages
+ * of this node the same way a browser does. Requested pages are built with the model builder pipeline and, if
+ * rendering is enabled, rendered, so the {@code pages}, {@code entities}, {@code model-service} and {@code output}
+ * caches are filled before the real traffic comes.
+ * <p>Pages are taken from the configured URL list and from the first levels of the navigation of the configured
+ * localizations, as served by their {@code navigation.json}. They are requested with a bounded number of threads.</p>
+ * <p>When the warm-up is enabled, the node doesn't report ready through the health check until the first warm-up after
+ * startup has ended, successfully or not.</p>
+ *
+ * @dxa.publicApi
+ */
+@Slf4j
+@Component
+public class CacheWarmUpService implements ApplicationListener<ContextRefreshedEvent> {
+
+    private static final String NAVIGATION_JSON = "navigation.json";
+
+    private static final String HEALTH_CHECK_PATH = "/system/health";
+
+    @Value("${dxa.caching.warmup.enabled:false}")
+    private boolean enabled = false;
+
+    @Value("${dxa.caching.warmup.base-url:http://localhost:8080}")
+    private String baseUrl = "http://localhost:8080";
+
+    @Value("#{'${dxa.caching.warmup.urls:}'.split(',\\s?')}")
+    private List<String> urls = Collections.emptyList();
+
+    @Value("#{'${dxa.caching.warmup.navigation.roots:}'.split(',\\s?')}")
+    private List<String> navigationRoots = Collections.emptyList();
+
+    @Value("${dxa.caching.warmup.navigation.levels:2}")
+    private int navigationLevels = 2;
+
+    @Value("${dxa.caching.warmup.render:true}")
+    private boolean render = true;
+
+    @Value("${dxa.caching.warmup.threads:4}")
+    private int threads = 4;
+
+    @Value("${dxa.caching.warmup.timeout:300}")
+    private long timeoutSeconds = 300;
+
+    @Value("${dxa.caching.warmup.request-timeout:30}")
+    private int requestTimeoutSeconds = 30;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final AtomicBoolean startedOnStartup = new AtomicBoolean();
+
+    private final AtomicInteger total = new AtomicInteger();
+
+    private final AtomicInteger succeeded = new AtomicInteger();
+
+    private final AtomicInteger failed = new AtomicInteger();
+
+    private volatile boolean ready;
+
+    private volatile CacheWarmUpStatus.State state = CacheWarmUpStatus.State.IDLE;
+
+    private volatile long startedAt;
+
+    private volatile long finishedAt;
+
+    private volatile Thread thread;
+
+    private volatile ExecutorService executor;
+
+    private volatile RestTemplate restTemplate;
+
+    /**
+     * Starts the warm-up once the application context is refreshed for the first time.
+     * The warm-up waits until this node accepts HTTP requests.
+     */
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        if (enabled && startedOnStartup.compareAndSet(false, true)) {
+            log.info("Cache warm-up is enabled, the node reports ready once it is done");
+            start();
+        }
+    }
+
+    /**
+     * Starts a warm-up in background unless one is already running or the warm-up is disabled.
+     *
+     * @return whether the warm-up has been started
+     */
+    public boolean start() {
+        if (!enabled) {
+            log.debug("Cache warm-up is disabled, dxa.caching.warmup.enabled is false");
+            return false;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.debug("Cache warm-up is already running");
+            return false;
+        }
+
+        total.set(0);
+        succeeded.set(0);
+        failed.set(0);
+        startedAt = System.currentTimeMillis();
+        finishedAt = 0;
+        state = CacheWarmUpStatus.State.RUNNING;
+
+        Thread thread = new ThreadFactoryBuilder().setDaemon(true).setNameFormat("dxa-cache-warmup").build()
+                .newThread(this::_warmUp);
+        this.thread = thread;
+        thread.start();
+        return true;
+    }
+
+    /**
+     * Returns whether the node is ready to serve traffic, i.e. the warm-up is disabled or the first warm-up has ended.
+     *
+     * @return whether the node is ready
+     */
+    public boolean isReady() {
+        return !enabled || ready;
+    }
+
+    /**
+     * Returns the progress of the current or the last warm-up.
+     *
+     * @return current status of the warm-up
+     */
+    public CacheWarmUpStatus getStatus() {
+        long start = startedAt;
+        long end = finishedAt;
+        long duration = start == 0 ? 0 : (end == 0 ? System.currentTimeMillis() : end) - start;
+        return new CacheWarmUpStatus(enabled ? state : CacheWarmUpStatus.State.DISABLED, isReady(),
+                total.get(), succeeded.get(), failed.get(), start, duration);
+    }
+
+    /**
+     * Stops the running warm-up, also while it waits for this node to accept requests.
+     */
+    @PreDestroy
+    public void shutdown() {
+        Thread current = thread;
+        if (current != null) {
+            current.interrupt();
+        }
+        ExecutorService currentExecutor = executor;
+        if (currentExecutor != null) {
+            currentExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Requests the page with the given URL.
+     *
+     * @param url full URL of the page
+     * @throws RestClientException if the page could not be requested
+     */
+    protected void requestPage(String url) throws RestClientException {
+        getRestTemplate().execute(url, HttpMethod.GET, null, response -> response.getStatusCode());
+    }
+
+    /**
+     * Requests the navigation with the given URL.
+     *
+     * @param url full URL of {@code navigation.json}
+     * @return the navigation tree
+     * @throws RestClientException if the navigation could not be requested
+     */
+    protected JsonNode requestNavigation(String url) throws RestClientException {
+        return getRestTemplate().getForObject(url, JsonNode.class);
+    }
+
+    /**
+     * Returns whether the node accepts HTTP requests, whatever the response is.
+     *
+     * @return whether the node is up
+     */
+    protected boolean isUp() {
+        try {
+            requestPage(toUrl(HEALTH_CHECK_PATH));
+            return true;
+        } catch (HttpStatusCodeException e) {
+            return true;
+        } catch (ResourceAccessException e) {
+            return false;
+        }
+    }
+
+    private void _warmUp() {
+        long deadline = startedAt + TimeUnit.SECONDS.toMillis(timeoutSeconds);
+        CacheWarmUpStatus.State result = CacheWarmUpStatus.State.TIMED_OUT;
+        try {
+            if (!_waitUntilUp(deadline)) {
+                log.warn("Cache warm-up gave up, the node didn't accept requests on {} in {} seconds", baseUrl, timeoutSeconds);
+                return;
+            }
+
+            Collection<String> paths = _collectPaths();
+            total.set(paths.size());
+            log.info("Cache warm-up of {} pages started with {} threads", paths.size(), threads);
+
+            ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, threads),
+                    new ThreadFactoryBuilder().setDaemon(true).setNameFormat("dxa-cache-warmup-%d").build());
+            executor = pool;
+            for (String path : paths) {
+                pool.execute(() -> _warmUp(path));
+            }
+            pool.shutdown();
+
+            if (pool.awaitTermination(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS)) {
+                result = CacheWarmUpStatus.State.COMPLETED;
+            } else {
+                pool.shutdownNow();
+                log.warn("Cache warm-up timed out after {} seconds", timeoutSeconds);
+            }
+        } catch (InterruptedException e) {
+            log.warn("Cache warm-up was interrupted");
+            result = CacheWarmUpStatus.State.INTERRUPTED;
+            ExecutorService pool = executor;
+            if (pool != null) {
+                pool.shutdownNow();
+            }
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Cache warm-up failed", e);
+            result = CacheWarmUpStatus.State.FAILED;
+        } finally {
+            executor = null;
+            thread = null;
+            finishedAt = System.currentTimeMillis();
+            ready = true;
+            state = result;
+            running.set(false);
+            log.info("Cache warm-up ended as {}: {} of {} pages warmed up, {} failed, in {} ms",
+                    result, succeeded.get(), total.get(), failed.get(), finishedAt - startedAt);
+        }
+    }
+
+    private void _warmUp(String path) {
+        // without rendering, the page model is built and returned as JSON
+        String url = render ? toUrl(path) : toUrl(path) + (path.indexOf('?') < 0 ? "?" : "&") + "format=json";
+        try {
+            requestPage(url);
+            succeeded.incrementAndGet();
+            log.trace("Warmed up {}", url);
+        } catch (RestClientException e) {
+            failed.incrementAndGet();
+            log.debug("Failed to warm up {}", url, e);
+        }
+    }
+
+    private boolean _waitUntilUp(long deadline) throws InterruptedException {
+        while (!isUp()) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException();
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+            TimeUnit.SECONDS.sleep(1);
+        }
+        return true;
+    }
+
+    private Collection<String> _collectPaths() {
+        Set<String> paths = new LinkedHashSet<>();
+        for (String url : urls) {
+            if (!url.trim().isEmpty()) {
+                paths.add(url.trim());
+            }
+        }
+
+        for (String root : navigationRoots) {
+            if (root.trim().isEmpty()) {
+                continue;
+            }
+
+            String navigationUrl = toUrl(root.trim().endsWith("/") ? root.trim() + NAVIGATION_JSON : root.trim() + "/" + NAVIGATION_JSON);
+            try {
+                paths.addAll(collectNavigationPaths(requestNavigation(navigationUrl), navigationLevels));
+            } catch (RestClientException e) {
+                log.warn("Cache warm-up cannot read navigation {}, its pages are skipped", navigationUrl, e);
+            }
+        }
+        return paths;
+    }
+
+    /**
+     * Collects URLs of the items of the navigation tree down to the given level. The root is on level {@code 0}.
+     *
+     * @param navigation root of the navigation tree
+     * @param levels     number of levels below the root
+     * @return URLs of the navigation items in breadth-first order
+     */
+    static List<String> collectNavigationPaths(JsonNode navigation, int levels) {
+        List<String> paths = new ArrayList<>();
+        Deque<JsonNode> current = new ArrayDeque<>();
+        if (navigation != null) {
+            current.add(navigation);
+        }
+
+        for (int level = 0; level <= levels && !current.isEmpty(); level++) {
+            Deque<JsonNode> next = new ArrayDeque<>();
+            for (JsonNode item : current) {
+                String url = item.path("Url").asText("");
+                if (!url.isEmpty()) {
+                    paths.add(url);
+                }
+                item.path("Items").forEach(next::add);
+            }
+            current = next;
+        }
+        return paths;
+    }
+
+    private String toUrl(String path) {
+        if (path.startsWith("http://") || path.startsWith("https://")) {
+            return path;
+        }
+        return (baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl) + (path.startsWith("/") ? path : "/" + path);
+    }
+
+    private RestTemplate getRestTemplate() {
+        if (restTemplate == null) {
+            SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+            requestFactory.setConnectTimeout((int) TimeUnit.SECONDS.toMillis(requestTimeoutSeconds));
+            requestFactory.setReadTimeout((int) TimeUnit.SECONDS.toMillis(requestTimeoutSeconds));
+            restTemplate = new RestTemplate(requestFactory);
+        }
+        return restTemplate;
+    }
+}
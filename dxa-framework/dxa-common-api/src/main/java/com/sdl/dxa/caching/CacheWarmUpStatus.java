@@ -0,0 +1,53 @@
+package com.sdl.dxa.caching;
+
+import lombok.Value;
+
+/**
+ * Point-in-time progress of the cache warm-up done by {@link CacheWarmUpService}.
+ *
+ * @dxa.publicApi
+ */
+@Value
+public class CacheWarmUpStatus {
+
+    private State state;
+
+    /**
+     * Whether the node reports ready, which is the case once the first warm-up after startup has ended.
+     */
+    private boolean ready;
+
+    /**
+     * Number of pages to warm up, known once the navigation is read.
+     */
+    private int total;
+
+    /**
+     * Number of pages requested successfully.
+     */
+    private int succeeded;
+
+    /**
+     * Number of pages that failed to be requested.
+     */
+    private int failed;
+
+    /**
+     * Start of the last warm-up in milliseconds since the epoch, {@code 0} if there was none.
+     */
+    private long startedAt;
+
+    /**
+     * Duration of the last warm-up in milliseconds, or time since its start if it is still running.
+     */
+    private long durationMillis;
+
+    /**
+     * State of the cache warm-up.
+     *
+     * @dxa.publicApi
+     */
+    public enum State {
+        DISABLED, IDLE, RUNNING, COMPLETED, TIMED_OUT, INTERRUPTED, FAILED
+    }
+}
@@ -0,0 +1,47 @@
+package com.sdl.dxa.caching;
+
+import java.util.Locale;
+
+/**
+ * Defines which request data {@link com.sdl.dxa.caching.wrapper.OutputCache} keys vary on,
+ * configured globally and per view with {@code dxa.caching.output.variant} properties.
+ *
+ * @dxa.publicApi
+ * @see OutputCacheVariantResolver
+ */
+public enum OutputCacheVariant {
+
+    /**
+     * The output is the same for all requests.
+     */
+    NONE,
+
+    /**
+     * The output depends on the device family the view is resolved for, e.g. {@code desktop} or {@code smartphone}.
+     */
+    DEVICE_FAMILY,
+
+    /**
+     * The output depends on the device family, the screen width class and the pixel ratio of the device,
+     * which is what DXA views and responsive images normally depend on.
+     */
+    DEVICE_CLASS,
+
+    /**
+     * The output depends on the full {@code User-Agent} header. This was the only option before DXA 2.1
+     * and results in a poor hit rate.
+     */
+    USER_AGENT;
+
+    /**
+     * Parses a variant by its name in a property, which is a name of a constant in lower case with dashes,
+     * e.g. {@code device-class}.
+     *
+     * @param name name of the variant
+     * @return the variant
+     * @throws IllegalArgumentException if there is no variant with the given name
+     */
+    public static OutputCacheVariant fromName(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+}
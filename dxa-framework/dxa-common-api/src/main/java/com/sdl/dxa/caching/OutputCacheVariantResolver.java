@@ -0,0 +1,208 @@
+package com.sdl.dxa.caching;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.sdl.dxa.metrics.MetricsRegistry;
+import com.sdl.dxa.metrics.NoOpMetricsRegistry;
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.contextengine.ContextEngine;
+import com.sdl.webapp.common.api.model.MvcData;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.servlet.http.HttpServletRequest;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static com.sdl.dxa.metrics.MetricNames.OUTPUT_CACHE_VARIANT;
+import static com.sdl.dxa.metrics.MetricNames.TAG_RESULT;
+import static com.sdl.dxa.metrics.MetricNames.TAG_VIEW;
+
+/**
+ * Resolves the part of an output cache key that depends on the current request. Instead of the raw {@code User-Agent}
+ * header, the key contains a normalized descriptor of the device defined by {@link OutputCacheVariant},
+ * so that all devices of the same class share the cached output.
+ * <p>The number of variants per view is limited. If a view already has the maximum number of variants,
+ * the output for a new variant is not cached. A variant that hasn't been requested for a while is forgotten,
+ * so that a new variant can take its place.</p>
+ *
+ * @dxa.publicApi
+ */
+@Slf4j
+@Component
+public class OutputCacheVariantResolver {
+
+    private static final String USER_AGENT_HEADER = "User-Agent";
+
+    private static final String VARIANT_ATTRIBUTE_PREFIX = OutputCacheVariantResolver.class.getName() + '.';
+
+    @Value("${dxa.caching.output.variant:device-class}")
+    private String defaultVariantName = "device-class";
+
+    @Value("#{'${dxa.caching.output.variant.views:}'.split(',\\s?')}")
+    private List<String> viewVariantNames = Collections.emptyList();
+
+    @Value("${dxa.caching.output.variant.max:16}")
+    private int maxVariantsPerView = 16;
+
+    @Value("${dxa.caching.output.variant.expire:#{3600}}")
+    private long variantExpireSeconds = 3600;
+
+    @Autowired
+    private WebRequestContext webRequestContext;
+
+    /**
+     * Context engine is request-scoped without a proxy, so the factory is injected once and gives the engine of the current request.
+     */
+    @Autowired
+    private ObjectFactory<ContextEngine> contextEngineFactory;
+
+    @Autowired(required = false)
+    private MetricsRegistry metricsRegistry = NoOpMetricsRegistry.INSTANCE;
+
+    private OutputCacheVariant defaultVariant = OutputCacheVariant.DEVICE_CLASS;
+
+    private Map<String, OutputCacheVariant> viewVariants = Collections.emptyMap();
+
+    private final Map<String, Cache<String, Boolean>> variantsByView = new ConcurrentHashMap<>();
+
+    private Ticker ticker = Ticker.systemTicker();
+
+    @PostConstruct
+    public void init() {
+        defaultVariant = OutputCacheVariant.fromName(defaultVariantName);
+
+        Map<String, OutputCacheVariant> variants = new HashMap<>();
+        for (String viewVariant : viewVariantNames) {
+            if (viewVariant.trim().isEmpty()) {
+                continue;
+            }
+
+            int separator = viewVariant.lastIndexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Output cache variant of a view should be configured as " +
+                        "'Area:ViewName=variant', but was '" + viewVariant + "'");
+            }
+            variants.put(viewVariant.substring(0, separator).trim(),
+                    OutputCacheVariant.fromName(viewVariant.substring(separator + 1)));
+        }
+        viewVariants = variants;
+        log.debug("Output cache varies on {} by default, per view {}, max {} variants per view expiring after {}s",
+                defaultVariant, viewVariants, maxVariantsPerView, variantExpireSeconds);
+    }
+
+    /**
+     * Resolves the variant of the output for the current request.
+     *
+     * @param keyBase key of the output cache entry
+     * @return descriptor of the variant
+     */
+    public String resolveVariant(CompositeOutputCacheKeyBase keyBase) {
+        return _variant(getVariant(getViewName(keyBase)), keyBase.getRequest());
+    }
+
+    /**
+     * Checks whether the output of the given variant may be cached, and counts the variant for its view if it is new.
+     *
+     * @param keyBase key of the output cache entry
+     * @param variant descriptor of the variant, see {@link #resolveVariant(CompositeOutputCacheKeyBase)}
+     * @return whether the output may be cached, {@code false} if the view already has the maximum number of variants
+     */
+    public boolean isCacheable(CompositeOutputCacheKeyBase keyBase, String variant) {
+        String view = getViewName(keyBase);
+        Cache<String, Boolean> variants = variantsByView.computeIfAbsent(view, k -> CacheBuilder.newBuilder()
+                .expireAfterAccess(variantExpireSeconds, TimeUnit.SECONDS)
+                .ticker(ticker)
+                .build());
+        if (variants.getIfPresent(variant) != null) {
+            return true;
+        }
+
+        synchronized (variants) {
+            if (variants.getIfPresent(variant) != null) {
+                return true;
+            }
+
+            // size also counts expired variants until they are cleaned up
+            variants.cleanUp();
+            if (variants.size() >= maxVariantsPerView) {
+                log.debug("View {} already has {} output cache variants, variant {} is not cached", view, variants.size(), variant);
+                metricsRegistry.counter(OUTPUT_CACHE_VARIANT, TAG_VIEW, view, TAG_RESULT, "overflow").increment();
+                return false;
+            }
+
+            variants.put(variant, Boolean.TRUE);
+            metricsRegistry.counter(OUTPUT_CACHE_VARIANT, TAG_VIEW, view, TAG_RESULT, "new").increment();
+            return true;
+        }
+    }
+
+    /**
+     * Returns the variant configured for the given view.
+     *
+     * @param viewName qualified view name as {@code Area:ViewName}
+     * @return variant for the view
+     */
+    public OutputCacheVariant getVariant(String viewName) {
+        return viewVariants.getOrDefault(viewName, defaultVariant);
+    }
+
+    protected ContextEngine getContextEngine() {
+        return contextEngineFactory.getObject();
+    }
+
+    private String _variant(OutputCacheVariant variant, @Nullable HttpServletRequest request) {
+        switch (variant) {
+            case NONE:
+                return "";
+            case DEVICE_FAMILY:
+            case DEVICE_CLASS:
+                // the device doesn't change within a request, so it is resolved once for all includes of the request
+                if (request == null) {
+                    return _deviceVariant(variant);
+                }
+                String attribute = VARIANT_ATTRIBUTE_PREFIX + variant.name();
+                Object resolved = request.getAttribute(attribute);
+                if (resolved instanceof String) {
+                    return (String) resolved;
+                }
+                String deviceVariant = _deviceVariant(variant);
+                request.setAttribute(attribute, deviceVariant);
+                return deviceVariant;
+            case USER_AGENT:
+            default:
+                String userAgent = request == null ? null : request.getHeader(USER_AGENT_HEADER);
+                return userAgent == null ? "" : userAgent;
+        }
+    }
+
+    private String _deviceVariant(OutputCacheVariant variant) {
+        switch (variant) {
+            case DEVICE_FAMILY:
+                return getContextEngine().getDeviceFamily();
+            case DEVICE_CLASS:
+                // the same pixel ratio rounding as in WebRequestContext#getMaxMediaWidth()
+                return getContextEngine().getDeviceFamily() + '/' +
+                        webRequestContext.getScreenWidth().name().toLowerCase(Locale.ROOT) + '/' +
+                        (int) Math.max(1.0, webRequestContext.getPixelRatio()) + 'x';
+            default:
+                throw new IllegalArgumentException("Variant " + variant + " doesn't describe a device");
+        }
+    }
+
+    private static String getViewName(CompositeOutputCacheKeyBase keyBase) {
+        MvcData mvcData = keyBase.getMvcData();
+        return mvcData == null ? keyBase.getName() : mvcData.getAreaName() + ':' + mvcData.getViewName();
+    }
+}
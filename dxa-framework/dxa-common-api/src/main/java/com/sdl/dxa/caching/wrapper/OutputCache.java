@@ -1,14 +1,16 @@
 package com.sdl.dxa.caching.wrapper;
 
 import com.sdl.dxa.caching.CompositeOutputCacheKeyBase;
+import com.sdl.dxa.caching.ConditionalKey;
 import com.sdl.dxa.caching.LocalizationAwareCacheKey;
+import com.sdl.dxa.caching.OutputCacheVariantResolver;
 import com.sdl.webapp.common.markup.html.HtmlNode;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import javax.servlet.http.HttpServletRequest;
-
 /**
  * Output cache that accepts a composite key as a required key. This is a default implementation for manual access.
+ * <p>Keys vary on the request as defined by {@link OutputCacheVariantResolver}.</p>
  *
  * @dxa.publicApi
  * @see CompositeOutputCacheKeyBase
@@ -16,7 +18,12 @@ import javax.servlet.http.HttpServletRequest;
 @Component
 public class OutputCache extends SimpleCacheWrapper<CompositeOutputCacheKeyBase, HtmlNode> {
 
-    private static final String USER_AGENT_HEADER = "User-Agent";
+    private OutputCacheVariantResolver variantResolver;
+
+    @Autowired
+    public void setVariantResolver(OutputCacheVariantResolver variantResolver) {
+        this.variantResolver = variantResolver;
+    }
 
     @Override
     public String getCacheName() {
@@ -30,11 +37,29 @@ public class OutputCache extends SimpleCacheWrapper<CompositeOutputCacheKeyBase,
 
     @Override
     public LocalizationAwareCacheKey getSpecificKey(CompositeOutputCacheKeyBase keyBase, Object... keyParams) {
-        HttpServletRequest request = keyBase.getRequest();
+        return _getKey(keyBase, variantResolver.resolveVariant(keyBase));
+    }
+
+    /**
+     * Forms the key of the output for the current request together with a flag whether the output may be cached,
+     * see {@link OutputCacheVariantResolver#isCacheable(CompositeOutputCacheKeyBase, String)}.
+     *
+     * @param keyBase key base of the output
+     * @return conditional key for the output
+     */
+    public ConditionalKey getConditionalKey(CompositeOutputCacheKeyBase keyBase) {
+        String variant = variantResolver.resolveVariant(keyBase);
+        return ConditionalKey.builder()
+                .key(_getKey(keyBase, variant))
+                .skipCaching(!variantResolver.isCacheable(keyBase, variant))
+                .build();
+    }
+
+    private LocalizationAwareCacheKey _getKey(CompositeOutputCacheKeyBase keyBase, String variant) {
         return getKey(keyBase.getPageId(),
                 keyBase.getName(),
                 keyBase.getMvcData(),
                 keyBase.getInclude(),
-                request == null ? "" : request.getHeader(USER_AGENT_HEADER));
+                variant);
     }
 }
@@ -3,6 +3,7 @@ package com.sdl.dxa.caching.wrapper;
 import com.sdl.dxa.api.datamodel.model.PageModelData;
 import com.sdl.dxa.caching.LocalizationAwareCacheKey;
 import com.sdl.webapp.common.api.model.PageModel;
+import com.sdl.webapp.common.api.model.region.RegionModelSetImpl;
 import org.springframework.stereotype.Component;
 
 /**
@@ -28,6 +29,18 @@ public class PagesCopyingCache extends CopyingCache<PageModelData, PageModel> {
         return getKey(pageModelData.getUrlPath(), pageModelData.getMvcData());
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>Regions of the page are marked as shared before it is put, so that copies of the page share them.</p>
+     */
+    @Override
+    public PageModel addAndGet(LocalizationAwareCacheKey key, PageModel value) {
+        if (value != null && isCachingEnabled()) {
+            RegionModelSetImpl.markShared(value.getRegions());
+        }
+        return super.addAndGet(key, value);
+    }
+
     @Override
     protected PageModel copy(PageModel value) {
         return value.deepCopy();
@@ -1,7 +1,9 @@
 package com.sdl.webapp.common.api.model;
 
+import com.sdl.webapp.common.api.content.ConditionalEntityEvaluator;
 import com.sdl.webapp.common.api.formatters.support.FeedItemsProvider;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -56,4 +58,19 @@ public interface RegionModel extends ViewModel, FeedItemsProvider, CanFilterEnti
     void addEntity(EntityModel entity);
 
     RegionModel deepCopy();
+
+    /**
+     * Filters entities of this region like {@link #filterConditionalEntities(Collection)} does, but leaves this region
+     * unmodified, so that it can be shared between a cached page model and its per-request copies.
+     * <p>Default implementation always filters a {@link #deepCopy()} of this region. Implementors should return
+     * the region itself if none of its entities is filtered out.</p>
+     *
+     * @param evaluators list of evaluators to evaluate entities against
+     * @return this region if nothing was filtered out, otherwise a filtered copy of it
+     */
+    default RegionModel filteredCopy(Collection<ConditionalEntityEvaluator> evaluators) {
+        RegionModel copy = deepCopy();
+        copy.filterConditionalEntities(evaluators);
+        return copy;
+    }
 }
@@ -9,6 +9,7 @@ import com.sdl.webapp.common.api.formatters.support.FeedItem;
 import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.api.model.AbstractViewModel;
 import com.sdl.webapp.common.api.model.PageModel;
+import com.sdl.webapp.common.api.model.RegionModel;
 import com.sdl.webapp.common.api.model.RegionModelSet;
 import com.sdl.webapp.common.api.model.region.RegionModelSetImpl;
 import lombok.Data;
@@ -68,8 +69,7 @@ public class DefaultPageModel extends AbstractViewModel implements PageModel {
             this.meta.putAll(other.getMeta());
         }
         if (other.getRegions() != null) {
-            this.regions = new RegionModelSetImpl();
-            this.regions.addAll(other.getRegions());
+            this.regions = new RegionModelSetImpl(other.getRegions());
         }
         this.staticModel = other.isStaticModel();
     }
@@ -82,14 +82,24 @@ public class DefaultPageModel extends AbstractViewModel implements PageModel {
         return !isEmpty(this.regions) && this.regions.containsName(regionName);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>The copy shares regions with this page model until either of them is modified,
+     * see {@link #filterConditionalEntities(Collection)}.</p>
+     */
     @Override
     public PageModel deepCopy() {
         return new DefaultPageModel(this);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>Regions are never modified since they may be shared with a cached page model. Instead, regions with filtered
+     * entities are replaced with their {@link RegionModel#filteredCopy(Collection) filtered copies}.</p>
+     */
     @Override
     public void filterConditionalEntities(Collection<ConditionalEntityEvaluator> evaluators) {
-        this.regions.forEach(regionModel -> regionModel.filterConditionalEntities(evaluators));
+        this.regions = RegionModelSetImpl.filteredCopy(this.regions, evaluators);
     }
 
     /**
@@ -24,7 +24,9 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.ReflectionUtils;
 
+import java.lang.reflect.Method;
 import java.util.*;
 
 import static com.google.common.collect.FluentIterable.from;
@@ -59,6 +61,22 @@ public class RegionModelImpl extends AbstractViewModel implements RegionModel {
     @Deprecated
     public static final String INCLUDED_FROM_PAGE_FILE_NAME_XPM_METADATA_KEY = XpmUtils.RegionXpmBuilder.INCLUDED_FROM_PAGE_FILE_NAME_XPM_METADATA_KEY;
 
+    /**
+     * Whether a region class overrides {@link #deepCopy()} to keep its type, computed once per class.
+     */
+    private static final ClassValue<Boolean> KEEPS_TYPE_ON_DEEP_COPY = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            Method deepCopy = ReflectionUtils.findMethod(type, "deepCopy");
+            boolean keepsType = type == RegionModelImpl.class || deepCopy.getDeclaringClass() != RegionModelImpl.class;
+            if (!keepsType) {
+                log.warn("{} doesn't override deepCopy(), pages with its regions are copied eagerly when their entities " +
+                        "are filtered, and its regions become plain RegionModelImpl in the copies", type.getName());
+            }
+            return keepsType;
+        }
+    };
+
     private static final String XPM_REGION_MARKUP = "<!-- Start Region: {title: \"%s\",%s allowedComponentTypes: [%s], %s} -->";
 
     private static final String XPM_COMPONENT_TYPE_MARKUP = "{schema: \"%s\", template: \"%s\"}";
@@ -94,7 +112,7 @@ public class RegionModelImpl extends AbstractViewModel implements RegionModel {
             this.entities.addAll(other.getEntities());
         }
         if (other.getRegions() != null) {
-            this.regions.addAll(other.getRegions());
+            this.regions = new RegionModelSetImpl(other.getRegions());
         }
     }
 
@@ -176,6 +194,11 @@ public class RegionModelImpl extends AbstractViewModel implements RegionModel {
         this.entities.add(entity);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>Subclasses should override this method to return a copy of their own type, otherwise pages with their regions
+     * can't share regions with cached pages, see {@link #filteredCopy(Collection)}.</p>
+     */
     @Override
     public RegionModel deepCopy() {
         return new RegionModelImpl(this);
@@ -185,7 +208,70 @@ public class RegionModelImpl extends AbstractViewModel implements RegionModel {
     public void filterConditionalEntities(Collection<ConditionalEntityEvaluator> evaluators) {
         regions.forEach(regionModel -> regionModel.filterConditionalEntities(evaluators));
 
-        entities.removeIf(entityModel -> !evaluators.stream().allMatch(evaluator -> evaluator.includeEntity(entityModel)));
+        entities.removeIf(entityModel -> !isIncluded(entityModel, evaluators));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>Neither this region nor its nested regions are modified. A copy is only made if an entity of this region
+     * or of its nested regions is filtered out, nested regions without filtered entities are shared with the copy.</p>
+     * <p>The copy is made with {@link #deepCopy()}. If a subclass doesn't override it to keep its type, the region and
+     * its nested regions are copied eagerly with {@link #deepCopy()} and the copy is filtered in place.</p>
+     */
+    @Override
+    public RegionModel filteredCopy(Collection<ConditionalEntityEvaluator> evaluators) {
+        RegionModelSet filteredRegions = RegionModelSetImpl.filteredCopy(regions, evaluators);
+
+        List<EntityModel> filteredEntities = null;
+        int index = 0;
+        for (EntityModel entity : entities) {
+            boolean included = isIncluded(entity, evaluators);
+            if (filteredEntities == null && !included) {
+                filteredEntities = new ArrayList<>(entities.subList(0, index));
+            } else if (filteredEntities != null && included) {
+                filteredEntities.add(entity);
+            }
+            index++;
+        }
+
+        if (filteredRegions == regions && filteredEntities == null) {
+            return this;
+        }
+
+        if (!keepsTypeOnDeepCopy(this)) {
+            RegionModel copy = RegionModelSetImpl.eagerCopy(this);
+            copy.filterConditionalEntities(evaluators);
+            return copy;
+        }
+
+        RegionModelImpl copy = (RegionModelImpl) deepCopy();
+        if (filteredRegions != regions) {
+            copy.setRegions(filteredRegions);
+        }
+        if (filteredEntities != null) {
+            copy.setEntities(filteredEntities);
+        }
+        return copy;
+    }
+
+    /**
+     * Reports whether {@link #deepCopy()} of the given region returns a region of its own type,
+     * which is required to share regions between a cached page and its copies.
+     *
+     * @param region region to check
+     * @return whether the region keeps its type when copied
+     */
+    static boolean keepsTypeOnDeepCopy(RegionModel region) {
+        return !(region instanceof RegionModelImpl) || KEEPS_TYPE_ON_DEEP_COPY.get(region.getClass());
+    }
+
+    private static boolean isIncluded(EntityModel entityModel, Collection<ConditionalEntityEvaluator> evaluators) {
+        for (ConditionalEntityEvaluator evaluator : evaluators) {
+            if (!evaluator.includeEntity(entityModel)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -1,5 +1,7 @@
 package com.sdl.webapp.common.api.model.region;
 
+import com.google.common.collect.Iterators;
+import com.sdl.webapp.common.api.content.ConditionalEntityEvaluator;
 import com.sdl.webapp.common.api.model.RegionModel;
 import com.sdl.webapp.common.api.model.RegionModelSet;
 import lombok.EqualsAndHashCode;
@@ -7,6 +9,7 @@ import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.AbstractSet;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -16,22 +19,139 @@ import java.util.Set;
 /**
  * <p>RegionModelSet implementation.</p>
  * <p>Keeps the insertion order.</p>
+ * <p>A copy made with {@link #RegionModelSetImpl(RegionModelSet)} of a set {@link #markShared(RegionModelSet) marked
+ * as shared} shares its content until the copy is modified, so copying cached page models does not copy their regions.
+ * Other sets are copied right away.</p>
  */
 @SuppressWarnings("DefaultAnnotationParam")
-@EqualsAndHashCode(callSuper = false)
-@ToString
+@EqualsAndHashCode(callSuper = false, exclude = "shared")
+@ToString(exclude = "shared")
 @Slf4j
 public class RegionModelSetImpl extends AbstractSet<RegionModel> implements RegionModelSet {
 
     private Map<String, RegionModel> modelMapByName = new LinkedHashMap<>();
     private Map<Class<? extends RegionModel>, Set<RegionModel>> modelMapByClass = new LinkedHashMap<>();
 
+    /**
+     * Whether the maps are shared with another set and have to be copied before the first modification.
+     * Set on sets only read from now on before they are published to other threads, see {@link #markShared(RegionModelSet)},
+     * and on copies by the thread creating them.
+     */
+    private boolean shared;
+
+    public RegionModelSetImpl() {
+    }
+
+    /**
+     * Creates a copy of the given set. The content of a {@link RegionModelSetImpl} {@link #markShared(RegionModelSet)
+     * marked as shared} is shared with the copy and is copied on the first write to the copy.
+     * The content of other sets is copied right away.
+     *
+     * @param other set to copy
+     */
+    public RegionModelSetImpl(RegionModelSet other) {
+        if (other instanceof RegionModelSetImpl && ((RegionModelSetImpl) other).shared) {
+            RegionModelSetImpl otherSet = (RegionModelSetImpl) other;
+            this.modelMapByName = otherSet.modelMapByName;
+            this.modelMapByClass = otherSet.modelMapByClass;
+            this.shared = true;
+        } else {
+            addAll(other);
+        }
+    }
+
+    /**
+     * Marks the given set and the region sets of its regions as shared, so that copies share their content instead
+     * of copying it. Marked sets must not be modified anymore, this is meant for sets of models put in a cache,
+     * and must be called before they are put so that the cache publishes the flag to other threads.
+     *
+     * @param regions regions to mark as shared
+     */
+    public static void markShared(RegionModelSet regions) {
+        if (regions == null) {
+            return;
+        }
+        if (regions instanceof RegionModelSetImpl) {
+            ((RegionModelSetImpl) regions).shared = true;
+        }
+        for (RegionModel region : regions) {
+            markShared(region.getRegions());
+        }
+    }
+
+    /**
+     * Filters entities of the given regions without modifying neither the set nor the regions in it.
+     *
+     * @param regions    regions to filter
+     * @param evaluators evaluators to evaluate entities against
+     * @return the given set if no entity was filtered out, otherwise a new set where the regions with filtered
+     * entities are replaced with their {@link RegionModel#filteredCopy(Collection) filtered copies}, or if some region
+     * doesn't keep its type when copied, an eagerly made deep copy of the given set filtered in place
+     */
+    public static RegionModelSet filteredCopy(RegionModelSet regions, Collection<ConditionalEntityEvaluator> evaluators) {
+        if (!_keepTypesOnDeepCopy(regions)) {
+            RegionModelSet copy = _eagerCopy(regions);
+            copy.forEach(region -> region.filterConditionalEntities(evaluators));
+            return copy;
+        }
+
+        RegionModelSet filtered = null;
+        int index = 0;
+        for (RegionModel region : regions) {
+            RegionModel filteredRegion = region.filteredCopy(evaluators);
+            if (filtered == null && filteredRegion != region) {
+                filtered = new RegionModelSetImpl();
+                Iterators.addAll(filtered, Iterators.limit(regions.iterator(), index));
+            }
+            if (filtered != null) {
+                filtered.add(filteredRegion);
+            }
+            index++;
+        }
+        return filtered == null ? regions : filtered;
+    }
+
+    /**
+     * Copies the given region and its nested regions with {@link RegionModel#deepCopy()}, so that the copy
+     * can be modified in place.
+     *
+     * @param region region to copy
+     * @return a copy not sharing regions with the given region
+     */
+    static RegionModel eagerCopy(RegionModel region) {
+        RegionModel copy = region.deepCopy();
+        if (copy instanceof RegionModelImpl && copy.getRegions() != null) {
+            ((RegionModelImpl) copy).setRegions(_eagerCopy(copy.getRegions()));
+        }
+        return copy;
+    }
+
+    private static RegionModelSet _eagerCopy(RegionModelSet regions) {
+        RegionModelSet copy = new RegionModelSetImpl();
+        for (RegionModel region : regions) {
+            copy.add(eagerCopy(region));
+        }
+        return copy;
+    }
+
+    private static boolean _keepTypesOnDeepCopy(RegionModelSet regions) {
+        if (regions == null) {
+            return true;
+        }
+        for (RegionModel region : regions) {
+            if (!RegionModelImpl.keepsTypeOnDeepCopy(region) || !_keepTypesOnDeepCopy(region.getRegions())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Iterator<RegionModel> iterator() {
-        return modelMapByName.values().iterator();
+        return new RegionIterator();
     }
 
     /**
@@ -50,12 +170,38 @@ public class RegionModelSetImpl extends AbstractSet<RegionModel> implements Regi
             return false;
         }
 
+        _copyOnWrite();
         modelMapByName.put(regionModel.getName(), regionModel);
         Set<RegionModel> modelSet = modelMapByClass.computeIfAbsent(regionModel.getClass(), k -> new LinkedHashSet<>());
         modelSet.add(regionModel);
         return true;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean remove(Object o) {
+        if (!(o instanceof RegionModel) || !o.equals(modelMapByName.get(((RegionModel) o).getName()))) {
+            return false;
+        }
+
+        _copyOnWrite();
+        _remove((RegionModel) o);
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() {
+        if (shared) {
+            modelMapByName = new LinkedHashMap<>();
+            modelMapByClass = new LinkedHashMap<>();
+            shared = false;
+        } else {
+            modelMapByName.clear();
+            modelMapByClass.clear();
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public RegionModel get(String name) {
@@ -80,4 +226,71 @@ public class RegionModelSetImpl extends AbstractSet<RegionModel> implements Regi
     public boolean containsClass(Class<? extends RegionModel> clazz) {
         return modelMapByClass.containsKey(clazz);
     }
+
+    private void _copyOnWrite() {
+        if (!shared) {
+            return;
+        }
+
+        Map<Class<? extends RegionModel>, Set<RegionModel>> byClass = new LinkedHashMap<>();
+        modelMapByClass.forEach((clazz, models) -> byClass.put(clazz, new LinkedHashSet<>(models)));
+        modelMapByName = new LinkedHashMap<>(modelMapByName);
+        modelMapByClass = byClass;
+        shared = false;
+    }
+
+    private void _remove(RegionModel regionModel) {
+        modelMapByName.remove(regionModel.getName());
+        _removeByClass(regionModel);
+    }
+
+    private void _removeByClass(RegionModel regionModel) {
+        Set<RegionModel> modelSet = modelMapByClass.get(regionModel.getClass());
+        if (modelSet != null) {
+            modelSet.remove(regionModel);
+            if (modelSet.isEmpty()) {
+                modelMapByClass.remove(regionModel.getClass());
+            }
+        }
+    }
+
+    /**
+     * Iterator that keeps both maps consistent on removal and doesn't modify maps shared with other sets.
+     */
+    private class RegionIterator implements Iterator<RegionModel> {
+
+        private final Map<String, RegionModel> iterated = modelMapByName;
+
+        private final Iterator<RegionModel> iterator = iterated.values().iterator();
+
+        private RegionModel current;
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public RegionModel next() {
+            current = iterator.next();
+            return current;
+        }
+
+        @Override
+        public void remove() {
+            if (current == null) {
+                throw new IllegalStateException("next() has not been called or the element is already removed");
+            }
+
+            if (shared || iterated != modelMapByName) {
+                // the iterated map is shared or has already been copied, removing from the actual maps of the set
+                _copyOnWrite();
+                _remove(current);
+            } else {
+                iterator.remove();
+                _removeByClass(current);
+            }
+            current = null;
+        }
+    }
 }
@@ -1,6 +1,9 @@
 package com.sdl.webapp.common.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sdl.dxa.metrics.MetricsRegistry;
+import com.sdl.dxa.metrics.NoOpMetricsRegistry;
+import com.sdl.dxa.metrics.Timer;
 import com.sdl.webapp.common.api.MediaHelper;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.content.ContentProvider;
@@ -45,6 +48,7 @@ import javax.servlet.http.HttpServletResponse;
 import javax.xml.ws.http.HTTPException;
 import java.io.IOException;
 
+import static com.sdl.dxa.metrics.MetricNames.PAGE_REQUEST;
 import static com.sdl.webapp.common.api.serialization.json.filter.IgnoreByNameInRequestFilter.ignoreByName;
 import static com.sdl.webapp.common.controller.ControllerUtils.INCLUDE_PATH_PREFIX;
 import static com.sdl.webapp.common.controller.ControllerUtils.SECTION_ERROR_VIEW;
@@ -97,6 +101,9 @@ public class PageController extends BaseController {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired(required = false)
+    private MetricsRegistry metricsRegistry = NoOpMetricsRegistry.INSTANCE;
+
     private static boolean isIncludeRequest(HttpServletRequest request) {
         return request.getAttribute(WebUtils.INCLUDE_REQUEST_URI_ATTRIBUTE) != null;
     }
@@ -112,6 +119,15 @@ public class PageController extends BaseController {
      */
     @RequestMapping(value = "/**", produces = {MediaType.TEXT_HTML_VALUE, MediaType.ALL_VALUE})
     public String handleGetPage(HttpServletRequest request, HttpServletResponse response) throws Exception {
+        Timer.Sample sample = metricsRegistry.timer(PAGE_REQUEST).start();
+        try {
+            return doHandleGetPage(request, response);
+        } finally {
+            sample.stop();
+        }
+    }
+
+    private String doHandleGetPage(HttpServletRequest request, HttpServletResponse response) throws Exception {
         final String requestPath = webRequestContext.getRequestPath();
         log.trace("handleGetPage: requestPath={}", requestPath);
 
@@ -12,6 +12,8 @@ import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 @Slf4j
 @Component
@@ -32,15 +34,27 @@ public class ContextEngineImpl implements ContextEngine {
     @Getter(lazy = true)
     private final Map<String, Object> claims = claims();
 
+    /**
+     * Claims wrappers created in this request, the engine is request-scoped while its claims don't change.
+     */
+    private final ConcurrentMap<Class<?>, ContextClaims> claimsWrappers = new ConcurrentHashMap<>();
+
     /**
      * {@inheritDoc}
+     * <p>The wrapper of the given class is created once per request.</p>
      */
     @Override
     public <T extends ContextClaims> T getClaims(Class<T> cls) {
+        ContextClaims cached = claimsWrappers.get(cls);
+        if (cached != null) {
+            return cls.cast(cached);
+        }
+
         try {
             T result = cls.newInstance();
             result.setClaims(getClaims());
-            return result;
+            ContextClaims existing = claimsWrappers.putIfAbsent(cls, result);
+            return existing == null ? result : cls.cast(existing);
         } catch (InstantiationException | IllegalAccessException e) {
             log.error("Exception during getClaims()", e);
             return null;
@@ -1,11 +1,15 @@
 package com.sdl.webapp.common.impl.contextengine;
 
-import lombok.NonNull;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -17,15 +21,31 @@ import javax.annotation.PostConstruct;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static com.sdl.webapp.common.api.contextengine.ContextClaims.castClaim;
 
+/**
+ * Defines a device family from context claims with the rules of the device families file.
+ * <p>The rules are compiled when the file is read, see {@link DeviceFamiliesRules}. The file may be a classpath resource
+ * or, with a {@code file:} prefix, a file on disk. If {@code dxa.context.deviceFamilies.reload-interval} is set,
+ * the file is checked for changes with this interval and read again if it has changed. Requests keep using the current
+ * rules while the file is read.</p>
+ */
 @Slf4j
 @Component
 public class DeviceFamiliesEvaluator {
@@ -33,23 +53,46 @@ public class DeviceFamiliesEvaluator {
     @Value("${dxa.context.deviceFamilies.file}")
     private String deviceFamiliesFile;
 
-    private Map<String, Map<String, Evaluator>> deviceFamiliesRules;
+    @Value("${dxa.context.deviceFamilies.reload-interval:0}")
+    private long reloadIntervalSeconds = 0;
+
+    private volatile DeviceFamiliesRules deviceFamiliesRules;
+
+    private final AtomicLong nextModificationCheck = new AtomicLong();
+
+    private volatile long lastModified;
 
     @PostConstruct
     public void init() {
         readDeviceFamiliesFile();
     }
 
-    @Nullable String defineDeviceFamily(Map<String, Object> claims) {
-        if (deviceFamiliesRules != null) {
-            for (Map.Entry<String, Map<String, Evaluator>> family : deviceFamiliesRules.entrySet()) {
-                if (isInFamily(claims, family.getValue())) {
-                    log.debug("This is '{}' because of conditions {}", family.getKey(), family.getValue());
-                    return family.getKey();
-                }
-            }
+    /**
+     * Reads the device families file again and replaces the current rules. If the file cannot be read,
+     * the current rules are kept.
+     */
+    public void reload() {
+        Resource resource = _getResource();
+        if (!resource.exists()) {
+            log.warn("Device families file {} is not found, keeping the current rules", deviceFamiliesFile);
+            return;
         }
-        return null;
+
+        try {
+            long modified = _lastModified(resource);
+            deviceFamiliesRules = new DeviceFamiliesRules(_parseRules(resource));
+            lastModified = modified;
+            log.info("Device families file {} has been reloaded", deviceFamiliesFile);
+        } catch (SAXException | IOException | ParserConfigurationException e) {
+            log.error("Exception occurred while reloading the device-families definition, keeping the current rules", e);
+        }
+    }
+
+    @Nullable String defineDeviceFamily(Map<String, Object> claims) {
+        _reloadIfModified();
+
+        DeviceFamiliesRules rules = deviceFamiliesRules;
+        return rules == null ? null : rules.defineDeviceFamily(claims);
     }
 
     String fallbackDeviceFamily(DeviceClaims deviceClaims) {
@@ -69,64 +112,232 @@ public class DeviceFamiliesEvaluator {
         return "desktop";
     }
 
-    @SuppressWarnings("unchecked")
-    private boolean isInFamily(@NonNull Map<String, Object> claims,
-                               @NonNull Map<String, Evaluator> families) {
-        for (Map.Entry<String, Evaluator> conditions : families.entrySet()) {
-            Evaluator evaluator = conditions.getValue();
-            String claimName = conditions.getKey();
-
-            if (!claims.containsKey(claimName) ||
-                    !evaluator.evaluate(castClaim(claims.get(claimName), evaluator.genericType()))) {
-                return false;
-            }
-        }
-        return true;
-    }
-
     private void readDeviceFamiliesFile() {
         if (deviceFamiliesRules != null) {
             return;
         }
 
-        ClassPathResource resource = new ClassPathResource(deviceFamiliesFile);
+        Resource resource = _getResource();
         if (!resource.exists()) {
             log.info("Device families file is not found, fallback to default");
             return;
         }
 
-        deviceFamiliesRules = new LinkedHashMap<>();
+        lastModified = _lastModified(resource);
+        nextModificationCheck.set(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(reloadIntervalSeconds));
+
+        Map<String, Map<String, Evaluator>> rules;
+        try {
+            rules = _parseRules(resource);
+        } catch (SAXException | IOException | ParserConfigurationException e) {
+            log.error("Exception occurred while reading the device-families definition", e);
+            rules = Collections.emptyMap();
+        }
+        deviceFamiliesRules = new DeviceFamiliesRules(rules);
+    }
+
+    private void _reloadIfModified() {
+        if (reloadIntervalSeconds <= 0 || deviceFamiliesRules == null) {
+            return;
+        }
+
+        // only one thread checks the file, others go on with the current rules
+        long now = System.currentTimeMillis();
+        long next = nextModificationCheck.get();
+        if (now < next || !nextModificationCheck.compareAndSet(next, now + TimeUnit.SECONDS.toMillis(reloadIntervalSeconds))) {
+            return;
+        }
 
+        long modified = _lastModified(_getResource());
+        if (modified != 0 && modified != lastModified) {
+            log.debug("Device families file {} has been modified", deviceFamiliesFile);
+            reload();
+        }
+    }
+
+    private Resource _getResource() {
+        return new DefaultResourceLoader().getResource(deviceFamiliesFile);
+    }
+
+    private static long _lastModified(Resource resource) {
         try {
-            Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(resource.getInputStream());
-            document.normalizeDocument();
-
-            NodeList elFamilies = document.getElementsByTagName("devicefamily");
-            for (int i = 0; i < elFamilies.getLength(); i++) {
-                Node node = elFamilies.item(i);
-                if (node.getNodeType() == Node.ELEMENT_NODE) {
-                    Element elFamily = (Element) node;
-
-                    HashMap<String, Evaluator> conditions = new HashMap<>();
-                    String elDeviceFamily = elFamily.getAttribute("name");
-                    deviceFamiliesRules.put(elDeviceFamily, conditions);
-
-                    NodeList elConditions = elFamily.getElementsByTagName("condition");
-                    for (int j = 0; j < elConditions.getLength(); j++) {
-                        Node item = elConditions.item(j);
-                        if (item.getNodeType() == Node.ELEMENT_NODE) {
-                            Element elCondition = (Element) item;
-
-                            String contextClaim = elCondition.getAttribute("context-claim");
-                            String value = elCondition.getAttribute("value");
-                            log.debug("Adding a condition {} <> {} for {}", contextClaim, value, elDeviceFamily);
-                            conditions.put(contextClaim, Evaluator.getByExpectedValue(value));
+            return resource.lastModified();
+        } catch (IOException e) {
+            log.trace("Cannot get last modification time of {}, it is not reloaded when modified", resource, e);
+            return 0;
+        }
+    }
+
+    private static Map<String, Map<String, Evaluator>> _parseRules(Resource resource)
+            throws SAXException, IOException, ParserConfigurationException {
+        Map<String, Map<String, Evaluator>> rules = new LinkedHashMap<>();
+
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(resource.getInputStream());
+        document.normalizeDocument();
+
+        NodeList elFamilies = document.getElementsByTagName("devicefamily");
+        for (int i = 0; i < elFamilies.getLength(); i++) {
+            Node node = elFamilies.item(i);
+            if (node.getNodeType() == Node.ELEMENT_NODE) {
+                Element elFamily = (Element) node;
+
+                HashMap<String, Evaluator> conditions = new HashMap<>();
+                String elDeviceFamily = elFamily.getAttribute("name");
+                rules.put(elDeviceFamily, conditions);
+
+                NodeList elConditions = elFamily.getElementsByTagName("condition");
+                for (int j = 0; j < elConditions.getLength(); j++) {
+                    Node item = elConditions.item(j);
+                    if (item.getNodeType() == Node.ELEMENT_NODE) {
+                        Element elCondition = (Element) item;
+
+                        String contextClaim = elCondition.getAttribute("context-claim");
+                        String value = elCondition.getAttribute("value");
+                        log.debug("Adding a condition {} <> {} for {}", contextClaim, value, elDeviceFamily);
+                        conditions.put(contextClaim, Evaluator.getByExpectedValue(value));
+                    }
+                }
+            }
+        }
+        return rules;
+    }
+
+    /**
+     * Device families rules compiled for evaluation.
+     * <p>Conditions are grouped by claim. For every claim, equal conditions of different families are evaluated once,
+     * and the families that accept a value of the claim are a bit set. The device family is the first family accepted
+     * by all claims. Results are memoized per tuple of the values of the claims used in the rules, so that
+     * a memoized result costs a lookup of each of these claims and one lookup of the tuple.</p>
+     * <p>A device family is in the result if all its conditions are true, families are checked in order of
+     * the device families file. A claim without value doesn't satisfy any condition.</p>
+     */
+    static final class DeviceFamiliesRules {
+
+        private static final int MAX_MEMOIZED_RESULTS = 10000;
+
+        /**
+         * Marks a claim that is not in the claims, unlike a claim with {@code null} value.
+         */
+        private static final Object ABSENT = new Object() {
+            @Override
+            public String toString() {
+                return "ABSENT";
+            }
+        };
+
+        /**
+         * Rules as read from the device families file: conditions per claim name per device family.
+         */
+        final Map<String, Map<String, Evaluator>> families;
+
+        private final String[] familyNames;
+
+        private final String[] claimNames;
+
+        private final ClaimConditions[] claimConditions;
+
+        private final Cache<List<Object>, Optional<String>> results = CacheBuilder.newBuilder()
+                .maximumSize(MAX_MEMOIZED_RESULTS)
+                .build();
+
+        DeviceFamiliesRules(Map<String, Map<String, Evaluator>> families) {
+            this.families = families;
+            this.familyNames = families.keySet().toArray(new String[0]);
+
+            Map<String, ClaimConditions> conditions = new LinkedHashMap<>();
+            for (int family = 0; family < familyNames.length; family++) {
+                for (Map.Entry<String, Evaluator> condition : families.get(familyNames[family]).entrySet()) {
+                    conditions.computeIfAbsent(condition.getKey(), claim -> new ClaimConditions())
+                            .add(condition.getValue(), family);
+                }
+            }
+
+            this.claimNames = conditions.keySet().toArray(new String[0]);
+            this.claimConditions = conditions.values().toArray(new ClaimConditions[0]);
+            for (ClaimConditions claimCondition : claimConditions) {
+                claimCondition.compile(familyNames.length);
+            }
+        }
+
+        @Nullable
+        String defineDeviceFamily(Map<String, Object> claims) {
+            Object[] values = new Object[claimNames.length];
+            for (int i = 0; i < claimNames.length; i++) {
+                Object value = claims.get(claimNames[i]);
+                values[i] = value == null && !claims.containsKey(claimNames[i]) ? ABSENT : value;
+            }
+
+            try {
+                return results.get(Arrays.asList(values), () -> Optional.ofNullable(_evaluate(values))).orElse(null);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Cannot evaluate device families rules", e.getCause());
+            }
+        }
+
+        private String _evaluate(Object[] values) {
+            BitSet candidates = new BitSet(familyNames.length);
+            candidates.set(0, familyNames.length);
+
+            for (int i = 0; i < claimConditions.length && !candidates.isEmpty(); i++) {
+                claimConditions[i].retainAccepting(candidates, values[i]);
+            }
+
+            int family = candidates.nextSetBit(0);
+            if (family < 0) {
+                return null;
+            }
+
+            log.debug("This is '{}' because of conditions {}", familyNames[family], families.get(familyNames[family]));
+            return familyNames[family];
+        }
+
+        /**
+         * Conditions of all device families on one claim.
+         */
+        private static final class ClaimConditions {
+
+            private final Map<Evaluator, BitSet> familiesByCondition = new LinkedHashMap<>();
+
+            /**
+             * Families with no condition on this claim, they accept any value.
+             */
+            private final BitSet unconditional = new BitSet();
+
+            private Evaluator[] evaluators;
+
+            private BitSet[] evaluatorFamilies;
+
+            void add(Evaluator evaluator, int family) {
+                familiesByCondition.computeIfAbsent(evaluator, e -> new BitSet()).set(family);
+            }
+
+            void compile(int familiesCount) {
+                unconditional.set(0, familiesCount);
+                List<BitSet> families = new ArrayList<>(familiesByCondition.values());
+                for (BitSet conditioned : families) {
+                    unconditional.andNot(conditioned);
+                }
+                evaluators = familiesByCondition.keySet().toArray(new Evaluator[0]);
+                evaluatorFamilies = families.toArray(new BitSet[0]);
+            }
+
+            void retainAccepting(BitSet candidates, Object value) {
+                BitSet accepting = (BitSet) unconditional.clone();
+                if (value != ABSENT && value != null) {
+                    for (int i = 0; i < evaluators.length; i++) {
+                        if (_isTrue(evaluators[i], value)) {
+                            accepting.or(evaluatorFamilies[i]);
                         }
                     }
                 }
+                candidates.and(accepting);
+            }
+
+            @SuppressWarnings("unchecked")
+            private static boolean _isTrue(@NotNull Evaluator evaluator, @NotNull Object value) {
+                Object claim = castClaim(value, evaluator.genericType());
+                return claim != null && evaluator.evaluate(claim);
             }
-        } catch (SAXException | IOException | ParserConfigurationException e) {
-            log.error("Exception occurred while reading the device-families definition", e);
         }
     }
 
@@ -137,6 +348,7 @@ public class DeviceFamiliesEvaluator {
      * @since 1.5
      */
     @ToString
+    @EqualsAndHashCode
     abstract static class Evaluator<T> {
 
         T expected;
@@ -1,6 +1,9 @@
 package com.sdl.webapp.common.impl.interceptor;
 
+import com.sdl.dxa.caching.CacheWarmUpService;
+import com.sdl.webapp.common.util.ApplicationContextHolder;
 import org.apache.http.HttpStatus;
+import org.springframework.context.ApplicationContext;
 
 import javax.servlet.Filter;
 import javax.servlet.FilterChain;
@@ -11,7 +14,8 @@ import javax.servlet.http.HttpServletResponse;
 
 /**
  * Health check filter that goes before {@link com.sdl.webapp.common.api.WebRequestContext}, and thus does not fail
- * when localization is not resolved. Always returns {@code 200 HTTP} and stops chaining.
+ * when localization is not resolved. Returns {@code 200 HTTP} and stops chaining, or {@code 503 HTTP}
+ * while the {@link CacheWarmUpService cache warm-up} after startup is running.
  */
 public class HealthCheckFilter implements Filter {
 
@@ -22,7 +26,16 @@ public class HealthCheckFilter implements Filter {
 
     @Override
     public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain) {
-        ((HttpServletResponse) servletResponse).setStatus(HttpStatus.SC_OK);
+        ((HttpServletResponse) servletResponse).setStatus(isReady() ? HttpStatus.SC_OK : HttpStatus.SC_SERVICE_UNAVAILABLE);
+    }
+
+    private static boolean isReady() {
+        ApplicationContext context = ApplicationContextHolder.getContext();
+        if (context == null) {
+            return true;
+        }
+        String[] warmUpServices = context.getBeanNamesForType(CacheWarmUpService.class);
+        return warmUpServices.length == 0 || context.getBean(warmUpServices[0], CacheWarmUpService.class).isReady();
     }
 
     @Override
@@ -0,0 +1,174 @@
+package com.sdl.webapp.common.impl.localization;
+
+import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.localization.LocalizationResolverException;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Cache of localizations for localization resolvers, so that a localization is created once per publication.
+ * <p>Localizations are created single-flight: when many requests come for a publication that is not yet loaded,
+ * for instance when the node starts, only the first one creates the localization and the others wait for it.
+ * A failed creation is not cached, the next request tries again.</p>
+ * <p>A refresh creates the new localization while requests keep getting the previous one, and then swaps it in.
+ * If the new localization cannot be created, the previous one is kept.</p>
+ * <p>A localization is created for the path of its publication. A publication may be reachable through several
+ * publication mappings, so a request with another path for the same publication gets the cached localization.
+ * The path of the latest request is remembered and the next refresh creates the localization for it, so that
+ * a changed publication mapping is picked up without creating the localization on a request path.</p>
+ *
+ * @dxa.publicApi
+ */
+@Slf4j
+public class LocalizationCache {
+
+    private final Loader loader;
+
+    private final ConcurrentMap<String, Entry> localizations = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, CompletableFuture<Boolean>> refreshes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a cache of localizations.
+     *
+     * @param loader creator of a localization
+     */
+    public LocalizationCache(@NotNull Loader loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * Returns the localization of the given publication, creating it if it is not in the cache.
+     *
+     * @param id   ID of the publication
+     * @param path path of the publication, used to create the localization
+     * @return the localization
+     * @throws LocalizationResolverException if the localization cannot be created
+     */
+    public Localization get(String id, String path) throws LocalizationResolverException {
+        while (true) {
+            Entry entry = localizations.get(id);
+            if (entry != null) {
+                if (!Objects.equals(entry.latestPath, path)) {
+                    log.debug("Localization {} is requested with path {}, it will be refreshed with it", id, path);
+                    entry.latestPath = path;
+                }
+                return _await(id, entry.localization);
+            }
+
+            Entry created = new Entry(path, new CompletableFuture<>());
+            if (localizations.putIfAbsent(id, created) == null) {
+                _create(id, path, created);
+                return _await(id, created.localization);
+            }
+        }
+    }
+
+    /**
+     * Creates the localization of the given publication again and replaces the cached one, if there is one.
+     * Concurrent refreshes of the same publication create the localization once. The localization is created for the
+     * path of the latest request of the publication.
+     *
+     * @param id ID of the publication
+     * @return whether the cached localization has been replaced
+     */
+    public boolean refresh(String id) {
+        Entry current = localizations.get(id);
+        if (current == null) {
+            return false;
+        }
+
+        CompletableFuture<Boolean> refresh = new CompletableFuture<>();
+        CompletableFuture<Boolean> inFlight = refreshes.putIfAbsent(id, refresh);
+        if (inFlight != null) {
+            log.debug("Localization {} is already being refreshed, waiting for it", id);
+            return inFlight.join();
+        }
+
+        boolean refreshed = false;
+        try {
+            String path = current.latestPath;
+            Localization localization = loader.create(id, path);
+            if (localizations.replace(id, current, new Entry(path, CompletableFuture.completedFuture(localization)))) {
+                refreshed = true;
+                log.debug("Localization {} has been refreshed for path {}", id, path);
+            } else {
+                log.debug("Localization {} has been removed while refreshing, the refreshed one is not cached", id);
+            }
+        } catch (LocalizationResolverException | RuntimeException e) {
+            log.error("Cannot refresh localization {}, the previous one is kept", id, e);
+        } finally {
+            refreshes.remove(id, refresh);
+            refresh.complete(refreshed);
+        }
+        return refreshed;
+    }
+
+    private void _create(String id, String path, Entry entry) throws LocalizationResolverException {
+        try {
+            entry.localization.complete(loader.create(id, path));
+        } catch (LocalizationResolverException | RuntimeException | Error e) {
+            // requests waiting for this localization get the same exception, the next ones try again
+            localizations.remove(id, entry);
+            entry.localization.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static Localization _await(String id, CompletableFuture<Localization> localization) throws LocalizationResolverException {
+        try {
+            return localization.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LocalizationResolverException("Interrupted while waiting for localization " + id, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof LocalizationResolverException) {
+                throw (LocalizationResolverException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    private static final class Entry {
+
+        private final CompletableFuture<Localization> localization;
+
+        /**
+         * Path of the latest request of the localization, used by the next refresh.
+         */
+        private volatile String latestPath;
+
+        private Entry(String path, CompletableFuture<Localization> localization) {
+            this.localization = localization;
+            this.latestPath = path;
+        }
+    }
+
+    /**
+     * Creator of a localization.
+     *
+     * @dxa.publicApi
+     */
+    @FunctionalInterface
+    public interface Loader {
+
+        /**
+         * Creates the localization of the publication.
+         *
+         * @param id   ID of the publication
+         * @param path path of the publication
+         * @return the localization
+         * @throws LocalizationResolverException if the localization cannot be created
+         */
+        Localization create(String id, String path) throws LocalizationResolverException;
+    }
+}
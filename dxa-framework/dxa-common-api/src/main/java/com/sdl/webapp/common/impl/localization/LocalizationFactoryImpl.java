@@ -3,7 +3,9 @@ package com.sdl.webapp.common.impl.localization;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.sdl.webapp.common.api.content.ContentProvider;
 import com.sdl.webapp.common.api.content.ContentProviderException;
 import com.sdl.webapp.common.api.content.StaticContentItem;
@@ -18,17 +20,33 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
+import javax.annotation.PreDestroy;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static com.sdl.webapp.common.impl.localization.semantics.SemanticsConverter.convertSemantics;
 
@@ -39,6 +57,20 @@ import static com.sdl.webapp.common.impl.localization.semantics.SemanticsConvert
  * The configuration of a localization is stored in a number of JSON files that are retrieved via the static content
  * provider.
  * </p>
+ * <p>
+ * The version is loaded first. Then the bootstrap files ({@code _all.json} of configuration and resources, semantic
+ * schemas and vocabularies, includes) are loaded concurrently, followed by the files listed in the bootstrap files.
+ * Loads run on a pool shared by all localizations, of {@code dxa.localization.bootstrap.threads} threads.
+ * The configuration is assembled in the order of the files, so the result doesn't depend on the order of loads.
+ * </p>
+ * <p>
+ * If {@code dxa.localization.snapshot.directory} is set, the loaded files of a localization are saved there
+ * together with the version of the localization. The first time a localization is created after startup, its files
+ * are read from the snapshot if the snapshot has the same version, so only the version is loaded remotely.
+ * Localizations created again later, e.g. when refreshed, are always loaded remotely. Snapshots are only used if the
+ * version is published {@code version.json}, as the version from {@code dxa.assets.version} or of the webapp
+ * doesn't change when the configuration is published.
+ * </p>
  */
 @Component
 public class LocalizationFactoryImpl implements LocalizationFactory {
@@ -64,6 +96,11 @@ public class LocalizationFactoryImpl implements LocalizationFactory {
 
     private static final String FILES_NODE_NAME = "files";
 
+    private static final String SNAPSHOT_ID = "id";
+    private static final String SNAPSHOT_PATH = "path";
+    private static final String SNAPSHOT_VERSION = "version";
+    private static final String SNAPSHOT_FILES = "files";
+
     @Autowired
     private ContentProvider contentProvider;
 
@@ -73,6 +110,19 @@ public class LocalizationFactoryImpl implements LocalizationFactory {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Value("${dxa.localization.bootstrap.threads:#{8}}")
+    private int bootstrapThreads = 8;
+
+    @Value("${dxa.localization.snapshot.directory:}")
+    private String snapshotDirectory = "";
+
+    private volatile ExecutorService bootstrapExecutor;
+
+    /**
+     * IDs of localizations created since startup, these don't use snapshots anymore.
+     */
+    private final Set<String> createdLocalizations = ConcurrentHashMap.newKeySet();
+
     /**
      * {@inheritDoc}
      */
@@ -84,36 +134,56 @@ public class LocalizationFactoryImpl implements LocalizationFactory {
                 .setId(id)
                 .setPath(path);
 
-        loadMainConfiguration(id, path, builder);
         loadVersion(id, path, builder);
-        loadResources(id, path, builder);
 
-        final List<JsonSchema> semanticSchemas = parseJsonFileObject(contentProvider,
-                SEMANTIC_SCHEMAS_PATH, id, path, new TypeReference<List<JsonSchema>>() {
+        // only the version published to the broker changes when the configuration is published
+        final String snapshotVersion = builder.isHtmlDesignPublished() ? builder.getVersion() : null;
+        final ConfigurationFiles files = new ConfigurationFiles(id, path, readSnapshot(id, path, snapshotVersion));
+
+        final CompletableFuture<JsonNode> config = files.load(CONFIG_BOOTSTRAP_PATH);
+        final CompletableFuture<JsonNode> resources = files.load(RESOURCES_BOOTSTRAP_PATH);
+        final CompletableFuture<JsonNode> schemas = files.load(SEMANTIC_SCHEMAS_PATH);
+        final CompletableFuture<JsonNode> vocabularies = files.load(SEMANTIC_VOCABULARIES_PATH);
+        final CompletableFuture<JsonNode> includes = files.load(INCLUDES_PATH);
+
+        final JsonNode configRootNode = files.get(config);
+        final List<SubFile> configSubFiles = files.loadSubFiles(configRootNode);
+        final JsonNode resourcesRootNode = files.get(resources);
+        final List<SubFile> resourcesSubFiles = files.loadSubFiles(resourcesRootNode);
+
+        loadMainConfiguration(configRootNode, files.get(configSubFiles), builder);
+        builder.addResources(files.get(resourcesSubFiles));
+
+        final List<JsonSchema> semanticSchemas = convertJsonFile(files.get(schemas), id, path,
+                new TypeReference<List<JsonSchema>>() {
                 });
 
-        final List<JsonVocabulary> semanticVocabularies = parseJsonFileObject(contentProvider,
-                SEMANTIC_VOCABULARIES_PATH, id, path, new TypeReference<List<JsonVocabulary>>() {
+        final List<JsonVocabulary> semanticVocabularies = convertJsonFile(files.get(vocabularies), id, path,
+                new TypeReference<List<JsonVocabulary>>() {
                 });
 
         builder.addSemanticSchemas(convertSemantics(semanticSchemas, semanticVocabularies));
 
-        loadIncludes(id, path, builder);
+        loadIncludes(files.get(includes), builder);
 
         final Localization localization = builder.build();
         LOG.info("Localization: " + localization + " is created");
 
+        if (files.isRemote()) {
+            writeSnapshot(id, path, snapshotVersion, files.getLoaded());
+        }
+        createdLocalizations.add(id);
+
         return localization;
     }
 
-    private void loadMainConfiguration(String id, String path, LocalizationImpl.Builder builder)
-            throws LocalizationFactoryException {
-        final JsonNode configRootNode = parseJsonFileTree(contentProvider, CONFIG_BOOTSTRAP_PATH, id, path);
+    private void loadMainConfiguration(JsonNode configRootNode, Map<String, String> configuration,
+                                       LocalizationImpl.Builder builder) {
         builder.setMediaRoot(configRootNode.get(MEDIA_ROOT_NODE_NAME).asText(DEFAULT_MEDIA_ROOT))
                 .setDefault(configRootNode.get(DEFAULT_LOCALIZATION_NODE_NAME).asBoolean(false))
                 .setStaging(configRootNode.get(STAGING_NODE_NAME).asBoolean(false))
                 .addSiteLocalizations(loadSiteLocalizations(configRootNode))
-                .addConfiguration(parseJsonSubFiles(contentProvider, configRootNode, id, path));
+                .addConfiguration(configuration);
     }
 
     private List<SiteLocalizationImpl> loadSiteLocalizations(JsonNode configRootNode) {
@@ -187,15 +257,7 @@ public class LocalizationFactoryImpl implements LocalizationFactory {
         LOG.info("Version is not loaded at all for id: " + id);
     }
 
-    private void loadResources(String id, String path, LocalizationImpl.Builder builder)
-            throws LocalizationFactoryException {
-        final JsonNode resourcesRootNode = parseJsonFileTree(contentProvider, RESOURCES_BOOTSTRAP_PATH, id, path);
-        builder.addResources(parseJsonSubFiles(contentProvider, resourcesRootNode, id, path));
-    }
-
-    private void loadIncludes(String id, String path, LocalizationImpl.Builder builder)
-            throws LocalizationFactoryException {
-        final JsonNode includesRootNode = parseJsonFileTree(contentProvider, INCLUDES_PATH, id, path);
+    private void loadIncludes(JsonNode includesRootNode, LocalizationImpl.Builder builder) {
         final Iterator<Map.Entry<String, JsonNode>> i = includesRootNode.fields();
         while (i.hasNext()) {
             final Map.Entry<String, JsonNode> entry = i.next();
@@ -280,13 +342,225 @@ public class LocalizationFactoryImpl implements LocalizationFactory {
             if (Strings.isNullOrEmpty(subFilePath)) {
                 continue;
             }
-            String prefix = subFilePath.substring(subFilePath.lastIndexOf('/') + 1, subFilePath.lastIndexOf('.') + 1);
-            Iterator<Map.Entry<String, JsonNode>> i = parseJsonFileTree(contentProvider, subFilePath, locId, locPath).fields();
-            while (i.hasNext()) {
-                final Map.Entry<String, JsonNode> entry = i.next();
-                map.put(prefix + entry.getKey(), entry.getValue().asText());
-            }
+            putSubFileEntries(map, subFilePath, parseJsonFileTree(contentProvider, subFilePath, locId, locPath));
         }
         return map;
     }
+
+    private static void putSubFileEntries(Map<String, String> map, String subFilePath, JsonNode subFileNode) {
+        String prefix = subFilePath.substring(subFilePath.lastIndexOf('/') + 1, subFilePath.lastIndexOf('.') + 1);
+        Iterator<Map.Entry<String, JsonNode>> i = subFileNode.fields();
+        while (i.hasNext()) {
+            final Map.Entry<String, JsonNode> entry = i.next();
+            map.put(prefix + entry.getKey(), entry.getValue().asText());
+        }
+    }
+
+    private <T> T convertJsonFile(JsonNode node, String locId, String locPath, TypeReference<T> resultType)
+            throws LocalizationFactoryException {
+        try {
+            return objectMapper.convertValue(node, resultType);
+        } catch (IllegalArgumentException e) {
+            throw new LocalizationFactoryException("Exception while reading configuration of localization: [" + locId +
+                    "] " + locPath, e);
+        }
+    }
+
+    private Map<String, JsonNode> readSnapshot(String id, String path, String version) {
+        if (Strings.isNullOrEmpty(snapshotDirectory) || version == null || createdLocalizations.contains(id)) {
+            return null;
+        }
+
+        final File file = getSnapshotFile(id);
+        if (!file.exists()) {
+            return null;
+        }
+
+        try {
+            final JsonNode snapshot = objectMapper.readTree(file);
+            if (!version.equals(snapshot.path(SNAPSHOT_VERSION).asText()) || !id.equals(snapshot.path(SNAPSHOT_ID).asText())
+                    || !Strings.nullToEmpty(path).equals(snapshot.path(SNAPSHOT_PATH).asText())) {
+                LOG.info("Snapshot of localization [{}] {} is outdated, the localization is loaded", id, path);
+                return null;
+            }
+
+            final Map<String, JsonNode> files = new HashMap<>();
+            snapshot.path(SNAPSHOT_FILES).fields().forEachRemaining(entry -> files.put(entry.getKey(), entry.getValue()));
+            LOG.info("Localization [{}] {} of version {} is created from snapshot {}", id, path, version, file);
+            return files;
+        } catch (IOException e) {
+            LOG.warn("Cannot read snapshot {} of localization [{}] {}, the localization is loaded", file, id, path, e);
+            return null;
+        }
+    }
+
+    private void writeSnapshot(String id, String path, String version, Map<String, JsonNode> files) {
+        if (Strings.isNullOrEmpty(snapshotDirectory) || version == null) {
+            return;
+        }
+
+        final ObjectNode snapshot = objectMapper.createObjectNode()
+                .put(SNAPSHOT_ID, id)
+                .put(SNAPSHOT_PATH, Strings.nullToEmpty(path))
+                .put(SNAPSHOT_VERSION, version);
+        snapshot.putObject(SNAPSHOT_FILES).setAll(files);
+
+        final File file = getSnapshotFile(id);
+        try {
+            Files.createDirectories(file.getParentFile().toPath());
+            // written next to the snapshot and moved, so that a snapshot is never read half-written
+            final Path temp = Files.createTempFile(file.getParentFile().toPath(), file.getName(), ".tmp");
+            try {
+                objectMapper.writeValue(temp.toFile(), snapshot);
+                try {
+                    Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            LOG.debug("Snapshot of localization [{}] {} of version {} is saved to {}", id, path, version, file);
+        } catch (IOException e) {
+            LOG.warn("Cannot save snapshot {} of localization [{}] {}", file, id, path, e);
+        }
+    }
+
+    private File getSnapshotFile(String id) {
+        return new File(snapshotDirectory, "localization-" + id.replaceAll("[^\\w.-]", "_") + ".json");
+    }
+
+    private Executor getBootstrapExecutor() {
+        if (bootstrapThreads <= 1) {
+            return Runnable::run;
+        }
+        if (bootstrapExecutor == null) {
+            synchronized (this) {
+                if (bootstrapExecutor == null) {
+                    bootstrapExecutor = Executors.newFixedThreadPool(bootstrapThreads,
+                            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("dxa-localization-bootstrap-%d").build());
+                }
+            }
+        }
+        return bootstrapExecutor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (bootstrapExecutor != null) {
+            bootstrapExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Configuration files of a localization being created, loaded concurrently from the content provider,
+     * or taken from a snapshot.
+     */
+    private final class ConfigurationFiles {
+
+        private final String id;
+
+        private final String path;
+
+        private final Map<String, JsonNode> snapshot;
+
+        private final Map<String, JsonNode> loaded = new ConcurrentHashMap<>();
+
+        private final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        private final Executor executor = getBootstrapExecutor();
+
+        private boolean remote;
+
+        ConfigurationFiles(String id, String path, Map<String, JsonNode> snapshot) {
+            this.id = id;
+            this.path = path;
+            this.snapshot = snapshot;
+        }
+
+        CompletableFuture<JsonNode> load(String filePath) {
+            JsonNode node = snapshot == null ? null : snapshot.get(filePath);
+            if (node != null) {
+                loaded.put(filePath, node);
+                return CompletableFuture.completedFuture(node);
+            }
+
+            remote = true;
+            return CompletableFuture.supplyAsync(() -> _load(filePath), executor);
+        }
+
+        List<SubFile> loadSubFiles(JsonNode rootNode) {
+            final List<SubFile> subFiles = new ArrayList<>();
+            final JsonNode filesNode = rootNode.get(FILES_NODE_NAME);
+            if (filesNode != null) {
+                for (JsonNode subFileNode : filesNode) {
+                    final String subFilePath = subFileNode.asText();
+                    if (!Strings.isNullOrEmpty(subFilePath)) {
+                        subFiles.add(new SubFile(subFilePath, load(subFilePath)));
+                    }
+                }
+            }
+            return subFiles;
+        }
+
+        JsonNode get(CompletableFuture<JsonNode> file) throws LocalizationFactoryException {
+            try {
+                return file.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof LocalizationFactoryException) {
+                    throw (LocalizationFactoryException) e.getCause();
+                }
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        Map<String, String> get(List<SubFile> subFiles) throws LocalizationFactoryException {
+            final Map<String, String> map = new HashMap<>();
+            for (SubFile subFile : subFiles) {
+                putSubFileEntries(map, subFile.path, get(subFile.node));
+            }
+            return map;
+        }
+
+        boolean isRemote() {
+            return remote;
+        }
+
+        Map<String, JsonNode> getLoaded() {
+            return loaded;
+        }
+
+        private JsonNode _load(String filePath) {
+            // content provider may need the request of the thread creating the localization
+            final RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            try {
+                final JsonNode node = parseJsonFileTree(contentProvider, filePath, id, path);
+                loaded.put(filePath, node);
+                return node;
+            } catch (LocalizationFactoryException e) {
+                throw new CompletionException(e);
+            } finally {
+                RequestContextHolder.setRequestAttributes(previous);
+            }
+        }
+    }
+
+    private static final class SubFile {
+
+        private final String path;
+
+        private final CompletableFuture<JsonNode> node;
+
+        private SubFile(String path, CompletableFuture<JsonNode> node) {
+            this.path = path;
+            this.node = node;
+        }
+    }
 }
\ No newline at end of file
@@ -267,5 +267,9 @@ public class LocalizationImpl implements Localization {
         public String getVersion() {
             return version;
         }
+
+        public boolean isHtmlDesignPublished() {
+            return htmlDesignPublished;
+        }
     }
 }
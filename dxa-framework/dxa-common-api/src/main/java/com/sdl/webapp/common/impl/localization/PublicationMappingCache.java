@@ -0,0 +1,269 @@
+package com.sdl.webapp.common.impl.localization;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sdl.dxa.caching.SingleFlight;
+import com.sdl.webapp.common.api.localization.LocalizationResolverException;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Cache of publication mappings for localization resolvers, so that the content service is not asked
+ * for a publication mapping on every request.
+ * <p>Entries are indexed by the path of the publication mapping the content service returns, and a URL is looked up
+ * by the longest cached path it starts with. As a longer publication mapping may exist below a cached one, a URL in
+ * a subdirectory of a cached path is loaded once for that subdirectory, which is then indexed as well and serves
+ * all URLs below it. URLs that are not mapped are cached by their directory (see {@link #getKey(String)}).</p>
+ * <p>When the TTL is over, a mapping is still served while it is reloaded in background; if the reload fails
+ * the mapping is kept until the next attempt. Unmapped URLs are loaded again once the TTL is over.
+ * Reloads run on a thread of this cache, which is stopped by {@link #shutdown()}.</p>
+ *
+ * @param <T> type of publication mapping data
+ * @dxa.publicApi
+ */
+@Slf4j
+public class PublicationMappingCache<T> {
+
+    private final Loader<T> loader;
+
+    private final Function<T, String> mappingPath;
+
+    private final LoadingCache<String, Optional<T>> mappings;
+
+    private final Cache<String, Boolean> unmapped;
+
+    private final SingleFlight<String> loads = new SingleFlight<>();
+
+    private volatile ExecutorService refreshExecutor;
+
+    private volatile boolean shutdown;
+
+    /**
+     * Creates a cache of publication mappings.
+     *
+     * @param loader      loader of a publication mapping from the content service
+     * @param mappingPath path of a loaded publication mapping, like {@code /} or {@code /de}
+     * @param ttlSeconds  time in seconds after which an entry is reloaded, {@code 0} disables caching
+     * @param maximumSize maximum number of cached paths
+     */
+    public PublicationMappingCache(@NotNull Loader<T> loader, @NotNull Function<T, String> mappingPath, long ttlSeconds, long maximumSize) {
+        this(loader, mappingPath, ttlSeconds, maximumSize, Ticker.systemTicker(), null);
+    }
+
+    @VisibleForTesting
+    PublicationMappingCache(Loader<T> loader, Function<T, String> mappingPath, long ttlSeconds, long maximumSize,
+                            Ticker ticker, @Nullable Executor refreshExecutor) {
+        this.loader = loader;
+        this.mappingPath = mappingPath;
+        this.mappings = ttlSeconds <= 0 ? null : CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .ticker(ticker)
+                .build(CacheLoader.asyncReloading(new CacheLoader<String, Optional<T>>() {
+                    @Override
+                    public Optional<T> load(@NotNull String path) throws LocalizationResolverException {
+                        // only called on refresh, a path is the URL of its own directory
+                        log.trace("Reloading publication mapping for {}", path);
+                        return Optional.ofNullable(loader.load(path));
+                    }
+                }, refreshExecutor != null ? refreshExecutor : command -> _getRefreshExecutor().execute(command)));
+        this.unmapped = ttlSeconds <= 0 ? null : CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * Returns the key of the given URL for caching unmapped URLs. URLs with a file name (last path segment
+     * with an extension) are cached by the URL of their directory, other URLs by themselves as the last segment
+     * may be the path of a publication mapping.
+     *
+     * @param url full URL of the request
+     * @return the cache key of the URL
+     */
+    static String getKey(String url) {
+        int pathStart = _getPathStart(url);
+        int lastSlash = url.lastIndexOf('/');
+        if (pathStart < 0 || lastSlash < pathStart || url.indexOf('.', lastSlash) < 0) {
+            return url;
+        }
+        return url.substring(0, lastSlash + 1);
+    }
+
+    /**
+     * Returns the publication mapping for the given URL from cache or loads it.
+     *
+     * @param url full URL of the request
+     * @return the publication mapping or {@code null} if the URL is not mapped
+     * @throws LocalizationResolverException if the publication mapping cannot be loaded
+     */
+    @Nullable
+    public T get(String url) throws LocalizationResolverException {
+        if (mappings == null) {
+            return loader.load(url);
+        }
+
+        String key = getKey(url);
+        if (unmapped.getIfPresent(key) != null) {
+            return null;
+        }
+        T cached = _getByLongestPath(url);
+        if (cached != null) {
+            return cached;
+        }
+
+        return loads.execute(key, () -> {
+            // loaded meanwhile by the request this one waited for
+            if (unmapped.getIfPresent(key) != null) {
+                return null;
+            }
+            T loaded = _getByLongestPath(url);
+            return loaded != null ? loaded : _load(url, key);
+        });
+    }
+
+    /**
+     * Removes all cached publication mappings including cached misses.
+     */
+    public void invalidateAll() {
+        if (mappings != null) {
+            mappings.invalidateAll();
+            unmapped.invalidateAll();
+        }
+    }
+
+    /**
+     * Stops the thread reloading publication mappings, mappings are not reloaded anymore afterwards.
+     */
+    public synchronized void shutdown() {
+        shutdown = true;
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
+    private ExecutorService _getRefreshExecutor() {
+        if (refreshExecutor == null) {
+            synchronized (this) {
+                if (refreshExecutor == null) {
+                    if (shutdown) {
+                        throw new RejectedExecutionException("Publication mapping cache is shut down");
+                    }
+                    refreshExecutor = Executors.newSingleThreadExecutor(
+                            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("publication-mapping-refresh-%d").build());
+                }
+            }
+        }
+        return refreshExecutor;
+    }
+
+    @Nullable
+    private T _getByLongestPath(String url) {
+        int pathStart = _getPathStart(url);
+        int directoryEnd = _getDirectoryEnd(url, pathStart);
+        int originEnd = pathStart < 0 ? directoryEnd : pathStart;
+
+        for (int end = directoryEnd; end >= originEnd; end = end > originEnd ? url.lastIndexOf('/', end - 1) : -1) {
+            String path = url.substring(0, end);
+            Optional<T> cached = mappings.getIfPresent(path);
+            if (cached == null || !cached.isPresent()) {
+                continue;
+            }
+            // a publication mapping itself doesn't tell if there is a longer mapping in its subdirectory
+            if (end < directoryEnd && path.equals(_getMappingUrl(url, pathStart, cached.get()))) {
+                log.trace("URL {} is in a subdirectory of publication mapping {}, not yet known", url, path);
+                return null;
+            }
+            return cached.get();
+        }
+        return null;
+    }
+
+    @Nullable
+    private T _load(String url, String key) throws LocalizationResolverException {
+        log.trace("Loading publication mapping for {}", url);
+        T data = loader.load(url);
+        if (data == null) {
+            unmapped.put(key, Boolean.TRUE);
+            return null;
+        }
+
+        int pathStart = _getPathStart(url);
+        String mappingUrl = _getMappingUrl(url, pathStart, data);
+        mappings.put(mappingUrl, Optional.of(data));
+
+        // the subdirectory of the mapping the URL is in, so that other URLs in it don't ask for a longer mapping
+        int directoryEnd = _getDirectoryEnd(url, pathStart);
+        if (!url.startsWith(mappingUrl)) {
+            mappings.put(url.substring(0, directoryEnd), Optional.of(data));
+        } else if (directoryEnd > mappingUrl.length()) {
+            int subdirectoryEnd = url.indexOf('/', mappingUrl.length() + 1);
+            mappings.put(url.substring(0, subdirectoryEnd < 0 || subdirectoryEnd > directoryEnd ? directoryEnd : subdirectoryEnd),
+                    Optional.of(data));
+        }
+        return data;
+    }
+
+    private static int _getPathStart(String url) {
+        int schemeEnd = url.indexOf("://");
+        return url.indexOf('/', schemeEnd < 0 ? 0 : schemeEnd + 3);
+    }
+
+    /**
+     * Returns the end of the directory part of the URL without a trailing slash: before the file name
+     * if the last segment has an extension, or the whole URL otherwise.
+     */
+    private static int _getDirectoryEnd(String url, int pathStart) {
+        if (pathStart < 0) {
+            return url.length();
+        }
+        int lastSlash = url.lastIndexOf('/');
+        if (lastSlash >= pathStart && url.indexOf('.', lastSlash) >= 0) {
+            return lastSlash;
+        }
+        return url.endsWith("/") ? url.length() - 1 : url.length();
+    }
+
+    private String _getMappingUrl(String url, int pathStart, T data) {
+        String path = mappingPath.apply(data);
+        String origin = pathStart < 0 ? url : url.substring(0, pathStart);
+        if (path == null || path.isEmpty() || "/".equals(path)) {
+            return origin;
+        }
+        return origin + (path.startsWith("/") ? "" : "/") + (path.endsWith("/") ? path.substring(0, path.length() - 1) : path);
+    }
+
+    /**
+     * Loader of a publication mapping from the content service.
+     *
+     * @param <T> type of publication mapping data
+     */
+    @FunctionalInterface
+    public interface Loader<T> {
+
+        /**
+         * Loads the publication mapping for the URL.
+         *
+         * @param url URL to load the mapping for
+         * @return the publication mapping or {@code null} if the URL is not mapped
+         * @throws LocalizationResolverException if the content service failed
+         */
+        @Nullable
+        T load(String url) throws LocalizationResolverException;
+    }
+}
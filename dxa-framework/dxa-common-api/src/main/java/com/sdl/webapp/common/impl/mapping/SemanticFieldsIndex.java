@@ -0,0 +1,60 @@
+package com.sdl.webapp.common.impl.mapping;
+
+import com.sdl.webapp.common.api.mapping.semantic.config.FieldSemantics;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticField;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Lookup table of semantic fields of a schema by field semantics. Remembers the result of every lookup
+ * including misses, so the linear and recursive search over the fields and embedded fields is done once
+ * per field semantics and not for every mapped entity. The indexed map must not change afterwards.
+ */
+final class SemanticFieldsIndex {
+
+    private final Map<FieldSemantics, SemanticField> semanticFields;
+
+    private final ConcurrentMap<FieldSemantics, Optional<SemanticField>> lookups = new ConcurrentHashMap<>();
+
+    SemanticFieldsIndex(Map<FieldSemantics, SemanticField> semanticFields) {
+        this.semanticFields = semanticFields;
+    }
+
+    @Nullable
+    SemanticField find(FieldSemantics semantics) {
+        return lookups.computeIfAbsent(semantics, key -> Optional.ofNullable(findFieldForGivenSemantics(semanticFields, key))).orElse(null);
+    }
+
+    private static SemanticField findFieldForGivenSemantics(Map<FieldSemantics, SemanticField> fields, FieldSemantics semantics) {
+
+        SemanticField field = fields.get(semantics);
+
+        if (field != null) {
+            return field;
+        }
+
+        for (Map.Entry<FieldSemantics, SemanticField> entry : fields.entrySet()) {
+            FieldSemantics key = entry.getKey();
+
+            if (key.isStandardMetadataField() && Objects.equals(key.getPropertyName(), semantics.getPropertyName())) {
+                return entry.getValue();
+            }
+        }
+
+        // Search all embedded fields recursively
+        for (SemanticField semanticField : fields.values()) {
+            field = findFieldForGivenSemantics(semanticField.getEmbeddedFields(), semantics);
+
+            if (field != null) {
+                return field;
+            }
+        }
+
+        return null;
+    }
+}
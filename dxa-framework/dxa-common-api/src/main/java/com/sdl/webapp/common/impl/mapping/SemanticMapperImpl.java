@@ -1,5 +1,12 @@
 package com.sdl.webapp.common.impl.mapping;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableMap;
+import com.sdl.dxa.metrics.MetricsRegistry;
+import com.sdl.dxa.metrics.NoOpMetricsRegistry;
+import com.sdl.dxa.metrics.Timer;
 import com.sdl.webapp.common.api.mapping.semantic.FieldData;
 import com.sdl.webapp.common.api.mapping.semantic.SemanticFieldDataProvider;
 import com.sdl.webapp.common.api.mapping.semantic.SemanticMapper;
@@ -10,23 +17,18 @@ import com.sdl.webapp.common.api.mapping.semantic.config.FieldSemantics;
 import com.sdl.webapp.common.api.mapping.semantic.config.SemanticField;
 import com.sdl.webapp.common.api.mapping.semantic.config.SemanticSchema;
 import com.sdl.webapp.common.api.model.KeywordModel;
-import com.sdl.webapp.common.api.model.RichText;
 import com.sdl.webapp.common.api.model.ViewModel;
 import com.sdl.webapp.common.api.model.entity.AbstractEntityModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.stereotype.Component;
-import org.springframework.util.ReflectionUtils;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
+
+import static com.sdl.dxa.metrics.MetricNames.SEMANTIC_MAPPING;
 
 @Component
 public class SemanticMapperImpl implements SemanticMapper {
@@ -39,6 +41,27 @@ public class SemanticMapperImpl implements SemanticMapper {
 
     private final SemanticMappingRegistry registry;
 
+    /**
+     * Mapping plans per entity class, kept by the class itself, so that classes of a redeployed module
+     * are not held by this mapper.
+     */
+    private final ClassValue<SemanticMappingPlan> plans = new ClassValue<SemanticMappingPlan>() {
+        @Override
+        protected SemanticMappingPlan computeValue(Class<?> entityClass) {
+            return SemanticMappingPlan.compile(entityClass, registry);
+        }
+    };
+
+    /**
+     * Indexes of immutable semantic fields maps (like the ones of {@link SemanticSchema}), maps are compared
+     * by identity and are only weakly referenced, so that maps of semantic schemas of a localization are indexed once
+     * and transient maps are not leaking. As an index remembers misses, other maps are indexed per mapped entity.
+     */
+    private final LoadingCache<Map<FieldSemantics, SemanticField>, SemanticFieldsIndex> indexes =
+            CacheBuilder.newBuilder().weakKeys().build(CacheLoader.from(SemanticFieldsIndex::new));
+
+    private MetricsRegistry metricsRegistry = NoOpMetricsRegistry.INSTANCE;
+
     /**
      * <p>Constructor for SemanticMapperImpl.</p>
      *
@@ -49,6 +72,11 @@ public class SemanticMapperImpl implements SemanticMapper {
         this.registry = registry;
     }
 
+    @Autowired(required = false)
+    public void setMetricsRegistry(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
     private static <T extends ViewModel> T createInstance(Class<? extends T> entityClass) throws SemanticMappingException {
         if (LOG.isTraceEnabled()) {
             LOG.trace("entityClass: {}", entityClass.getName());
@@ -64,34 +92,6 @@ public class SemanticMapperImpl implements SemanticMapper {
         }
     }
 
-    private static SemanticField findFieldForGivenSemantics(Map<FieldSemantics, SemanticField> fields, FieldSemantics semantics) {
-
-        SemanticField field = fields.get(semantics);
-
-        if (field != null) {
-            return field;
-        }
-
-        for (Map.Entry<FieldSemantics, SemanticField> entry : fields.entrySet()) {
-            FieldSemantics key = entry.getKey();
-
-            if (key.isStandardMetadataField() && Objects.equals(key.getPropertyName(), semantics.getPropertyName())) {
-                return entry.getValue();
-            }
-        }
-
-        // Search all embedded fields recursively
-        for (SemanticField semanticField : fields.values()) {
-            field = findFieldForGivenSemantics(semanticField.getEmbeddedFields(), semantics);
-
-            if (field != null) {
-                return field;
-            }
-        }
-
-        return null;
-    }
-
     /**
      * {@inheritDoc}
      */
@@ -100,12 +100,17 @@ public class SemanticMapperImpl implements SemanticMapper {
                                                 final Map<FieldSemantics, SemanticField> semanticFields,
                                                 final SemanticFieldDataProvider fieldDataProvider)
             throws SemanticMappingException {
-        final T entity = createInstance(entityClass);
+        Timer.Sample sample = metricsRegistry.timer(SEMANTIC_MAPPING).start();
+        try {
+            final T entity = createInstance(entityClass);
 
-        mapSemanticFields(entityClass, semanticFields, fieldDataProvider, entity);
+            mapSemanticFields(entityClass, semanticFields, fieldDataProvider, entity);
 
-        LOG.trace("entity: {}", entity);
-        return entity;
+            LOG.trace("entity: {}", entity);
+            return entity;
+        } finally {
+            sample.stop();
+        }
     }
 
     @Override
@@ -115,147 +120,135 @@ public class SemanticMapperImpl implements SemanticMapper {
                                                          T entity)
     {
         final Map<String, String> xpmPropertyMetadata = new HashMap<>();
+        final SemanticFieldsIndex semanticFieldsIndex = getIndex(semanticFields);
+        final SemanticSchema semanticSchema = fieldDataProvider.getSemanticSchema();
+        final SemanticFieldsIndex schemaFieldsIndex = semanticSchema != null ? getIndex(semanticSchema.getSemanticFields()) : null;
 
         // Map all the fields (including fields inherited from superclasses) of the entity
-        ReflectionUtils.doWithFields(entityClass, new ReflectionUtils.FieldCallback() {
-            @Override
-            public void doWith(Field field) throws IllegalArgumentException, IllegalAccessException {
-                // Find the semantics for this field
-                final Set<FieldSemantics> registrySemantics = registry.getFieldSemantics(field);
-                if (LOG.isTraceEnabled() && !registrySemantics.isEmpty()) {
-                    LOG.trace("field: {}", field);
-                }
+        for (SemanticMappingPlan.MappedField mappedField : getPlan(entityClass).getFields()) {
+            try {
+                mapField(mappedField, semanticFieldsIndex, schemaFieldsIndex, semanticSchema, fieldDataProvider, entity, xpmPropertyMetadata);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Not allowed to access field '" + mappedField.getName() + "': " + e);
+            }
+        }
 
-                boolean foundMatch = false;
-
-                // Try getting data using each of the field semantics in order
-                for (FieldSemantics fieldSemantics : registrySemantics) {
-                    // Find the matching semantic field
-                    final SemanticField semanticField = findFieldForGivenSemantics(semanticFields, fieldSemantics);
-                    if (semanticField != null) {
-                        foundMatch = true;
-                        LOG.trace("Match found: {} -> {}", fieldSemantics, semanticField);
-
-                        FieldData fieldData = null;
-                        try {
-                            fieldData = fieldDataProvider.getFieldData(semanticField, new TypeDescriptor(field));
-                        } catch (SemanticMappingException e) {
-                            LOG.error("Exception while getting field data for: " + field, e);
-                        }
+        // Set property data (used for semantic markup)
+        if (AbstractEntityModel.class.isAssignableFrom(entity.getClass())) {
+            ((AbstractEntityModel) entity).setXpmPropertyMetadata(xpmPropertyMetadata);
+        }
+    }
 
-                        String xPath = null;
-                        boolean isFieldSet = false;
-                        if (fieldData != null) {
-                            final Object fieldValue = fieldData.getFieldValue();
-                            if (fieldValue != null) {
-                                if (LOG.isTraceEnabled()) {
-                                    LOG.trace("Setting field value: {} -> {}", field.getName(), fieldValue);
-                                }
-
-                                field.setAccessible(true);
-                                if (field.getType().equals(RichText.class) && fieldValue.getClass().equals(String.class)) {
-                                    field.set(entity, new RichText((String) fieldValue));
-                                } else {
-                                    field.set(entity, fieldValue);
-                                }
-
-                                xPath = fieldData.getPropertyData();
-                                isFieldSet = true;
-                            }
-                        }
+    private void mapField(SemanticMappingPlan.MappedField mappedField, SemanticFieldsIndex semanticFieldsIndex,
+                          SemanticFieldsIndex schemaFieldsIndex, SemanticSchema semanticSchema,
+                          SemanticFieldDataProvider fieldDataProvider, Object entity,
+                          Map<String, String> xpmPropertyMetadata) throws IllegalAccessException {
+        // Semantics for this field
+        final List<FieldSemantics> registrySemantics = mappedField.getSemantics();
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("field: {}", mappedField.getField());
+        }
 
-                        if (xPath == null) {
-                            xPath = semanticField.getXPath("");
-                        }
+        boolean foundMatch = false;
+
+        // Try getting data using each of the field semantics in order
+        for (FieldSemantics fieldSemantics : registrySemantics) {
+            // Find the matching semantic field
+            final SemanticField semanticField = semanticFieldsIndex.find(fieldSemantics);
+            if (semanticField != null) {
+                foundMatch = true;
+                LOG.trace("Match found: {} -> {}", fieldSemantics, semanticField);
+
+                FieldData fieldData = null;
+                try {
+                    fieldData = fieldDataProvider.getFieldData(semanticField, mappedField.getTypeDescriptor());
+                } catch (SemanticMappingException e) {
+                    LOG.error("Exception while getting field data for: " + mappedField.getField(), e);
+                }
 
-                        if (findFieldForGivenSemantics(fieldDataProvider.getSemanticSchema().getSemanticFields(), fieldSemantics) != null) {
-                            xpmPropertyMetadata.put(field.getName(), xPath);
-                        }
-                        if (isFieldSet) {
-                            break;
+                String xPath = null;
+                boolean isFieldSet = false;
+                if (fieldData != null) {
+                    final Object fieldValue = fieldData.getFieldValue();
+                    if (fieldValue != null) {
+                        if (LOG.isTraceEnabled()) {
+                            LOG.trace("Setting field value: {} -> {}", mappedField.getName(), fieldValue);
                         }
+
+                        mappedField.set(entity, fieldValue);
+
+                        xPath = fieldData.getPropertyData();
+                        isFieldSet = true;
                     }
                 }
 
-                // Special cases - only try these when nothing was found yet
-                if (!foundMatch) {
-                    for (FieldSemantics fieldSemantics : registrySemantics) {
-                        final String propertyName = fieldSemantics.getPropertyName();
-                        SemanticSchema semanticSchema = fieldDataProvider.getSemanticSchema();
-                        if (propertyName.equals(SELF_PROPERTY) && (semanticSchema == null ||
-                                semanticSchema.hasSemantics(new EntitySemantics(fieldSemantics.getVocabulary(), fieldSemantics.getEntityName())))) {
-                            foundMatch = true;
-                            Object fieldData = null;
-                            try {
-                                fieldData = fieldDataProvider.getSelfFieldData(new TypeDescriptor(field));
-                            } catch (SemanticMappingException e) {
-                                LOG.error("Exception while getting self property data for: " + field, e);
-                            }
-
-                            if (fieldData != null) {
-                                field.setAccessible(true);
-                                field.set(entity, fieldData);
-                                break;
-                            }
-                        } else if (propertyName.equals(ALL_PROPERTY)) {
-                            foundMatch = true;
-
-                            Map<String, ?> fieldData = null;
-
-                            try
-                            {
-                                if(IsTypeOfMap(String.class, KeywordModel.class, field))
-                                {
-                                    fieldData = fieldDataProvider.getAllFieldData(KeywordModel.class);
-                                }
-                                else
-                                {
-                                    fieldData  = fieldDataProvider.getAllFieldData(String.class);
-                                }
-                            } catch (SemanticMappingException e) {
-                                LOG.error("Exception while getting all property data for: " + field, e);
-                            }
-
-                            if (fieldData != null) {
-                                field.setAccessible(true);
-                                field.set(entity, fieldData);
-                                break;
-                            }
-                        }
-                    }
+                if (xPath == null) {
+                    xPath = semanticField.getXPath("");
                 }
 
-                if (LOG.isDebugEnabled() && !foundMatch && !registrySemantics.isEmpty()) {
-                    // This not necessarily means there is a problem; for some components in the input, not all fields
-                    // of the entity are mapped
-                    LOG.trace("No match found for field: {}; registry semantics: {} did not match with supplied " +
-                            "semantics: {}", field, registrySemantics, semanticFields);
+                if (schemaFieldsIndex != null && schemaFieldsIndex.find(fieldSemantics) != null) {
+                    xpmPropertyMetadata.put(mappedField.getName(), xPath);
+                }
+                if (isFieldSet) {
+                    break;
                 }
             }
-        });
-
-        // Set property data (used for semantic markup)
-        if (AbstractEntityModel.class.isAssignableFrom(entity.getClass())) {
-            ((AbstractEntityModel) entity).setXpmPropertyMetadata(xpmPropertyMetadata);
         }
-    }
 
-    private static boolean IsTypeOfMap(Type mapKeyType, Type mapValueType, Field field)
-    {
-        if( field.getType() == Map.class)
-        {
-            ParameterizedType type = (ParameterizedType) field.getGenericType();
-            Type key = type.getActualTypeArguments()[0];
-            Type value = type.getActualTypeArguments()[1];
-
-            if (key == mapKeyType && value == mapValueType)
-            {
-                return  true;
+        // Special cases - only try these when nothing was found yet
+        if (!foundMatch) {
+            for (FieldSemantics fieldSemantics : registrySemantics) {
+                final String propertyName = fieldSemantics.getPropertyName();
+                if (propertyName.equals(SELF_PROPERTY) && (semanticSchema == null ||
+                        semanticSchema.hasSemantics(new EntitySemantics(fieldSemantics.getVocabulary(), fieldSemantics.getEntityName())))) {
+                    foundMatch = true;
+                    Object fieldData = null;
+                    try {
+                        fieldData = fieldDataProvider.getSelfFieldData(mappedField.getTypeDescriptor());
+                    } catch (SemanticMappingException e) {
+                        LOG.error("Exception while getting self property data for: " + mappedField.getField(), e);
+                    }
+
+                    if (fieldData != null) {
+                        mappedField.getField().set(entity, fieldData);
+                        break;
+                    }
+                } else if (propertyName.equals(ALL_PROPERTY)) {
+                    foundMatch = true;
+
+                    Map<String, ?> fieldData = null;
+
+                    try {
+                        if (mappedField.isKeywordMap()) {
+                            fieldData = fieldDataProvider.getAllFieldData(KeywordModel.class);
+                        } else {
+                            fieldData = fieldDataProvider.getAllFieldData(String.class);
+                        }
+                    } catch (SemanticMappingException e) {
+                        LOG.error("Exception while getting all property data for: " + mappedField.getField(), e);
+                    }
+
+                    if (fieldData != null) {
+                        mappedField.getField().set(entity, fieldData);
+                        break;
+                    }
+                }
             }
         }
 
-        return  false;
+        if (LOG.isDebugEnabled() && !foundMatch) {
+            // This not necessarily means there is a problem; for some components in the input, not all fields
+            // of the entity are mapped
+            LOG.trace("No match found for field: {}; registry semantics: {} did not match with supplied " +
+                    "semantics: {}", mappedField.getField(), registrySemantics, semanticFieldsIndex);
+        }
     }
 
+    private SemanticMappingPlan getPlan(Class<?> entityClass) {
+        return plans.get(entityClass);
+    }
 
+    private SemanticFieldsIndex getIndex(Map<FieldSemantics, SemanticField> semanticFields) {
+        return semanticFields instanceof ImmutableMap ? indexes.getUnchecked(semanticFields) : new SemanticFieldsIndex(semanticFields);
+    }
 }
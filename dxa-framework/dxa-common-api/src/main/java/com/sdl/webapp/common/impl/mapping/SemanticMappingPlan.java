@@ -0,0 +1,89 @@
+package com.sdl.webapp.common.impl.mapping;
+
+import com.google.common.collect.ImmutableList;
+import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingRegistry;
+import com.sdl.webapp.common.api.mapping.semantic.config.FieldSemantics;
+import com.sdl.webapp.common.api.model.KeywordModel;
+import com.sdl.webapp.common.api.model.RichText;
+import lombok.Getter;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable mapping plan of an entity class compiled once and reused for every entity of this class.
+ * Holds only the fields that have semantics, already made accessible and with precomputed type information,
+ * in the same order {@link ReflectionUtils#doWithFields(Class, ReflectionUtils.FieldCallback)} visits them.
+ */
+final class SemanticMappingPlan {
+
+    @Getter
+    private final List<MappedField> fields;
+
+    private SemanticMappingPlan(List<MappedField> fields) {
+        this.fields = fields;
+    }
+
+    static SemanticMappingPlan compile(Class<?> entityClass, SemanticMappingRegistry registry) {
+        ImmutableList.Builder<MappedField> fields = ImmutableList.builder();
+        ReflectionUtils.doWithFields(entityClass, field -> {
+            Set<FieldSemantics> semantics = registry.getFieldSemantics(field);
+            if (!semantics.isEmpty()) {
+                ReflectionUtils.makeAccessible(field);
+                fields.add(new MappedField(field, ImmutableList.copyOf(semantics)));
+            }
+        });
+        return new SemanticMappingPlan(fields.build());
+    }
+
+    private static boolean isTypeOfMap(Type mapKeyType, Type mapValueType, Field field) {
+        if (field.getType() == Map.class && field.getGenericType() instanceof ParameterizedType) {
+            ParameterizedType type = (ParameterizedType) field.getGenericType();
+            return type.getActualTypeArguments()[0] == mapKeyType && type.getActualTypeArguments()[1] == mapValueType;
+        }
+        return false;
+    }
+
+    /**
+     * Single semantically mapped field of the entity class.
+     */
+    @Getter
+    static final class MappedField {
+
+        private final Field field;
+
+        private final TypeDescriptor typeDescriptor;
+
+        private final List<FieldSemantics> semantics;
+
+        private final boolean richText;
+
+        private final boolean keywordMap;
+
+        private MappedField(Field field, List<FieldSemantics> semantics) {
+            this.field = field;
+            this.typeDescriptor = new TypeDescriptor(field);
+            this.semantics = semantics;
+            this.richText = field.getType().equals(RichText.class);
+            this.keywordMap = isTypeOfMap(String.class, KeywordModel.class, field);
+        }
+
+        String getName() {
+            return field.getName();
+        }
+
+        void set(Object entity, Object value) throws IllegalAccessException {
+            if (richText && value.getClass().equals(String.class)) {
+                field.set(entity, new RichText((String) value));
+            } else {
+                field.set(entity, value);
+            }
+        }
+    }
+}
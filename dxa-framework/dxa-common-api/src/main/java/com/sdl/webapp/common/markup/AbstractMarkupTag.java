@@ -1,14 +1,20 @@
 package com.sdl.webapp.common.markup;
 
 import com.sdl.dxa.caching.CompositeOutputCacheKeyBase;
-import com.sdl.dxa.caching.LocalizationAwareCacheKey;
+import com.sdl.dxa.caching.ConditionalKey;
 import com.sdl.dxa.caching.wrapper.OutputCache;
+import com.sdl.dxa.metrics.MetricsRegistry;
+import com.sdl.dxa.metrics.NoOpMetricsRegistry;
+import com.sdl.dxa.metrics.Timer;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.model.ViewModel;
 import com.sdl.webapp.common.controller.ControllerUtils;
 import com.sdl.webapp.common.markup.html.HtmlNode;
 import com.sdl.webapp.common.markup.html.ParsableHtmlNode;
 import com.sdl.webapp.common.util.ApplicationContextHolder;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.context.ApplicationContext;
 import org.springframework.web.context.support.WebApplicationContextUtils;
 
 import javax.servlet.ServletException;
@@ -17,10 +23,19 @@ import javax.servlet.jsp.tagext.TagSupport;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
+import static com.sdl.dxa.metrics.MetricNames.INCLUDE_RENDER;
+import static com.sdl.dxa.metrics.MetricNames.TAG_TAG;
+
 public class AbstractMarkupTag extends TagSupport {
 
+    /**
+     * Metrics registry looked up once per application context, tags are created per page and shouldn't look it up on every include.
+     */
+    private static volatile MetricsRegistryLookup metricsRegistryLookup;
+
     private MarkupDecoratorRegistry markupDecoratorRegistry = null;
 
     protected Optional<CompositeOutputCacheKeyBase> getCacheKey(String include, ViewModel model) {
@@ -80,17 +95,49 @@ public class AbstractMarkupTag extends TagSupport {
         return ApplicationContextHolder.getContext().getBean(OutputCache.class);
     }
 
+    protected MetricsRegistry getMetricsRegistry() {
+        ApplicationContext context = ApplicationContextHolder.getContext();
+        MetricsRegistryLookup lookup = metricsRegistryLookup;
+        if (lookup == null || lookup.context != context) {
+            lookup = new MetricsRegistryLookup(context, _lookUpMetricsRegistry(context));
+            metricsRegistryLookup = lookup;
+        }
+        return lookup.metricsRegistry;
+    }
+
+    private static MetricsRegistry _lookUpMetricsRegistry(@Nullable ApplicationContext context) {
+        if (context == null) {
+            return NoOpMetricsRegistry.INSTANCE;
+        }
+        try {
+            return context.getBean(MetricsRegistry.class);
+        } catch (NoSuchBeanDefinitionException e) {
+            return NoOpMetricsRegistry.INSTANCE;
+        }
+    }
+
     private HtmlNode _processInclude(String include, ViewModel model) throws ServletException, IOException {
+        Timer.Sample sample = getMetricsRegistry()
+                .timer(INCLUDE_RENDER, TAG_TAG, getDecoratorId().toLowerCase(Locale.ROOT)).start();
+        try {
+            return _processIncludeWithCache(include, model);
+        } finally {
+            sample.stop();
+        }
+    }
+
+    private HtmlNode _processIncludeWithCache(String include, ViewModel model) throws ServletException, IOException {
         pageContext.getRequest().setAttribute("ParentModel", model);
 
         OutputCache outputCache = getOutputCache();
 
         Optional<CompositeOutputCacheKeyBase> optionalKey = getCacheKey(include, model);
-        LocalizationAwareCacheKey specificKey = optionalKey.map(outputCache::getSpecificKey).orElse(null);
-        boolean cacheAccessible = optionalKey.isPresent() && specificKey != null;
+        ConditionalKey conditionalKey = optionalKey.map(outputCache::getConditionalKey).orElse(null);
+        boolean cacheAccessible = conditionalKey != null && !conditionalKey.isSkipCaching();
 
-        if (cacheAccessible && outputCache.containsKey(specificKey)) {
-            return outputCache.get(specificKey);
+        HtmlNode cached = cacheAccessible ? outputCache.get(conditionalKey.getKey()) : null;
+        if (cached != null) {
+            return cached;
         }
 
         try (StringWriter sw = new StringWriter()) {
@@ -101,7 +148,7 @@ public class AbstractMarkupTag extends TagSupport {
             HtmlNode htmlNode = this.decorateMarkup(markup, model);
 
             if (cacheAccessible) {
-                outputCache.addAndGet(specificKey, htmlNode);
+                outputCache.addAndGet(conditionalKey, htmlNode);
             }
 
             return htmlNode;
@@ -109,4 +156,16 @@ public class AbstractMarkupTag extends TagSupport {
             pageContext.popBody();
         }
     }
+
+    private static final class MetricsRegistryLookup {
+
+        private final ApplicationContext context;
+
+        private final MetricsRegistry metricsRegistry;
+
+        private MetricsRegistryLookup(@Nullable ApplicationContext context, MetricsRegistry metricsRegistry) {
+            this.context = context;
+            this.metricsRegistry = metricsRegistry;
+        }
+    }
 }
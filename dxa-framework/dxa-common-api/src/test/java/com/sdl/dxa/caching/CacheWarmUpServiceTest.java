@@ -0,0 +1,228 @@
+package com.sdl.dxa.caching;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Lists;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CacheWarmUpServiceTest {
+
+    private static final String NAVIGATION = "{\"Url\":\"/\",\"Items\":[" +
+            "{\"Url\":\"/about\",\"Items\":[{\"Url\":\"/about/team\",\"Items\":[{\"Url\":\"/about/team/deep\"}]}]}," +
+            "{\"Url\":\"/news\",\"Items\":[]}," +
+            "{\"Title\":\"No URL\"}]}";
+
+    @Test
+    public void shouldCollectNavigationPaths_DownToGivenLevel() throws IOException {
+        //given
+        JsonNode navigation = new ObjectMapper().readTree(NAVIGATION);
+
+        //when
+        List<String> rootOnly = CacheWarmUpService.collectNavigationPaths(navigation, 0);
+        List<String> twoLevels = CacheWarmUpService.collectNavigationPaths(navigation, 2);
+
+        //then
+        assertEquals(Lists.newArrayList("/"), rootOnly);
+        assertEquals(Lists.newArrayList("/", "/about", "/news", "/about/team"), twoLevels);
+    }
+
+    @Test
+    public void shouldRequestConfiguredAndNavigationPages_WithBoundedConcurrency() throws Exception {
+        //given
+        TestCacheWarmUpService service = new TestCacheWarmUpService();
+        ReflectionTestUtils.setField(service, "urls", Lists.newArrayList("/special", "", "/about"));
+        ReflectionTestUtils.setField(service, "navigationRoots", Lists.newArrayList("/"));
+        ReflectionTestUtils.setField(service, "threads", 2);
+
+        //when
+        service.onApplicationEvent(null);
+        service.awaitEnd();
+
+        //then
+        CacheWarmUpStatus status = service.getStatus();
+        assertEquals(CacheWarmUpStatus.State.COMPLETED, status.getState());
+        assertTrue(status.isReady());
+        assertEquals(5, status.getTotal());
+        assertEquals(5, status.getSucceeded());
+        assertEquals(0, status.getFailed());
+        assertEquals(1, service.navigationRequests.get());
+        assertEquals(5, service.requested.size());
+        assertTrue(service.requested.containsKey("http://localhost:8080/special"));
+        assertTrue(service.requested.containsKey("http://localhost:8080/about/team"));
+        assertTrue(service.maxConcurrent.get() <= 2);
+    }
+
+    @Test
+    public void shouldNotReportReady_UntilFirstWarmUpEnds() throws Exception {
+        //given
+        TestCacheWarmUpService service = new TestCacheWarmUpService();
+        ReflectionTestUtils.setField(service, "urls", Lists.newArrayList("/"));
+        service.block = new CountDownLatch(1);
+
+        //when
+        service.onApplicationEvent(null);
+        boolean startedAgain = service.start();
+        boolean readyWhileRunning = service.isReady();
+        CacheWarmUpStatus.State stateWhileRunning = service.getStatus().getState();
+        service.block.countDown();
+        service.awaitEnd();
+
+        //then
+        assertFalse(startedAgain);
+        assertFalse(readyWhileRunning);
+        assertEquals(CacheWarmUpStatus.State.RUNNING, stateWhileRunning);
+        assertTrue(service.isReady());
+    }
+
+    @Test
+    public void shouldCountFailedPages_AndRequestModelsOnly_IfRenderingIsDisabled() throws Exception {
+        //given
+        TestCacheWarmUpService service = new TestCacheWarmUpService();
+        ReflectionTestUtils.setField(service, "urls", Lists.newArrayList("/", "/broken", "/search?q=dxa"));
+        ReflectionTestUtils.setField(service, "render", false);
+
+        //when
+        service.start();
+        service.awaitEnd();
+
+        //then
+        CacheWarmUpStatus status = service.getStatus();
+        assertEquals(2, status.getSucceeded());
+        assertEquals(1, status.getFailed());
+        assertTrue(service.requested.containsKey("http://localhost:8080/?format=json"));
+        assertTrue(service.requested.containsKey("http://localhost:8080/search?q=dxa&format=json"));
+    }
+
+    @Test
+    public void shouldStopWaitingForNode_OnShutdown() throws Exception {
+        //given
+        TestCacheWarmUpService service = new TestCacheWarmUpService();
+        ReflectionTestUtils.setField(service, "urls", Lists.newArrayList("/"));
+        service.up = false;
+        service.start();
+
+        //when
+        service.shutdown();
+        service.awaitEnd();
+
+        //then
+        CacheWarmUpStatus status = service.getStatus();
+        assertEquals(CacheWarmUpStatus.State.INTERRUPTED, status.getState());
+        assertTrue(status.getDurationMillis() < TimeUnit.SECONDS.toMillis(5));
+        assertTrue(service.requested.isEmpty());
+    }
+
+    @Test
+    public void shouldReportFailed_IfWarmUpFails() throws Exception {
+        //given
+        TestCacheWarmUpService service = new TestCacheWarmUpService();
+        ReflectionTestUtils.setField(service, "navigationRoots", Lists.newArrayList("/"));
+        service.navigationFailure = new IllegalStateException("broken navigation");
+
+        //when
+        service.start();
+        service.awaitEnd();
+
+        //then
+        CacheWarmUpStatus status = service.getStatus();
+        assertEquals(CacheWarmUpStatus.State.FAILED, status.getState());
+        assertTrue(status.isReady());
+        assertTrue(service.requested.isEmpty());
+    }
+
+    @Test
+    public void shouldNotStart_IfDisabled() {
+        //given
+        CacheWarmUpService service = new CacheWarmUpService();
+
+        //when
+        service.onApplicationEvent(null);
+        boolean started = service.start();
+
+        //then
+        assertFalse(started);
+        assertTrue(service.isReady());
+        assertEquals(CacheWarmUpStatus.State.DISABLED, service.getStatus().getState());
+    }
+
+    private static class TestCacheWarmUpService extends CacheWarmUpService {
+
+        private final Map<String, Boolean> requested = new ConcurrentHashMap<>();
+
+        private final AtomicInteger navigationRequests = new AtomicInteger();
+
+        private final AtomicInteger concurrent = new AtomicInteger();
+
+        private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+        private volatile CountDownLatch block;
+
+        private volatile boolean up = true;
+
+        private volatile RuntimeException navigationFailure;
+
+        private TestCacheWarmUpService() {
+            ReflectionTestUtils.setField(this, "enabled", true);
+        }
+
+        @Override
+        protected void requestPage(String url) throws RestClientException {
+            int current = concurrent.incrementAndGet();
+            maxConcurrent.accumulateAndGet(current, Math::max);
+            try {
+                if (block != null) {
+                    block.await(5, TimeUnit.SECONDS);
+                }
+                TimeUnit.MILLISECONDS.sleep(10);
+                requested.put(url, true);
+                if (url.contains("/broken")) {
+                    throw new ResourceAccessException("broken");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                concurrent.decrementAndGet();
+            }
+        }
+
+        @Override
+        protected JsonNode requestNavigation(String url) throws RestClientException {
+            assertEquals("http://localhost:8080/navigation.json", url);
+            navigationRequests.incrementAndGet();
+            if (navigationFailure != null) {
+                throw navigationFailure;
+            }
+            try {
+                return new ObjectMapper().readTree(NAVIGATION);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        protected boolean isUp() {
+            return up;
+        }
+
+        private void awaitEnd() throws InterruptedException {
+            for (int i = 0; i < 500 && getStatus().getState() == CacheWarmUpStatus.State.RUNNING; i++) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.sdl.dxa.caching;
+
+import com.google.common.base.Ticker;
+import com.google.common.collect.Lists;
+import com.sdl.dxa.metrics.InMemoryMetricsRegistry;
+import com.sdl.webapp.common.api.ScreenWidth;
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.contextengine.ContextEngine;
+import com.sdl.webapp.common.api.model.mvcdata.MvcDataCreator;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.sdl.dxa.metrics.MetricNames.OUTPUT_CACHE_VARIANT;
+import static com.sdl.dxa.metrics.MetricNames.TAG_RESULT;
+import static com.sdl.dxa.metrics.MetricNames.TAG_VIEW;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class OutputCacheVariantResolverTest {
+
+    private WebRequestContext webRequestContext = mock(WebRequestContext.class);
+
+    private ContextEngine contextEngine = mock(ContextEngine.class);
+
+    private InMemoryMetricsRegistry metricsRegistry = new InMemoryMetricsRegistry();
+
+    private OutputCacheVariantResolver resolver;
+
+    @Before
+    public void init() {
+        resolver = spy(new OutputCacheVariantResolver());
+        doReturn(contextEngine).when(resolver).getContextEngine();
+        ReflectionTestUtils.setField(resolver, "webRequestContext", webRequestContext);
+        ReflectionTestUtils.setField(resolver, "metricsRegistry", metricsRegistry);
+
+        when(contextEngine.getDeviceFamily()).thenReturn("smartphone");
+        when(webRequestContext.getScreenWidth()).thenReturn(ScreenWidth.SMALL);
+        when(webRequestContext.getPixelRatio()).thenReturn(2.0);
+    }
+
+    @Test
+    public void shouldResolveSameVariant_ForDifferentUserAgentsOfSameDeviceClass() {
+        //given
+        resolver.init();
+
+        //when
+        String first = resolver.resolveVariant(keyBase("Core:Article", "Mozilla/5.0 (iPhone; CPU iPhone OS 11_0)"));
+        String second = resolver.resolveVariant(keyBase("Core:Article", "Mozilla/5.0 (iPhone; CPU iPhone OS 12_1)"));
+
+        //then
+        assertEquals("smartphone/small/2x", first);
+        assertEquals(first, second);
+        assertEquals(1, metricsRegistry.count(OUTPUT_CACHE_VARIANT, TAG_VIEW, "Core:Article", TAG_RESULT, "new"));
+    }
+
+    @Test
+    public void shouldResolveDeviceOnce_ForAllIncludesOfRequest() {
+        //given
+        resolver.init();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        //when
+        String article = resolver.resolveVariant(keyBase("Core:Article", request));
+        String teaser = resolver.resolveVariant(keyBase("Core:Teaser", request));
+
+        //then
+        assertEquals("smartphone/small/2x", article);
+        assertEquals(article, teaser);
+        verify(resolver, times(1)).getContextEngine();
+        verify(webRequestContext, times(1)).getScreenWidth();
+    }
+
+    @Test
+    public void shouldUseVariantConfiguredForView() {
+        //given
+        ReflectionTestUtils.setField(resolver, "viewVariantNames", Lists.newArrayList("", "Core:Article=none", "Core:Teaser = user-agent"));
+        resolver.init();
+
+        //when
+        String article = resolver.resolveVariant(keyBase("Core:Article", "agent"));
+        String teaser = resolver.resolveVariant(keyBase("Core:Teaser", "agent"));
+        String other = resolver.resolveVariant(keyBase("Core:Other", "agent"));
+
+        //then
+        assertEquals("", article);
+        assertEquals("agent", teaser);
+        assertEquals("smartphone/small/2x", other);
+        assertEquals(OutputCacheVariant.DEVICE_CLASS, resolver.getVariant("Core:Other"));
+    }
+
+    @Test
+    public void shouldNotCacheVariants_OverLimitPerView() {
+        //given
+        ReflectionTestUtils.setField(resolver, "defaultVariantName", "user-agent");
+        ReflectionTestUtils.setField(resolver, "maxVariantsPerView", 2);
+        resolver.init();
+
+        //when
+        boolean first = isCacheable("Core:Article", "1");
+        boolean second = isCacheable("Core:Article", "2");
+        boolean third = isCacheable("Core:Article", "3");
+        boolean firstAgain = isCacheable("Core:Article", "1");
+        boolean otherView = isCacheable("Core:Teaser", "3");
+
+        //then
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(third);
+        assertTrue(firstAgain);
+        assertTrue(otherView);
+        assertEquals("3", resolver.resolveVariant(keyBase("Core:Article", "3")));
+        assertEquals(1, metricsRegistry.count(OUTPUT_CACHE_VARIANT, TAG_VIEW, "Core:Article", TAG_RESULT, "overflow"));
+    }
+
+    @Test
+    public void shouldCacheNewVariant_AfterUnusedVariantExpired() {
+        //given
+        AtomicLong nanos = new AtomicLong();
+        ReflectionTestUtils.setField(resolver, "ticker", new Ticker() {
+            @Override
+            public long read() {
+                return nanos.get();
+            }
+        });
+        ReflectionTestUtils.setField(resolver, "defaultVariantName", "user-agent");
+        ReflectionTestUtils.setField(resolver, "maxVariantsPerView", 2);
+        resolver.init();
+        isCacheable("Core:Article", "1");
+        isCacheable("Core:Article", "2");
+
+        //when
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(40));
+        isCacheable("Core:Article", "2");
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(40));
+        boolean third = isCacheable("Core:Article", "3");
+        boolean first = isCacheable("Core:Article", "1");
+
+        //then
+        assertTrue(third);
+        assertFalse(first);
+        assertEquals(3, metricsRegistry.count(OUTPUT_CACHE_VARIANT, TAG_VIEW, "Core:Article", TAG_RESULT, "new"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailOnMisconfiguredView() {
+        //given
+        ReflectionTestUtils.setField(resolver, "viewVariantNames", Collections.singletonList("Core:Article"));
+
+        //when
+        resolver.init();
+
+        //then
+        //IllegalArgumentException
+    }
+
+    private boolean isCacheable(String view, String userAgent) {
+        CompositeOutputCacheKeyBase keyBase = keyBase(view, userAgent);
+        return resolver.isCacheable(keyBase, resolver.resolveVariant(keyBase));
+    }
+
+    private static CompositeOutputCacheKeyBase keyBase(String view, String userAgent) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("User-Agent", userAgent);
+        return keyBase(view, request);
+    }
+
+    private static CompositeOutputCacheKeyBase keyBase(String view, MockHttpServletRequest request) {
+        return new CompositeOutputCacheKeyBase("1", "Main", "/include",
+                MvcDataCreator.creator().fromQualifiedName(view).create(), request);
+    }
+}
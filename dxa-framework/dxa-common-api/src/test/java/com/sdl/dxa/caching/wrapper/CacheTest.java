@@ -3,9 +3,12 @@ package com.sdl.dxa.caching.wrapper;
 import com.sdl.dxa.api.datamodel.model.EntityModelData;
 import com.sdl.dxa.api.datamodel.model.MvcModelData;
 import com.sdl.dxa.api.datamodel.model.PageModelData;
+import com.sdl.dxa.caching.CompositeOutputCacheKeyBase;
+import com.sdl.dxa.caching.ConditionalKey;
 import com.sdl.dxa.caching.LocalizationAwareCacheKey;
 import com.sdl.dxa.caching.LocalizationAwareKeyGenerator;
 import com.sdl.dxa.caching.NamedCacheProvider;
+import com.sdl.dxa.caching.OutputCacheVariantResolver;
 import com.sdl.dxa.caching.WebRequestContextLocalizationIdProvider;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.localization.Localization;
@@ -22,6 +25,7 @@ import java.util.function.Supplier;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
@@ -83,6 +87,27 @@ public class CacheTest {
         assertNotEquals(keyGenerator.generate("1", "2", null), entitiesExpectedClassCacheKey);
     }
 
+    @Test
+    public void shouldReturnOutputCacheKey_EvenIfVariantIsNotCacheable() {
+        //given
+        OutputCacheVariantResolver variantResolver = mock(OutputCacheVariantResolver.class);
+        OutputCache outputCache = new OutputCache();
+        outputCache.setKeyGenerator(keyGenerator);
+        outputCache.setVariantResolver(variantResolver);
+        CompositeOutputCacheKeyBase keyBase = new CompositeOutputCacheKeyBase("1", "name", "include", null, null);
+        when(variantResolver.resolveVariant(keyBase)).thenReturn("variant");
+        when(variantResolver.isCacheable(keyBase, "variant")).thenReturn(false);
+
+        //when
+        LocalizationAwareCacheKey specificKey = outputCache.getSpecificKey(keyBase);
+        ConditionalKey conditionalKey = outputCache.getConditionalKey(keyBase);
+
+        //then
+        assertEquals(keyGenerator.generate("1", "name", null, "include", "variant"), specificKey);
+        assertEquals(specificKey, conditionalKey.getKey());
+        assertTrue(conditionalKey.isSkipCaching());
+    }
+
     private void shouldReturnNeededCache(Supplier<SimpleCacheWrapper<?, ?>> supplier, String cacheName) {
         Cache cache = mock(Cache.class);
 
@@ -2,14 +2,36 @@ package com.sdl.dxa.caching.wrapper;
 
 import com.sdl.dxa.caching.LocalizationAwareCacheKey;
 import com.sdl.dxa.caching.NamedCacheProvider;
+import com.sdl.webapp.common.api.model.EntityModel;
 import com.sdl.webapp.common.api.model.PageModel;
+import com.sdl.webapp.common.api.model.RegionModel;
+import com.sdl.webapp.common.api.model.entity.Link;
 import com.sdl.webapp.common.api.model.page.DefaultPageModel;
+import com.sdl.webapp.common.api.model.region.RegionModelImpl;
+import com.sdl.webapp.common.exceptions.DxaException;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
 import org.junit.Test;
 
 import javax.cache.Cache;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static javax.cache.Caching.getCachingProvider;
+import static org.ehcache.config.builders.CacheConfigurationBuilder.newCacheConfigurationBuilder;
+import static org.ehcache.jsr107.Eh107Configuration.fromEhcacheCacheConfiguration;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
@@ -18,6 +40,10 @@ import static org.mockito.Mockito.when;
 
 public class PagesCopyingCacheTest {
 
+    private static final int THREADS = 8;
+
+    private static final int ENTITIES = 10;
+
     @Test
     public void shouldUseSimplePagesCache_ToGetCache() {
         //given 
@@ -56,4 +82,141 @@ public class PagesCopyingCacheTest {
         assertEquals(expectedCopy, pageModel);
         assertEquals(actualCopy, pageModel);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldIsolateCachedPage_FromConcurrentlyFilteredCopies() throws Exception {
+        //given
+        Cache<Object, Object> cache = getCachingProvider().getCacheManager()
+                .createCache("pages-isolation-test", fromEhcacheCacheConfiguration(
+                        newCacheConfigurationBuilder(Object.class, Object.class,
+                                ResourcePoolsBuilder.heap(10)).build()));
+        NamedCacheProvider cacheProvider = mock(NamedCacheProvider.class);
+        when(cacheProvider.getCache(eq("pages"), any(), any())).thenReturn(cache);
+        when(cacheProvider.isCacheEnabled("pages")).thenReturn(true);
+        PagesCopyingCache pagesCopyingCache = new PagesCopyingCache();
+        pagesCopyingCache.setCacheProvider(cacheProvider);
+
+        DefaultPageModel page = new DefaultPageModel();
+        page.getRegions().add(region("Main", ENTITIES));
+        page.getRegions().add(region("Footer", 1));
+        LocalizationAwareCacheKey key = new LocalizationAwareCacheKey("42", "/page");
+        pagesCopyingCache.addAndGet(key, page);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        //when
+        try {
+            for (int i = 0; i < THREADS * 50; i++) {
+                String excludedId = String.valueOf(i % ENTITIES);
+                futures.add(executor.submit(() -> {
+                    PageModel copy = pagesCopyingCache.get(key);
+                    copy.filterConditionalEntities(Collections.singletonList(entity -> !excludedId.equals(entity.getId())));
+                    copy.getRegions().add(region("Request" + excludedId, 1));
+
+                    List<EntityModel> entities = copy.getRegions().get("Main").getEntities();
+                    assertEquals(ENTITIES - 1, entities.size());
+                    assertFalse(entities.stream().anyMatch(entity -> excludedId.equals(entity.getId())));
+                    assertEquals(3, copy.getRegions().size());
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        //then
+        PageModel cached = (PageModel) cache.get(key);
+        assertSame(page, cached);
+        assertEquals(2, cached.getRegions().size());
+        assertEquals(ENTITIES, cached.getRegions().get("Main").getEntities().size());
+        assertEquals(1, cached.getRegions().get("Footer").getEntities().size());
+        getCachingProvider().getCacheManager().destroyCache("pages-isolation-test");
+    }
+
+    @Test
+    public void shouldReturnCopies_ToFollowersOfConcurrentLoad() throws Exception {
+        //given
+        Cache<Object, Object> cache = getCachingProvider().getCacheManager()
+                .createCache("pages-single-flight-test", fromEhcacheCacheConfiguration(
+                        newCacheConfigurationBuilder(Object.class, Object.class,
+                                ResourcePoolsBuilder.heap(10)).build()));
+        NamedCacheProvider cacheProvider = mock(NamedCacheProvider.class);
+        when(cacheProvider.getCache(eq("pages"), any(), any())).thenReturn(cache);
+        when(cacheProvider.isCacheEnabled("pages")).thenReturn(true);
+        PagesCopyingCache pagesCopyingCache = new PagesCopyingCache();
+        pagesCopyingCache.setCacheProvider(cacheProvider);
+
+        DefaultPageModel page = new DefaultPageModel();
+        page.getRegions().add(region("Main", ENTITIES));
+        LocalizationAwareCacheKey key = new LocalizationAwareCacheKey("42", "/page");
+        AtomicInteger builds = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<PageModel>> futures = new ArrayList<>();
+
+        //when
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return pagesCopyingCache.getOrLoad(key, () -> {
+                        builds.incrementAndGet();
+                        release.await();
+                        return pagesCopyingCache.addAndGet(key, page);
+                    });
+                }));
+            }
+            start.countDown();
+            TimeUnit.MILLISECONDS.sleep(200);
+            release.countDown();
+
+            //then
+            Set<PageModel> copies = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Future<PageModel> future : futures) {
+                PageModel copy = future.get(10, TimeUnit.SECONDS);
+                assertNotSame(page, copy);
+                copies.add(copy);
+            }
+            assertEquals(1, builds.get());
+            assertEquals(THREADS, copies.size());
+            assertSame(page, cache.get(key));
+        } finally {
+            executor.shutdownNow();
+            getCachingProvider().getCacheManager().destroyCache("pages-single-flight-test");
+        }
+    }
+
+    @Test
+    public void shouldReturnNull_IfPageIsNotInCache() {
+        //given
+        //noinspection unchecked
+        Cache<Object, Object> cache = mock(Cache.class);
+        NamedCacheProvider cacheProvider = mock(NamedCacheProvider.class);
+        when(cacheProvider.getCache(eq("pages"), any(), any())).thenReturn(cache);
+        when(cacheProvider.isCacheEnabled("pages")).thenReturn(true);
+        PagesCopyingCache pagesCopyingCache = new PagesCopyingCache();
+        pagesCopyingCache.setCacheProvider(cacheProvider);
+
+        //when
+        PageModel actual = pagesCopyingCache.get(new LocalizationAwareCacheKey("42", "/page"));
+
+        //then
+        assertNull(actual);
+    }
+
+    private static RegionModel region(String name, int entities) throws DxaException {
+        RegionModelImpl region = new RegionModelImpl(name);
+        for (int i = 0; i < entities; i++) {
+            Link link = new Link();
+            link.setId(String.valueOf(i));
+            region.addEntity(link);
+        }
+        return region;
+    }
+}
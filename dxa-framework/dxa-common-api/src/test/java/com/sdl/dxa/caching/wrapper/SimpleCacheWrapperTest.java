@@ -0,0 +1,308 @@
+package com.sdl.dxa.caching.wrapper;
+
+import com.sdl.dxa.caching.LocalizationAwareCacheKey;
+import com.sdl.dxa.caching.NamedCacheProvider;
+import com.sdl.dxa.caching.NeverCached;
+import com.sdl.dxa.metrics.InMemoryMetricsRegistry;
+import com.sdl.webapp.common.api.model.EntityModel;
+import com.sdl.webapp.common.api.model.entity.AbstractEntityModel;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.cache.Cache;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static javax.cache.Caching.getCachingProvider;
+import static org.ehcache.config.builders.CacheConfigurationBuilder.newCacheConfigurationBuilder;
+import static org.ehcache.jsr107.Eh107Configuration.fromEhcacheCacheConfiguration;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SimpleCacheWrapperTest {
+
+    private static final int THREADS = 16;
+
+    private Cache<Object, Object> cache;
+
+    private EntitiesCache entitiesCache;
+
+    private ExecutorService executor;
+
+    @Before
+    public void init() {
+        cache = getCachingProvider().getCacheManager()
+                .createCache("single-flight-test", fromEhcacheCacheConfiguration(
+                        newCacheConfigurationBuilder(Object.class, Object.class,
+                                ResourcePoolsBuilder.heap(10)).build()));
+
+        NamedCacheProvider provider = mock(NamedCacheProvider.class);
+        when(provider.getCache(eq("entities"), any(), any())).thenReturn(cache);
+        when(provider.isCacheEnabled("entities")).thenReturn(true);
+
+        entitiesCache = new EntitiesCache();
+        entitiesCache.setCacheProvider(provider);
+
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @After
+    public void destroy() {
+        executor.shutdownNow();
+        getCachingProvider().getCacheManager().destroyCache("single-flight-test");
+    }
+
+    @Test
+    public void shouldBuildValueOnce_ForConcurrentRequestsOfSameKey() throws Exception {
+        //given
+        LocalizationAwareCacheKey key = new LocalizationAwareCacheKey("42", "key");
+        EntityModel entity = mock(EntityModel.class);
+        AtomicInteger builds = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        //when
+        List<Future<EntityModel>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return entitiesCache.getOrLoad(key, () -> {
+                    builds.incrementAndGet();
+                    release.await();
+                    return entitiesCache.addAndGet(key, entity);
+                });
+            }));
+        }
+        start.countDown();
+        TimeUnit.MILLISECONDS.sleep(200);
+        release.countDown();
+
+        //then
+        for (Future<EntityModel> result : results) {
+            assertSame(entity, result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, builds.get());
+    }
+
+    @Test
+    public void shouldNotBlockLoadsOfOtherKeys() throws Exception {
+        //given
+        LocalizationAwareCacheKey slowKey = new LocalizationAwareCacheKey("42", "slow");
+        LocalizationAwareCacheKey fastKey = new LocalizationAwareCacheKey("42", "fast");
+        EntityModel slowEntity = mock(EntityModel.class);
+        EntityModel fastEntity = mock(EntityModel.class);
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        CountDownLatch releaseSlow = new CountDownLatch(1);
+
+        //when
+        Future<EntityModel> slow = executor.submit(() -> entitiesCache.getOrLoad(slowKey, () -> {
+            slowStarted.countDown();
+            releaseSlow.await();
+            return entitiesCache.addAndGet(slowKey, slowEntity);
+        }));
+        assertTrue(slowStarted.await(5, TimeUnit.SECONDS));
+
+        Future<EntityModel> fast = executor.submit(() -> entitiesCache.getOrLoad(fastKey,
+                () -> entitiesCache.addAndGet(fastKey, fastEntity)));
+
+        //then
+        assertSame(fastEntity, fast.get(5, TimeUnit.SECONDS));
+        assertFalse(slow.isDone());
+
+        releaseSlow.countDown();
+        assertSame(slowEntity, slow.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void shouldLoadDirectly_OnNestedLoadOfSameKey() throws Exception {
+        //given
+        LocalizationAwareCacheKey key = new LocalizationAwareCacheKey("42", "key");
+        EntityModel entity = mock(EntityModel.class);
+        AtomicInteger builds = new AtomicInteger();
+
+        //when
+        Future<EntityModel> result = executor.submit(() -> entitiesCache.getOrLoad(key, () -> {
+            builds.incrementAndGet();
+            // a cyclic link comes back to the entity being built
+            entitiesCache.getOrLoad(key, () -> {
+                builds.incrementAndGet();
+                return mock(EntityModel.class);
+            });
+            return entitiesCache.addAndGet(key, entity);
+        }));
+
+        //then
+        assertSame(entity, result.get(5, TimeUnit.SECONDS));
+        assertEquals(2, builds.get());
+    }
+
+    @Test
+    public void shouldNotDeadlock_OnCrossLoadsInTwoThreads() throws Exception {
+        //given
+        entitiesCache.setLoadWaitTimeout(200);
+        LocalizationAwareCacheKey keyA = new LocalizationAwareCacheKey("42", "a");
+        LocalizationAwareCacheKey keyB = new LocalizationAwareCacheKey("42", "b");
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        //when
+        Future<EntityModel> aToB = executor.submit(() -> _loadLinked(keyA, keyB, bothStarted));
+        Future<EntityModel> bToA = executor.submit(() -> _loadLinked(keyB, keyA, bothStarted));
+
+        //then
+        assertNotNull(aToB.get(5, TimeUnit.SECONDS));
+        assertNotNull(bToA.get(5, TimeUnit.SECONDS));
+    }
+
+    private EntityModel _loadLinked(LocalizationAwareCacheKey key, LocalizationAwareCacheKey linkedKey,
+                                    CountDownLatch bothStarted) throws Exception {
+        return entitiesCache.getOrLoad(key, () -> {
+            bothStarted.countDown();
+            bothStarted.await();
+            entitiesCache.getOrLoad(linkedKey, () -> entitiesCache.addAndGet(linkedKey, mock(EntityModel.class)));
+            return entitiesCache.addAndGet(key, mock(EntityModel.class));
+        });
+    }
+
+    @Test
+    public void shouldLoadAgain_IfValueWasNotCached() throws Exception {
+        //given
+        LocalizationAwareCacheKey key = new LocalizationAwareCacheKey("42", "key");
+        AtomicInteger builds = new AtomicInteger();
+
+        //when
+        entitiesCache.getOrLoad(key, () -> {
+            builds.incrementAndGet();
+            return mock(EntityModel.class);
+        });
+        entitiesCache.getOrLoad(key, () -> {
+            builds.incrementAndGet();
+            return mock(EntityModel.class);
+        });
+
+        //then
+        assertEquals(2, builds.get());
+    }
+
+    @Test
+    public void shouldCountHitsMissesAndPuts() throws Exception {
+        //given
+        InMemoryMetricsRegistry metricsRegistry = new InMemoryMetricsRegistry();
+        entitiesCache.setMetricsRegistry(metricsRegistry);
+        entitiesCache.init();
+        LocalizationAwareCacheKey key = new LocalizationAwareCacheKey("42", "key");
+
+        //when
+        entitiesCache.getOrLoad(key, () -> entitiesCache.addAndGet(key, mock(EntityModel.class)));
+        entitiesCache.getOrLoad(key, () -> entitiesCache.addAndGet(key, mock(EntityModel.class)));
+
+        //then
+        assertEquals(1, metricsRegistry.count("dxa.cache", "cache", "entities", "result", "miss"));
+        assertEquals(1, metricsRegistry.count("dxa.cache", "cache", "entities", "result", "put"));
+        assertEquals(1, metricsRegistry.count("dxa.cache", "cache", "entities", "result", "hit"));
+    }
+
+    @Test
+    public void shouldCountEvictions() throws Exception {
+        //given
+        InMemoryMetricsRegistry metricsRegistry = new InMemoryMetricsRegistry();
+        entitiesCache.setMetricsRegistry(metricsRegistry);
+        entitiesCache.init();
+
+        //when
+        for (int i = 0; i < 20; i++) {
+            entitiesCache.addAndGet(new LocalizationAwareCacheKey("42", "key" + i), mock(EntityModel.class));
+        }
+
+        //then
+        // events are delivered asynchronously
+        long deadline = System.currentTimeMillis() + 5000;
+        while (metricsRegistry.count("dxa.cache", "cache", "entities", "result", "eviction") == 0
+                && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertTrue(metricsRegistry.count("dxa.cache", "cache", "entities", "result", "eviction") > 0);
+    }
+
+    @Test
+    public void shouldLookUpCacheOnce_OnHit() {
+        //given
+        //noinspection unchecked
+        Cache<Object, Object> mockCache = mock(Cache.class);
+        NamedCacheProvider provider = mock(NamedCacheProvider.class);
+        when(provider.getCache(eq("entities"), any(), any())).thenReturn(mockCache);
+        when(provider.isCacheEnabled("entities")).thenReturn(true);
+        EntitiesCache cache = new EntitiesCache();
+        cache.setCacheProvider(provider);
+        LocalizationAwareCacheKey key = new LocalizationAwareCacheKey("42", "key");
+        EntityModel entity = mock(EntityModel.class);
+        when(mockCache.get(key)).thenReturn(entity);
+
+        //when
+        EntityModel first = cache.get(key);
+        EntityModel second = cache.get(key);
+
+        //then
+        assertSame(entity, first);
+        assertSame(entity, second);
+        verify(mockCache, times(2)).get(key);
+        verify(mockCache, never()).containsKey(any());
+        verify(provider, times(1)).getCache(eq("entities"), any(), any());
+    }
+
+    @Test
+    public void shouldResolveCacheAgain_IfClosed() {
+        //given
+        //noinspection unchecked
+        Cache<Object, Object> closedCache = mock(Cache.class);
+        //noinspection unchecked
+        Cache<Object, Object> newCache = mock(Cache.class);
+        NamedCacheProvider provider = mock(NamedCacheProvider.class);
+        when(provider.getCache(eq("entities"), any(), any())).thenReturn(closedCache, newCache);
+        EntitiesCache cache = new EntitiesCache();
+        cache.setCacheProvider(provider);
+
+        //when
+        Cache<LocalizationAwareCacheKey, EntityModel> first = cache.getCache();
+        when(closedCache.isClosed()).thenReturn(true);
+        Cache<LocalizationAwareCacheKey, EntityModel> second = cache.getCache();
+
+        //then
+        assertSame(closedCache, first);
+        assertSame(newCache, second);
+    }
+
+    @Test
+    public void shouldNotCacheNeverCachedValues() {
+        //given
+        LocalizationAwareCacheKey key = new LocalizationAwareCacheKey("42", "key");
+
+        //when
+        entitiesCache.addAndGet(key, new NeverCachedEntity());
+
+        //then
+        assertFalse(cache.containsKey(key));
+    }
+
+    @NeverCached(qualifier = "test")
+    private static class NeverCachedEntity extends AbstractEntityModel {
+
+    }
+}
@@ -6,6 +6,8 @@ import com.sdl.dxa.DxaSpringInitialization;
 import com.sdl.webapp.common.api.content.ConditionalEntityEvaluator;
 import com.sdl.webapp.common.api.formatters.support.FeedItem;
 import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.model.EntityModel;
+import com.sdl.webapp.common.api.model.PageModel;
 import com.sdl.webapp.common.api.model.RegionModel;
 import com.sdl.webapp.common.api.model.RegionModelSet;
 import com.sdl.webapp.common.api.model.mvcdata.MvcDataCreator;
@@ -18,18 +20,22 @@ import org.joda.time.Days;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import static com.sdl.webapp.common.api.model.TestEntity.entity;
 import static com.sdl.webapp.common.api.model.TestEntity.feedItem;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.anyString;
@@ -255,7 +261,54 @@ public class DefaultPageModelTest {
         page.filterConditionalEntities(evaluators);
 
         //then
-        verify(regionModel).filterConditionalEntities(eq(evaluators));
-        verify(regionModel2).filterConditionalEntities(eq(evaluators));
+        verify(regionModel).filteredCopy(eq(evaluators));
+        verify(regionModel2).filteredCopy(eq(evaluators));
+    }
+
+    @Test
+    public void shouldShareRegionsWithCopy_UntilCopyIsModified() throws DxaException {
+        //given
+        DefaultPageModel page = new DefaultPageModel();
+        RegionModelImpl region = new RegionModelImpl("1");
+        page.getRegions().add(region);
+
+        //when
+        PageModel copy = page.deepCopy();
+        copy.getRegions().add(new RegionModelImpl("2"));
+
+        //then
+        assertSame(region, copy.getRegions().get("1"));
+        assertEquals(1, page.getRegions().size());
+        assertEquals(2, copy.getRegions().size());
+    }
+
+    @Test
+    public void shouldCopyOnlyFilteredRegions_AndNotModifyOriginalPage() throws DxaException {
+        //given
+        EntityModel included = mock(EntityModel.class);
+        EntityModel excluded = mock(EntityModel.class);
+
+        DefaultPageModel page = new DefaultPageModel();
+        RegionModelImpl filtered = new RegionModelImpl("filtered");
+        filtered.addEntity(included);
+        filtered.addEntity(excluded);
+        page.getRegions().add(filtered);
+        RegionModelImpl untouched = new RegionModelImpl("untouched");
+        untouched.addEntity(included);
+        page.getRegions().add(untouched);
+
+        ConditionalEntityEvaluator evaluator = entity -> entity != excluded;
+
+        //when
+        PageModel copy = page.deepCopy();
+        copy.filterConditionalEntities(Collections.singletonList(evaluator));
+
+        //then
+        assertEquals(Arrays.asList(included, excluded), page.getRegions().get("filtered").getEntities());
+        assertEquals(Collections.singletonList(included), copy.getRegions().get("filtered").getEntities());
+        assertNotSame(filtered, copy.getRegions().get("filtered"));
+        assertSame(untouched, copy.getRegions().get("untouched"));
+        assertThat(copy.getRegions().stream().map(RegionModel::getName).collect(Collectors.toList()),
+                IsIterableContainingInOrder.contains("filtered", "untouched"));
     }
 }
\ No newline at end of file
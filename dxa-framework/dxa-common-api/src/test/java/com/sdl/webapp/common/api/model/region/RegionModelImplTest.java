@@ -5,6 +5,7 @@ import com.sdl.webapp.common.api.content.ConditionalEntityEvaluator;
 import com.sdl.webapp.common.api.formatters.support.FeedItem;
 import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.api.model.EntityModel;
+import com.sdl.webapp.common.api.model.RegionModel;
 import com.sdl.webapp.common.api.model.RegionModelSet;
 import com.sdl.webapp.common.api.model.TestEntity;
 import com.sdl.webapp.common.api.model.mvcdata.MvcDataImpl;
@@ -33,7 +34,9 @@ import static com.sdl.webapp.common.api.model.TestEntity.entity;
 import static com.sdl.webapp.common.api.model.TestEntity.feedItem;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.anyString;
@@ -227,6 +230,133 @@ public class RegionModelImplTest {
         assertEquals(1, region.getEntities().size());
     }
 
+    @Test
+    public void shouldReturnItself_IfNothingIsFilteredOut() throws DxaException {
+        //given
+        RegionModelImpl region = new RegionModelImpl("name");
+        region.addEntity(mock(EntityModel.class));
+        region.getRegions().add(new RegionModelImpl("nested"));
+
+        //when
+        RegionModel filtered = region.filteredCopy(Collections.singletonList(entity -> true));
+
+        //then
+        assertSame(region, filtered);
+    }
+
+    @Test
+    public void shouldFilterCopy_OfRegionWithFilteredNestedEntities() throws DxaException {
+        //given
+        EntityModel excluded = mock(EntityModel.class);
+        RegionModelImpl region = new RegionModelImpl("name");
+        region.addEntity(mock(EntityModel.class));
+        RegionModelImpl nested = new RegionModelImpl("nested");
+        nested.addEntity(excluded);
+        region.getRegions().add(nested);
+        RegionModelImpl nestedUntouched = new RegionModelImpl("nestedUntouched");
+        region.getRegions().add(nestedUntouched);
+
+        //when
+        RegionModel filtered = region.filteredCopy(Collections.singletonList(entity -> entity != excluded));
+
+        //then
+        assertNotSame(region, filtered);
+        assertSame(region.getEntities().get(0), filtered.getEntities().get(0));
+        assertTrue(filtered.getRegions().get("nested").getEntities().isEmpty());
+        assertSame(nestedUntouched, filtered.getRegions().get("nestedUntouched"));
+        assertEquals(1, nested.getEntities().size());
+        assertSame(nested, region.getRegions().get("nested"));
+    }
+
+    @Test
+    public void shouldKeepType_OfSubclassOverridingDeepCopy() throws DxaException {
+        //given
+        EntityModel excluded = mock(EntityModel.class);
+        CopyableRegion region = new CopyableRegion("name");
+        region.addEntity(excluded);
+        region.addEntity(mock(EntityModel.class));
+
+        //when
+        RegionModel filtered = region.filteredCopy(Collections.singletonList(entity -> entity != excluded));
+
+        //then
+        assertNotSame(region, filtered);
+        assertTrue(filtered instanceof CopyableRegion);
+        assertEquals(1, filtered.getEntities().size());
+        assertEquals(2, region.getEntities().size());
+    }
+
+    @Test
+    public void shouldNotModifyCachedRegion_SubclassNotOverridingDeepCopy() throws DxaException {
+        //given
+        EntityModel excluded = mock(EntityModel.class);
+        CustomRegion cached = new CustomRegion("name");
+        cached.addEntity(excluded);
+        cached.addEntity(mock(EntityModel.class));
+
+        //when
+        RegionModel filtered = cached.filteredCopy(Collections.singletonList(entity -> entity != excluded));
+
+        //then
+        assertNotSame(cached, filtered);
+        assertEquals(1, filtered.getEntities().size());
+        assertEquals(2, cached.getEntities().size());
+        assertSame(excluded, cached.getEntities().get(0));
+    }
+
+    @Test
+    public void shouldCopyRegionSetEagerly_IfSubclassDoesNotOverrideDeepCopy() throws DxaException {
+        //given
+        EntityModel excluded = mock(EntityModel.class);
+        RegionModelImpl untouched = new RegionModelImpl("untouched");
+        CustomRegion custom = new CustomRegion("custom");
+        RegionModelImpl nested = new RegionModelImpl("nested");
+        nested.addEntity(excluded);
+        custom.getRegions().add(nested);
+        RegionModelSet cached = new RegionModelSetImpl();
+        cached.add(untouched);
+        cached.add(custom);
+        RegionModelSetImpl.markShared(cached);
+
+        //when
+        RegionModelSet filtered = RegionModelSetImpl.filteredCopy(cached, Collections.singletonList(entity -> entity != excluded));
+
+        //then
+        assertNotSame(cached, filtered);
+        assertNotSame(untouched, filtered.get("untouched"));
+        assertNotSame(custom, filtered.get("custom"));
+        assertTrue(filtered.get("custom").getRegions().get("nested").getEntities().isEmpty());
+        assertSame(nested, custom.getRegions().get("nested"));
+        assertSame(excluded, nested.getEntities().get(0));
+    }
+
+    private static class CustomRegion extends RegionModelImpl {
+
+        CustomRegion(String name) throws DxaException {
+            super(name);
+        }
+
+        CustomRegion(RegionModel other) {
+            super(other);
+        }
+    }
+
+    private static class CopyableRegion extends CustomRegion {
+
+        CopyableRegion(String name) throws DxaException {
+            super(name);
+        }
+
+        CopyableRegion(RegionModel other) {
+            super(other);
+        }
+
+        @Override
+        public RegionModel deepCopy() {
+            return new CopyableRegion(this);
+        }
+    }
+
     @Profile("test")
     @Configuration
     public static class RegionModelImplTestContextConfiguration {
@@ -19,8 +19,12 @@ import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.springframework.test.util.ReflectionTestUtils.getField;
 
 public class RegionModelSetImplTest {
 
@@ -169,6 +173,83 @@ public class RegionModelSetImplTest {
         assertNotNull(modelSetClass.getDeclaredMethod("toString"));
     }
 
+    @Test
+    public void shouldCopyOnWrite_WhenCopyIsModified() throws DxaException {
+        //given
+        RegionModelSet original = new RegionModelSetImpl();
+        RegionModelImplTest region = new RegionModelImplTest("1");
+        original.add(region);
+        RegionModelSetImpl.markShared(original);
+
+        //when
+        RegionModelSet copy = new RegionModelSetImpl(original);
+        copy.add(new RegionModelImplTest("2"));
+        copy.remove(region);
+
+        //then
+        assertEquals(1, original.size());
+        assertSame(region, original.get("1"));
+        assertEquals(1, original.get(RegionModelImplTest.class).size());
+        assertEquals(1, copy.size());
+        assertNull(copy.get("1"));
+    }
+
+    @Test
+    public void shouldCopyOnWrite_WhenOriginalIsModified() throws DxaException {
+        //given
+        RegionModelSet original = new RegionModelSetImpl();
+        original.add(new RegionModelImplTest("1"));
+        RegionModelSet copy = new RegionModelSetImpl(original);
+
+        //when
+        original.add(new RegionModelImplTest("2"));
+        original.clear();
+
+        //then
+        assertTrue(original.isEmpty());
+        assertEquals(1, copy.size());
+        assertTrue(copy.containsName("1"));
+    }
+
+    @Test
+    public void shouldKeepIndexByClass_WhenRemovedByIterator() throws DxaException {
+        //given
+        RegionModelSet original = new RegionModelSetImpl();
+        original.add(new RegionModelImplTest("1"));
+        original.add(new RegionModelImplTest("2"));
+        RegionModelSet copy = new RegionModelSetImpl(original);
+
+        //when
+        copy.removeIf(regionModel -> true);
+        original.removeIf(regionModel -> "1".equals(regionModel.getName()));
+
+        //then
+        assertTrue(copy.isEmpty());
+        assertFalse(copy.containsClass(RegionModelImplTest.class));
+        assertEquals(1, original.size());
+        assertEquals(1, original.get(RegionModelImplTest.class).size());
+        assertEquals(original.get("2"), original.get(RegionModelImplTest.class).iterator().next());
+    }
+
+    @Test
+    public void shouldShareContent_OnlyOfSetsMarkedShared() throws DxaException {
+        //given
+        RegionModelSetImpl original = new RegionModelSetImpl();
+        RegionModelImpl region = new RegionModelImpl("1");
+        region.getRegions().add(new RegionModelImpl("nested"));
+        original.add(region);
+
+        //when
+        RegionModelSetImpl unsharedCopy = new RegionModelSetImpl(original);
+        RegionModelSetImpl.markShared(original);
+        RegionModelSetImpl sharedCopy = new RegionModelSetImpl(original);
+
+        //then
+        assertNotSame(getField(original, "modelMapByName"), getField(unsharedCopy, "modelMapByName"));
+        assertSame(getField(original, "modelMapByName"), getField(sharedCopy, "modelMapByName"));
+        assertEquals(true, getField(region.getRegions(), "shared"));
+    }
+
     @Data
     @EqualsAndHashCode(callSuper = true)
     private static class RegionModelImplTest extends AbstractViewModel implements RegionModel {
@@ -14,8 +14,12 @@ import static com.sdl.webapp.common.impl.contextengine.Claims.featurePhoneClaims
 import static com.sdl.webapp.common.impl.contextengine.Claims.smartPhoneClaims;
 import static com.sdl.webapp.common.impl.contextengine.Claims.tabletClaims;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Matchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class ContextEngineImplTest {
@@ -97,6 +101,25 @@ public class ContextEngineImplTest {
         assertEquals(expected, contextEngine.getDeviceFamily());
     }
 
+    @Test
+    public void shouldCreateClaimsWrapperOncePerRequest() throws DxaException {
+        //given
+        ContextClaimsProvider claimsProvider = mock(ContextClaimsProvider.class);
+        when(claimsProvider.getContextClaims(isNull(String.class))).thenReturn(desktopClaims());
+        ContextEngineImpl contextEngine = contextEngineImpl(claimsProvider, false);
+
+        //when
+        DeviceClaims device = contextEngine.getClaims(DeviceClaims.class);
+        DeviceClaims deviceAgain = contextEngine.getClaims(DeviceClaims.class);
+        BrowserClaims browser = contextEngine.getClaims(BrowserClaims.class);
+
+        //then
+        assertSame(device, deviceAgain);
+        assertNotSame(device, browser);
+        assertEquals(device.getDisplayWidth(), deviceAgain.getDisplayWidth());
+        verify(claimsProvider, times(1)).getContextClaims(isNull(String.class));
+    }
+
     private void shouldResolveDeviceFamily(String deviceFamily, Map<String, Object> claims, boolean isFallbackScenario) throws DxaException {
         //given
         ContextClaimsProvider claimsProvider = mock(ContextClaimsProvider.class);
@@ -1,12 +1,24 @@
 package com.sdl.webapp.common.impl.contextengine;
 
+import com.google.common.collect.Lists;
 import com.sdl.webapp.common.exceptions.DxaException;
 import org.jetbrains.annotations.Nullable;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
+import static com.sdl.webapp.common.api.contextengine.ContextClaims.castClaim;
 import static com.sdl.webapp.common.impl.contextengine.Claims.alienDeviceClaims;
 import static com.sdl.webapp.common.impl.contextengine.Claims.appleClaims;
 import static com.sdl.webapp.common.impl.contextengine.Claims.desktopClaims;
@@ -16,9 +28,15 @@ import static com.sdl.webapp.common.impl.contextengine.Claims.tabletClaims;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class DeviceFamiliesEvaluatorTest {
 
+    private static final Object ABSENT = new Object();
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void shouldDefineFeaturePhone() throws DxaException {
         shouldResolveDeviceFamily("featurephone", featurePhoneClaims());
@@ -112,6 +130,162 @@ public class DeviceFamiliesEvaluatorTest {
         shouldFallbackDeviceFamily("desktop", alienDeviceClaims());
     }
 
+    @Test
+    public void shouldDefineSameDeviceFamiliesAsLinearEvaluation_ForClaimsCorpus() {
+        //given
+        DeviceFamiliesEvaluator evaluator = deviceFamiliesEvaluator(true);
+        DeviceFamiliesEvaluator.DeviceFamiliesRules rules =
+                (DeviceFamiliesEvaluator.DeviceFamiliesRules) ReflectionTestUtils.getField(evaluator, "deviceFamiliesRules");
+        List<Map<String, Object>> corpus = claimsCorpus();
+
+        //when
+        List<String> compiled = new ArrayList<>();
+        List<String> memoized = new ArrayList<>();
+        List<String> linear = new ArrayList<>();
+        for (Map<String, Object> claims : corpus) {
+            compiled.add(evaluator.defineDeviceFamily(claims));
+        }
+        for (Map<String, Object> claims : corpus) {
+            memoized.add(evaluator.defineDeviceFamily(claims));
+            linear.add(defineDeviceFamilyLinearly(rules.families, claims));
+        }
+
+        //then
+        assertEquals(4 * 4 * 7 * 4 * 2, corpus.size());
+        assertTrue(linear.containsAll(Lists.newArrayList("featurephone", "smartphone", "tablet", "aliendevice", "apple", "desktop", null)));
+        assertEquals(linear, compiled);
+        assertEquals(linear, memoized);
+    }
+
+    @Test
+    public void shouldReloadRules() throws IOException {
+        //given
+        File file = deviceFamiliesFile("<devicefamily name=\"tablet\"><condition context-claim=\"device.tablet\" value=\"true\"/></devicefamily>");
+        DeviceFamiliesEvaluator evaluator = fileDeviceFamiliesEvaluator(file);
+        String before = evaluator.defineDeviceFamily(tabletClaims());
+
+        //when
+        Files.write(file.toPath(), rulesXml("<devicefamily name=\"pad\"><condition context-claim=\"device.tablet\" value=\"true\"/></devicefamily>"));
+        evaluator.reload();
+
+        //then
+        assertEquals("tablet", before);
+        assertEquals("pad", evaluator.defineDeviceFamily(tabletClaims()));
+    }
+
+    @Test
+    public void shouldReloadRules_WhenFileIsModified() throws IOException {
+        //given
+        File file = deviceFamiliesFile("<devicefamily name=\"tablet\"><condition context-claim=\"device.tablet\" value=\"true\"/></devicefamily>");
+        DeviceFamiliesEvaluator evaluator = fileDeviceFamiliesEvaluator(file);
+        String before = evaluator.defineDeviceFamily(tabletClaims());
+
+        //when
+        Files.write(file.toPath(), rulesXml("<devicefamily name=\"pad\"><condition context-claim=\"device.tablet\" value=\"true\"/></devicefamily>"));
+        assertTrue(file.setLastModified(file.lastModified() + 10000));
+        String beforeCheck = evaluator.defineDeviceFamily(tabletClaims());
+        ((AtomicLong) ReflectionTestUtils.getField(evaluator, "nextModificationCheck")).set(0);
+        String afterCheck = evaluator.defineDeviceFamily(tabletClaims());
+
+        //then
+        assertEquals("tablet", before);
+        assertEquals("tablet", beforeCheck);
+        assertEquals("pad", afterCheck);
+    }
+
+    @Test
+    public void shouldKeepRules_IfReloadedFileIsBroken() throws IOException {
+        //given
+        File file = deviceFamiliesFile("<devicefamily name=\"tablet\"><condition context-claim=\"device.tablet\" value=\"true\"/></devicefamily>");
+        DeviceFamiliesEvaluator evaluator = fileDeviceFamiliesEvaluator(file);
+
+        //when
+        Files.write(file.toPath(), "<configuration>".getBytes(StandardCharsets.UTF_8));
+        evaluator.reload();
+
+        //then
+        assertEquals("tablet", evaluator.defineDeviceFamily(tabletClaims()));
+    }
+
+    /**
+     * All combinations of values of the claims used in the test device families file, including absent claims
+     * and values of other types than in conditions, once without and once with an unrelated claim.
+     */
+    private static List<Map<String, Object>> claimsCorpus() {
+        List<Object> booleans = Lists.newArrayList(ABSENT, true, false, "true");
+        List<Object> widths = Lists.newArrayList(ABSENT, 0, 319, 320, 1024, 300L, 330.7);
+        List<Object> vendors = Lists.newArrayList(ABSENT, "Apple", "Google", 42);
+
+        List<Map<String, Object>> corpus = new ArrayList<>();
+        for (Object mobile : booleans) {
+            for (Object tablet : booleans) {
+                for (Object width : widths) {
+                    for (Object vendor : vendors) {
+                        for (boolean unrelated : new boolean[]{false, true}) {
+                            Map<String, Object> claims = new HashMap<>();
+                            putIfPresent(claims, "device.mobile", mobile);
+                            putIfPresent(claims, "device.tablet", tablet);
+                            putIfPresent(claims, "device.displayWidth", width);
+                            putIfPresent(claims, "os.vendor", vendor);
+                            if (unrelated) {
+                                claims.put("browser.model", "Chrome");
+                            }
+                            corpus.add(claims);
+                        }
+                    }
+                }
+            }
+        }
+        return corpus;
+    }
+
+    private static void putIfPresent(Map<String, Object> claims, String name, Object value) {
+        if (value != ABSENT) {
+            claims.put(name, value);
+        }
+    }
+
+    /**
+     * Reference evaluation, checks the conditions of all device families one by one.
+     */
+    @SuppressWarnings("unchecked")
+    private static String defineDeviceFamilyLinearly(Map<String, Map<String, DeviceFamiliesEvaluator.Evaluator>> rules,
+                                                     Map<String, Object> claims) {
+        for (Map.Entry<String, Map<String, DeviceFamiliesEvaluator.Evaluator>> family : rules.entrySet()) {
+            boolean inFamily = true;
+            for (Map.Entry<String, DeviceFamiliesEvaluator.Evaluator> condition : family.getValue().entrySet()) {
+                DeviceFamiliesEvaluator.Evaluator evaluator = condition.getValue();
+                if (!claims.containsKey(condition.getKey()) ||
+                        !evaluator.evaluate(castClaim(claims.get(condition.getKey()), evaluator.genericType()))) {
+                    inFamily = false;
+                    break;
+                }
+            }
+            if (inFamily) {
+                return family.getKey();
+            }
+        }
+        return null;
+    }
+
+    private File deviceFamiliesFile(String families) throws IOException {
+        File file = folder.newFile("device-families.xml");
+        Files.write(file.toPath(), rulesXml(families));
+        return file;
+    }
+
+    private static byte[] rulesXml(String families) {
+        return ("<?xml version=\"1.0\" encoding=\"utf-8\" ?><configuration>" + families + "</configuration>").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static DeviceFamiliesEvaluator fileDeviceFamiliesEvaluator(File file) {
+        DeviceFamiliesEvaluator evaluator = new DeviceFamiliesEvaluator();
+        ReflectionTestUtils.setField(evaluator, "deviceFamiliesFile", file.toURI().toString());
+        ReflectionTestUtils.setField(evaluator, "reloadIntervalSeconds", 60L);
+        ReflectionTestUtils.invokeMethod(evaluator, "init");
+        return evaluator;
+    }
+
     private void shouldFallbackDeviceFamily(String deviceFamily, Map<String, Object> claims) throws DxaException {
         //given
         DeviceFamiliesEvaluator deviceFamiliesEvaluator = deviceFamiliesEvaluator(false);
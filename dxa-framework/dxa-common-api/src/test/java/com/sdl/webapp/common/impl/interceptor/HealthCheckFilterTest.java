@@ -1,13 +1,26 @@
 package com.sdl.webapp.common.impl.interceptor;
 
+import com.sdl.dxa.caching.CacheWarmUpService;
+import com.sdl.webapp.common.util.ApplicationContextHolder;
 import org.apache.http.HttpStatus;
+import org.junit.After;
 import org.junit.Test;
+import org.springframework.context.support.StaticApplicationContext;
 import org.springframework.mock.web.MockHttpServletResponse;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class HealthCheckFilterTest {
 
+    private final ApplicationContextHolder applicationContextHolder = new ApplicationContextHolder();
+
+    @After
+    public void cleanUp() {
+        applicationContextHolder.setApplicationContext(null);
+    }
+
     @Test
     public void shouldReturn200() throws Exception {
         //given 
@@ -20,4 +33,26 @@ public class HealthCheckFilterTest {
         //then
         assertEquals(HttpStatus.SC_OK, response.getStatus());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldReturn503_WhileCacheWarmUpIsRunning() throws Exception {
+        //given
+        CacheWarmUpService cacheWarmUpService = mock(CacheWarmUpService.class);
+        when(cacheWarmUpService.isReady()).thenReturn(false);
+        StaticApplicationContext context = new StaticApplicationContext();
+        context.getBeanFactory().registerSingleton("cacheWarmUpService", cacheWarmUpService);
+        applicationContextHolder.setApplicationContext(context);
+        HealthCheckFilter filter = new HealthCheckFilter();
+        MockHttpServletResponse notReady = new MockHttpServletResponse();
+        MockHttpServletResponse ready = new MockHttpServletResponse();
+
+        //when
+        filter.doFilter(null, notReady, null);
+        when(cacheWarmUpService.isReady()).thenReturn(true);
+        filter.doFilter(null, ready, null);
+
+        //then
+        assertEquals(HttpStatus.SC_SERVICE_UNAVAILABLE, notReady.getStatus());
+        assertEquals(HttpStatus.SC_OK, ready.getStatus());
+    }
+}
@@ -0,0 +1,200 @@
+package com.sdl.webapp.common.impl.localization;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.localization.LocalizationResolverException;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+public class LocalizationCacheTest {
+
+    private static final int REQUESTS = 200;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+
+    private final AtomicInteger creations = new AtomicInteger();
+
+    @After
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldCreateLocalizationOnce_ForConcurrentFirstRequests() throws Exception {
+        //given
+        LocalizationCache cache = new LocalizationCache((id, path) -> {
+            creations.incrementAndGet();
+            Uninterruptibles.sleepUninterruptibly(100, TimeUnit.MILLISECONDS);
+            return mock(Localization.class);
+        });
+        CountDownLatch start = new CountDownLatch(1);
+
+        //when
+        List<Future<Localization>> results = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return cache.get("1", "/");
+            }));
+        }
+        start.countDown();
+
+        //then
+        Localization localization = results.get(0).get(10, TimeUnit.SECONDS);
+        for (Future<Localization> result : results) {
+            assertSame(localization, result.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1, creations.get());
+    }
+
+    @Test
+    public void shouldCreateLocalizationAgain_IfCreationFailed() throws LocalizationResolverException {
+        //given
+        LocalizationCache cache = new LocalizationCache((id, path) -> {
+            if (creations.incrementAndGet() == 1) {
+                throw new LocalizationResolverException("Content service is down");
+            }
+            return mock(Localization.class);
+        });
+
+        //when
+        try {
+            cache.get("1", "/");
+            fail("Localization is not expected to be created");
+        } catch (LocalizationResolverException e) {
+            //expected
+        }
+        Localization localization = cache.get("1", "/");
+
+        //then
+        assertSame(localization, cache.get("1", "/"));
+        assertEquals(2, creations.get());
+    }
+
+    @Test
+    public void shouldServePreviousLocalization_WhileRefreshing() throws Exception {
+        //given
+        Localization previous = mock(Localization.class);
+        Localization refreshed = mock(Localization.class);
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        CountDownLatch releaseRefresh = new CountDownLatch(1);
+        LocalizationCache cache = new LocalizationCache((id, path) -> {
+            assertEquals("/de", path);
+            if (creations.incrementAndGet() == 1) {
+                return previous;
+            }
+            refreshStarted.countDown();
+            Uninterruptibles.awaitUninterruptibly(releaseRefresh);
+            return refreshed;
+        });
+        cache.get("1", "/de");
+
+        //when
+        Future<Boolean> refresh = executor.submit(() -> cache.refresh("1"));
+        assertTrue(refreshStarted.await(5, TimeUnit.SECONDS));
+        Localization whileRefreshing = executor.submit(() -> cache.get("1", "/de")).get(5, TimeUnit.SECONDS);
+        releaseRefresh.countDown();
+
+        //then
+        assertSame(previous, whileRefreshing);
+        assertTrue(refresh.get(5, TimeUnit.SECONDS));
+        assertSame(refreshed, cache.get("1", "/de"));
+        assertEquals(2, creations.get());
+    }
+
+    @Test
+    public void shouldKeepPreviousLocalization_IfRefreshFails() throws LocalizationResolverException {
+        //given
+        Localization previous = mock(Localization.class);
+        LocalizationCache cache = new LocalizationCache((id, path) -> {
+            if (creations.incrementAndGet() > 1) {
+                throw new LocalizationResolverException("Content service is down");
+            }
+            return previous;
+        });
+        cache.get("1", "/");
+
+        //when
+        boolean refreshed = cache.refresh("1");
+
+        //then
+        assertFalse(refreshed);
+        assertSame(previous, cache.get("1", "/"));
+        assertEquals(2, creations.get());
+    }
+
+    @Test
+    public void shouldKeepLocalization_IfRequestedWithAnotherPath() throws LocalizationResolverException {
+        //given
+        List<String> paths = new ArrayList<>();
+        LocalizationCache cache = new LocalizationCache((id, path) -> {
+            paths.add(path);
+            return mock(Localization.class);
+        });
+        Localization localization = cache.get("1", "/de");
+
+        //when
+        Localization first = cache.get("1", "/de-de");
+        Localization second = cache.get("1", "/de");
+
+        //then
+        assertSame(localization, first);
+        assertSame(localization, second);
+        assertEquals(Collections.singletonList("/de"), paths);
+    }
+
+    @Test
+    public void shouldRefreshWithLatestPath_AfterPathChanged() throws LocalizationResolverException {
+        //given
+        List<String> paths = new ArrayList<>();
+        LocalizationCache cache = new LocalizationCache((id, path) -> {
+            paths.add(path);
+            return mock(Localization.class);
+        });
+        Localization previous = cache.get("1", "/de");
+        cache.get("1", "/de-de");
+
+        //when
+        boolean refreshed = cache.refresh("1");
+
+        //then
+        assertTrue(refreshed);
+        assertNotSame(previous, cache.get("1", "/de-de"));
+        assertEquals(Arrays.asList("/de", "/de-de"), paths);
+    }
+
+    @Test
+    public void shouldNotRefresh_IfLocalizationIsNotCached() {
+        //given
+        LocalizationCache cache = new LocalizationCache((id, path) -> {
+            creations.incrementAndGet();
+            return mock(Localization.class);
+        });
+
+        //when
+        boolean refreshed = cache.refresh("1");
+
+        //then
+        assertFalse(refreshed);
+        assertEquals(0, creations.get());
+    }
+}
@@ -0,0 +1,289 @@
+package com.sdl.webapp.common.impl.localization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.sdl.webapp.common.api.content.ContentProvider;
+import com.sdl.webapp.common.api.content.ContentProviderException;
+import com.sdl.webapp.common.api.content.StaticContentItem;
+import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.localization.LocalizationFactoryException;
+import com.sdl.webapp.common.util.InitializationUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class LocalizationFactoryImplTest {
+
+    private static final String VERSION_PATH = "/version.json";
+
+    private static final List<String> BOOTSTRAP_PATHS = Collections.unmodifiableList(Arrays.asList(
+            "/system/config/_all.json", "/system/resources/_all.json", "/system/mappings/schemas.json",
+            "/system/mappings/vocabularies.json", "/system/mappings/includes.json"));
+
+    @Rule
+    public TemporaryFolder snapshots = new TemporaryFolder();
+
+    private final Map<String, String> files = new HashMap<>(ImmutableMap.<String, String>builder()
+            .put(VERSION_PATH, "{\"version\":\"v1\"}")
+            .put("/system/config/_all.json", "{\"defaultLocalization\":true,\"staging\":false,\"mediaRoot\":\"/media/\"," +
+                    "\"siteLocalizations\":[],\"files\":[\"/system/config/core.json\",\"/system/config/override/core.json\"]}")
+            .put("/system/config/core.json", "{\"key\":\"value\",\"overridden\":\"core\"}")
+            .put("/system/config/override/core.json", "{\"overridden\":\"override\"}")
+            .put("/system/resources/_all.json", "{\"files\":[\"/system/resources/core.json\"]}")
+            .put("/system/resources/core.json", "{\"hello\":\"Hello\"}")
+            .put("/system/mappings/schemas.json", "[]")
+            .put("/system/mappings/vocabularies.json", "[]")
+            .put("/system/mappings/includes.json", "{\"Default\":[\"header\",\"footer\"]}")
+            .build());
+
+    private final List<String> requested = new CopyOnWriteArrayList<>();
+
+    private final List<LocalizationFactoryImpl> factories = new ArrayList<>();
+
+    private ContentProvider contentProvider;
+
+    private CountDownLatch bootstrap;
+
+    private volatile boolean concurrent = true;
+
+    @Before
+    public void init() throws ContentProviderException {
+        contentProvider = mock(ContentProvider.class);
+        when(contentProvider.getStaticContent(anyString(), eq("1"), eq("/"))).thenAnswer(invocation -> {
+            String path = (String) invocation.getArguments()[0];
+            requested.add(path);
+            if (bootstrap != null && BOOTSTRAP_PATHS.contains(path)) {
+                bootstrap.countDown();
+                concurrent &= Uninterruptibles.awaitUninterruptibly(bootstrap, 5, TimeUnit.SECONDS);
+            }
+            if ("/system/config/core.json".equals(path)) {
+                // the first file comes last, but the next file still overrides it
+                Uninterruptibles.sleepUninterruptibly(100, TimeUnit.MILLISECONDS);
+            }
+            return staticContentItem(files.get(path));
+        });
+    }
+
+    @After
+    public void shutdown() {
+        factories.forEach(LocalizationFactoryImpl::shutdown);
+    }
+
+    @Test
+    public void shouldAssembleLocalization_InOrderOfFiles() throws LocalizationFactoryException {
+        //given
+        LocalizationFactoryImpl factory = factory(null);
+
+        //when
+        Localization localization = factory.createLocalization("1", "/");
+
+        //then
+        assertEquals("v1", localization.getVersion());
+        assertTrue(localization.isDefault());
+        assertEquals("value", localization.getConfiguration("core.key"));
+        assertEquals("override", localization.getConfiguration("core.overridden"));
+        assertEquals("Hello", localization.getResource("core.hello"));
+        assertEquals(Arrays.asList("header", "footer"), localization.getIncludes("Default"));
+    }
+
+    @Test
+    public void shouldLoadBootstrapFiles_Concurrently() throws LocalizationFactoryException {
+        //given
+        LocalizationFactoryImpl factory = factory(null);
+        bootstrap = new CountDownLatch(BOOTSTRAP_PATHS.size());
+
+        //when
+        factory.createLocalization("1", "/");
+
+        //then
+        assertTrue(concurrent);
+    }
+
+    @Test
+    public void shouldLoadFilesSequentially_IfOneThread() throws LocalizationFactoryException {
+        //given
+        LocalizationFactoryImpl factory = factory(null);
+        ReflectionTestUtils.setField(factory, "bootstrapThreads", 1);
+
+        //when
+        Localization localization = factory.createLocalization("1", "/");
+
+        //then
+        assertEquals("override", localization.getConfiguration("core.overridden"));
+        assertEquals(files.size(), requested.size());
+    }
+
+    @Test(expected = LocalizationFactoryException.class)
+    public void shouldFail_IfFileCannotBeLoaded() throws LocalizationFactoryException {
+        //given
+        LocalizationFactoryImpl factory = factory(null);
+        files.put("/system/resources/core.json", "{not json");
+
+        //when
+        factory.createLocalization("1", "/");
+
+        //then
+        //exception
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldRethrowRuntimeException_IfFileCannotBeLoaded() throws Exception {
+        //given
+        LocalizationFactoryImpl factory = factory(null);
+        when(contentProvider.getStaticContent(eq("/system/resources/core.json"), eq("1"), eq("/")))
+                .thenThrow(new IllegalStateException("broken"));
+
+        //when
+        factory.createLocalization("1", "/");
+
+        //then
+        //exception
+    }
+
+    @Test
+    public void shouldCreateLocalizationFromSnapshot_AfterRestart() throws LocalizationFactoryException {
+        //given
+        factory(snapshots.getRoot().getPath()).createLocalization("1", "/");
+        requested.clear();
+
+        //when
+        Localization localization = factory(snapshots.getRoot().getPath()).createLocalization("1", "/");
+
+        //then
+        assertEquals(Collections.singletonList(VERSION_PATH), requested);
+        assertEquals("v1", localization.getVersion());
+        assertEquals("override", localization.getConfiguration("core.overridden"));
+        assertEquals("Hello", localization.getResource("core.hello"));
+        assertEquals(Arrays.asList("header", "footer"), localization.getIncludes("Default"));
+    }
+
+    @Test
+    public void shouldIgnoreSnapshot_IfVersionChanged() throws LocalizationFactoryException {
+        //given
+        factory(snapshots.getRoot().getPath()).createLocalization("1", "/");
+        requested.clear();
+        files.put(VERSION_PATH, "{\"version\":\"v2\"}");
+        files.put("/system/resources/core.json", "{\"hello\":\"Hi\"}");
+
+        //when
+        Localization localization = factory(snapshots.getRoot().getPath()).createLocalization("1", "/");
+
+        //then
+        assertEquals(files.size(), requested.size());
+        assertEquals("v2", localization.getVersion());
+        assertEquals("Hi", localization.getResource("core.hello"));
+    }
+
+    @Test
+    public void shouldIgnoreSnapshot_IfVersionIsFromProperties() throws LocalizationFactoryException {
+        //given
+        factory(snapshots.getRoot().getPath()).createLocalization("1", "/");
+        requested.clear();
+        files.put("/system/resources/core.json", "{\"hello\":\"Hi\"}");
+        InitializationUtils.loadDxaProperties().setProperty("dxa.assets.version", "v1");
+
+        //when
+        Localization localization;
+        try {
+            localization = factory(snapshots.getRoot().getPath()).createLocalization("1", "/");
+        } finally {
+            InitializationUtils.loadDxaProperties().remove("dxa.assets.version");
+        }
+
+        //then
+        assertEquals(files.size() - 1, requested.size());
+        assertFalse(requested.contains(VERSION_PATH));
+        assertEquals("v1", localization.getVersion());
+        assertEquals("Hi", localization.getResource("core.hello"));
+    }
+
+    @Test
+    public void shouldIgnoreSnapshot_WhenLocalizationIsCreatedAgain() throws LocalizationFactoryException {
+        //given
+        LocalizationFactoryImpl factory = factory(snapshots.getRoot().getPath());
+        factory.createLocalization("1", "/");
+        requested.clear();
+        files.put("/system/resources/core.json", "{\"hello\":\"Hi\"}");
+
+        //when
+        Localization localization = factory.createLocalization("1", "/");
+
+        //then
+        assertEquals(files.size(), requested.size());
+        assertEquals("Hi", localization.getResource("core.hello"));
+    }
+
+    @Test
+    public void shouldNotWriteSnapshot_IfDisabled() throws LocalizationFactoryException {
+        //given
+        LocalizationFactoryImpl factory = factory(null);
+
+        //when
+        factory.createLocalization("1", "/");
+
+        //then
+        String[] written = snapshots.getRoot().list();
+        assertFalse(written != null && written.length > 0);
+    }
+
+    private LocalizationFactoryImpl factory(String snapshotDirectory) {
+        LocalizationFactoryImpl factory = new LocalizationFactoryImpl();
+        ReflectionTestUtils.setField(factory, "contentProvider", contentProvider);
+        ReflectionTestUtils.setField(factory, "objectMapper", new ObjectMapper());
+        if (snapshotDirectory != null) {
+            ReflectionTestUtils.setField(factory, "snapshotDirectory", snapshotDirectory);
+        }
+        factories.add(factory);
+        return factory;
+    }
+
+    private static StaticContentItem staticContentItem(String content) {
+        return new StaticContentItem() {
+            @Override
+            public long getLastModified() {
+                return 0;
+            }
+
+            @Override
+            public String getContentType() {
+                return "application/json";
+            }
+
+            @Override
+            public InputStream getContent() throws IOException {
+                return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public boolean isVersioned() {
+                return false;
+            }
+        };
+    }
+}
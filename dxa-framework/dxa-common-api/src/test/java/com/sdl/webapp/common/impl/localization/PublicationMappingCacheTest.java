@@ -0,0 +1,208 @@
+package com.sdl.webapp.common.impl.localization;
+
+import com.google.common.base.Ticker;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.sdl.webapp.common.api.localization.LocalizationResolverException;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class PublicationMappingCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    };
+
+    private final List<String> loadedUrls = new CopyOnWriteArrayList<>();
+
+    private PublicationMappingCache<String> cache(long ttlSeconds) {
+        return cache(ttlSeconds, MoreExecutors.directExecutor());
+    }
+
+    private PublicationMappingCache<String> cache(long ttlSeconds, Executor refreshExecutor) {
+        return new PublicationMappingCache<>(url -> {
+            loadedUrls.add(url);
+            if (url.contains("unmapped")) {
+                return null;
+            }
+            if (url.contains("error")) {
+                throw new LocalizationResolverException("Content service is down");
+            }
+            return url.contains("/de/") || url.endsWith("/de") ? "/de" : "/";
+        }, Function.identity(), ttlSeconds, 100, ticker, refreshExecutor);
+    }
+
+    @Test
+    public void shouldLoadMappingOncePerPrefixPerTtl() throws LocalizationResolverException {
+        //given
+        PublicationMappingCache<String> cache = cache(60);
+
+        //when
+        String first = cache.get("http://localhost:8080/de/index.html");
+        String second = cache.get("http://localhost:8080/de/about.html");
+        String root = cache.get("http://localhost:8080/index.html");
+
+        //then
+        assertEquals("/de", first);
+        assertEquals("/de", second);
+        assertEquals("/", root);
+        assertEquals(2, loadedUrls.size());
+
+        //when
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        cache.get("http://localhost:8080/de/index.html");
+        cache.get("http://localhost:8080/de/contact.html");
+
+        //then
+        assertEquals(3, loadedUrls.size());
+    }
+
+    @Test
+    public void shouldLoadMappingOncePerPath_ForUrlsWithoutExtension() throws LocalizationResolverException {
+        //given
+        PublicationMappingCache<String> cache = cache(60);
+
+        //when
+        String mappingRoot = cache.get("http://localhost:8080/de");
+        String page = cache.get("http://localhost:8080/de/about");
+        String subPage = cache.get("http://localhost:8080/de/about/team");
+        String file = cache.get("http://localhost:8080/de/contact.html");
+
+        //then
+        assertEquals("/de", mappingRoot);
+        assertEquals("/de", page);
+        assertEquals("/de", subPage);
+        assertEquals("/de", file);
+        assertEquals(Arrays.asList("http://localhost:8080/de", "http://localhost:8080/de/about"), loadedUrls);
+    }
+
+    @Test
+    public void shouldLoadLongerMapping_BelowCachedMapping() throws LocalizationResolverException {
+        //given
+        PublicationMappingCache<String> cache = cache(60);
+        cache.get("http://localhost:8080/index.html");
+
+        //when
+        String root = cache.get("http://localhost:8080/about/team");
+        String de = cache.get("http://localhost:8080/de/index.html");
+        String rootAgain = cache.get("http://localhost:8080/about/contact");
+        String deAgain = cache.get("http://localhost:8080/de/about");
+
+        //then
+        assertEquals("/", root);
+        assertEquals("/de", de);
+        assertEquals("/", rootAgain);
+        assertEquals("/de", deAgain);
+        assertEquals(Arrays.asList("http://localhost:8080/index.html", "http://localhost:8080/about/team",
+                "http://localhost:8080/de/index.html", "http://localhost:8080/de/about"), loadedUrls);
+    }
+
+    @Test
+    public void shouldCacheUnmappedUrls() throws LocalizationResolverException {
+        //given
+        PublicationMappingCache<String> cache = cache(60);
+
+        //when
+        String first = cache.get("http://localhost:8080/unmapped/random.php");
+        String second = cache.get("http://localhost:8080/unmapped/random.php");
+
+        //then
+        assertNull(first);
+        assertNull(second);
+        assertEquals(1, loadedUrls.size());
+    }
+
+    @Test(expected = LocalizationResolverException.class)
+    public void shouldNotCacheErrors() throws LocalizationResolverException {
+        //given
+        PublicationMappingCache<String> cache = cache(60);
+
+        try {
+            cache.get("http://localhost:8080/error/index.html");
+        } catch (LocalizationResolverException e) {
+            //when
+            cache.get("http://localhost:8080/error/index.html");
+        } finally {
+            //then
+            assertEquals(2, loadedUrls.size());
+        }
+    }
+
+    @Test
+    public void shouldLoadAgainAfterInvalidation() throws LocalizationResolverException {
+        //given
+        PublicationMappingCache<String> cache = cache(60);
+        cache.get("http://localhost:8080/de/index.html");
+
+        //when
+        cache.invalidateAll();
+        cache.get("http://localhost:8080/de/index.html");
+
+        //then
+        assertEquals(2, loadedUrls.size());
+    }
+
+    @Test
+    public void shouldNotCacheIfTtlIsZero() throws LocalizationResolverException {
+        //given
+        PublicationMappingCache<String> cache = cache(0);
+
+        //when
+        cache.get("http://localhost:8080/de/index.html");
+        cache.get("http://localhost:8080/de/index.html");
+
+        //then
+        assertEquals(2, loadedUrls.size());
+        assertEquals("http://localhost:8080/de/index.html", loadedUrls.get(0));
+    }
+
+    @Test
+    public void shouldStopRefreshThread_OnShutdown() throws Exception {
+        //given
+        PublicationMappingCache<String> cache = cache(60, null);
+        cache.get("http://localhost:8080/de/index.html");
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        cache.get("http://localhost:8080/de/index.html");
+        ExecutorService refreshExecutor = (ExecutorService) ReflectionTestUtils.getField(cache, "refreshExecutor");
+
+        //when
+        cache.shutdown();
+
+        //then
+        assertTrue(refreshExecutor.awaitTermination(5, TimeUnit.SECONDS));
+
+        //when
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        String mapping = cache.get("http://localhost:8080/de/index.html");
+
+        //then
+        assertEquals("/de", mapping);
+    }
+
+    @Test
+    public void shouldUseDirectoryOfFileAsKey() {
+        assertEquals("http://localhost:8080/de/", PublicationMappingCache.getKey("http://localhost:8080/de/index.html"));
+        assertEquals("http://localhost:8080/", PublicationMappingCache.getKey("http://localhost:8080/index.html"));
+        assertEquals("http://localhost:8080/de/", PublicationMappingCache.getKey("http://localhost:8080/de/"));
+        assertEquals("http://localhost:8080/de", PublicationMappingCache.getKey("http://localhost:8080/de"));
+        assertEquals("http://localhost:8080/de/about", PublicationMappingCache.getKey("http://localhost:8080/de/about"));
+        assertEquals("http://www.example.com", PublicationMappingCache.getKey("http://www.example.com"));
+    }
+}
@@ -0,0 +1,124 @@
+package com.sdl.webapp.common.impl.mapping;
+
+import com.google.common.collect.ImmutableMap;
+import com.sdl.webapp.common.api.mapping.semantic.config.FieldSemantics;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticField;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.sdl.webapp.common.api.mapping.semantic.config.SemanticVocabulary.SCHEMA_ORG_VOCABULARY;
+import static com.sdl.webapp.common.api.mapping.semantic.config.SemanticVocabulary.SDL_CORE_VOCABULARY;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class SemanticFieldsIndexTest {
+
+    private static final SemanticField HEADLINE = field("headline");
+
+    private static final SemanticField DATE_CREATED = field("dateCreated");
+
+    private static final SemanticField SUBHEADING = field("subheading");
+
+    private static final SemanticField CAPTION = field("caption");
+
+    private static final SemanticField EMBEDDED_DATE_CREATED = field("embeddedDateCreated");
+
+    private static final Map<FieldSemantics, SemanticField> FIELDS = ImmutableMap.of(
+            sdlCore("Article", "headline"), HEADLINE,
+            sdlCore("StandardMetadata", "dateCreated"), DATE_CREATED,
+            sdlCore("Article", "articleBody"), field("articleBody", ImmutableMap.of(
+                    sdlCore("Paragraph", "subheading"), SUBHEADING,
+                    sdlCore("Paragraph", "media"), field("media", ImmutableMap.of(
+                            sdlCore("Image", "caption"), CAPTION)))),
+            sdlCore("Article", "related"), field("related", ImmutableMap.of(
+                    sdlCore("StandardMetadata", "modified"), EMBEDDED_DATE_CREATED)));
+
+    private static final List<FieldSemantics> LOOKUPS = Arrays.asList(
+            sdlCore("Article", "headline"),
+            schemaOrg("Article", "headline"),
+            schemaOrg("Article", "dateCreated"),
+            sdlCore("Paragraph", "subheading"),
+            sdlCore("Image", "caption"),
+            schemaOrg("Teaser", "modified"),
+            sdlCore("Article", "missing"),
+            sdlCore("Paragraph", "missing"));
+
+    private final SemanticFieldsIndex index = new SemanticFieldsIndex(FIELDS);
+
+    @Test
+    public void shouldFindField_BySemantics() {
+        assertSame(HEADLINE, index.find(sdlCore("Article", "headline")));
+    }
+
+    @Test
+    public void shouldFindStandardMetadataField_ByPropertyName() {
+        assertSame(DATE_CREATED, index.find(schemaOrg("Article", "dateCreated")));
+    }
+
+    @Test
+    public void shouldFindEmbeddedFields_Recursively() {
+        assertSame(SUBHEADING, index.find(sdlCore("Paragraph", "subheading")));
+        assertSame(CAPTION, index.find(sdlCore("Image", "caption")));
+        assertSame(EMBEDDED_DATE_CREATED, index.find(schemaOrg("Teaser", "modified")));
+    }
+
+    @Test
+    public void shouldNotFindField_IfNotMapped() {
+        assertNull(index.find(schemaOrg("Article", "headline")));
+        assertNull(index.find(sdlCore("Article", "missing")));
+        assertNull(index.find(sdlCore("Article", "missing")));
+    }
+
+    @Test
+    public void shouldFindSameFields_AsSearchWithoutIndex() {
+        for (FieldSemantics semantics : LOOKUPS) {
+            // twice, the second time from the index
+            assertSame(semantics.toString(), search(FIELDS, semantics), index.find(semantics));
+            assertSame(semantics.toString(), search(FIELDS, semantics), index.find(semantics));
+        }
+    }
+
+    /**
+     * Search of a semantic field as done for every mapped field before the index.
+     */
+    private static SemanticField search(Map<FieldSemantics, SemanticField> fields, FieldSemantics semantics) {
+        SemanticField field = fields.get(semantics);
+        if (field != null) {
+            return field;
+        }
+        for (Map.Entry<FieldSemantics, SemanticField> entry : fields.entrySet()) {
+            FieldSemantics key = entry.getKey();
+            if (key.isStandardMetadataField() && Objects.equals(key.getPropertyName(), semantics.getPropertyName())) {
+                return entry.getValue();
+            }
+        }
+        for (SemanticField semanticField : fields.values()) {
+            field = search(semanticField.getEmbeddedFields(), semantics);
+            if (field != null) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private static SemanticField field(String name) {
+        return field(name, Collections.emptyMap());
+    }
+
+    private static SemanticField field(String name, Map<FieldSemantics, SemanticField> embeddedFields) {
+        return new SemanticField(name, "/Article/" + name, false, embeddedFields);
+    }
+
+    private static FieldSemantics sdlCore(String entityName, String propertyName) {
+        return new FieldSemantics(SDL_CORE_VOCABULARY, entityName, propertyName);
+    }
+
+    private static FieldSemantics schemaOrg(String entityName, String propertyName) {
+        return new FieldSemantics(SCHEMA_ORG_VOCABULARY, entityName, propertyName);
+    }
+}
@@ -27,12 +27,15 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.util.ReflectionUtils;
 
 import java.lang.reflect.Field;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static com.sdl.webapp.common.api.mapping.semantic.config.SemanticVocabulary.SCHEMA_ORG;
@@ -42,8 +45,13 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(SpringJUnit4ClassRunner.class)
@@ -118,6 +126,39 @@ public class SemanticMapperImplTest {
         assertThat(xpmMetadata, hasEntry("manyMappingsNoValue", "tcm:Content/custom:TestArticle/custom:manyMappingsNoValue"));
     }
 
+    @Test
+    public void shouldCompileMappingPlan_OncePerClass() throws SemanticMappingException {
+        //given
+        SemanticMappingRegistry registry = spy(new SemanticMapperImplTestConfig().semanticMappingRegistry());
+        SemanticMapperImpl mapper = new SemanticMapperImpl(registry);
+        AtomicInteger fields = new AtomicInteger();
+        ReflectionUtils.doWithFields(TestArticle.class, field -> fields.incrementAndGet());
+
+        //when
+        mapper.createEntity(TestArticle.class, TestArticle.getSemantics(), fieldDataProvider);
+        mapper.createEntity(TestArticle.class, TestArticle.getSemantics(), fieldDataProvider);
+
+        //then
+        verify(registry, times(fields.get())).getFieldSemantics(any(Field.class));
+    }
+
+    @Test
+    public void shouldNotRememberMisses_OfMutableSemanticFields() throws SemanticMappingException, NoSuchFieldException {
+        //given
+        Map<FieldSemantics, SemanticField> semanticFields = new HashMap<>();
+        mockData(TestArticle.class.getDeclaredField("headline"), TestArticle.SEMANTIC_FIELDS.get("headline"),
+                new FieldData("HEADLINE", "tcm:Content/HeadlineField"));
+        TestArticle before = semanticMapper.createEntity(TestArticle.class, semanticFields, fieldDataProvider);
+
+        //when
+        semanticFields.put(new FieldSemantics(SCHEMA_ORG_VOCABULARY, "TestArticle", "headline"), TestArticle.SEMANTIC_FIELDS.get("headline"));
+        TestArticle after = semanticMapper.createEntity(TestArticle.class, semanticFields, fieldDataProvider);
+
+        //then
+        assertNull(before.getHeadline());
+        assertThat(after.getHeadline(), is("HEADLINE"));
+    }
+
     private static class SemanticMapBuilder extends ImmutableMap.Builder<FieldSemantics, SemanticField> {
 
         SemanticMapBuilder both(String entityName, String propertyName, SemanticField field) {
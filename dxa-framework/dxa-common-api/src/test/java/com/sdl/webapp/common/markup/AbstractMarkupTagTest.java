@@ -0,0 +1,56 @@
+package com.sdl.webapp.common.markup;
+
+import com.sdl.dxa.metrics.InMemoryMetricsRegistry;
+import com.sdl.dxa.metrics.MetricsRegistry;
+import com.sdl.dxa.metrics.NoOpMetricsRegistry;
+import com.sdl.webapp.common.util.ApplicationContextHolder;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.context.ApplicationContext;
+
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AbstractMarkupTagTest {
+
+    @After
+    public void resetContext() {
+        new ApplicationContextHolder().setApplicationContext(null);
+    }
+
+    @Test
+    public void shouldLookUpMetricsRegistryOnce() {
+        //given
+        MetricsRegistry metricsRegistry = new InMemoryMetricsRegistry();
+        ApplicationContext context = mock(ApplicationContext.class);
+        when(context.getBean(MetricsRegistry.class)).thenReturn(metricsRegistry);
+        new ApplicationContextHolder().setApplicationContext(context);
+
+        //when
+        MetricsRegistry first = new AbstractMarkupTag().getMetricsRegistry();
+        MetricsRegistry second = new AbstractMarkupTag().getMetricsRegistry();
+
+        //then
+        assertSame(metricsRegistry, first);
+        assertSame(metricsRegistry, second);
+        verify(context, times(1)).getBean(MetricsRegistry.class);
+    }
+
+    @Test
+    public void shouldFallBackToNoOpMetricsRegistry_IfNotDefined() {
+        //given
+        ApplicationContext context = mock(ApplicationContext.class);
+        when(context.getBean(MetricsRegistry.class)).thenThrow(new NoSuchBeanDefinitionException(MetricsRegistry.class));
+        new ApplicationContextHolder().setApplicationContext(context);
+
+        //when
+        MetricsRegistry metricsRegistry = new AbstractMarkupTag().getMetricsRegistry();
+
+        //then
+        assertSame(NoOpMetricsRegistry.INSTANCE, metricsRegistry);
+    }
+}
@@ -0,0 +1,31 @@
+package com.sdl.dxa.caching;
+
+/**
+ * Tells whether a type is annotated with {@link NeverCached}. The result is computed once per class and then kept
+ * with the class, so that checking values before caching them doesn't need reflection.
+ *
+ * @dxa.publicApi
+ */
+public final class NeverCachedTypes {
+
+    private static final ClassValue<Boolean> NEVER_CACHED = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return type.isAnnotationPresent(NeverCached.class);
+        }
+    };
+
+    private NeverCachedTypes() {
+    }
+
+    /**
+     * Returns whether the given type is annotated with {@link NeverCached}, directly or through a superclass.
+     *
+     * @param type type to check
+     * @return whether values of the type are never cached
+     * @dxa.publicApi
+     */
+    public static boolean isNeverCached(Class<?> type) {
+        return NEVER_CACHED.get(type);
+    }
+}
@@ -0,0 +1,130 @@
+package com.sdl.dxa.caching;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Per-key coordinator that lets only one load for a given key run at a time.
+ * <p>The first caller for a key becomes a leader and runs its loader right away. Callers that come for the same key
+ * while the leader is still running wait until it finishes and then run their own loader, which is expected to
+ * find the value the leader has put in a cache. Callers for different keys never wait for each other.</p>
+ * <p>Followers run their loaders outside of the flight, so values that end up not being cached are still built
+ * in parallel instead of being serialized behind each other.</p>
+ * <p>Loads may be nested, e.g. an entity loads its linked entities. A thread that comes again for a key it is
+ * already loading runs the loader directly instead of waiting for itself. Followers wait for a leader only up to
+ * a timeout and then run their loader anyway, so two threads loading A&rarr;B and B&rarr;A at the same time
+ * are delayed but never deadlocked.</p>
+ *
+ * @param <K> type of the key
+ * @dxa.publicApi
+ */
+@Slf4j
+public class SingleFlight<K> {
+
+    /**
+     * Default time in milliseconds a follower waits for a leader before it runs its loader on its own.
+     */
+    public static final long DEFAULT_WAIT_TIMEOUT_MILLIS = 10_000;
+
+    private final ConcurrentMap<K, CompletableFuture<Void>> calls = new ConcurrentHashMap<>();
+
+    private final ThreadLocal<Set<K>> loading = ThreadLocal.withInitial(HashSet::new);
+
+    private final long waitTimeoutMillis;
+
+    public SingleFlight() {
+        this(DEFAULT_WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates a coordinator whose followers wait for a leader at most the given time.
+     *
+     * @param waitTimeout time a follower waits for a leader before it runs its loader on its own
+     * @param unit        unit of the timeout
+     * @dxa.publicApi
+     */
+    public SingleFlight(long waitTimeout, TimeUnit unit) {
+        this.waitTimeoutMillis = unit.toMillis(waitTimeout);
+    }
+
+    /**
+     * Runs the loader for the given key making sure it doesn't run concurrently with a load of the same key.
+     *
+     * @param key    key to coordinate loads on
+     * @param loader loader of the value, typically checking a cache first
+     * @param <V>    type of the value
+     * @param <E>    type of the exception the loader may throw
+     * @return value returned by the loader
+     * @throws E if the loader fails
+     * @dxa.publicApi
+     */
+    public <V, E extends Exception> V execute(K key, Loader<V, E> loader) throws E {
+        Set<K> keys = loading.get();
+        if (keys.contains(key)) {
+            log.trace("Load for key '{}' is re-entered by the thread that runs it, loading directly", key);
+            return loader.load();
+        }
+
+        CompletableFuture<Void> call = new CompletableFuture<>();
+        CompletableFuture<Void> inFlight = calls.putIfAbsent(key, call);
+        if (inFlight != null) {
+            log.trace("Load for key '{}' is already in flight, waiting for it", key);
+            _await(key, inFlight);
+            return _load(keys, key, loader);
+        }
+
+        try {
+            return _load(keys, key, loader);
+        } finally {
+            calls.remove(key, call);
+            call.complete(null);
+        }
+    }
+
+    private void _await(K key, CompletableFuture<Void> inFlight) {
+        try {
+            inFlight.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.debug("Load for key '{}' didn't finish in {} ms, loading without waiting for it", key, waitTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.debug("Interrupted while waiting for load of key '{}', loading without waiting for it", key);
+        } catch (ExecutionException e) {
+            // the future of a flight is only ever completed normally
+            log.debug("Load for key '{}' completed exceptionally", key, e);
+        }
+    }
+
+    private <V, E extends Exception> V _load(Set<K> keys, K key, Loader<V, E> loader) throws E {
+        keys.add(key);
+        try {
+            return loader.load();
+        } finally {
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                loading.remove();
+            }
+        }
+    }
+
+    /**
+     * Loader of a value that may throw a checked exception.
+     *
+     * @param <V> type of the value
+     * @param <E> type of the exception
+     * @dxa.publicApi
+     */
+    @FunctionalInterface
+    public interface Loader<V, E extends Exception> {
+
+        V load() throws E;
+    }
+}
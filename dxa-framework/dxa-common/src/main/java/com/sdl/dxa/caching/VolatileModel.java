@@ -14,7 +14,7 @@ public interface VolatileModel {
      * @dxa.publicApi
      */
     default boolean canBeCached() {
-        return !this.getClass().isAnnotationPresent(NeverCached.class) && isStaticModel();
+        return !NeverCachedTypes.isNeverCached(this.getClass()) && isStaticModel();
     }
 
     /**
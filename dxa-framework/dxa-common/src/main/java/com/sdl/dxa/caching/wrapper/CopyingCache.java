@@ -29,10 +29,16 @@ public abstract class CopyingCache<B, V> extends SimpleCacheWrapper<B, V> {
         return _checkAndCopy(super.get(key));
     }
 
+    @Nullable
+    @Override
+    protected V getUncounted(LocalizationAwareCacheKey key) {
+        return _checkAndCopy(super.getUncounted(key));
+    }
+
     protected abstract V copy(V value);
 
-    private V _checkAndCopy(V value) {
-        return isCachingEnabled() ? copy(value) : value;
+    private V _checkAndCopy(@Nullable V value) {
+        return value != null && isCachingEnabled() ? copy(value) : value;
     }
 
 }
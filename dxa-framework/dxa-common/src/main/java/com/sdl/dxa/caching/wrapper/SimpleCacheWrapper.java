@@ -5,17 +5,36 @@ import com.sdl.dxa.caching.LocalizationAwareCacheKey;
 import com.sdl.dxa.caching.LocalizationAwareKeyGenerator;
 import com.sdl.dxa.caching.NamedCacheProvider;
 import com.sdl.dxa.caching.NeverCached;
+import com.sdl.dxa.caching.NeverCachedTypes;
+import com.sdl.dxa.caching.SingleFlight;
 import com.sdl.dxa.caching.VolatileModel;
+import com.sdl.dxa.metrics.Counter;
+import com.sdl.dxa.metrics.MetricsRegistry;
+import com.sdl.dxa.metrics.NoOpMetricsRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.ehcache.event.EventFiring;
+import org.ehcache.event.EventOrdering;
+import org.ehcache.event.EventType;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 
 import javax.annotation.PostConstruct;
 import javax.cache.Cache;
+import javax.cache.configuration.MutableCacheEntryListenerConfiguration;
+import javax.cache.event.CacheEntryExpiredListener;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+import static com.sdl.dxa.metrics.MetricNames.CACHE;
+import static com.sdl.dxa.metrics.MetricNames.TAG_CACHE;
+import static com.sdl.dxa.metrics.MetricNames.TAG_RESULT;
 
 /**
  * Wrapper on {@link Cache}.
+ * <p>The cache is resolved from {@link NamedCacheProvider} once and then held, it's resolved again only if it was closed,
+ * e.g. because the cache manager was reconfigured.</p>
  *
  * @param <B> base type used for a key calculation in {@link #getSpecificKey(Object, Object...)}
  * @param <V> value type of the cache
@@ -24,10 +43,16 @@ import javax.cache.Cache;
 @Slf4j
 public abstract class SimpleCacheWrapper<B, V> {
 
+    private volatile SingleFlight<LocalizationAwareCacheKey> singleFlight = new SingleFlight<>();
+
     private LocalizationAwareKeyGenerator keyGenerator;
 
     private NamedCacheProvider cacheProvider;
 
+    private MetricsRegistry metricsRegistry = NoOpMetricsRegistry.INSTANCE;
+
+    private volatile Cache<LocalizationAwareCacheKey, V> cache;
+
     @Autowired
     public void setKeyGenerator(LocalizationAwareKeyGenerator keyGenerator) {
         this.keyGenerator = keyGenerator;
@@ -36,6 +61,23 @@ public abstract class SimpleCacheWrapper<B, V> {
     @Autowired
     public void setCacheProvider(NamedCacheProvider cacheProvider) {
         this.cacheProvider = cacheProvider;
+        this.cache = null;
+    }
+
+    @Autowired(required = false)
+    public void setMetricsRegistry(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+        this.cache = null;
+    }
+
+    /**
+     * Sets how long a concurrent load of a key waits for the load already in flight before it runs on its own.
+     *
+     * @param loadWaitTimeout timeout in milliseconds
+     */
+    @Value("${dxa.caching.load.wait-timeout:" + SingleFlight.DEFAULT_WAIT_TIMEOUT_MILLIS + "}")
+    public void setLoadWaitTimeout(long loadWaitTimeout) {
+        this.singleFlight = new SingleFlight<>(loadWaitTimeout, TimeUnit.MILLISECONDS);
     }
 
     @PostConstruct
@@ -64,7 +106,15 @@ public abstract class SimpleCacheWrapper<B, V> {
      * @return current cache for model
      */
     public Cache<LocalizationAwareCacheKey, V> getCache() {
-        return cacheProvider.getCache(getCacheName(), LocalizationAwareCacheKey.class, getValueType());
+        Cache<LocalizationAwareCacheKey, V> current = this.cache;
+        if (current == null || current.isClosed()) {
+            current = cacheProvider.getCache(getCacheName(), LocalizationAwareCacheKey.class, getValueType());
+            if (current != null && metricsRegistry != NoOpMetricsRegistry.INSTANCE) {
+                _registerEvictionCounter(current);
+            }
+            this.cache = current;
+        }
+        return current;
     }
 
     /**
@@ -104,25 +154,76 @@ public abstract class SimpleCacheWrapper<B, V> {
             return value;
         }
 
-        if (value.getClass().isAnnotationPresent(NeverCached.class)) {
+        if (NeverCachedTypes.isNeverCached(value.getClass())) {
             log.trace("Value of class {} is never cached", value.getClass());
             return value;
         }
 
-        getCache().put(key, value);
-        _logPut(key, getCache().getName());
+        Cache<LocalizationAwareCacheKey, V> cache = getCache();
+        cache.put(key, value);
+        _count("put");
+        _logPut(key, cache.getName());
         return value;
     }
 
     /**
-     * Gets a value from cache if found or {@code null} otherwise.
+     * Gets a value from cache if found or {@code null} otherwise. This is a single lookup in the cache.
      *
      * @param key key formed by {@link #getSpecificKey(Object, Object...)}
      * @return value from cache of {@code null} if not found
      */
     @Nullable
     public V get(LocalizationAwareCacheKey key) {
-        return containsKey(key) ? getCache().get(key) : null;
+        if (!isCachingEnabled()) {
+            return null;
+        }
+        Cache<LocalizationAwareCacheKey, V> cache = getCache();
+        V value = cache.get(key);
+        _logLookup(key, cache, value != null);
+        return value;
+    }
+
+    /**
+     * Gets a value from cache like {@link #get(LocalizationAwareCacheKey)} does, but without counting the lookup
+     * in metrics. Used when a lookup of the same key has already been counted. Subclasses that post-process values
+     * returned from cache override both methods.
+     *
+     * @param key key formed by {@link #getSpecificKey(Object, Object...)}
+     * @return value from cache of {@code null} if not found
+     */
+    @Nullable
+    protected V getUncounted(LocalizationAwareCacheKey key) {
+        return getCache().get(key);
+    }
+
+    /**
+     * Gets a value from cache if found or loads it otherwise. Concurrent loads of the same key are coalesced so that
+     * only one of them actually runs the loader while others wait for it and then read the value from cache.
+     * Loads of different keys run in parallel. A nested load of a key the current thread is already loading runs
+     * the loader directly, and waiting for a load in flight is bounded, so cyclic links can't deadlock.
+     * The loader is responsible for putting the value in cache, usually with {@link #addAndGet(ConditionalKey, Object)}.
+     *
+     * @param key    key formed by {@link #getSpecificKey(Object, Object...)}
+     * @param loader loader of the value that is called if the value is not in cache
+     * @param <E>    type of the exception the loader may throw
+     * @return value from cache or the loaded value
+     * @throws E if the loader fails
+     */
+    public <E extends Exception> V getOrLoad(LocalizationAwareCacheKey key, SingleFlight.Loader<V, E> loader) throws E {
+        if (!isCachingEnabled()) {
+            return loader.load();
+        }
+
+        V cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        return singleFlight.execute(key, () -> {
+            // the lookup has already been counted as a miss, so the cache is checked again without metrics
+            V loadedMeanwhile = getUncounted(key);
+            return loadedMeanwhile != null ? loadedMeanwhile : loader.load();
+        });
     }
 
     /**
@@ -144,12 +245,9 @@ public abstract class SimpleCacheWrapper<B, V> {
         if (!isCachingEnabled()) {
             return false;
         }
-        boolean contains = getCache().containsKey(key);
-        if (contains) {
-            _logHit(key, getCache().getName());
-        } else {
-            _logMiss(key, getCache().getName());
-        }
+        Cache<LocalizationAwareCacheKey, V> cache = getCache();
+        boolean contains = cache.containsKey(key);
+        _logLookup(key, cache, contains);
         return contains;
     }
 
@@ -157,6 +255,48 @@ public abstract class SimpleCacheWrapper<B, V> {
         return this.keyGenerator.generate(keyParams);
     }
 
+    private void _logLookup(LocalizationAwareCacheKey key, Cache<LocalizationAwareCacheKey, V> cache, boolean found) {
+        if (found) {
+            _count("hit");
+            _logHit(key, cache.getName());
+        } else {
+            _count("miss");
+            _logMiss(key, cache.getName());
+        }
+    }
+
+    private void _count(String result) {
+        metricsRegistry.counter(CACHE, TAG_CACHE, getCacheName(), TAG_RESULT, result).increment();
+    }
+
+    private void _registerEvictionCounter(Cache<LocalizationAwareCacheKey, V> cache) {
+        Counter evictions = metricsRegistry.counter(CACHE, TAG_CACHE, getCacheName(), TAG_RESULT, "eviction");
+        try {
+            org.ehcache.Cache<Object, Object> ehcache = _unwrapEhcache(cache);
+            if (ehcache != null) {
+                ehcache.getRuntimeConfiguration().registerCacheEventListener(event -> evictions.increment(),
+                        EventOrdering.UNORDERED, EventFiring.ASYNCHRONOUS, EnumSet.of(EventType.EVICTED, EventType.EXPIRED));
+                return;
+            }
+
+            // JCache doesn't report evictions because of size, only expirations
+            CacheEntryExpiredListener<LocalizationAwareCacheKey, V> listener = events -> events.forEach(event -> evictions.increment());
+            cache.registerCacheEntryListener(new MutableCacheEntryListenerConfiguration<>(() -> listener, null, false, false));
+        } catch (RuntimeException e) {
+            log.warn("Cannot count evictions of cache {}, cache doesn't support listeners", getCacheName(), e);
+        }
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private static org.ehcache.Cache<Object, Object> _unwrapEhcache(Cache<?, ?> cache) {
+        try {
+            return cache.unwrap(org.ehcache.Cache.class);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     private void _logPut(LocalizationAwareCacheKey key, String cacheName) {
         log.trace("Cache entry for key '{}' put in cache '{}'", key, cacheName);
     }
@@ -0,0 +1,24 @@
+package com.sdl.dxa.metrics;
+
+/**
+ * Monotonically increasing count of events.
+ *
+ * @dxa.publicApi
+ */
+@FunctionalInterface
+public interface Counter {
+
+    /**
+     * Increments the counter by the given amount.
+     *
+     * @param amount amount to add
+     */
+    void increment(long amount);
+
+    /**
+     * Increments the counter by one.
+     */
+    default void increment() {
+        increment(1);
+    }
+}
@@ -0,0 +1,133 @@
+package com.sdl.dxa.metrics;
+
+import lombok.EqualsAndHashCode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registry that keeps all metrics in memory for the lifetime of the application. Values can be read with
+ * {@link #snapshot()}, which is also what the tests assert against.
+ *
+ * @dxa.publicApi
+ */
+public class InMemoryMetricsRegistry implements MetricsRegistry {
+
+    private static final double NANOS_IN_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final ConcurrentMap<MetricId, InMemoryTimer> timers = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<MetricId, InMemoryCounter> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public Timer timer(String name, String... tags) {
+        MetricId id = new MetricId(name, tags);
+        InMemoryTimer timer = timers.get(id);
+        return timer != null ? timer : timers.computeIfAbsent(id, key -> new InMemoryTimer());
+    }
+
+    @Override
+    public Counter counter(String name, String... tags) {
+        MetricId id = new MetricId(name, tags);
+        InMemoryCounter counter = counters.get(id);
+        return counter != null ? counter : counters.computeIfAbsent(id, key -> new InMemoryCounter());
+    }
+
+    @Override
+    public List<MetricSnapshot> snapshot() {
+        List<MetricSnapshot> snapshot = new ArrayList<>(timers.size() + counters.size());
+        timers.forEach((id, timer) -> snapshot.add(new MetricSnapshot(id.name, id.tagsAsMap(), MetricSnapshot.Type.TIMER,
+                timer.count.sum(), timer.totalNanos.sum() / NANOS_IN_MILLI, timer.maxNanos.get() / NANOS_IN_MILLI)));
+        counters.forEach((id, counter) -> snapshot.add(new MetricSnapshot(id.name, id.tagsAsMap(), MetricSnapshot.Type.COUNTER,
+                counter.count.sum(), 0, 0)));
+        snapshot.sort(Comparator.comparing(MetricSnapshot::getName).thenComparing(metric -> metric.getTags().toString()));
+        return snapshot;
+    }
+
+    /**
+     * Returns the current count of the given counter or timer.
+     *
+     * @param name name of the metric
+     * @param tags tags of the metric as key-value pairs
+     * @return count of increments of a counter or recorded events of a timer, {@code 0} if the metric doesn't exist
+     */
+    public long count(String name, String... tags) {
+        MetricId id = new MetricId(name, tags);
+        InMemoryCounter counter = counters.get(id);
+        if (counter != null) {
+            return counter.count.sum();
+        }
+        InMemoryTimer timer = timers.get(id);
+        return timer != null ? timer.count.sum() : 0;
+    }
+
+    /**
+     * Removes all metrics of this registry.
+     */
+    public void clear() {
+        timers.clear();
+        counters.clear();
+    }
+
+    @EqualsAndHashCode
+    private static final class MetricId {
+
+        private final String name;
+
+        private final List<String> tags;
+
+        private MetricId(String name, String... tags) {
+            if (tags.length % 2 != 0) {
+                throw new IllegalArgumentException("Tags of metric " + name + " should be key-value pairs, but are " +
+                        Arrays.toString(tags));
+            }
+            this.name = name;
+            this.tags = tags.length == 0 ? Collections.emptyList() : Arrays.asList(tags.clone());
+        }
+
+        private Map<String, String> tagsAsMap() {
+            Map<String, String> map = new LinkedHashMap<>();
+            for (int i = 0; i < tags.size(); i += 2) {
+                map.put(tags.get(i), tags.get(i + 1));
+            }
+            return map;
+        }
+    }
+
+    private static final class InMemoryTimer implements Timer {
+
+        private final LongAdder count = new LongAdder();
+
+        private final LongAdder totalNanos = new LongAdder();
+
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        @Override
+        public void record(long duration, TimeUnit unit) {
+            long nanos = unit.toNanos(duration);
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+    }
+
+    private static final class InMemoryCounter implements Counter {
+
+        private final LongAdder count = new LongAdder();
+
+        @Override
+        public void increment(long amount) {
+            count.add(amount);
+        }
+    }
+}
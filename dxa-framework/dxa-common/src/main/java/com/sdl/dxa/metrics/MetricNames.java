@@ -0,0 +1,79 @@
+package com.sdl.dxa.metrics;
+
+/**
+ * Names and tags of the metrics DXA reports to {@link MetricsRegistry}.
+ *
+ * @dxa.publicApi
+ */
+public final class MetricNames {
+
+    /**
+     * Timer of {@code PageController.handleGetPage}.
+     */
+    public static final String PAGE_REQUEST = "dxa.page.request";
+
+    /**
+     * Timer of a model fetch, tagged with {@link #TAG_SERVICE} ({@code modelservice} or {@code graphql})
+     * and {@link #TAG_ENDPOINT} ({@code page}, {@code page-content} or {@code entity}).
+     */
+    public static final String MODEL_FETCH = "dxa.model.fetch";
+
+    /**
+     * Timer of building a view model out of R2 data model, tagged with {@link #TAG_TYPE} ({@code page} or {@code entity}).
+     */
+    public static final String MODEL_BUILD = "dxa.model.build";
+
+    /**
+     * Timer of semantic mapping of an entity.
+     */
+    public static final String SEMANTIC_MAPPING = "dxa.semantic.mapping";
+
+    /**
+     * Counter of resolutions of TCM URI links, tagged with {@link #TAG_RESULT} ({@code resolved}, {@code unresolved}
+     * or {@code cached} for batch resolution hits).
+     */
+    public static final String LINK_RESOLUTION = "dxa.link.resolution";
+
+    /**
+     * Timer of rendering an include of a tag, tagged with {@link #TAG_TAG} ({@code entity} or {@code region}).
+     */
+    public static final String INCLUDE_RENDER = "dxa.include.render";
+
+    /**
+     * Counter of cache lookups and changes, tagged with {@link #TAG_CACHE} and {@link #TAG_RESULT}
+     * ({@code hit}, {@code miss}, {@code put} or {@code eviction}).
+     */
+    public static final String CACHE = "dxa.cache";
+
+    /**
+     * Counter of output cache variants per view, tagged with {@link #TAG_VIEW} and {@link #TAG_RESULT}: {@code new}
+     * when a new variant of a view is cached, {@code overflow} when the output is not cached because the view
+     * already has the maximum number of variants.
+     */
+    public static final String OUTPUT_CACHE_VARIANT = "dxa.cache.output.variant";
+
+    /**
+     * Counter of static content requests, tagged with {@link #TAG_SOURCE}: {@code disk} if served from disk according
+     * to the local binary meta index, {@code broker} if the broker was asked for the binary metadata.
+     */
+    public static final String STATIC_CONTENT = "dxa.static.content";
+
+    public static final String TAG_SERVICE = "service";
+
+    public static final String TAG_ENDPOINT = "endpoint";
+
+    public static final String TAG_TYPE = "type";
+
+    public static final String TAG_RESULT = "result";
+
+    public static final String TAG_TAG = "tag";
+
+    public static final String TAG_CACHE = "cache";
+
+    public static final String TAG_SOURCE = "source";
+
+    public static final String TAG_VIEW = "view";
+
+    private MetricNames() {
+    }
+}
@@ -0,0 +1,50 @@
+package com.sdl.dxa.metrics;
+
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * Point-in-time value of a single timer or counter.
+ *
+ * @dxa.publicApi
+ */
+@Value
+public class MetricSnapshot {
+
+    /**
+     * Name of the metric.
+     */
+    private String name;
+
+    /**
+     * Tags of the metric, in the order they were given.
+     */
+    private Map<String, String> tags;
+
+    private Type type;
+
+    /**
+     * Number of increments for a counter, number of recorded events for a timer.
+     */
+    private long count;
+
+    /**
+     * Total time of all recorded events in milliseconds, always {@code 0} for a counter.
+     */
+    private double totalTimeMillis;
+
+    /**
+     * Longest recorded event in milliseconds, always {@code 0} for a counter.
+     */
+    private double maxTimeMillis;
+
+    /**
+     * Type of the metric.
+     *
+     * @dxa.publicApi
+     */
+    public enum Type {
+        COUNTER, TIMER
+    }
+}
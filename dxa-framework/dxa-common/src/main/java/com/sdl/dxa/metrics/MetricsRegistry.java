@@ -0,0 +1,45 @@
+package com.sdl.dxa.metrics;
+
+import java.util.List;
+
+/**
+ * Registry of timers and counters DXA reports its request pipeline to. Metrics are identified by a name and a set
+ * of tags, so that the same metric can be split, for instance, per cache or per endpoint.
+ * <p>DXA uses {@link NoOpMetricsRegistry} unless metrics are enabled with {@code dxa.metrics.enabled}, in which case
+ * {@link InMemoryMetricsRegistry} is used. A custom registry, e.g. bridging to a monitoring system, may be provided
+ * as a {@code @Primary} bean.</p>
+ * <p>Implementations must be thread-safe, and timers and counters returned by them must be cheap to use, as they are
+ * called on every request.</p>
+ *
+ * @dxa.publicApi
+ * @see MetricNames
+ */
+public interface MetricsRegistry {
+
+    /**
+     * Returns a timer with the given name and tags, creating it if needed.
+     *
+     * @param name name of the timer
+     * @param tags tags of the timer as key-value pairs: {@code "key1", "value1", "key2", "value2"}
+     * @return timer, never {@code null}
+     * @throws IllegalArgumentException if tags are not given as key-value pairs
+     */
+    Timer timer(String name, String... tags);
+
+    /**
+     * Returns a counter with the given name and tags, creating it if needed.
+     *
+     * @param name name of the counter
+     * @param tags tags of the counter as key-value pairs: {@code "key1", "value1", "key2", "value2"}
+     * @return counter, never {@code null}
+     * @throws IllegalArgumentException if tags are not given as key-value pairs
+     */
+    Counter counter(String name, String... tags);
+
+    /**
+     * Returns the current values of all metrics of this registry sorted by name.
+     *
+     * @return snapshot of all metrics, empty if the registry doesn't keep values
+     */
+    List<MetricSnapshot> snapshot();
+}
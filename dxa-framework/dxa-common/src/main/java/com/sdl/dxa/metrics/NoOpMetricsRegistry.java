@@ -0,0 +1,53 @@
+package com.sdl.dxa.metrics;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registry that discards all metrics. This is the default registry of DXA.
+ *
+ * @dxa.publicApi
+ */
+public final class NoOpMetricsRegistry implements MetricsRegistry {
+
+    public static final NoOpMetricsRegistry INSTANCE = new NoOpMetricsRegistry();
+
+    private static final Counter COUNTER = amount -> {
+    };
+
+    private NoOpMetricsRegistry() {
+    }
+
+    @Override
+    public Timer timer(String name, String... tags) {
+        return NoOpTimer.INSTANCE;
+    }
+
+    @Override
+    public Counter counter(String name, String... tags) {
+        return COUNTER;
+    }
+
+    @Override
+    public List<MetricSnapshot> snapshot() {
+        return Collections.emptyList();
+    }
+
+    private static final class NoOpTimer implements Timer {
+
+        private static final NoOpTimer INSTANCE = new NoOpTimer();
+
+        private static final Sample SAMPLE = () -> 0;
+
+        @Override
+        public void record(long duration, TimeUnit unit) {
+        }
+
+        @Override
+        public Sample start() {
+            // doesn't even read the clock
+            return SAMPLE;
+        }
+    }
+}
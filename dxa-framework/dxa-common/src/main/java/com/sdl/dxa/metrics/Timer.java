@@ -0,0 +1,59 @@
+package com.sdl.dxa.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timer of events that records how many times they happened and how long they took.
+ * <p>Typical usage:</p>
+ * <pre><code>
+ * Timer.Sample sample = timer.start();
+ * try {
+ *     ...
+ * } finally {
+ *     sample.stop();
+ * }
+ * </code></pre>
+ *
+ * @dxa.publicApi
+ */
+@FunctionalInterface
+public interface Timer {
+
+    /**
+     * Records a single event of the given duration.
+     *
+     * @param duration duration of the event
+     * @param unit     time unit of the duration
+     */
+    void record(long duration, TimeUnit unit);
+
+    /**
+     * Starts timing an event that is recorded once the returned sample is stopped.
+     *
+     * @return started sample
+     */
+    default Sample start() {
+        long start = System.nanoTime();
+        return () -> {
+            long duration = System.nanoTime() - start;
+            record(duration, TimeUnit.NANOSECONDS);
+            return duration;
+        };
+    }
+
+    /**
+     * Event being timed.
+     *
+     * @dxa.publicApi
+     */
+    @FunctionalInterface
+    interface Sample {
+
+        /**
+         * Stops the sample and records it in the timer it was started by.
+         *
+         * @return duration of the sample in nanoseconds
+         */
+        long stop();
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains a pluggable registry of timers and counters DXA reports its request pipeline stages to.
+ */
+package com.sdl.dxa.metrics;
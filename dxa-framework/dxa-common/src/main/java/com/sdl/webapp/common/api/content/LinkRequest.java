@@ -0,0 +1,28 @@
+package com.sdl.webapp.common.api.content;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Single link to resolve in a batch with {@link LinkResolver#resolveLinks(java.util.Collection)}.
+ * Holds the same parameters as {@link LinkResolver#resolveLink(String, String, boolean)}.
+ *
+ * @dxa.publicApi
+ */
+@Value
+@AllArgsConstructor(staticName = "of")
+public class LinkRequest {
+
+    @Nullable
+    private String url;
+
+    @Nullable
+    private String localizationId;
+
+    private boolean resolveToBinary;
+
+    public static LinkRequest of(@Nullable String url, @Nullable String localizationId) {
+        return of(url, localizationId, false);
+    }
+}
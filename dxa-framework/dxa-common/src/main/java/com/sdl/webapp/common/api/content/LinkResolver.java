@@ -3,6 +3,10 @@ package com.sdl.webapp.common.api.content;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Link resolver that resolves links to components.
  *
@@ -37,4 +41,21 @@ public interface LinkResolver {
     default String resolveLink(@Nullable String url, @Nullable String localizationId) {
         return resolveLink(url, localizationId, false);
     }
+
+    /**
+     * Resolves a batch of links. Implementations are expected to resolve them with as few remote calls as possible.
+     * By default resolves the links one by one with {@link #resolveLink(String, String, boolean)}.
+     *
+     * @param linkRequests links to resolve
+     * @return map of requested links to the translated URLs, contains all distinct requests in the iteration order
+     */
+    default Map<LinkRequest, String> resolveLinks(Collection<LinkRequest> linkRequests) {
+        Map<LinkRequest, String> resolved = new LinkedHashMap<>();
+        for (LinkRequest linkRequest : linkRequests) {
+            if (!resolved.containsKey(linkRequest)) {
+                resolved.put(linkRequest, resolveLink(linkRequest.getUrl(), linkRequest.getLocalizationId(), linkRequest.isResolveToBinary()));
+            }
+        }
+        return resolved;
+    }
 }
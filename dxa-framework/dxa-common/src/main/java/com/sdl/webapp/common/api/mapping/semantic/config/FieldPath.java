@@ -1,5 +1,6 @@
 package com.sdl.webapp.common.api.mapping.semantic.config;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -10,8 +11,8 @@ import org.jetbrains.annotations.Nullable;
 import static com.google.common.base.Strings.isNullOrEmpty;
 
 @Getter
-@ToString
-@EqualsAndHashCode
+@ToString(exclude = {"heads", "xPath"})
+@EqualsAndHashCode(exclude = {"heads", "xPath"})
 @Slf4j
 public final class FieldPath implements WithXPath {
 
@@ -19,6 +20,18 @@ public final class FieldPath implements WithXPath {
 
     private final FieldPath tail;
 
+    /**
+     * Heads of this path and of all its tails, so that a field can be looked up at any depth without walking the tails.
+     */
+    @Getter(AccessLevel.NONE)
+    private final String[] heads;
+
+    /**
+     * XPath of this path without context, built on the first request.
+     */
+    @Getter(AccessLevel.NONE)
+    private String xPath;
+
     public FieldPath(String path) {
         if (path.startsWith("/")) {
             path = path.substring(1);
@@ -28,12 +41,36 @@ public final class FieldPath implements WithXPath {
         if (i < 0) {
             this.head = path;
             this.tail = null;
+            this.heads = new String[]{path};
         } else {
             this.head = path.substring(0, i);
             this.tail = new FieldPath(path.substring(i));
+            this.heads = new String[tail.heads.length + 1];
+            this.heads[0] = head;
+            System.arraycopy(tail.heads, 0, this.heads, 1, tail.heads.length);
         }
     }
 
+    /**
+     * Returns the number of segments in this path, which is one for a path without tail.
+     *
+     * @return number of segments
+     */
+    public int getLength() {
+        return heads.length;
+    }
+
+    /**
+     * Returns the head of the tail at the given depth, so {@code getHead(0)} is the same as {@link #getHead()}.
+     *
+     * @param depth depth of the segment
+     * @return head of the segment
+     * @throws IndexOutOfBoundsException if the path has no segment at the given depth
+     */
+    public String getHead(int depth) {
+        return heads[depth];
+    }
+
     public boolean hasTail() {
         return tail != null;
     }
@@ -45,29 +82,33 @@ public final class FieldPath implements WithXPath {
     @Override
     @NotNull
     public String getXPath(@Nullable String contextXPath) {
-        FieldPath pathCopy = this;
-
-        StringBuilder builder = new StringBuilder(pathCopy.isMetadata() ? "tcm:Metadata" : "tcm:Content");
+        String xPath = getXPathWithoutContext();
+        if (isNullOrEmpty(contextXPath)) {
+            return xPath;
+        }
 
-        while (true) {
-            builder.append("/custom:").append(pathCopy.getHead());
-            if (!pathCopy.hasTail()) {
-                break;
-            }
-            pathCopy = pathCopy.getTail();
+        int predicate = contextXPath.indexOf('[');
+        String contextPathWithoutPredicate = predicate < 0 ? contextXPath : contextXPath.substring(0, predicate);
+        if (xPath.startsWith(contextPathWithoutPredicate)) {
+            return contextXPath + xPath.substring(contextPathWithoutPredicate.length());
         }
 
-        String xPath = builder.toString();
-        String contextPathWithoutPredicate = null;
-        if (!isNullOrEmpty(contextXPath)) {
-            contextPathWithoutPredicate = contextXPath.split("\\[")[0];
+        // This should not happen, but if it happens, we just stick with the original XPath.
+        log.warn("Semantic field's XPath ('{}}') does not match context XPath '{}'.", xPath, contextXPath);
+        return xPath.replaceFirst(contextPathWithoutPredicate, contextXPath);
+    }
 
-            if (!xPath.startsWith(contextPathWithoutPredicate)) {
-                // This should not happen, but if it happens, we just stick with the original XPath.
-                log.warn("Semantic field's XPath ('{}}') does not match context XPath '{}'.", xPath, contextXPath);
+    private String getXPathWithoutContext() {
+        // racy single-check is fine here, strings are immutable and building the XPath twice is harmless
+        String result = xPath;
+        if (result == null) {
+            StringBuilder builder = new StringBuilder(isMetadata() ? "tcm:Metadata" : "tcm:Content");
+            for (String segment : heads) {
+                builder.append("/custom:").append(segment);
             }
+            result = builder.toString();
+            xPath = result;
         }
-
-        return contextPathWithoutPredicate == null ? xPath : xPath.replaceFirst(contextPathWithoutPredicate, contextXPath);
+        return result;
     }
 }
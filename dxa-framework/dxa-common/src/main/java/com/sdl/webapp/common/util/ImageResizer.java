@@ -0,0 +1,112 @@
+package com.sdl.webapp.common.util;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sdl.webapp.common.api.content.ContentProviderException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Resizes images with {@link ImageUtils#resizeImage(byte[], ImageUtils.StaticContentPathInfo)} on a bounded pool
+ * of threads, so that a burst of requests for new image sizes doesn't take all CPUs of the node.
+ * <p>Memory used for resizing is bounded too: every resize reserves the pixels it holds in memory from a pixel budget
+ * before it starts, and waits until other resizes free enough of it. An image larger than the whole budget waits until
+ * no other resize runs.</p>
+ *
+ * @dxa.publicApi
+ */
+@Slf4j
+public class ImageResizer {
+
+    private final ExecutorService executor;
+
+    private final Semaphore pixels;
+
+    private final int pixelBudget;
+
+    /**
+     * Creates an image resizer.
+     *
+     * @param threads     number of threads resizing images
+     * @param pixelBudget number of pixels that resizes may hold in memory at the same time
+     */
+    public ImageResizer(int threads, int pixelBudget) {
+        this.executor = Executors.newFixedThreadPool(Math.max(1, threads),
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("dxa-image-resizer-%d").build());
+        this.pixelBudget = Math.max(1, pixelBudget);
+        this.pixels = new Semaphore(this.pixelBudget, true);
+    }
+
+    /**
+     * Resizes the image as requested by the path, waiting until a thread and enough of the pixel budget are free.
+     *
+     * @param original content of the original image
+     * @param pathInfo path of the requested image, with the requested size
+     * @return content of the resized image, or the original if no resize is required
+     * @throws ContentProviderException if the image cannot be resized
+     */
+    public byte[] resize(byte[] original, ImageUtils.StaticContentPathInfo pathInfo) throws ContentProviderException {
+        // the header is read once, the resize itself uses the geometry read here
+        ImageUtils.Resize resize = ImageUtils.getResize(original, pathInfo);
+        long required = resize.getPixels();
+        if (required == 0) {
+            return original;
+        }
+
+        int reserved = (int) Math.min(required, pixelBudget);
+        try {
+            pixels.acquire(reserved);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ContentProviderException("Interrupted while waiting to resize image " + pathInfo.getFileName(), e);
+        }
+
+        Future<byte[]> resized;
+        try {
+            resized = executor.submit(() -> {
+                try {
+                    return ImageUtils.resizeImage(original, pathInfo, resize);
+                } finally {
+                    pixels.release(reserved);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pixels.release(reserved);
+            throw new ContentProviderException("Image resizer is shut down, cannot resize image " + pathInfo.getFileName(), e);
+        }
+        log.trace("Resizing image {} reserved {} pixels", pathInfo.getFileName(), reserved);
+
+        return _await(resized, pathInfo);
+    }
+
+    /**
+     * Stops the threads of this resizer, resizes waiting for a thread are cancelled.
+     */
+    public void shutdown() {
+        for (Runnable waiting : executor.shutdownNow()) {
+            ((Future<?>) waiting).cancel(false);
+        }
+    }
+
+    private static byte[] _await(Future<byte[]> resized, ImageUtils.StaticContentPathInfo pathInfo) throws ContentProviderException {
+        try {
+            return resized.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ContentProviderException("Interrupted while resizing image " + pathInfo.getFileName(), e);
+        } catch (CancellationException e) {
+            throw new ContentProviderException("Image resizer is shut down, cannot resize image " + pathInfo.getFileName(), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ContentProviderException) {
+                throw (ContentProviderException) e.getCause();
+            }
+            throw new ContentProviderException("Exception while resizing image " + pathInfo.getFileName(), e.getCause());
+        }
+    }
+}
@@ -6,6 +6,9 @@ import com.sdl.webapp.common.api.content.ContentProviderException;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 import java.awt.*;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
@@ -13,6 +16,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.util.Iterator;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -25,13 +29,155 @@ public final class ImageUtils {
     private ImageUtils() {
     }
 
+    /**
+     * Resizes the image as requested by the path.
+     * <p>Only the header is read to find out whether a resize is needed. Then only the needed area of the image is
+     * decoded, and if the image is much larger than the result, it is decoded with subsampling, i.e. reading
+     * only every n-th pixel, which saves both memory and time. The image is still decoded at least twice as large
+     * as the result, so it keeps the quality of bicubic scaling.</p>
+     *
+     * @param original content of the original image
+     * @param pathInfo path of the requested image, with the requested size
+     * @return content of the resized image, or the original if no resize is required
+     * @throws ContentProviderException if the image cannot be read or written
+     */
     public static byte[] resizeImage(byte[] original, StaticContentPathInfo pathInfo) throws ContentProviderException {
-        try {
-            final BufferedImage originalImage = ImageIO.read(new ByteArrayInputStream(original));
+        return _read(original, reader -> _resize(reader, original, pathInfo, new Resize(reader.getWidth(0), reader.getHeight(0), pathInfo)));
+    }
+
+    /**
+     * Resizes the image with the geometry already read from its header by {@link #getResize(byte[], StaticContentPathInfo)},
+     * so that the header is not read twice.
+     *
+     * @param original content of the original image
+     * @param pathInfo path of the requested image, with the requested size
+     * @param resize   geometry of the resize
+     * @return content of the resized image, or the original if no resize is required
+     * @throws ContentProviderException if the image cannot be read or written
+     */
+    static byte[] resizeImage(byte[] original, StaticContentPathInfo pathInfo, Resize resize) throws ContentProviderException {
+        if (!resize.isRequired()) {
+            return original;
+        }
+        return _read(original, reader -> _resize(reader, original, pathInfo, resize));
+    }
+
+    /**
+     * Returns how many pixels are held in memory while the image is resized as requested by the path, i.e. pixels of
+     * the decoded original image and of the resized image. Only the header of the image is read.
+     *
+     * @param original content of the original image
+     * @param pathInfo path of the requested image, with the requested size
+     * @return number of pixels, {@code 0} if no resize is required
+     * @throws ContentProviderException if the image cannot be read
+     */
+    public static long getResizePixels(byte[] original, StaticContentPathInfo pathInfo) throws ContentProviderException {
+        return getResize(original, pathInfo).getPixels();
+    }
+
+    /**
+     * Reads the geometry of the resize requested by the path from the header of the image.
+     *
+     * @param original content of the original image
+     * @param pathInfo path of the requested image, with the requested size
+     * @return geometry of the resize
+     * @throws ContentProviderException if the image cannot be read
+     */
+    static Resize getResize(byte[] original, StaticContentPathInfo pathInfo) throws ContentProviderException {
+        return _read(original, reader -> new Resize(reader.getWidth(0), reader.getHeight(0), pathInfo));
+    }
+
+    private static <T> T _read(byte[] original, ImageReading<T> reading) throws ContentProviderException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(original))) {
+            final ImageReader reader = _getImageReader(input);
+            try {
+                reader.setInput(input, true, true);
+                return reading.read(reader);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new ContentProviderException("Exception while processing image data", e);
+        }
+    }
+
+    private static byte[] _resize(ImageReader reader, byte[] original, StaticContentPathInfo pathInfo, Resize resize) throws IOException {
+        if (log.isDebugEnabled()) {
+            log.debug("Image: {}, cropX = {}, cropY = {}, sourceW = {}, sourceH = {}, targetW = {}, targetH = {}, subsampling = {}",
+                    pathInfo.getFileName(), resize.cropX, resize.cropY, resize.sourceW, resize.sourceH,
+                    resize.targetW, resize.targetH, resize.subsampling);
+        }
+
+        if (!resize.isRequired()) {
+            // No resize required
+            return original;
+        }
+
+        final ImageReadParam param = reader.getDefaultReadParam();
+        param.setSourceRegion(new Rectangle(resize.cropX, resize.cropY, resize.sourceW, resize.sourceH));
+        param.setSourceSubsampling(resize.subsampling, resize.subsampling, 0, 0);
+        final BufferedImage originalImage = reader.read(0, param);
+
+        final BufferedImage target = new BufferedImage(resize.targetW, resize.targetH, BufferedImage.TYPE_INT_RGB);
+
+        final Graphics2D graphics = target.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+
+        final AffineTransform transform = new AffineTransform();
+        transform.scale((double) resize.targetW / (double) originalImage.getWidth(),
+                (double) resize.targetH / (double) originalImage.getHeight());
+
+        graphics.drawRenderedImage(originalImage, transform);
+
+        graphics.dispose();
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(target, pathInfo.getImageFormatName(), out);
+        return out.toByteArray();
+    }
+
+    private static ImageReader _getImageReader(ImageInputStream input) throws ContentProviderException {
+        final Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+        if (readers == null || !readers.hasNext()) {
+            throw new ContentProviderException("Exception while processing image data, the image format is not supported");
+        }
+        return readers.next();
+    }
+
+    public static void writeToFile(File file, ImageUtils.StaticContentPathInfo pathInfo, byte[] content) throws ContentProviderException, IOException {
+        if (pathInfo.isImage() && pathInfo.isResized()) {
+            content = ImageUtils.resizeImage(content, pathInfo);
+        }
+
+        Files.write(content, file);
+    }
+
+    @FunctionalInterface
+    private interface ImageReading<T> {
+
+        T read(ImageReader reader) throws IOException;
+    }
 
-            int cropX = 0, cropY = 0;
-            int sourceW = originalImage.getWidth(), sourceH = originalImage.getHeight();
-            int targetW, targetH;
+    /**
+     * Area of the original image to scale and the size of the resized image.
+     */
+    static final class Resize {
+
+        private int cropX, cropY;
+
+        private int sourceW, sourceH;
+
+        private final int targetW, targetH;
+
+        private final int subsampling;
+
+        private final boolean required;
+
+        private Resize(int originalW, int originalH, StaticContentPathInfo pathInfo) {
+            sourceW = originalW;
+            sourceH = originalH;
 
             // Most complex case is if a height AND width is specified
             if (pathInfo.getWidth() > 0 && pathInfo.getHeight() > 0) {
@@ -70,45 +216,26 @@ public final class ImageUtils {
                 targetW = (int) (sourceW * ((float) targetH / (float) sourceH));
             }
 
-            if (log.isDebugEnabled()) {
-                log.debug("Image: {}, cropX = {}, cropY = {}, sourceW = {}, sourceH = {}, targetW = {}, targetH = {}",
-                        pathInfo.getFileName(), cropX, cropY, sourceW, sourceH, targetW, targetH);
-            }
-
-            if (targetW == sourceW && targetH == sourceH) {
-                // No resize required
-                return original;
-            }
-
-            final BufferedImage target = new BufferedImage(targetW, targetH, BufferedImage.TYPE_INT_RGB);
-
-            final Graphics2D graphics = target.createGraphics();
-            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
-            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-
-            final AffineTransform transform = new AffineTransform();
-            transform.scale((double) targetW / (double) sourceW, (double) targetH / (double) sourceH);
-            transform.translate(-cropX, -cropY);
-
-            graphics.drawRenderedImage(originalImage, transform);
-
-            graphics.dispose();
-
-            final ByteArrayOutputStream out = new ByteArrayOutputStream();
-            ImageIO.write(target, pathInfo.getImageFormatName(), out);
-            return out.toByteArray();
-        } catch (IOException e) {
-            throw new ContentProviderException("Exception while processing image data", e);
+            required = targetW != sourceW || targetH != sourceH;
+            // decoded image stays at least twice as large as the target, so bicubic scaling has enough pixels
+            subsampling = Math.max(1, Math.min(sourceW / Math.max(1, 2 * targetW), sourceH / Math.max(1, 2 * targetH)));
         }
-    }
 
-    public static void writeToFile(File file, ImageUtils.StaticContentPathInfo pathInfo, byte[] content) throws ContentProviderException, IOException {
-        if (pathInfo.isImage() && pathInfo.isResized()) {
-            content = ImageUtils.resizeImage(content, pathInfo);
+        boolean isRequired() {
+            return required;
         }
 
-        Files.write(content, file);
+        /**
+         * Returns the pixels of the decoded original image and of the resized image.
+         */
+        long getPixels() {
+            if (!required) {
+                return 0;
+            }
+            long decodedW = (sourceW + subsampling - 1) / subsampling;
+            long decodedH = (sourceH + subsampling - 1) / subsampling;
+            return decodedW * decodedH + (long) targetW * targetH;
+        }
     }
 
     public static final class StaticContentPathInfo {
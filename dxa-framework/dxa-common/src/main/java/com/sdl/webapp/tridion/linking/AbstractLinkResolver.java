@@ -2,19 +2,37 @@ package com.sdl.webapp.tridion.linking;
 
 import com.google.common.base.Strings;
 import com.sdl.dxa.common.util.PathUtils;
+import com.sdl.dxa.metrics.MetricsRegistry;
+import com.sdl.dxa.metrics.NoOpMetricsRegistry;
+import com.sdl.webapp.common.api.content.LinkRequest;
 import com.sdl.webapp.common.api.content.LinkResolver;
 import com.sdl.webapp.common.util.TcmUtils;
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
+import static com.sdl.dxa.metrics.MetricNames.LINK_RESOLUTION;
+import static com.sdl.dxa.metrics.MetricNames.TAG_RESULT;
+
 @Slf4j
 public abstract class AbstractLinkResolver implements LinkResolver {
 
@@ -36,14 +54,120 @@ public abstract class AbstractLinkResolver implements LinkResolver {
     @Value("${dxa.web.link-resolver.strip-index-path:#{true}}")
     private boolean shouldStripIndexPath;
 
+    private CacheManager cacheManager;
+
+    private MetricsRegistry metricsRegistry = NoOpMetricsRegistry.INSTANCE;
+
+    @Autowired(required = false)
+    public void setCacheManager(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Autowired(required = false)
+    public void setMetricsRegistry(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
     @Override
     @Cacheable(value = "defaultCache", key = "{ #root.methodName,  #url, #localizationId, #resolveToBinary }")
     public String resolveLink(@Nullable String url, @Nullable String localizationId, boolean resolveToBinary) {
-        final int publicationId = !Strings.isNullOrEmpty(localizationId) ? Integer.parseInt(localizationId) : 0;
+        return _postProcess(_resolveLink(url, _getPublicationId(localizationId), resolveToBinary));
+    }
 
-        String resolvedLink = _resolveLink(url, publicationId, resolveToBinary);
-        String resolvedUrl = shouldStripIndexPath ? PathUtils.stripIndexPath(resolvedLink) : resolvedLink;
-        return shouldRemoveExtension ? PathUtils.stripDefaultExtension(resolvedUrl) : resolvedUrl;
+    /**
+     * {@inheritDoc}
+     * <p>Links already resolved with {@link #resolveLink(String, String, boolean)} are taken from {@code defaultCache},
+     * the rest is resolved with a single {@link #_resolveBatch(Collection)} call plus one more call for binary links
+     * that need to fall back to component links. Results are put into {@code defaultCache} so that later single
+     * link resolution hits the cache.</p>
+     */
+    @Override
+    public Map<LinkRequest, String> resolveLinks(Collection<LinkRequest> linkRequests) {
+        Cache cache = cacheManager != null ? cacheManager.getCache("defaultCache") : null;
+        Map<LinkRequest, String> resolved = new LinkedHashMap<>();
+        Map<BatchedLink, List<LinkRequest>> toResolve = new LinkedHashMap<>();
+
+        for (LinkRequest linkRequest : linkRequests) {
+            if (resolved.containsKey(linkRequest)) {
+                continue;
+            }
+
+            String url = linkRequest.getUrl();
+            if (url == null || !TcmUtils.isTcmUri(url)) {
+                resolved.put(linkRequest, _postProcess(url));
+                continue;
+            }
+
+            Cache.ValueWrapper cached = cache != null ? cache.get(_getCacheKey(linkRequest)) : null;
+            if (cached != null) {
+                _countResolution("cached");
+                resolved.put(linkRequest, (String) cached.get());
+                continue;
+            }
+
+            LinkType linkType = _getLinkType(url, linkRequest.isResolveToBinary());
+            if (linkType == null) {
+                log.warn("Could not resolve link: {}", url);
+                _countResolution("unresolved");
+                resolved.put(linkRequest, _postProcess(""));
+                continue;
+            }
+
+            // keep the position in the result, value is set after the batch is resolved
+            resolved.put(linkRequest, null);
+            BatchedLink batchedLink = BatchedLink.of(linkType, _getResolvingData(url, _getPublicationId(linkRequest.getLocalizationId())));
+            toResolve.computeIfAbsent(batchedLink, link -> new ArrayList<>()).add(linkRequest);
+        }
+
+        if (!toResolve.isEmpty()) {
+            log.debug("Resolving {} links in a batch", toResolve.size());
+            Map<BatchedLink, String> results = _resolveBatchWithFallback(toResolve.keySet());
+            toResolve.forEach((batchedLink, requests) -> {
+                String url = _postProcess(results.getOrDefault(batchedLink, ""));
+                metricsRegistry.counter(LINK_RESOLUTION, TAG_RESULT, results.containsKey(batchedLink) ? "resolved" : "unresolved")
+                        .increment(requests.size());
+                for (LinkRequest request : requests) {
+                    resolved.put(request, url);
+                    if (cache != null) {
+                        cache.put(_getCacheKey(request), url);
+                    }
+                }
+            });
+        }
+        return resolved;
+    }
+
+    /**
+     * Resolves a batch of links. Only resolved links are expected in the result.
+     * Default implementation resolves links one by one, implementations are encouraged to override it
+     * and resolve the batch with fewer remote calls.
+     *
+     * @param links links to resolve
+     * @return map of the resolved links to their URLs, never contains {@code null} values
+     */
+    protected Map<BatchedLink, String> _resolveBatch(Collection<BatchedLink> links) {
+        Map<BatchedLink, String> resolved = new HashMap<>();
+        for (BatchedLink link : links) {
+            _getResolver(link.getType()).apply(link.getData()).ifPresent(url -> resolved.put(link, url));
+        }
+        return resolved;
+    }
+
+    private Map<BatchedLink, String> _resolveBatchWithFallback(Collection<BatchedLink> links) {
+        Map<BatchedLink, String> resolved = new HashMap<>(_resolveBatch(links));
+
+        List<BatchedLink> fallbacks = new ArrayList<>();
+        for (BatchedLink link : links) {
+            if (link.getType() == LinkType.BINARY && !resolved.containsKey(link)) {
+                fallbacks.add(BatchedLink.of(LinkType.COMPONENT, link.getData()));
+            }
+        }
+
+        if (!fallbacks.isEmpty()) {
+            Map<BatchedLink, String> resolvedFallbacks = _resolveBatch(fallbacks);
+            resolvedFallbacks.forEach((link, url) -> resolved.put(BatchedLink.of(LinkType.BINARY, link.getData()), url));
+        }
+        return resolved;
     }
 
     @Contract("null, _, _ -> null; !null, _, _ -> !null")
@@ -52,24 +176,69 @@ public abstract class AbstractLinkResolver implements LinkResolver {
             return uri;
         }
 
-        Function<ResolvingData, Optional<String>> resolver;
+        LinkType linkType = _getLinkType(uri, isBinary);
+        if (linkType == null) {
+            log.warn("Could not resolve link: {}", uri);
+            _countResolution("unresolved");
+            return "";
+        }
+
+        Function<ResolvingData, Optional<String>> resolver = linkType == LinkType.BINARY ?
+                _componentBinaryResolver() : _getResolver(linkType);
+
+        Optional<String> resolved = resolver.apply(_getResolvingData(uri, publicationId));
+        _countResolution(resolved.isPresent() ? "resolved" : "unresolved");
+        return resolved.orElse("");
+    }
+
+    private void _countResolution(String result) {
+        metricsRegistry.counter(LINK_RESOLUTION, TAG_RESULT, result).increment();
+    }
+
+    @Contract("null -> null; !null -> !null")
+    private String _postProcess(String resolvedLink) {
+        String resolvedUrl = shouldStripIndexPath ? PathUtils.stripIndexPath(resolvedLink) : resolvedLink;
+        return shouldRemoveExtension ? PathUtils.stripDefaultExtension(resolvedUrl) : resolvedUrl;
+    }
+
+    private static int _getPublicationId(@Nullable String localizationId) {
+        return !Strings.isNullOrEmpty(localizationId) ? Integer.parseInt(localizationId) : 0;
+    }
+
+    @Nullable
+    private static LinkType _getLinkType(String uri, boolean isBinary) {
         switch (TcmUtils.getItemType(uri)) {
             case TcmUtils.COMPONENT_ITEM_TYPE:
-                resolver = isBinary ? _componentBinaryResolver() : _componentResolver();
-                break;
+                return isBinary ? LinkType.BINARY : LinkType.COMPONENT;
             case TcmUtils.PAGE_ITEM_TYPE:
-                resolver = _pageResolver();
-                break;
+                return LinkType.PAGE;
             default:
-                log.warn("Could not resolve link: {}", uri);
-                return "";
+                return null;
         }
+    }
 
-        ResolvingData resolvingData = ResolvingData.of(
+    private static ResolvingData _getResolvingData(String uri, int publicationId) {
+        return ResolvingData.of(
                 publicationId == 0 ? TcmUtils.getPublicationId(uri) : publicationId,
                 TcmUtils.getItemId(uri), uri);
+    }
+
+    /**
+     * Same key as {@link #resolveLink(String, String, boolean)} uses in {@code defaultCache}.
+     */
+    private static Object _getCacheKey(LinkRequest linkRequest) {
+        return Arrays.asList("resolveLink", linkRequest.getUrl(), linkRequest.getLocalizationId(), linkRequest.isResolveToBinary());
+    }
 
-        return resolver.apply(resolvingData).orElse("");
+    private Function<ResolvingData, Optional<String>> _getResolver(LinkType linkType) {
+        switch (linkType) {
+            case PAGE:
+                return _pageResolver();
+            case BINARY:
+                return _binaryResolver();
+            default:
+                return _componentResolver();
+        }
     }
 
     private Function<ResolvingData, Optional<String>> _componentBinaryResolver() {
@@ -85,8 +254,14 @@ public abstract class AbstractLinkResolver implements LinkResolver {
 
     protected abstract Function<ResolvingData, Optional<String>> _binaryResolver();
 
+    protected enum LinkType {
+        COMPONENT, PAGE, BINARY
+    }
+
     @AllArgsConstructor(staticName = "of")
     @Getter
+    @EqualsAndHashCode
+    @ToString
     protected static class ResolvingData {
 
         private int publicationId;
@@ -95,4 +270,15 @@ public abstract class AbstractLinkResolver implements LinkResolver {
 
         private String uri;
     }
+
+    @AllArgsConstructor(staticName = "of")
+    @Getter
+    @EqualsAndHashCode
+    @ToString
+    protected static class BatchedLink {
+
+        private LinkType type;
+
+        private ResolvingData data;
+    }
 }
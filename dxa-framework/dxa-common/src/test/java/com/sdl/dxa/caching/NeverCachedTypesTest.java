@@ -0,0 +1,45 @@
+package com.sdl.dxa.caching;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class NeverCachedTypesTest {
+
+    @Test
+    public void shouldDetectAnnotatedType() {
+        //when
+        boolean neverCached = NeverCachedTypes.isNeverCached(Annotated.class);
+
+        //then
+        assertTrue(neverCached);
+    }
+
+    @Test
+    public void shouldDetectInheritedAnnotation() {
+        //when
+        boolean neverCached = NeverCachedTypes.isNeverCached(Inheriting.class);
+
+        //then
+        assertTrue(neverCached);
+    }
+
+    @Test
+    public void shouldNotDetectNotAnnotatedType() {
+        //when
+        boolean neverCached = NeverCachedTypes.isNeverCached(String.class);
+
+        //then
+        assertFalse(neverCached);
+    }
+
+    @NeverCached(qualifier = "test")
+    private static class Annotated {
+
+    }
+
+    private static class Inheriting extends Annotated {
+
+    }
+}
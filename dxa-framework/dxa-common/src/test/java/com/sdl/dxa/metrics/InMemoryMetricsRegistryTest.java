@@ -0,0 +1,130 @@
+package com.sdl.dxa.metrics;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class InMemoryMetricsRegistryTest {
+
+    private final InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+    @Test
+    public void shouldReturnSameCounter_ForSameNameAndTags() {
+        //when
+        Counter counter = registry.counter("dxa.cache", "cache", "pages", "result", "hit");
+
+        //then
+        assertSame(counter, registry.counter("dxa.cache", "cache", "pages", "result", "hit"));
+    }
+
+    @Test
+    public void shouldCountSeparately_ForDifferentTags() {
+        //when
+        registry.counter("dxa.cache", "cache", "pages", "result", "hit").increment();
+        registry.counter("dxa.cache", "cache", "pages", "result", "hit").increment();
+        registry.counter("dxa.cache", "cache", "pages", "result", "miss").increment(3);
+
+        //then
+        assertEquals(2, registry.count("dxa.cache", "cache", "pages", "result", "hit"));
+        assertEquals(3, registry.count("dxa.cache", "cache", "pages", "result", "miss"));
+        assertEquals(0, registry.count("dxa.cache", "cache", "entities", "result", "hit"));
+    }
+
+    @Test
+    public void shouldRecordTimerCountTotalAndMax() {
+        //given
+        Timer timer = registry.timer("dxa.model.build", "type", "page");
+
+        //when
+        timer.record(10, TimeUnit.MILLISECONDS);
+        timer.record(30, TimeUnit.MILLISECONDS);
+
+        //then
+        List<MetricSnapshot> snapshot = registry.snapshot();
+        assertEquals(1, snapshot.size());
+        MetricSnapshot metric = snapshot.get(0);
+        assertEquals("dxa.model.build", metric.getName());
+        assertEquals(ImmutableMap.of("type", "page"), metric.getTags());
+        assertEquals(MetricSnapshot.Type.TIMER, metric.getType());
+        assertEquals(2, metric.getCount());
+        assertEquals(40.0, metric.getTotalTimeMillis(), 0.001);
+        assertEquals(30.0, metric.getMaxTimeMillis(), 0.001);
+    }
+
+    @Test
+    public void shouldRecordSample_WhenStopped() {
+        //given
+        Timer timer = registry.timer("dxa.page.request");
+
+        //when
+        Timer.Sample sample = timer.start();
+        long duration = sample.stop();
+
+        //then
+        assertEquals(1, registry.count("dxa.page.request"));
+        assertTrue(duration >= 0);
+    }
+
+    @Test
+    public void shouldSortSnapshotByName() {
+        //given
+        registry.counter("dxa.static.content", "source", "disk").increment();
+        registry.timer("dxa.page.request").record(1, TimeUnit.MILLISECONDS);
+        registry.counter("dxa.link.resolution", "result", "resolved").increment();
+
+        //when
+        List<MetricSnapshot> snapshot = registry.snapshot();
+
+        //then
+        assertEquals("dxa.link.resolution", snapshot.get(0).getName());
+        assertEquals("dxa.page.request", snapshot.get(1).getName());
+        assertEquals("dxa.static.content", snapshot.get(2).getName());
+    }
+
+    @Test
+    public void shouldNotLoseIncrements_ForConcurrentUpdates() throws InterruptedException {
+        //given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        //when
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    registry.counter("dxa.cache", "cache", "entities", "result", "hit").increment();
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        //then
+        assertEquals(8000, registry.count("dxa.cache", "cache", "entities", "result", "hit"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFail_IfTagsAreNotPairs() {
+        //when
+        registry.counter("dxa.cache", "cache");
+    }
+
+    @Test
+    public void shouldKeepNothing_InNoOpRegistry() {
+        //given
+        MetricsRegistry noOp = NoOpMetricsRegistry.INSTANCE;
+
+        //when
+        noOp.counter("dxa.cache").increment();
+        noOp.timer("dxa.page.request").start().stop();
+
+        //then
+        assertTrue(noOp.snapshot().isEmpty());
+    }
+}
@@ -33,4 +33,43 @@ public class FieldPathTest {
         assertTrue(metadata2.isMetadata());
         assertFalse(test.isMetadata());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldReturnHeadsAtAnyDepth() {
+        //given
+        FieldPath path = new FieldPath("/Article/articleBody/content");
+
+        //when
+        int length = path.getLength();
+
+        //then
+        assertEquals(3, length);
+        assertEquals("Article", path.getHead(0));
+        assertEquals("articleBody", path.getHead(1));
+        assertEquals("content", path.getHead(2));
+        assertEquals(2, path.getTail().getLength());
+        assertEquals("content", path.getTail().getHead(1));
+    }
+
+    @Test
+    public void shouldBuildXPathRespectingContext() {
+        //given
+        FieldPath path = new FieldPath("/Article/articleBody/content");
+        FieldPath metadata = new FieldPath("/Metadata/description");
+
+        //when
+        String noContext = path.getXPath(null);
+        String emptyContext = path.getXPath("");
+        String withContext = path.getXPath("tcm:Content/custom:Article/custom:articleBody[2]");
+        String sameAsContext = path.getXPath("tcm:Content/custom:Article/custom:articleBody/custom:content[3]");
+        String otherContext = path.getXPath("tcm:Content/custom:Other[1]");
+
+        //then
+        assertEquals("tcm:Content/custom:Article/custom:articleBody/custom:content", noContext);
+        assertEquals("tcm:Content/custom:Article/custom:articleBody/custom:content", emptyContext);
+        assertEquals("tcm:Content/custom:Article/custom:articleBody[2]/custom:content", withContext);
+        assertEquals("tcm:Content/custom:Article/custom:articleBody/custom:content[3]", sameAsContext);
+        assertEquals("tcm:Content/custom:Article/custom:articleBody/custom:content", otherContext);
+        assertEquals("tcm:Metadata/custom:Metadata/custom:description", metadata.getXPath(null));
+    }
+}
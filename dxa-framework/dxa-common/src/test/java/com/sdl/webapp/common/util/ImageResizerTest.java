@@ -0,0 +1,95 @@
+package com.sdl.webapp.common.util;
+
+import com.sdl.webapp.common.api.content.ContentProviderException;
+import org.junit.After;
+import org.junit.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.sdl.webapp.common.util.ImageUtilsTest.image;
+import static com.sdl.webapp.common.util.ImageUtilsTest.read;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class ImageResizerTest {
+
+    private static final int REQUESTS = 20;
+
+    private final ExecutorService requests = Executors.newFixedThreadPool(REQUESTS);
+
+    private ImageResizer resizer;
+
+    @After
+    public void shutdown() {
+        requests.shutdownNow();
+        if (resizer != null) {
+            resizer.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldResizeConcurrentRequests_WithinPixelBudget() throws Exception {
+        //given
+        resizer = new ImageResizer(2, 300_000);
+        byte[] original = image(800, 400, "png");
+
+        //when
+        List<Future<byte[]>> results = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            String path = "/image_w" + (100 + i) + ".png";
+            results.add(requests.submit(() -> resizer.resize(original, new ImageUtils.StaticContentPathInfo(path))));
+        }
+
+        //then
+        for (int i = 0; i < REQUESTS; i++) {
+            BufferedImage resized = read(results.get(i).get(10, TimeUnit.SECONDS));
+            assertEquals(100 + i, resized.getWidth());
+        }
+    }
+
+    @Test
+    public void shouldResizeImage_LargerThanPixelBudget() throws Exception {
+        //given
+        resizer = new ImageResizer(1, 1000);
+        byte[] original = image(800, 400, "png");
+
+        //when
+        BufferedImage resized = read(resizer.resize(original, new ImageUtils.StaticContentPathInfo("/image_w200.png")));
+
+        //then
+        assertEquals(200, resized.getWidth());
+        assertEquals(100, resized.getHeight());
+    }
+
+    @Test
+    public void shouldReturnOriginal_IfNoResizeRequired() throws Exception {
+        //given
+        resizer = new ImageResizer(1, 1000);
+        byte[] original = image(200, 100, "png");
+
+        //when
+        byte[] resized = resizer.resize(original, new ImageUtils.StaticContentPathInfo("/image_w200.png"));
+
+        //then
+        assertSame(original, resized);
+    }
+
+    @Test(expected = ContentProviderException.class)
+    public void shouldFail_IfShutDown() throws Exception {
+        //given
+        resizer = new ImageResizer(1, 1000);
+        resizer.shutdown();
+
+        //when
+        resizer.resize(image(800, 400, "png"), new ImageUtils.StaticContentPathInfo("/image_w200.png"));
+
+        //then
+        //exception
+    }
+}
@@ -0,0 +1,138 @@
+package com.sdl.webapp.common.util;
+
+import com.sdl.webapp.common.api.content.ContentProviderException;
+import org.junit.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ImageUtilsTest {
+
+    @Test
+    public void shouldResizeImage_ToRequestedWidth() throws Exception {
+        //given
+        byte[] original = image(1000, 500, "png");
+
+        //when
+        BufferedImage resized = read(ImageUtils.resizeImage(original, new ImageUtils.StaticContentPathInfo("/image_w100.png")));
+
+        //then
+        assertEquals(100, resized.getWidth());
+        assertEquals(50, resized.getHeight());
+    }
+
+    @Test
+    public void shouldCropImage_IfNoStretch() throws Exception {
+        //given
+        byte[] original = image(400, 200, "png");
+
+        //when
+        BufferedImage resized = read(ImageUtils.resizeImage(original, new ImageUtils.StaticContentPathInfo("/image_w100_h100_n.png")));
+
+        //then
+        assertEquals(100, resized.getWidth());
+        assertEquals(100, resized.getHeight());
+        // red and green sides are cropped, only the blue center is left
+        assertEquals(Color.BLUE.getRGB(), resized.getRGB(0, 50));
+        assertEquals(Color.BLUE.getRGB(), resized.getRGB(99, 50));
+    }
+
+    @Test
+    public void shouldDecodeLargeImage_WithSubsampling() throws Exception {
+        //given
+        byte[] original = image(4000, 2000, "jpg");
+        ImageUtils.StaticContentPathInfo pathInfo = new ImageUtils.StaticContentPathInfo("/image_w100.jpg");
+
+        //when
+        long pixels = ImageUtils.getResizePixels(original, pathInfo);
+        BufferedImage resized = read(ImageUtils.resizeImage(original, pathInfo));
+
+        //then
+        assertEquals(100, resized.getWidth());
+        assertEquals(50, resized.getHeight());
+        // every 20th pixel is decoded, so the decoded image is twice as large as the resized one
+        assertEquals(200 * 100 + 100 * 50, pixels);
+    }
+
+    @Test
+    public void shouldReturnOriginal_IfNoResizeRequired() throws Exception {
+        //given
+        byte[] original = image(100, 50, "png");
+        ImageUtils.StaticContentPathInfo pathInfo = new ImageUtils.StaticContentPathInfo("/image_w100_n.png");
+
+        //when
+        byte[] resized = ImageUtils.resizeImage(original, pathInfo);
+
+        //then
+        assertSame(original, resized);
+        assertEquals(0, ImageUtils.getResizePixels(original, pathInfo));
+    }
+
+    @Test
+    public void shouldResizeImage_WithPrecomputedResize() throws Exception {
+        //given
+        byte[] original = image(400, 200, "png");
+        ImageUtils.StaticContentPathInfo pathInfo = new ImageUtils.StaticContentPathInfo("/image_w100_h100_n.png");
+        ImageUtils.Resize resize = ImageUtils.getResize(original, pathInfo);
+
+        //when
+        BufferedImage resized = read(ImageUtils.resizeImage(original, pathInfo, resize));
+
+        //then
+        assertEquals(100, resized.getWidth());
+        assertEquals(100, resized.getHeight());
+        assertEquals(ImageUtils.getResizePixels(original, pathInfo), resize.getPixels());
+    }
+
+    @Test(expected = ContentProviderException.class)
+    public void shouldFail_IfNotImage() throws ContentProviderException {
+        //when
+        ImageUtils.resizeImage("not an image".getBytes(), new ImageUtils.StaticContentPathInfo("/image_w100.png"));
+
+        //then
+        //exception
+    }
+
+    @Test
+    public void shouldParseResizedImagePath() {
+        //when
+        ImageUtils.StaticContentPathInfo pathInfo = new ImageUtils.StaticContentPathInfo("/media/image_w200_h100_n.jpg");
+
+        //then
+        assertTrue(pathInfo.isImage());
+        assertTrue(pathInfo.isResized());
+        assertTrue(pathInfo.isNoStretch());
+        assertEquals("/media/image.jpg", pathInfo.getFileName());
+        assertEquals(200, pathInfo.getWidth());
+        assertEquals(100, pathInfo.getHeight());
+        assertEquals("jpg", pathInfo.getImageFormatName());
+    }
+
+    static byte[] image(int width, int height, String format) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, width / 4, height);
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(width / 4, 0, width / 2, height);
+        graphics.setColor(Color.GREEN);
+        graphics.fillRect(width * 3 / 4, 0, width / 4, height);
+        graphics.dispose();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+
+    static BufferedImage read(byte[] image) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(image));
+    }
+}
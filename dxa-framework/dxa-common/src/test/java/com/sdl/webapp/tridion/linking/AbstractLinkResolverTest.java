@@ -1,13 +1,19 @@
 package com.sdl.webapp.tridion.linking;
 
+import com.sdl.webapp.common.api.content.LinkRequest;
 import org.junit.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.annotation.Profile;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 public class AbstractLinkResolverTest {
 
@@ -93,6 +99,79 @@ public class AbstractLinkResolverTest {
         assertEquals("/index.html", indexHtml);
     }
 
+    @Test
+    public void shouldResolveLinksInOneBatch() {
+        //given
+        TestLinkResolver linkResolver = new TestLinkResolver();
+        LinkRequest component = LinkRequest.of("tcm:2-3", "2");
+        LinkRequest page = LinkRequest.of("tcm:2-4-64", "2");
+        LinkRequest binary = LinkRequest.of("tcm:2-5", "2", true);
+        LinkRequest notTcm = LinkRequest.of("/index.html", "2");
+
+        //when
+        Map<LinkRequest, String> links = linkResolver.resolveLinks(Arrays.asList(component, page, component, binary, notTcm));
+
+        //then
+        assertEquals(Arrays.asList(component, page, binary, notTcm), Arrays.asList(links.keySet().toArray()));
+        assertEquals("resolved-component-2", links.get(component));
+        assertEquals("resolved-page-2", links.get(page));
+        assertEquals("resolved-binary-2", links.get(binary));
+        assertEquals("/", links.get(notTcm));
+        assertEquals(1, linkResolver.batches);
+    }
+
+    @Test
+    public void shouldFallbackToComponentLinks_ForUnresolvedBinaries_InOneMoreBatch() {
+        //given
+        TestLinkResolver linkResolver = new TestLinkResolver();
+        linkResolver.resolveBinaries = false;
+        LinkRequest first = LinkRequest.of("tcm:2-3", "2", true);
+        LinkRequest second = LinkRequest.of("tcm:2-4", "2", true);
+
+        //when
+        Map<LinkRequest, String> links = linkResolver.resolveLinks(Arrays.asList(first, second));
+
+        //then
+        assertEquals("resolved-component-2", links.get(first));
+        assertEquals("resolved-component-2", links.get(second));
+        assertEquals(2, linkResolver.batches);
+    }
+
+    @Test
+    public void shouldShareDefaultCache_WithSingleLinkResolution() {
+        //given
+        TestLinkResolver linkResolver = new TestLinkResolver();
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("defaultCache");
+        linkResolver.setCacheManager(cacheManager);
+        cacheManager.getCache("defaultCache").put(Arrays.asList("resolveLink", "tcm:2-3", "2", false), "/from-cache");
+        LinkRequest cached = LinkRequest.of("tcm:2-3", "2");
+        LinkRequest notCached = LinkRequest.of("tcm:2-4-64", "2");
+
+        //when
+        Map<LinkRequest, String> links = linkResolver.resolveLinks(Arrays.asList(cached, notCached));
+
+        //then
+        assertEquals("/from-cache", links.get(cached));
+        assertEquals("resolved-page-2", links.get(notCached));
+        assertEquals("resolved-page-2", cacheManager.getCache("defaultCache")
+                .get(Arrays.asList("resolveLink", "tcm:2-4-64", "2", false)).get());
+        assertEquals(1, linkResolver.resolved);
+    }
+
+    @Test
+    public void shouldNotCallResolver_IfNothingToResolve() {
+        //given
+        TestLinkResolver linkResolver = new TestLinkResolver();
+
+        //when
+        Map<LinkRequest, String> links = linkResolver.resolveLinks(Arrays.asList(LinkRequest.of(null, "1"), LinkRequest.of("/page", "1")));
+
+        //then
+        assertNull(links.get(LinkRequest.of(null, "1")));
+        assertEquals("/page", links.get(LinkRequest.of("/page", "1")));
+        assertEquals(0, linkResolver.batches);
+    }
+
     @Profile("test")
     private static class TestLinkResolver extends AbstractLinkResolver {
 
@@ -105,9 +184,22 @@ public class AbstractLinkResolverTest {
         public TestLinkResolver(boolean shouldRemoveExtension, boolean shouldStripIndexPath) {
         }
 
+        private int batches;
+
+        private int resolved;
+
+        private boolean resolveBinaries = true;
+
+        @Override
+        protected Map<BatchedLink, String> _resolveBatch(Collection<BatchedLink> links) {
+            batches++;
+            resolved += links.size();
+            return super._resolveBatch(links);
+        }
+
         @Override
         protected Function<ResolvingData, Optional<String>> _binaryResolver() {
-            return resolvingData -> Optional.of("resolved-binary-" + resolvingData.getPublicationId());
+            return resolvingData -> resolveBinaries ? Optional.of("resolved-binary-" + resolvingData.getPublicationId()) : Optional.empty();
         }
 
         @Override
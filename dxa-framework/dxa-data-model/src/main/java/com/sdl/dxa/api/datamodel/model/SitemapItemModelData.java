@@ -9,6 +9,7 @@ import com.sdl.dxa.api.datamodel.json.Polymorphic;
 import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.Accessors;
@@ -16,17 +17,22 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.joda.time.DateTime;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
 @Data
-@ToString(exclude = "parent")
-@EqualsAndHashCode(exclude = "parent")
+@ToString(exclude = {"parent", "urlIndex"})
+@EqualsAndHashCode(exclude = {"parent", "urlIndex"})
 @Accessors(chain = true)
 @JsonTypeName
 @Polymorphic
 public class SitemapItemModelData implements Comparable<SitemapItemModelData> {
 
+    private static final String INDEX_PAGE_SUFFIX = "/index";
+
     @JsonProperty("Id")
     private String id;
 
@@ -56,6 +62,15 @@ public class SitemapItemModelData implements Comparable<SitemapItemModelData> {
     @JsonIgnore
     private SitemapItemModelData parent;
 
+    /**
+     * Index of items in the subtree by their normalized URL, built on the first {@link #findWithUrl(String)}
+     * and reset whenever the subtree changes.
+     */
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient volatile Map<String, SitemapItemModelData> urlIndex;
+
     /**
      * Adds an item to a collection of items and initializes it if needed.
      *
@@ -69,18 +84,26 @@ public class SitemapItemModelData implements Comparable<SitemapItemModelData> {
         }
         item.parent = this;
         this.items.add(item);
+        resetUrlIndex();
         return this;
     }
 
     public SitemapItemModelData setItems(SortedSet<SitemapItemModelData> items) {
         if (items == null) {
             this.items = null;
+            resetUrlIndex();
         } else {
             items.forEach(this::addItem);
         }
         return this;
     }
 
+    public SitemapItemModelData setUrl(String url) {
+        this.url = url;
+        resetUrlIndex();
+        return this;
+    }
+
     @Override
     public int compareTo(@NotNull SitemapItemModelData o) {
         ComparisonChain chain = ComparisonChain.start();
@@ -107,24 +130,78 @@ public class SitemapItemModelData implements Comparable<SitemapItemModelData> {
 
     /**
      * Finds a SitemapItemModelData with a given URL path in the Sitemap subtree rooted by this {@link SitemapItemModelData}.
+     * <p>URLs are compared without trailing slashes. If no item has exactly the given URL, an index page URL
+     * like {@code /path/index} and the URL of its folder {@code /path} are considered the same. If several items
+     * have the same URL, the first one in the tree order is returned.</p>
+     * <p>The lookup uses an index of the subtree built on the first call. The index is rebuilt after the subtree
+     * is changed through {@link #addItem(SitemapItemModelData)}, {@link #setItems(SortedSet)} or {@link #setUrl(String)}.</p>
      *
      * @param urlToFind The URL path to search for
      * @return a {@link SitemapItemModelData} with the given URL path or <code>null</code> if no such item is found
      */
     @Nullable
     public SitemapItemModelData findWithUrl(String urlToFind) {
-        if (getUrl() != null && urlToFind.matches(getUrl() + "/?")) {
-            return this;
+        if (urlToFind == null) {
+            return null;
+        }
+
+        Map<String, SitemapItemModelData> index = this.urlIndex;
+        if (index == null) {
+            index = buildUrlIndex();
+            this.urlIndex = index;
+        }
+
+        String url = normalizeUrl(urlToFind);
+        SitemapItemModelData item = index.get(url);
+        if (item == null && url.endsWith(INDEX_PAGE_SUFFIX)) {
+            item = index.get(stripIndexPage(url));
+        }
+        return item;
+    }
+
+    private Map<String, SitemapItemModelData> buildUrlIndex() {
+        Map<String, SitemapItemModelData> index = new HashMap<>();
+        Map<String, SitemapItemModelData> indexPages = new HashMap<>();
+        collectUrls(this, index, indexPages);
+
+        // folder URLs of index pages are only used if there is no item with such URL
+        indexPages.forEach(index::putIfAbsent);
+        return Collections.unmodifiableMap(index);
+    }
+
+    private static void collectUrls(SitemapItemModelData item, Map<String, SitemapItemModelData> index,
+                                    Map<String, SitemapItemModelData> indexPages) {
+        if (item.getUrl() != null) {
+            String url = normalizeUrl(item.getUrl());
+            index.putIfAbsent(url, item);
+            if (url.endsWith(INDEX_PAGE_SUFFIX)) {
+                indexPages.putIfAbsent(stripIndexPage(url), item);
+            }
         }
 
-        for (SitemapItemModelData item : getItems()) {
-            SitemapItemModelData withUrl = item.findWithUrl(urlToFind);
-            if (withUrl != null) {
-                return withUrl;
+        if (item.getItems() != null) {
+            for (SitemapItemModelData child : item.getItems()) {
+                collectUrls(child, index, indexPages);
             }
         }
+    }
+
+    private void resetUrlIndex() {
+        for (SitemapItemModelData item = this; item != null; item = item.parent) {
+            item.urlIndex = null;
+        }
+    }
+
+    private static String normalizeUrl(String url) {
+        int end = url.length();
+        while (end > 0 && url.charAt(end - 1) == '/') {
+            end--;
+        }
+        return url.substring(0, end);
+    }
 
-        return null;
+    private static String stripIndexPage(String url) {
+        return url.substring(0, url.length() - INDEX_PAGE_SUFFIX.length());
     }
 
 }
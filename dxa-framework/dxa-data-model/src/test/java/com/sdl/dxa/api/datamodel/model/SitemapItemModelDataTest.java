@@ -3,12 +3,18 @@ package com.sdl.dxa.api.datamodel.model;
 import com.google.common.collect.Lists;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 public class SitemapItemModelDataTest {
 
@@ -55,6 +61,122 @@ public class SitemapItemModelDataTest {
         assertNull(found);
     }
 
+    @Test
+    public void shouldFindItem_IgnoringTrailingSlashes() {
+        //given
+        SitemapItemModelData root = new SitemapItemModelData().setId("root").setUrl("/");
+        SitemapItemModelData folder = new SitemapItemModelData().setId("folder").setTitle("001 Folder").setUrl("/folder/");
+        root.addItem(folder);
+
+        //when
+        SitemapItemModelData found = root.findWithUrl("/folder");
+        SitemapItemModelData foundWithSlash = root.findWithUrl("/folder/");
+        SitemapItemModelData foundRoot = root.findWithUrl("/");
+
+        //then
+        assertSame(folder, found);
+        assertSame(folder, foundWithSlash);
+        assertSame(root, foundRoot);
+    }
+
+    @Test
+    public void shouldFindIndexPage_ByFolderUrl_OnlyIfNoItemHasFolderUrl() {
+        //given
+        SitemapItemModelData root = new SitemapItemModelData().setId("root").setUrl("/");
+        SitemapItemModelData folder = new SitemapItemModelData().setId("folder").setTitle("001 Folder").setUrl("/folder");
+        SitemapItemModelData folderIndex = new SitemapItemModelData().setId("folder-index").setTitle("001 Index").setUrl("/folder/index");
+        SitemapItemModelData other = new SitemapItemModelData().setId("other").setTitle("002 Other");
+        SitemapItemModelData otherIndex = new SitemapItemModelData().setId("other-index").setTitle("001 Index").setUrl("/other/index");
+        root.addItem(folder.addItem(folderIndex)).addItem(other.addItem(otherIndex));
+
+        //when
+        SitemapItemModelData foundFolder = root.findWithUrl("/folder");
+        SitemapItemModelData foundFolderIndex = root.findWithUrl("/folder/index");
+        SitemapItemModelData foundOtherIndex = root.findWithUrl("/other/");
+        SitemapItemModelData foundByIndexUrl = root.findWithUrl("/other/index");
+
+        //then
+        assertSame(folder, foundFolder);
+        assertSame(folderIndex, foundFolderIndex);
+        assertSame(otherIndex, foundOtherIndex);
+        assertSame(otherIndex, foundByIndexUrl);
+    }
+
+    @Test
+    public void shouldFindFolder_ByIndexPageUrl_IfIndexPageIsNotInTree() {
+        //given
+        SitemapItemModelData root = new SitemapItemModelData().setId("root").setUrl("/");
+        SitemapItemModelData folder = new SitemapItemModelData().setId("folder").setTitle("001 Folder").setUrl("/folder");
+        root.addItem(folder);
+
+        //when
+        SitemapItemModelData found = root.findWithUrl("/folder/index");
+
+        //then
+        assertSame(folder, found);
+    }
+
+    @Test
+    public void shouldFindFirstItemInTreeOrder_IfUrlIsNotUnique() {
+        //given
+        SitemapItemModelData root = new SitemapItemModelData().setId("root");
+        SitemapItemModelData first = new SitemapItemModelData().setId("1").setTitle("001 First");
+        SitemapItemModelData second = new SitemapItemModelData().setId("2").setTitle("002 Second").setUrl("/page");
+        SitemapItemModelData nested = new SitemapItemModelData().setId("3").setTitle("001 Nested").setUrl("/page");
+        root.addItem(second).addItem(first.addItem(nested));
+
+        //when
+        SitemapItemModelData found = root.findWithUrl("/page");
+
+        //then
+        assertSame(nested, found);
+    }
+
+    @Test
+    public void shouldFindItems_AddedAfterFirstLookup() {
+        //given
+        SitemapItemModelData root = new SitemapItemModelData().setId("root").setUrl("/");
+        SitemapItemModelData folder = new SitemapItemModelData().setId("folder").setTitle("001 Folder").setUrl("/folder");
+        root.addItem(folder);
+        assertNull(root.findWithUrl("/folder/page"));
+
+        //when
+        SitemapItemModelData page = new SitemapItemModelData().setId("page").setTitle("001 Page").setUrl("/folder/page");
+        folder.addItem(page);
+        folder.setUrl("/moved");
+
+        //then
+        assertSame(page, root.findWithUrl("/folder/page"));
+        assertSame(folder, root.findWithUrl("/moved"));
+        assertNull(root.findWithUrl("/folder"));
+    }
+
+    @Test
+    public void shouldFindItems_FromManyThreads() throws Exception {
+        //given
+        SitemapItemModelData root = new SitemapItemModelData().setId("root").setUrl("/");
+        for (int i = 0; i < 100; i++) {
+            root.addItem(new SitemapItemModelData().setId("id" + i).setTitle(String.format("%03d Page", i)).setUrl("/page" + i));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        //when
+        List<Future<SitemapItemModelData>> found = new ArrayList<>();
+        try {
+            for (int i = 0; i < 800; i++) {
+                String url = "/page" + (i % 100);
+                found.add(executor.submit(() -> root.findWithUrl(url)));
+            }
+
+            //then
+            for (int i = 0; i < found.size(); i++) {
+                assertEquals("id" + (i % 100), found.get(i).get().getId());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     public void shouldSetParent_ToAllChildren_InRightOrder() {
         //given 
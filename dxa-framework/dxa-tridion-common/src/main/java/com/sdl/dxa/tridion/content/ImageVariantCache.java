@@ -0,0 +1,138 @@
+package com.sdl.dxa.tridion.content;
+
+import com.sdl.webapp.common.util.ImageUtils;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Resized images (variants like {@code image_w200_h100_n.jpg}) kept in the local file system, in least recently used
+ * order, so that the least recently used ones can be deleted once all of them take more space than allowed.
+ * A deleted variant is resized again from its original binary when it is requested.
+ * <p>Variants left on disk by a previous run are found with {@link #scan(File)} and added as the least recently used
+ * ones with {@link #addLeastRecentlyUsed(List, long)}.</p>
+ */
+@Slf4j
+class ImageVariantCache {
+
+    private final LinkedHashMap<File, Variant> variants = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long size;
+
+    /**
+     * Marks the variant as the most recently used and returns the least recently used variants to delete
+     * so that all variants fit into the given size. The given variant itself is never returned.
+     *
+     * @param variant variant that has been written or served
+     * @param maxSize maximum size in bytes of all variants
+     * @return variants to delete, not known to this cache anymore
+     */
+    synchronized List<Variant> use(@NotNull Variant variant, long maxSize) {
+        Variant previous = variants.put(variant.getFile(), variant);
+        size += variant.getSize() - (previous == null ? 0 : previous.getSize());
+
+        List<Variant> evicted = new ArrayList<>();
+        Iterator<Variant> iterator = variants.values().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            Variant eldest = iterator.next();
+            if (eldest.getFile().equals(variant.getFile())) {
+                break;
+            }
+            iterator.remove();
+            size -= eldest.getSize();
+            evicted.add(eldest);
+        }
+        return evicted;
+    }
+
+    /**
+     * Adds variants found on disk as less recently used than all known variants, unless they are known already,
+     * and returns the least recently used variants to delete so that all variants fit into the given size.
+     *
+     * @param found   variants found on disk, from the least recently modified
+     * @param maxSize maximum size in bytes of all variants
+     * @return variants to delete, not known to this cache anymore
+     */
+    synchronized List<Variant> addLeastRecentlyUsed(@NotNull List<Variant> found, long maxSize) {
+        LinkedHashMap<File, Variant> known = new LinkedHashMap<>(variants);
+        variants.clear();
+        size = 0;
+        for (Variant variant : found) {
+            if (!known.containsKey(variant.getFile())) {
+                variants.put(variant.getFile(), variant);
+                size += variant.getSize();
+            }
+        }
+        known.values().forEach(variant -> {
+            variants.put(variant.getFile(), variant);
+            size += variant.getSize();
+        });
+
+        List<Variant> evicted = new ArrayList<>();
+        Iterator<Variant> iterator = variants.values().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            Variant eldest = iterator.next();
+            iterator.remove();
+            size -= eldest.getSize();
+            evicted.add(eldest);
+        }
+        return evicted;
+    }
+
+    /**
+     * Finds variants in the directory of binaries, which has a directory per publication.
+     * Stops early if the thread is interrupted.
+     *
+     * @param binaryData directory of binaries
+     * @return variants found, from the least recently modified
+     */
+    static List<Variant> scan(File binaryData) {
+        List<Variant> found = new ArrayList<>();
+        File[] publicationDirs = binaryData.listFiles(File::isDirectory);
+        if (publicationDirs == null) {
+            return found;
+        }
+        for (File publicationDir : publicationDirs) {
+            Path root = publicationDir.toPath();
+            try (Stream<Path> files = Files.walk(root)) {
+                Iterator<Path> iterator = files.iterator();
+                while (iterator.hasNext() && !Thread.currentThread().isInterrupted()) {
+                    Path file = iterator.next();
+                    String path = "/" + root.relativize(file).toString().replace(File.separatorChar, '/');
+                    ImageUtils.StaticContentPathInfo pathInfo = new ImageUtils.StaticContentPathInfo(path);
+                    if (pathInfo.isImage() && pathInfo.isResized() && Files.isRegularFile(file)) {
+                        found.add(new Variant(publicationDir.getPath(), path, file.toFile(), file.toFile().length()));
+                    }
+                }
+            } catch (IOException | UncheckedIOException e) {
+                log.warn("Cannot scan image variants in {}", publicationDir, e);
+            }
+        }
+        found.sort(Comparator.comparingLong(variant -> variant.getFile().lastModified()));
+        return found;
+    }
+
+    @Value
+    static class Variant {
+
+        private String publicationDir;
+
+        private String path;
+
+        private File file;
+
+        private long size;
+    }
+}
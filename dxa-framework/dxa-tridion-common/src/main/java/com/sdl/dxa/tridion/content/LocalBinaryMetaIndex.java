@@ -0,0 +1,261 @@
+package com.sdl.dxa.tridion.content;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Index of metadata of binaries already downloaded to the local file system, so that repeated requests for a binary
+ * can be answered without asking the broker. Entries are kept in memory and persisted next to the binaries,
+ * in {@value #INDEX_DIR} directory of the publication folder, so that they survive restarts.
+ * <p>Entries are replaced atomically both in memory and on disk, so a reader sees either the old or the new entry.</p>
+ * <p>Only the most recently used entries are kept in memory, others are read from disk again when needed.
+ * An entry that has only been revalidated against the broker is not written right away: revalidations are written
+ * to disk in batches every {@value #FLUSH_INTERVAL_SECONDS} seconds and on {@link #shutdown()}, as losing them
+ * only costs one more revalidation.</p>
+ */
+@Slf4j
+class LocalBinaryMetaIndex {
+
+    static final String INDEX_DIR = ".binary-meta";
+
+    private static final String URL = "url";
+
+    private static final String ITEM_ID = "itemId";
+
+    private static final String LAST_PUBLISHED = "lastPublished";
+
+    private static final String SIZE = "size";
+
+    private static final String CONTENT_TYPE = "contentType";
+
+    private static final String CHECKED = "checked";
+
+    private static final int MAXIMUM_SIZE = 10_000;
+
+    private static final long FLUSH_INTERVAL_SECONDS = 10;
+
+    private final Cache<File, Entry> entries;
+
+    private final ConcurrentMap<File, Entry> pendingWrites = new ConcurrentHashMap<>();
+
+    private volatile ScheduledExecutorService flushExecutor;
+
+    LocalBinaryMetaIndex() {
+        this(MAXIMUM_SIZE);
+    }
+
+    @VisibleForTesting
+    LocalBinaryMetaIndex(int maximumSize) {
+        this.entries = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    /**
+     * Returns the index entry of the binary file from memory or from disk.
+     *
+     * @param publicationDir directory of the publication binaries
+     * @param path           path of the binary relative to the publication directory
+     * @return the entry or {@code null} if the binary is not indexed
+     */
+    @Nullable
+    Entry get(@NotNull String publicationDir, @NotNull String path) {
+        File indexFile = _getIndexFile(publicationDir, path);
+        Entry entry = entries.getIfPresent(indexFile);
+        if (entry == null) {
+            entry = pendingWrites.get(indexFile);
+        }
+        if (entry == null && indexFile.exists()) {
+            entry = _read(indexFile);
+            if (entry != null) {
+                entries.asMap().putIfAbsent(indexFile, entry);
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Puts the entry of the binary file to the index. The entry is written to disk right away unless it only differs
+     * from the indexed one in the time it was checked.
+     *
+     * @param publicationDir directory of the publication binaries
+     * @param path           path of the binary relative to the publication directory
+     * @param entry          entry of the binary
+     */
+    void put(@NotNull String publicationDir, @NotNull String path, @NotNull Entry entry) {
+        File indexFile = _getIndexFile(publicationDir, path);
+        Entry previous = get(publicationDir, path);
+        entries.put(indexFile, entry);
+
+        if (previous != null && previous.checkedAt(entry.getChecked()).equals(entry)) {
+            pendingWrites.put(indexFile, entry);
+            _scheduleFlush();
+            return;
+        }
+
+        synchronized (this) {
+            pendingWrites.remove(indexFile);
+            _write(indexFile, entry);
+        }
+    }
+
+    void remove(@NotNull String publicationDir, @NotNull String path) {
+        File indexFile = _getIndexFile(publicationDir, path);
+        entries.invalidate(indexFile);
+        synchronized (this) {
+            pendingWrites.remove(indexFile);
+            if (indexFile.exists() && !indexFile.delete()) {
+                log.warn("Cannot delete binary meta index file {}", indexFile);
+            }
+        }
+    }
+
+    /**
+     * Writes pending revalidated entries to disk.
+     */
+    synchronized void flush() {
+        pendingWrites.forEach((indexFile, entry) -> {
+            if (pendingWrites.remove(indexFile, entry)) {
+                _write(indexFile, entry);
+            }
+        });
+    }
+
+    /**
+     * Stops writing revalidated entries in background and writes the pending ones.
+     */
+    void shutdown() {
+        if (flushExecutor != null) {
+            flushExecutor.shutdownNow();
+        }
+        flush();
+    }
+
+    private void _scheduleFlush() {
+        if (flushExecutor == null) {
+            synchronized (this) {
+                if (flushExecutor == null) {
+                    ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+                            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("binary-meta-index-flush-%d").build());
+                    executor.scheduleWithFixedDelay(this::_flushQuietly, FLUSH_INTERVAL_SECONDS, FLUSH_INTERVAL_SECONDS, TimeUnit.SECONDS);
+                    flushExecutor = executor;
+                }
+            }
+        }
+    }
+
+    private void _flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            // an exception would cancel the next flushes
+            log.warn("Cannot write binary meta index entries", e);
+        }
+    }
+
+    private static File _getIndexFile(String publicationDir, String path) {
+        return new File(new File(publicationDir, INDEX_DIR), path + ".properties");
+    }
+
+    @Nullable
+    private static Entry _read(File indexFile) {
+        Properties properties = new Properties();
+        try (InputStream in = new FileInputStream(indexFile)) {
+            properties.load(in);
+            return new Entry(properties.getProperty(URL),
+                    Integer.parseInt(properties.getProperty(ITEM_ID)),
+                    Long.parseLong(properties.getProperty(LAST_PUBLISHED)),
+                    Long.parseLong(properties.getProperty(SIZE)),
+                    properties.getProperty(CONTENT_TYPE),
+                    Long.parseLong(properties.getProperty(CHECKED)));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Cannot read binary meta index file {}, ignoring it", indexFile, e);
+            return null;
+        }
+    }
+
+    private static void _write(File indexFile, Entry entry) {
+        Properties properties = new Properties();
+        properties.setProperty(URL, entry.getUrl());
+        properties.setProperty(ITEM_ID, String.valueOf(entry.getItemId()));
+        properties.setProperty(LAST_PUBLISHED, String.valueOf(entry.getLastPublished()));
+        properties.setProperty(SIZE, String.valueOf(entry.getSize()));
+        properties.setProperty(CONTENT_TYPE, entry.getContentType());
+        properties.setProperty(CHECKED, String.valueOf(entry.getChecked()));
+
+        File parent = indexFile.getParentFile();
+        if (!parent.exists() && !parent.mkdirs()) {
+            log.warn("Cannot create directory for binary meta index file {}", indexFile);
+            return;
+        }
+
+        // write to a temporary file first so that readers never see a partially written entry
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(parent.toPath(), indexFile.getName(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                properties.store(out, null);
+            }
+            Files.move(temp, indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Cannot write binary meta index file {}", indexFile, e);
+            if (temp != null) {
+                temp.toFile().delete();
+            }
+        }
+    }
+
+    /**
+     * Metadata of a downloaded binary.
+     */
+    @Value
+    static class Entry {
+
+        /**
+         * URL the binary was requested with.
+         */
+        private String url;
+
+        private int itemId;
+
+        /**
+         * Last publication date of the binary component as millis.
+         */
+        private long lastPublished;
+
+        /**
+         * Size of the file on disk.
+         */
+        private long size;
+
+        private String contentType;
+
+        /**
+         * Time in millis when the entry was last validated against the broker.
+         */
+        private long checked;
+
+        Entry checkedAt(long checked) {
+            return new Entry(url, itemId, lastPublished, size, contentType, checked);
+        }
+    }
+}
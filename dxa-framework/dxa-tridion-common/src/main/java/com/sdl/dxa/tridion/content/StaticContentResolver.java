@@ -1,12 +1,16 @@
 package com.sdl.dxa.tridion.content;
 
+import com.google.common.io.Files;
+import com.sdl.dxa.caching.SingleFlight;
 import com.sdl.dxa.common.dto.StaticContentRequestDto;
-import com.sdl.web.api.meta.WebComponentMetaFactory;
+import com.sdl.dxa.metrics.MetricsRegistry;
+import com.sdl.dxa.metrics.NoOpMetricsRegistry;
 import com.sdl.web.api.meta.WebComponentMetaFactoryImpl;
 import com.sdl.webapp.common.api.content.ContentProviderException;
 import com.sdl.webapp.common.api.content.StaticContentItem;
 import com.sdl.webapp.common.api.content.StaticContentNotFoundException;
 import com.sdl.webapp.common.api.content.StaticContentNotLoadedException;
+import com.sdl.webapp.common.util.ImageResizer;
 import com.sdl.webapp.common.util.ImageUtils;
 import com.sdl.webapp.common.util.TcmUtils;
 import com.tridion.broker.StorageException;
@@ -21,23 +25,39 @@ import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.context.WebApplicationContext;
 import org.springframework.web.util.UriUtils;
 
+import javax.annotation.PreDestroy;
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
+import static com.sdl.dxa.metrics.MetricNames.STATIC_CONTENT;
+import static com.sdl.dxa.metrics.MetricNames.TAG_SOURCE;
 import static com.sdl.webapp.common.util.FileUtils.isToBeRefreshed;
 
 /**
  * Static content resolver is capable to resolve static (also versioned) binary content from broker database, and to cache it for same request.
+ * <p>Metadata of downloaded binaries is kept in a local index, so a binary that is already on disk is served
+ * without asking the broker until {@code dxa.web.static-content.revalidate-interval} is over.</p>
+ * <p>Images requested in another size are resized by an {@link ImageResizer} with a bounded number of threads
+ * and a bounded pixel budget. Resized images are kept on disk up to {@code dxa.web.static-content.image-variants.max-size}
+ * megabytes, the least recently used ones are deleted first. Resized images left on disk by a previous run are found
+ * in background when the first resized image is requested, and are then the first ones to be deleted.
+ * As a resized image may be deleted any time, it is served from memory rather than from its file.</p>
  *
  * @dxa.publicApi
  */
@@ -45,8 +65,6 @@ import static com.sdl.webapp.common.util.FileUtils.isToBeRefreshed;
 @Service
 public class StaticContentResolver {
 
-    private static final Object LOCK = new Object();
-
     private static final Pattern SYSTEM_VERSION_PATTERN = Pattern.compile("/system/v\\d+\\.\\d+/");
 
     private static final String STATIC_FILES_DIR = "BinaryData";
@@ -61,11 +79,47 @@ public class StaticContentResolver {
 
     private final PublicationMetaFactory publicationMetaFactory = new PublicationMetaFactory();
 
+    private final SingleFlight<String> singleFlight = new SingleFlight<>();
+
+    private final LocalBinaryMetaIndex binaryMetaIndex = new LocalBinaryMetaIndex();
+
+    /**
+     * Time in seconds during which a downloaded binary is served from disk according to the local binary meta index
+     * without checking the broker for a newer version.
+     */
+    @Value("${dxa.web.static-content.revalidate-interval:#{60}}")
+    private long revalidateInterval = 60;
+
+    @Value("${dxa.web.static-content.image-resize.threads:#{4}}")
+    private int imageResizeThreads = 4;
+
+    @Value("${dxa.web.static-content.image-resize.pixel-budget:#{25000000}}")
+    private int imageResizePixelBudget = 25_000_000;
+
+    /**
+     * Maximum size in bytes of resized images kept on disk, configured in megabytes.
+     */
+    @Value("#{${dxa.web.static-content.image-variants.max-size:1024} * 1024L * 1024L}")
+    private long imageVariantsMaxSize = 1024L * 1024 * 1024;
+
+    private final ImageVariantCache imageVariantCache = new ImageVariantCache();
+
+    private volatile ImageResizer imageResizer;
+
+    private volatile Thread imageVariantsScan;
+
+    private MetricsRegistry metricsRegistry = NoOpMetricsRegistry.INSTANCE;
+
     @Autowired
     public StaticContentResolver(WebApplicationContext webApplicationContext) {
         this.webApplicationContext = webApplicationContext;
     }
 
+    @Autowired(required = false)
+    public void setMetricsRegistry(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
     /**
      * Resolves static content with a given path in a given publication.
      * <p>Requires localization path to request the content, so resolves it using localization ID if the path is missing.
@@ -123,46 +177,218 @@ public class StaticContentResolver {
         final File file = new File(parentPath, path);
         log.trace("getStaticContentFile: {}", file);
 
-        final ImageUtils.StaticContentPathInfo pathInfo = new ImageUtils.StaticContentPathInfo(path);
+        // only one request at a time resolves the same file, others then find it in the index
+        return singleFlight.execute(file.getPath(), () -> _getStaticContentFile(file, parentPath, path, requestDto));
+    }
 
-        int publicationId = Integer.parseInt(requestDto.getLocalizationId());
-        BinaryMeta binaryMeta;
-        WebComponentMetaFactory factory = new WebComponentMetaFactoryImpl(publicationId);
-        ComponentMeta componentMeta;
-        int itemId;
-
-        synchronized (LOCK) {
-            String urlPath = _prependFullUrlIfNeeded(pathInfo.getFileName(), requestDto.getBaseUrl());
-            binaryMeta = dynamicMetaRetriever.getBinaryMetaByURL(urlPath);
-            if (binaryMeta == null) {
-                throw new StaticContentNotFoundException("No binary meta found for pubId: [" +
-                        publicationId + "] and urlPath: " + urlPath);
+    private StaticContentItem _getStaticContentFile(File file, String parentPath, String path, StaticContentRequestDto requestDto)
+            throws ContentProviderException {
+        final ImageUtils.StaticContentPathInfo pathInfo = new ImageUtils.StaticContentPathInfo(path);
+        String urlPath = _prependFullUrlIfNeeded(pathInfo.getFileName(), requestDto.getBaseUrl());
+
+        LocalBinaryMetaIndex.Entry indexed = binaryMetaIndex.get(parentPath, path);
+        if (!requestDto.isNoMediaCache() && _isValid(indexed, file, urlPath)) {
+            if (!_isImageVariant(pathInfo)) {
+                log.debug("File is up to date according to local binary meta index: {}", file);
+                metricsRegistry.counter(STATIC_CONTENT, TAG_SOURCE, "disk").increment();
+                return _toStaticContentItem(file, indexed.getContentType(), requestDto);
             }
-            itemId = (int) binaryMeta.getURI().getItemId();
-            componentMeta = factory.getMeta(itemId);
-            if (componentMeta == null) {
-                throw new StaticContentNotFoundException("No meta meta found for: [" + publicationId + "] " +
-                        pathInfo.getFileName());
+
+            long lastModified = file.lastModified();
+            byte[] variant = _readImageVariant(file);
+            if (variant != null) {
+                log.debug("Image variant is up to date according to local binary meta index: {}", file);
+                metricsRegistry.counter(STATIC_CONTENT, TAG_SOURCE, "disk").increment();
+                _useImageVariant(parentPath, path, file, variant.length);
+                return _toStaticContentItem(variant, lastModified, indexed.getContentType(), requestDto);
             }
         }
 
+        int publicationId = Integer.parseInt(requestDto.getLocalizationId());
+        metricsRegistry.counter(STATIC_CONTENT, TAG_SOURCE, "broker").increment();
+        BinaryMeta binaryMeta = dynamicMetaRetriever.getBinaryMetaByURL(urlPath);
+        if (binaryMeta == null) {
+            binaryMetaIndex.remove(parentPath, path);
+            throw new StaticContentNotFoundException("No binary meta found for pubId: [" +
+                    publicationId + "] and urlPath: " + urlPath);
+        }
+        int itemId = (int) binaryMeta.getURI().getItemId();
+        ComponentMeta componentMeta = new WebComponentMetaFactoryImpl(publicationId).getMeta(itemId);
+        if (componentMeta == null) {
+            binaryMetaIndex.remove(parentPath, path);
+            throw new StaticContentNotFoundException("No meta meta found for: [" + publicationId + "] " +
+                    pathInfo.getFileName());
+        }
+
         long componentTime = componentMeta.getLastPublicationDate().getTime();
 
         boolean shouldRefresh = isToBeRefreshed(file, componentTime) || requestDto.isNoMediaCache();
 
+        byte[] content = null;
         if (shouldRefresh) {
-            BinaryData binaryData = binaryContentRetriever.getBinary(publicationId, itemId, binaryMeta.getVariantId());
-
-            log.debug("Writing binary content to file: {}", file);
-            try {
-                ImageUtils.writeToFile(file, pathInfo, binaryData.getBytes());
-            } catch (IOException e) {
-                throw new StaticContentNotLoadedException("Cannot write new loaded content to a file " + file, e);
+            content = _download(publicationId, itemId, binaryMeta, pathInfo, file);
+        } else if (_isImageVariant(pathInfo)) {
+            content = _readImageVariant(file);
+            if (content == null) {
+                log.debug("Image variant {} has been deleted meanwhile, resizing it again", file);
+                content = _download(publicationId, itemId, binaryMeta, pathInfo, file);
             }
         } else {
             log.debug("File does not need to be refreshed: {}", file);
         }
 
+        String contentType = StringUtils.isEmpty(binaryMeta.getType()) ? DEFAULT_CONTENT_TYPE : binaryMeta.getType();
+        long size = content != null ? content.length : file.length();
+        binaryMetaIndex.put(parentPath, path, new LocalBinaryMetaIndex.Entry(
+                urlPath, itemId, componentTime, size, contentType, System.currentTimeMillis()));
+
+        if (_isImageVariant(pathInfo)) {
+            // the file may already be deleted by another request, then it has been written just now
+            long lastModified = file.lastModified();
+            _useImageVariant(parentPath, path, file, size);
+            return _toStaticContentItem(content, lastModified != 0 ? lastModified : System.currentTimeMillis(), contentType, requestDto);
+        }
+        return _toStaticContentItem(file, contentType, requestDto);
+    }
+
+    private byte[] _download(int publicationId, int itemId, BinaryMeta binaryMeta, ImageUtils.StaticContentPathInfo pathInfo, File file)
+            throws ContentProviderException {
+        BinaryData binaryData = binaryContentRetriever.getBinary(publicationId, itemId, binaryMeta.getVariantId());
+
+        log.debug("Writing binary content to file: {}", file);
+        try {
+            byte[] content = binaryData.getBytes();
+            if (_isImageVariant(pathInfo)) {
+                content = _getImageResizer().resize(content, pathInfo);
+            }
+            Files.write(content, file);
+            return content;
+        } catch (IOException e) {
+            throw new StaticContentNotLoadedException("Cannot write new loaded content to a file " + file, e);
+        }
+    }
+
+    private static boolean _isImageVariant(ImageUtils.StaticContentPathInfo pathInfo) {
+        return pathInfo.isImage() && pathInfo.isResized();
+    }
+
+    /**
+     * Reads a resized image, which may be deleted by an eviction any time.
+     *
+     * @return content of the image, or {@code null} if it has been deleted
+     */
+    @Nullable
+    private static byte[] _readImageVariant(File file) throws StaticContentNotLoadedException {
+        try {
+            return Files.toByteArray(file);
+        } catch (FileNotFoundException e) {
+            return null;
+        } catch (IOException e) {
+            throw new StaticContentNotLoadedException("Cannot read image variant " + file, e);
+        }
+    }
+
+    private void _useImageVariant(String parentPath, String path, File file, long size) {
+        if (imageVariantsMaxSize <= 0) {
+            return;
+        }
+        _scanImageVariants();
+
+        for (ImageVariantCache.Variant evicted : imageVariantCache.use(
+                new ImageVariantCache.Variant(parentPath, path, file, size), imageVariantsMaxSize)) {
+            _deleteImageVariant(evicted);
+        }
+    }
+
+    private void _deleteImageVariant(ImageVariantCache.Variant variant) {
+        log.debug("Deleting least recently used image variant {}, image variants take more than {} bytes", variant.getFile(), imageVariantsMaxSize);
+        if (variant.getFile().exists() && !variant.getFile().delete()) {
+            // the index entry is kept, so that the file is still served and counted once it is requested again
+            log.warn("Cannot delete image variant {}", variant.getFile());
+            return;
+        }
+        binaryMetaIndex.remove(variant.getPublicationDir(), variant.getPath());
+    }
+
+    /**
+     * Finds image variants left on disk by a previous run, once and in background, so that they are counted
+     * in the max size of image variants and are deleted first.
+     */
+    private void _scanImageVariants() {
+        if (imageVariantsScan != null) {
+            return;
+        }
+        synchronized (this) {
+            if (imageVariantsScan != null) {
+                return;
+            }
+            imageVariantsScan = new Thread(() -> {
+                File binaryData = new File(webApplicationContext.getServletContext().getRealPath("/"), STATIC_FILES_DIR);
+                List<ImageVariantCache.Variant> found = ImageVariantCache.scan(binaryData);
+                log.info("Found {} image variants left on disk in {}", found.size(), binaryData);
+                for (ImageVariantCache.Variant evicted : imageVariantCache.addLeastRecentlyUsed(found, imageVariantsMaxSize)) {
+                    _deleteImageVariant(evicted);
+                }
+            }, "dxa-image-variants-scan");
+            imageVariantsScan.setDaemon(true);
+            imageVariantsScan.start();
+        }
+    }
+
+    private ImageResizer _getImageResizer() {
+        if (imageResizer == null) {
+            synchronized (this) {
+                if (imageResizer == null) {
+                    imageResizer = new ImageResizer(imageResizeThreads, imageResizePixelBudget);
+                }
+            }
+        }
+        return imageResizer;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (imageResizer != null) {
+            imageResizer.shutdown();
+        }
+        if (imageVariantsScan != null) {
+            imageVariantsScan.interrupt();
+        }
+        binaryMetaIndex.shutdown();
+    }
+
+    private boolean _isValid(@Nullable LocalBinaryMetaIndex.Entry indexed, File file, String urlPath) {
+        return indexed != null
+                && System.currentTimeMillis() - indexed.getChecked() < TimeUnit.SECONDS.toMillis(revalidateInterval)
+                && indexed.getUrl().equals(urlPath)
+                && file.exists() && file.length() == indexed.getSize();
+    }
+
+    private static StaticContentItem _toStaticContentItem(byte[] content, long lastModified, String contentType, StaticContentRequestDto requestDto) {
+        return new StaticContentItem() {
+            @Override
+            public long getLastModified() {
+                return lastModified;
+            }
+
+            @Override
+            public String getContentType() {
+                return contentType;
+            }
+
+            @Override
+            public InputStream getContent() {
+                return new ByteArrayInputStream(content);
+            }
+
+            @Override
+            public boolean isVersioned() {
+                return requestDto.getBinaryPath().contains("/system/");
+            }
+        };
+    }
+
+    private StaticContentItem _toStaticContentItem(File file, String contentType, StaticContentRequestDto requestDto) {
         return new StaticContentItem() {
             @Override
             public long getLastModified() {
@@ -171,7 +397,7 @@ public class StaticContentResolver {
 
             @Override
             public String getContentType() {
-                return StringUtils.isEmpty(binaryMeta.getType()) ? DEFAULT_CONTENT_TYPE : binaryMeta.getType();
+                return contentType;
             }
 
             @Override
@@ -1,23 +1,40 @@
 package com.sdl.dxa.tridion.linking;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Iterables;
 import com.sdl.dxa.exception.DxaTridionCommonException;
 import com.sdl.dxa.tridion.pcaclient.ApiClientProvider;
 import com.sdl.web.pca.client.contentmodel.enums.ContentNamespace;
 import com.sdl.webapp.tridion.linking.AbstractLinkResolver;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
+@Slf4j
 @Component
 @Profile("!cil.providers.active")
 public class GraphQLLinkResolver extends AbstractLinkResolver {
 
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
     @Autowired
     private ApiClientProvider apiClientProvider;
 
+    @Value("${dxa.web.link-resolver.batch-size:#{100}}")
+    private int batchSize = 100;
+
     @Override
     protected Function<ResolvingData, Optional<String>> _componentResolver() {
         return resolvingData -> Optional.ofNullable(
@@ -47,4 +64,71 @@ public class GraphQLLinkResolver extends AbstractLinkResolver {
         return resolvingData -> Optional.ofNullable(
                 apiClientProvider.getClient().resolveBinaryLink(resolveNamespace(resolvingData.getUri()), resolvingData.getPublicationId(), resolvingData.getItemId(), null, false));
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>Resolves the whole batch with one GraphQL query where each link is an aliased field,
+     * splits into several queries only if the batch is bigger than {@code dxa.web.link-resolver.batch-size}.</p>
+     */
+    @Override
+    protected Map<BatchedLink, String> _resolveBatch(Collection<BatchedLink> links) {
+        Map<BatchedLink, String> resolved = new HashMap<>();
+        for (List<BatchedLink> chunk : Iterables.partition(links, Math.max(1, batchSize))) {
+            resolved.putAll(_resolveChunk(chunk));
+        }
+        return resolved;
+    }
+
+    private Map<BatchedLink, String> _resolveChunk(List<BatchedLink> links) {
+        StringBuilder query = new StringBuilder("query resolveLinks {");
+        for (int i = 0; i < links.size(); i++) {
+            query.append(' ').append(_toField("l" + i, links.get(i)));
+        }
+        query.append(" }");
+
+        JsonNode data;
+        try {
+            String response = apiClientProvider.getGraphQLClient().execute(
+                    MAPPER.writeValueAsString(Collections.singletonMap("query", query.toString())));
+            data = MAPPER.readTree(response).path("data");
+        } catch (Exception e) {
+            log.warn("Cannot resolve {} links in a batch, resolving them one by one", links.size(), e);
+            return super._resolveBatch(links);
+        }
+
+        Map<BatchedLink, String> resolved = new HashMap<>();
+        for (int i = 0; i < links.size(); i++) {
+            JsonNode url = data.path("l" + i).path("url");
+            if (url.isTextual()) {
+                resolved.put(links.get(i), url.asText());
+            }
+        }
+        return resolved;
+    }
+
+    private String _toField(String alias, BatchedLink link) {
+        ResolvingData data = link.getData();
+        List<String> arguments = new ArrayList<>();
+        arguments.add("namespaceId: " + resolveNamespace(data.getUri()).getNameSpaceValue());
+        arguments.add("publicationId: " + data.getPublicationId());
+
+        String field;
+        switch (link.getType()) {
+            case PAGE:
+                field = "pageLink";
+                arguments.add("pageId: " + data.getItemId());
+                break;
+            case BINARY:
+                field = "binaryLink";
+                arguments.add("binaryId: " + data.getItemId());
+                break;
+            default:
+                field = "componentLink";
+                arguments.add("targetComponentId: " + data.getItemId());
+                break;
+        }
+        arguments.add("renderRelativeLink: false");
+
+        return alias + ": " + field + "(" + String.join(", ", arguments) + ") { url }";
+    }
 }
@@ -7,8 +7,13 @@ import com.sdl.webapp.tridion.linking.AbstractLinkResolver;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 @Profile("cil.providers.active")
@@ -28,14 +33,52 @@ public class TridionLinkResolver extends AbstractLinkResolver {
 
     @Override
     protected Function<ResolvingData, Optional<String>> _binaryResolver() {
-        return resolvingData -> {
-            String uri = resolvingData.getUri();
-
-            String componentURI = uri.startsWith("tcm:") ? uri : ("tcm:" + uri);
-            return Optional.ofNullable(
-                    new BinaryLinkImpl(resolvingData.getPublicationId())
-                            .getLink(componentURI, null, null, null, false)
-                            .getURL());
-        };
+        return resolvingData -> Optional.ofNullable(
+                _resolveBinary(new BinaryLinkImpl(resolvingData.getPublicationId()), resolvingData.getUri()));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>CIL has no bulk link API, so links are grouped by publication and resolved with one link instance
+     * per publication and type instead of creating a new one for every link.</p>
+     */
+    @Override
+    protected Map<BatchedLink, String> _resolveBatch(Collection<BatchedLink> links) {
+        Map<Integer, List<BatchedLink>> byPublication = links.stream()
+                .collect(Collectors.groupingBy(link -> link.getData().getPublicationId()));
+
+        Map<BatchedLink, String> resolved = new HashMap<>();
+        byPublication.forEach((publicationId, publicationLinks) -> {
+            ComponentLinkImpl componentLink = null;
+            PageLinkImpl pageLink = null;
+            BinaryLinkImpl binaryLink = null;
+
+            for (BatchedLink link : publicationLinks) {
+                String url;
+                switch (link.getType()) {
+                    case PAGE:
+                        pageLink = pageLink != null ? pageLink : new PageLinkImpl(publicationId);
+                        url = pageLink.getLink(link.getData().getItemId()).getURL();
+                        break;
+                    case BINARY:
+                        binaryLink = binaryLink != null ? binaryLink : new BinaryLinkImpl(publicationId);
+                        url = _resolveBinary(binaryLink, link.getData().getUri());
+                        break;
+                    default:
+                        componentLink = componentLink != null ? componentLink : new ComponentLinkImpl(publicationId);
+                        url = componentLink.getLink(link.getData().getItemId()).getURL();
+                        break;
+                }
+                if (url != null) {
+                    resolved.put(link, url);
+                }
+            }
+        });
+        return resolved;
+    }
+
+    private static String _resolveBinary(BinaryLinkImpl binaryLink, String uri) {
+        String componentURI = uri.startsWith("tcm:") ? uri : ("tcm:" + uri);
+        return binaryLink.getLink(componentURI, null, null, null, false).getURL();
     }
 }
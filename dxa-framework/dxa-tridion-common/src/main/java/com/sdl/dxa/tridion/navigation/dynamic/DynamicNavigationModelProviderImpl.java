@@ -33,9 +33,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -64,6 +67,12 @@ public class DynamicNavigationModelProviderImpl implements NavigationModelProvid
 
     private final TaxonomyRelationManager relationManager;
 
+    /**
+     * Pages loaded for the navigation request the current thread builds a taxonomy node for, so that
+     * {@link #getKeywordMetaUri(String, SitemapRequestDto, List, Keyword, boolean)} keeps its signature for subclasses.
+     */
+    private final ThreadLocal<TaxonomyPages> currentPages = new ThreadLocal<>();
+
     @Value("${dxa.tridion.navigation.taxonomy.marker}")
     protected String taxonomyNavigationMarker;
 
@@ -95,7 +104,7 @@ public class DynamicNavigationModelProviderImpl implements NavigationModelProvid
         Keyword rootTaxonomy = roots.get(0);
         log.debug("Resolved Navigation Taxonomy {} for request {}", rootTaxonomy, requestDto);
 
-        return Optional.of(createTaxonomyNode(rootTaxonomy, requestDto));
+        return Optional.of(createTaxonomyNode(rootTaxonomy, requestDto, new TaxonomyPages(requestDto.getLocalizationId())));
     }
 
     @Override
@@ -110,6 +119,8 @@ public class DynamicNavigationModelProviderImpl implements NavigationModelProvid
 
         log.debug("Overridden depth counter using value from descendants level: {}", request);
 
+        TaxonomyPages pages = new TaxonomyPages(request.getLocalizationId());
+
         if (isNullOrEmpty(request.getSitemapId())) {
             if(request.getNavigationFilter().getDescendantLevels() != 0) {
                 log.trace("Sitemap ID is empty, expanding all taxonomy roots");
@@ -119,7 +130,7 @@ public class DynamicNavigationModelProviderImpl implements NavigationModelProvid
                 SitemapRequestDto adaptedRequest = request.nextExpandLevel();
 
                 return Optional.of(getTaxonomyRoots(adaptedRequest, keyword -> true).stream()
-                        .map(keyword -> createTaxonomyNode(keyword, adaptedRequest))
+                        .map(keyword -> createTaxonomyNode(keyword, adaptedRequest, pages))
                         .collect(Collectors.toList()));
             } else {
                 return Optional.of(Collections.emptyList());
@@ -135,13 +146,13 @@ public class DynamicNavigationModelProviderImpl implements NavigationModelProvid
 
         if (request.getNavigationFilter().isWithAncestors()) {
             log.trace("Filter with ancestors, expanding ancestors");
-            Optional<SitemapItemModelData> taxonomy = taxonomyWithAncestors(info, request);
+            Optional<SitemapItemModelData> taxonomy = taxonomyWithAncestors(info, request, pages);
             return taxonomy.map(Collections::singletonList);
         }
 
         if (request.getNavigationFilter().getDescendantLevels() != 0 && !info.isPage()) {
             log.trace("Filter with descendants, expanding descendants");
-            return expandDescendants(info, request);
+            return expandDescendants(info, request, pages);
         }
 
         log.trace("Filter is not specific, doing nothing");
@@ -185,10 +196,12 @@ public class DynamicNavigationModelProviderImpl implements NavigationModelProvid
      *
      * @param uris       URIs of your current context taxonomy node
      * @param requestDto navigation filter
+     * @param pages      pages of the keywords loaded during the current request
      * @return root of a taxonomy
      */
     @NonNull
-    private Optional<SitemapItemModelData> taxonomyWithAncestors(@NonNull TaxonomyUrisHolder uris, @NotNull SitemapRequestDto requestDto) {
+    private Optional<SitemapItemModelData> taxonomyWithAncestors(@NonNull TaxonomyUrisHolder uris, @NotNull SitemapRequestDto requestDto,
+                                                                 @NotNull TaxonomyPages pages) {
         if (uris.isTaxonomyOnly()) {
             String message = String.format("URIs %s is not a page nor keyword, can't expand ancestors, request %s", uris, requestDto);
             log.warn(message);
@@ -196,11 +209,11 @@ public class DynamicNavigationModelProviderImpl implements NavigationModelProvid
         }
 
         Optional<SitemapItemModelData> taxonomy = uris.isPage() ?
-                expandAncestorsForPage(uris, requestDto) : expandAncestorsForKeyword(uris, requestDto);
+                expandAncestorsForPage(uris, requestDto, pages) : expandAncestorsForKeyword(uris, requestDto, pages);
 
         if (taxonomy.isPresent()) {
             if (requestDto.getNavigationFilter().getDescendantLevels() != 0) {
-                addDescendantsToTaxonomy(taxonomy.get(), requestDto);
+                addDescendantsToTaxonomy(taxonomy.get(), requestDto, pages);
             }
 
             return taxonomy;
@@ -210,13 +223,14 @@ public class DynamicNavigationModelProviderImpl implements NavigationModelProvid
         return Optional.empty();
     }
 
-    private void addDescendantsToTaxonomy(@NonNull SitemapItemModelData taxonomy, @NotNull SitemapRequestDto requestDto) {
+    private void addDescendantsToTaxonomy(@NonNull SitemapItemModelData taxonomy, @NotNull SitemapRequestDto requestDto,
+                                          @NotNull TaxonomyPages pages) {
         taxonomy.getItems().stream()
                 .filter(TaxonomyNodeModelData.class::isInstance)
-                .forEach(child -> addDescendantsToTaxonomy(child, requestDto));
+                .forEach(child -> addDescendantsToTaxonomy(child, requestDto, pages));
 
         TaxonomyUrisHolder uris = parse(taxonomy.getId(), requestDto.getLocalizationId());
-        Set<SitemapItemModelData> children = new LinkedHashSet<>(expandDescendants(uris, requestDto).orElse(Collections.emptyList()));
+        Set<SitemapItemModelData> children = new LinkedHashSet<>(expandDescendants(uris, requestDto, pages).orElse(Collections.emptyList()));
 
         for (SitemapItemModelData child : difference(children, newHashSet(taxonomy.getItems()))) {
             taxonomy.addItem(child);
@@ -228,10 +242,12 @@ public class DynamicNavigationModelProviderImpl implements NavigationModelProvid
      *
      * @param uris       information about URI of current item
      * @param requestDto current request data
+     * @param pages      pages of the keywords loaded during the current request
      * @return an optional collection of descendants of item with passed URI
      */
     @NotNull
-    private Optional<Collection<SitemapItemModelData>> expandDescendants(TaxonomyUrisHolder uris, @NotNull SitemapRequestDto requestDto) {
+    private Optional<Collection<SitemapItemModelData>> expandDescendants(TaxonomyUrisHolder uris, @NotNull SitemapRequestDto requestDto,
+                                                                         @NotNull TaxonomyPages pages) {
         if (uris.isPage()) {
             String message = "Page cannot have descendants, uris = " + uris;
             log.warn(message);
@@ -246,12 +262,13 @@ public class DynamicNavigationModelProviderImpl implements NavigationModelProvid
             return Optional.empty();
         }
 
-        return Optional.of(createTaxonomyNode(keyword, requestDto).getItems());
+        return Optional.of(createTaxonomyNode(keyword, requestDto, pages).getItems());
     }
 
     @NotNull
-    private Optional<SitemapItemModelData> expandAncestorsForPage(@NotNull TaxonomyUrisHolder uris, @NotNull SitemapRequestDto requestDto) {
-        List<SitemapItemModelData> nodes = collectAncestorsForPage(uris, requestDto);
+    private Optional<SitemapItemModelData> expandAncestorsForPage(@NotNull TaxonomyUrisHolder uris, @NotNull SitemapRequestDto requestDto,
+                                                                  @NotNull TaxonomyPages pages) {
+        List<SitemapItemModelData> nodes = collectAncestorsForPage(uris, requestDto, pages);
 
         if (nodes.isEmpty()) {
             return Optional.empty();
@@ -267,15 +284,23 @@ public class DynamicNavigationModelProviderImpl implements NavigationModelProvid
     }
 
     private void mergeSubtrees(@NonNull SitemapItemModelData sourceTree, @NonNull SitemapItemModelData targetTree) {
-        for (final SitemapItemModelData sourceLeaf : sourceTree.getItems()) {
-            Optional<SitemapItemModelData> targetLeaf = targetTree.getItems().stream()
-                    .filter(input -> Objects.equals(sourceLeaf.getId(), input.getId()))
-                    .findFirst();
+        if (sourceTree.getItems().isEmpty()) {
+            return;
+        }
+
+        Map<String, SitemapItemModelData> targetLeaves = new HashMap<>();
+        for (SitemapItemModelData targetLeaf : targetTree.getItems()) {
+            targetLeaves.putIfAbsent(targetLeaf.getId(), targetLeaf);
+        }
 
-            if (!targetLeaf.isPresent()) {
+        for (SitemapItemModelData sourceLeaf : sourceTree.getItems()) {
+            SitemapItemModelData targetLeaf = targetLeaves.get(sourceLeaf.getId());
+
+            if (targetLeaf == null) {
                 targetTree.addItem(sourceLeaf);
+                targetLeaves.put(sourceLeaf.getId(), sourceLeaf);
             } else {
-                mergeSubtrees(sourceLeaf, targetLeaf.get());
+                mergeSubtrees(sourceLeaf, targetLeaf);
             }
         }
     }
@@ -289,10 +314,12 @@ public class DynamicNavigationModelProviderImpl implements NavigationModelProvid
      *
      * @param uris       URIs of your current context taxonomy node
      * @param requestDto current request data
+     * @param pages      pages of the keywords loaded during the current request
      * @return a list of roots of taxonomy with different paths for items
      */
     @NotNull
-    private List<SitemapItemModelData> collectAncestorsForPage(@NotNull TaxonomyUrisHolder uris, @NotNull SitemapRequestDto requestDto) {
+    private List<SitemapItemModelData> collectAncestorsForPage(@NotNull TaxonomyUrisHolder uris, @NotNull SitemapRequestDto requestDto,
+                                                               @NotNull TaxonomyPages pages) {
         if (!uris.isPage()) {
             throw new IllegalArgumentException(String.format("Method for pages was called for not a page! uris: %s, request: %s", uris, requestDto));
         }
@@ -305,8 +332,9 @@ public class DynamicNavigationModelProviderImpl implements NavigationModelProvid
             return Collections.emptyList();
         }
 
+        SitemapRequestDto unlimitedRequest = requestDto.toBuilder().expandLevels(DepthCounter.UNLIMITED_DEPTH).build();
         return Arrays.stream(keywords)
-                .map(keyword -> createTaxonomyNode(keyword, requestDto.toBuilder().expandLevels(DepthCounter.UNLIMITED_DEPTH).build()))
+                .map(keyword -> createTaxonomyNode(keyword, unlimitedRequest, pages))
                 .collect(Collectors.toList());
     }
 
@@ -317,10 +345,11 @@ public class DynamicNavigationModelProviderImpl implements NavigationModelProvid
      *
      * @param uris       URIs of your current context taxonomy node
      * @param requestDto current request data
+     * @param pages      pages of the keywords loaded during the current request
      * @return root of a taxonomy
      */
     @NotNull
-    private Optional<SitemapItemModelData> expandAncestorsForKeyword(TaxonomyUrisHolder uris, SitemapRequestDto requestDto) {
+    private Optional<SitemapItemModelData> expandAncestorsForKeyword(TaxonomyUrisHolder uris, SitemapRequestDto requestDto, TaxonomyPages pages) {
         if (!uris.isKeyword()) {
             throw new IllegalArgumentException(String.format("Method for keywords was called for not a keyword! uris: %s, request: %s", uris, requestDto));
         }
@@ -332,20 +361,60 @@ public class DynamicNavigationModelProviderImpl implements NavigationModelProvid
             log.warn("Keyword {} in taxonomy {} wasn't found", uris.getKeywordUri(), uris.getTaxonomyUri());
             return Optional.empty();
         }
-        return Optional.of(createTaxonomyNode(taxonomyRoot, requestDto.toBuilder().expandLevels(DepthCounter.UNLIMITED_DEPTH).build()));
+        return Optional.of(createTaxonomyNode(taxonomyRoot, requestDto.toBuilder().expandLevels(DepthCounter.UNLIMITED_DEPTH).build(), pages));
     }
 
-    private TaxonomyNodeModelData createTaxonomyNode(@NotNull Keyword keyword, @NotNull SitemapRequestDto requestDto) {
+    /**
+     * Creates a taxonomy node for the keyword with its subtree. Pages of all keywords in the subtree are loaded
+     * in one pass before the tree is assembled.
+     *
+     * @param keyword    keyword to create a node for
+     * @param requestDto current request data
+     * @param pages      pages of the keywords loaded during the current request
+     * @return taxonomy node of the keyword
+     */
+    private TaxonomyNodeModelData createTaxonomyNode(@NotNull Keyword keyword, @NotNull SitemapRequestDto requestDto, @NotNull TaxonomyPages pages) {
+        List<Keyword> keywordsWithPages = new ArrayList<>();
+        collectKeywordsWithPages(keyword, requestDto, keywordsWithPages);
+        pages.load(keywordsWithPages);
+
+        return assembleTaxonomyNode(keyword, requestDto, pages);
+    }
+
+    private void collectKeywordsWithPages(@NotNull Keyword keyword, @NotNull SitemapRequestDto requestDto, @NotNull List<Keyword> keywords) {
+        if (needsToAddChildren(keyword, requestDto)) {
+            keywords.add(keyword);
+        }
+
+        if (requestDto.getExpandLevels().isNotTooDeep()) {
+            SitemapRequestDto nextLevelRequest = requestDto.nextExpandLevel();
+            keyword.getKeywordChildren().forEach(child -> collectKeywordsWithPages(child, nextLevelRequest, keywords));
+        }
+    }
+
+    private TaxonomyNodeModelData assembleTaxonomyNode(@NotNull Keyword keyword, @NotNull SitemapRequestDto requestDto, @NotNull TaxonomyPages pages) {
         log.debug("Creating taxonomy node for keyword {} and request {}", keyword.getTaxonomyURI(), requestDto);
         String taxonomyId = String.valueOf(TcmUtils.getItemId(keyword.getTaxonomyURI()));
 
         List<SitemapItemModelData> children = new ArrayList<>();
 
         if (requestDto.getExpandLevels().isNotTooDeep()) {
-            keyword.getKeywordChildren().forEach(child -> children.add(createTaxonomyNode(child, requestDto.nextExpandLevel())));
+            SitemapRequestDto nextLevelRequest = requestDto.nextExpandLevel();
+            keyword.getKeywordChildren().forEach(child -> children.add(assembleTaxonomyNode(child, nextLevelRequest, pages)));
         }
 
-        String taxonomyNodeUrl = getKeywordMetaUri(taxonomyId, requestDto, children, keyword, needsToAddChildren(keyword, requestDto));
+        String taxonomyNodeUrl;
+        TaxonomyPages previousPages = currentPages.get();
+        currentPages.set(pages);
+        try {
+            taxonomyNodeUrl = getKeywordMetaUri(taxonomyId, requestDto, children, keyword, needsToAddChildren(keyword, requestDto));
+        } finally {
+            if (previousPages == null) {
+                currentPages.remove();
+            } else {
+                currentPages.set(previousPages);
+            }
+        }
         log.trace("taxonomyNodeUrl = {} found for taxonomyId = {}", taxonomyNodeUrl, taxonomyId);
 
         children.forEach(child -> child.setTitle(removeSequenceFromPageTitle(child.getTitle())));
@@ -359,30 +428,55 @@ public class DynamicNavigationModelProviderImpl implements NavigationModelProvid
             requestDto.getNavigationFilter().getDescendantLevels() != 0;
     }
 
+    /**
+     * Finds the URL of the keyword index page and adds the pages of the keyword to the children. Within a navigation
+     * request, the pages are taken from the ones already loaded for the request, otherwise they are loaded on their own.
+     */
     protected String getKeywordMetaUri(String taxonomyId, SitemapRequestDto requestDto, List<SitemapItemModelData> children, Keyword keyword, boolean needsToAddChildren) {
         if (keyword == null) return "";
         if (needsToAddChildren) {
-            List<SitemapItemModelData> pageSitemapItems = getChildrenPages(keyword, taxonomyId, requestDto);
+            TaxonomyPages pages = currentPages.get();
+            if (pages == null) {
+                pages = new TaxonomyPages(requestDto.getLocalizationId());
+            }
+            List<SitemapItemModelData> pageSitemapItems = getChildrenPages(keyword, taxonomyId, pages);
             children.addAll(pageSitemapItems);
             return findIndexPageUrl(pageSitemapItems).orElse(null);
         }
         return "";
     }
 
-    private List<SitemapItemModelData> getChildrenPages(@NotNull Keyword keyword, @NotNull String taxonomyId, @NotNull SitemapRequestDto requestDto) {
+    private List<SitemapItemModelData> getChildrenPages(@NotNull Keyword keyword, @NotNull String taxonomyId, @NotNull TaxonomyPages pages) {
         log.trace("Getting SitemapItems for all classified Pages (ordered by Page Title, including sequence prefix if any), " +
-                "keyword {}, taxonomyId {}, localization {}", keyword, taxonomyId, requestDto.getLocalizationId());
-        List<SitemapItemModelData> items = new ArrayList<>();
-        try {
-            PageMetaFactory pageMetaFactory = new PageMetaFactory(requestDto.getLocalizationId());
-            PageMeta[] taxonomyPages = pageMetaFactory.getTaxonomyPages(keyword, false);
-            return Arrays.stream(taxonomyPages)
-                    .map(page -> createSitemapItemFromPage(page, taxonomyId))
-                    .collect(Collectors.toList());
-        } catch (StorageException e) {
-            String message = "Error loading taxonomy pages for taxonomyId = " + taxonomyId + ", localizationId = " + requestDto.getLocalizationId() + " and keyword = " + keyword;
-            throw new DxaTridionCommonException(message, e);
+                "keyword {}, taxonomyId {}", keyword, taxonomyId);
+        return pages.get(keyword).stream()
+                .map(page -> createSitemapItemFromPage(page, taxonomyId))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Loads pages classified with the given keywords. All keywords belong to one subtree of a taxonomy.
+     *
+     * @param keywords       keywords to load pages for
+     * @param localizationId current localization ID
+     * @return pages by keyword URI
+     */
+    protected Map<String, List<PageMeta>> loadTaxonomyPages(Collection<Keyword> keywords, int localizationId) {
+        PageMetaFactory pageMetaFactory = createPageMetaFactory(localizationId);
+        Map<String, List<PageMeta>> pages = new HashMap<>(keywords.size() * 2);
+        for (Keyword keyword : keywords) {
+            try {
+                pages.put(keyword.getKeywordURI(), Arrays.asList(pageMetaFactory.getTaxonomyPages(keyword, false)));
+            } catch (StorageException e) {
+                String message = "Error loading taxonomy pages for taxonomy = " + keyword.getTaxonomyURI() + ", localizationId = " + localizationId + " and keyword = " + keyword;
+                throw new DxaTridionCommonException(message, e);
+            }
         }
+        return pages;
+    }
+
+    protected PageMetaFactory createPageMetaFactory(int localizationId) {
+        return new PageMetaFactory(localizationId);
     }
 
     private Optional<String> findIndexPageUrl(@NonNull List<SitemapItemModelData> pageSitemapItems) {
@@ -431,4 +525,40 @@ public class DynamicNavigationModelProviderImpl implements NavigationModelProvid
         return isWithSequenceDigits(pageName) && !isNullOrEmpty(pageUrl);
     }
 
+    /**
+     * Pages classified with taxonomy keywords, indexed by keyword URI. Lives for a single navigation request, so the pages
+     * of a keyword are loaded at most once, even if the keyword is expanded again as an ancestor or descendant of another node.
+     */
+    private final class TaxonomyPages {
+
+        private final int localizationId;
+
+        private final Map<String, List<PageMeta>> pagesByKeyword = new HashMap<>();
+
+        TaxonomyPages(int localizationId) {
+            this.localizationId = localizationId;
+        }
+
+        void load(Collection<Keyword> keywords) {
+            Map<String, Keyword> notLoaded = new LinkedHashMap<>();
+            for (Keyword keyword : keywords) {
+                if (!pagesByKeyword.containsKey(keyword.getKeywordURI())) {
+                    notLoaded.putIfAbsent(keyword.getKeywordURI(), keyword);
+                }
+            }
+
+            if (!notLoaded.isEmpty()) {
+                log.debug("Loading pages of {} keywords for localization {}", notLoaded.size(), localizationId);
+                pagesByKeyword.putAll(loadTaxonomyPages(notLoaded.values(), localizationId));
+            }
+        }
+
+        List<PageMeta> get(Keyword keyword) {
+            if (!pagesByKeyword.containsKey(keyword.getKeywordURI())) {
+                load(Collections.singletonList(keyword));
+            }
+            return pagesByKeyword.getOrDefault(keyword.getKeywordURI(), Collections.emptyList());
+        }
+    }
+
 }
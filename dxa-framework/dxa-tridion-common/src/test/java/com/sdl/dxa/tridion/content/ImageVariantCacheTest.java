@@ -0,0 +1,80 @@
+package com.sdl.dxa.tridion.content;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class ImageVariantCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final ImageVariantCache cache = new ImageVariantCache();
+
+    @Test
+    public void shouldFindImageVariants_OnDisk_FromLeastRecentlyModified() throws IOException {
+        //given
+        File newer = file("42/media/image_w100.png", 2000L);
+        File older = file("42/media/image_w200_h100_n.jpg", 1000L);
+        file("42/media/image.png", 1000L);
+        file("42/media/document.pdf", 1000L);
+
+        //when
+        List<ImageVariantCache.Variant> found = ImageVariantCache.scan(folder.getRoot());
+
+        //then
+        assertEquals(Arrays.asList(older, newer), Arrays.asList(found.get(0).getFile(), found.get(1).getFile()));
+        assertEquals(2, found.size());
+        assertEquals("/media/image_w200_h100_n.jpg", found.get(0).getPath());
+        assertEquals(new File(folder.getRoot(), "42").getPath(), found.get(0).getPublicationDir());
+    }
+
+    @Test
+    public void shouldEvictVariantsFoundOnDisk_BeforeUsedOnes() {
+        //given
+        ImageVariantCache.Variant used = variant("/used_w100.png");
+        ImageVariantCache.Variant onDisk = variant("/disk_w100.png");
+        cache.use(used, 10);
+
+        //when
+        List<ImageVariantCache.Variant> evicted = cache.addLeastRecentlyUsed(Collections.singletonList(onDisk), 10);
+
+        //then
+        assertEquals(Collections.singletonList(onDisk), evicted);
+        assertEquals(Collections.emptyList(), cache.use(used, 10));
+    }
+
+    @Test
+    public void shouldNotAddVariantFoundOnDisk_IfAlreadyKnown() {
+        //given
+        ImageVariantCache.Variant used = variant("/used_w100.png");
+        cache.use(used, 20);
+
+        //when
+        List<ImageVariantCache.Variant> evicted = cache.addLeastRecentlyUsed(Collections.singletonList(used), 10);
+
+        //then
+        assertEquals(Collections.emptyList(), evicted);
+    }
+
+    private File file(String path, long lastModified) throws IOException {
+        File file = new File(folder.getRoot(), path);
+        Files.createDirectories(file.getParentFile().toPath());
+        Files.write(file.toPath(), new byte[10]);
+        file.setLastModified(lastModified);
+        return file;
+    }
+
+    private static ImageVariantCache.Variant variant(String path) {
+        return new ImageVariantCache.Variant("/42", path, new File("/42" + path), 10);
+    }
+}
@@ -0,0 +1,112 @@
+package com.sdl.dxa.tridion.content;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class LocalBinaryMetaIndexTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final LocalBinaryMetaIndex index = new LocalBinaryMetaIndex(2);
+
+    @After
+    public void shutdown() {
+        index.shutdown();
+    }
+
+    @Test
+    public void shouldWriteNewEntry_RightAway() {
+        //given
+        String publicationDir = folder.getRoot().getPath();
+        LocalBinaryMetaIndex.Entry entry = entry(1000L);
+
+        //when
+        index.put(publicationDir, "/media/image.png", entry);
+
+        //then
+        assertEquals(entry, new LocalBinaryMetaIndex().get(publicationDir, "/media/image.png"));
+    }
+
+    @Test
+    public void shouldWriteRevalidatedEntry_OnFlush() {
+        //given
+        String publicationDir = folder.getRoot().getPath();
+        index.put(publicationDir, "/media/image.png", entry(1000L));
+
+        //when
+        index.put(publicationDir, "/media/image.png", entry(2000L));
+
+        //then
+        assertEquals(2000L, index.get(publicationDir, "/media/image.png").getChecked());
+        assertEquals(1000L, new LocalBinaryMetaIndex().get(publicationDir, "/media/image.png").getChecked());
+
+        //when
+        index.flush();
+
+        //then
+        assertEquals(2000L, new LocalBinaryMetaIndex().get(publicationDir, "/media/image.png").getChecked());
+    }
+
+    @Test
+    public void shouldNotOverwriteChangedEntry_WithPendingRevalidation() {
+        //given
+        String publicationDir = folder.getRoot().getPath();
+        index.put(publicationDir, "/media/image.png", entry(1000L));
+        index.put(publicationDir, "/media/image.png", entry(2000L));
+        LocalBinaryMetaIndex.Entry republished = new LocalBinaryMetaIndex.Entry("/media/image.png", 42, 3000L, 20, "image/png", 3000L);
+
+        //when
+        index.put(publicationDir, "/media/image.png", republished);
+        index.flush();
+
+        //then
+        assertEquals(republished, new LocalBinaryMetaIndex().get(publicationDir, "/media/image.png"));
+    }
+
+    @Test
+    public void shouldKeepOnlyMaximumSizeInMemory_AndReadOthersFromDisk() {
+        //given
+        String publicationDir = folder.getRoot().getPath();
+        for (int i = 0; i < 10; i++) {
+            index.put(publicationDir, "/media/image" + i + ".png", entry(i));
+        }
+
+        //when
+        LocalBinaryMetaIndex.Entry entry = index.get(publicationDir, "/media/image0.png");
+
+        //then
+        assertEquals(entry(0), entry);
+    }
+
+    @Test
+    public void shouldRemoveEntry_FromMemoryAndDisk() {
+        //given
+        String publicationDir = folder.getRoot().getPath();
+        index.put(publicationDir, "/media/image.png", entry(1000L));
+        index.put(publicationDir, "/media/image.png", entry(2000L));
+        File indexFile = new File(new File(publicationDir, LocalBinaryMetaIndex.INDEX_DIR), "/media/image.png.properties");
+        assertTrue(indexFile.exists());
+
+        //when
+        index.remove(publicationDir, "/media/image.png");
+        index.flush();
+
+        //then
+        assertNull(index.get(publicationDir, "/media/image.png"));
+        assertFalse(indexFile.exists());
+    }
+
+    private static LocalBinaryMetaIndex.Entry entry(long checked) {
+        return new LocalBinaryMetaIndex.Entry("/media/image.png", 42, 1000L, 10, "image/png", checked);
+    }
+}
@@ -22,11 +22,22 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.context.WebApplicationContext;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -35,6 +46,7 @@ import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -170,4 +182,118 @@ public class StaticContentResolverTest {
         //then
         assertTrue(new File(webApplicationContext.getServletContext().getRealPath("/") + "/BinaryData/42/system/version").exists());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldServeDownloadedFile_FromLocalIndex_WithoutBroker() throws ContentProviderException, IOException {
+        //given
+        StaticContentRequestDto requestDto = StaticContentRequestDto.builder("/indexed_" + System.nanoTime(), "42")
+                .localizationPath("/").baseUrl("http://base").build();
+        when(binaryData.getBytes()).thenReturn("indexed".getBytes());
+        when(binaryMeta.getType()).thenReturn("image/png");
+
+        //when
+        staticContentResolver.getStaticContent(requestDto);
+        StaticContentItem item = staticContentResolver.getStaticContent(requestDto);
+
+        //then
+        verify(dynamicMetaRetriever, times(1)).getBinaryMetaByURL(anyString());
+        assertEquals("image/png", item.getContentType());
+        assertEquals("indexed", IOUtils.toString(item.getContent(), "UTF-8"));
+    }
+
+    @Test
+    public void shouldAlwaysAskBroker_IfNoMediaCacheIsRequested() throws ContentProviderException {
+        //given
+        StaticContentRequestDto requestDto = StaticContentRequestDto.builder("/no_media_cache_" + System.nanoTime(), "42")
+                .localizationPath("/").baseUrl("http://base").noMediaCache(true).build();
+
+        //when
+        staticContentResolver.getStaticContent(requestDto);
+        staticContentResolver.getStaticContent(requestDto);
+
+        //then
+        verify(dynamicMetaRetriever, times(2)).getBinaryMetaByURL(anyString());
+    }
+
+    @Test
+    public void shouldResizeImage_IfRequestedInAnotherSize() throws ContentProviderException, IOException {
+        //given
+        StaticContentRequestDto requestDto = StaticContentRequestDto.builder("/resized_" + System.nanoTime() + "_w100.png", "42")
+                .localizationPath("/").baseUrl("http://base").build();
+        when(binaryData.getBytes()).thenReturn(image(400, 200));
+
+        //when
+        StaticContentItem item = staticContentResolver.getStaticContent(requestDto);
+
+        //then
+        BufferedImage resized = ImageIO.read(item.getContent());
+        assertEquals(100, resized.getWidth());
+        assertEquals(50, resized.getHeight());
+    }
+
+    @Test
+    public void shouldDeleteLeastRecentlyUsedImageVariants_IfTheyTakeMoreThanMaxSize() throws ContentProviderException, IOException {
+        //given
+        byte[] original = image(400, 200);
+        when(binaryData.getBytes()).thenReturn(original);
+        String name = "/variant_" + System.nanoTime();
+        staticContentResolver.getStaticContent(StaticContentRequestDto.builder(name + "_w100.png", "42")
+                .localizationPath("/").baseUrl("http://base").build());
+        File first = new File(webApplicationContext.getServletContext().getRealPath("/") + "/BinaryData/42" + name + "_w100.png");
+        ReflectionTestUtils.setField(staticContentResolver, "imageVariantsMaxSize", first.length());
+
+        //when
+        staticContentResolver.getStaticContent(StaticContentRequestDto.builder(name + "_w120.png", "42")
+                .localizationPath("/").baseUrl("http://base").build());
+
+        //then
+        assertFalse(first.exists());
+        assertTrue(new File(webApplicationContext.getServletContext().getRealPath("/") + "/BinaryData/42" + name + "_w120.png").exists());
+    }
+
+    @Test
+    public void shouldServeImageVariants_WhileTheyAreEvicted() throws Exception {
+        //given
+        when(binaryData.getBytes()).thenReturn(image(400, 200));
+        String name = "/evicted_" + System.nanoTime();
+        staticContentResolver.getStaticContent(variant(name, 100));
+        File first = new File(webApplicationContext.getServletContext().getRealPath("/") + "/BinaryData/42" + name + "_w100.png");
+        // every variant evicts all others
+        ReflectionTestUtils.setField(staticContentResolver, "imageVariantsMaxSize", first.length());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        //when
+        List<Future<BufferedImage>> served = new ArrayList<>();
+        try {
+            for (int i = 0; i < 200; i++) {
+                int width = 100 + i % 4;
+                served.add(executor.submit(() -> {
+                    StaticContentItem item = staticContentResolver.getStaticContent(variant(name, width));
+                    // the variant is likely evicted by now by another request
+                    Thread.sleep(1);
+                    try (InputStream content = item.getContent()) {
+                        return ImageIO.read(content);
+                    }
+                }));
+            }
+
+            //then
+            for (int i = 0; i < served.size(); i++) {
+                assertEquals(100 + i % 4, served.get(i).get(10, TimeUnit.SECONDS).getWidth());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static StaticContentRequestDto variant(String name, int width) {
+        return StaticContentRequestDto.builder(name + "_w" + width + ".png", "42")
+                .localizationPath("/").baseUrl("http://base").build();
+    }
+
+    private static byte[] image(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+}
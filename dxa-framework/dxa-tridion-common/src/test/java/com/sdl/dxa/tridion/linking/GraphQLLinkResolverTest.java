@@ -1,9 +1,14 @@
 package com.sdl.dxa.tridion.linking;
 
 import com.sdl.dxa.tridion.pcaclient.ApiClientProvider;
-import com.sdl.web.pca.client.DefaultApiClient;
 import com.sdl.web.pca.client.ApiClient;
+import com.sdl.web.pca.client.DefaultGraphQLClient;
+import com.sdl.web.pca.client.auth.Authentication;
 import com.sdl.web.pca.client.contentmodel.enums.ContentNamespace;
+import com.sdl.webapp.common.api.content.LinkRequest;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -11,7 +16,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -26,11 +44,24 @@ public class GraphQLLinkResolverTest {
     @InjectMocks
     private GraphQLLinkResolver linkResovler = new GraphQLLinkResolver();
 
+    private HttpServer graphQLServer;
+
+    private AtomicInteger graphQLCalls = new AtomicInteger();
+
+    private List<String> graphQLQueries = new ArrayList<>();
+
     @Before
     public void setup(){
         when(apiClientProvider.getClient()).thenReturn(publicContentApi);
     }
 
+    @After
+    public void tearDown() {
+        if (graphQLServer != null) {
+            graphQLServer.stop(0);
+        }
+    }
+
     @Test
     public void resolvePageLink() {
 
@@ -56,4 +87,68 @@ public class GraphQLLinkResolverTest {
         String binaryLinkresult = linkResovler.resolveLink("tcm:2-3", "2", true);
         assertEquals(binaryLinkresult, "/media/baloon.png");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldResolveAllLinks_InSingleGraphQLCall() throws Exception {
+        //given
+        startGraphQLServer("{\"data\": {" +
+                "\"l0\": {\"url\": \"/component.html\"}, " +
+                "\"l1\": {\"url\": \"/page.html\"}, " +
+                "\"l2\": {\"url\": \"/media/baloon.png\"}}}");
+        List<LinkRequest> linkRequests = new ArrayList<>();
+        linkRequests.add(LinkRequest.of("tcm:2-3", "2"));
+        linkRequests.add(LinkRequest.of("tcm:2-4-64", "2"));
+        linkRequests.add(LinkRequest.of("tcm:2-5", "2", true));
+        for (int i = 0; i < 80; i++) {
+            linkRequests.add(LinkRequest.of("tcm:2-3", "2"));
+        }
+
+        //when
+        Map<LinkRequest, String> links = linkResovler.resolveLinks(linkRequests);
+
+        //then
+        assertEquals(1, graphQLCalls.get());
+        assertEquals(3, links.size());
+        assertEquals("/component.html", links.get(LinkRequest.of("tcm:2-3", "2")));
+        assertEquals("/page.html", links.get(LinkRequest.of("tcm:2-4-64", "2")));
+        assertEquals("/media/baloon.png", links.get(LinkRequest.of("tcm:2-5", "2", true)));
+        String query = graphQLQueries.get(0);
+        assertTrue(query.contains("l0: componentLink(namespaceId: 1, publicationId: 2, targetComponentId: 3"));
+        assertTrue(query.contains("l1: pageLink(namespaceId: 1, publicationId: 2, pageId: 4"));
+        assertTrue(query.contains("l2: binaryLink(namespaceId: 1, publicationId: 2, binaryId: 5"));
+        verify(publicContentApi, never()).resolveComponentLink(ContentNamespace.Sites, 2, 3, null, null, false);
+    }
+
+    @Test
+    public void shouldFallbackToComponentLinks_ForUnresolvedBinaries_InOneMoreGraphQLCall() throws Exception {
+        //given
+        startGraphQLServer("{\"data\": {\"l0\": null, \"l1\": {\"url\": \"/resolved\"}}}");
+
+        //when
+        Map<LinkRequest, String> links = linkResovler.resolveLinks(Arrays.asList(
+                LinkRequest.of("tcm:2-3", "2", true), LinkRequest.of("tcm:2-4", "2", true)));
+
+        //then
+        assertEquals(2, graphQLCalls.get());
+        assertTrue(graphQLQueries.get(1).contains("l0: componentLink(namespaceId: 1, publicationId: 2, targetComponentId: 3"));
+        assertEquals("/resolved", links.get(LinkRequest.of("tcm:2-4", "2", true)));
+    }
+
+    private void startGraphQLServer(String response) throws Exception {
+        graphQLServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        graphQLServer.createContext("/cd/api", exchange -> {
+            graphQLCalls.incrementAndGet();
+            graphQLQueries.add(IOUtils.toString(exchange.getRequestBody(), StandardCharsets.UTF_8));
+            byte[] body = response.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        graphQLServer.start();
+
+        String url = "http://localhost:" + graphQLServer.getAddress().getPort() + "/cd/api";
+        when(apiClientProvider.getGraphQLClient()).thenReturn(new DefaultGraphQLClient(url, null, mock(Authentication.class)));
+    }
+}
@@ -33,6 +33,7 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -86,6 +87,8 @@ public class DynamicNavigationModelProviderTest {
 
     private Map<String, Keyword> knownKeywords = new HashMap<>();
 
+    private Map<String, PageMeta[]> knownPages = new HashMap<>();
+
     private ImmutableMap<Object, Object> navigationModel;
 
     private String[] taxonomies;
@@ -541,6 +544,85 @@ public class DynamicNavigationModelProviderTest {
         verifyFiltering(DepthFilter.FILTER_UP, true);
     }
 
+    @Test
+    public void shouldLoadPagesOfKeywordOnce_WhenKeywordIsExpandedSeveralTimes() throws StorageException {
+        //given
+        prepareUpstreamForPage("tcm:42-22-64",
+                keyword("t1",
+                        keyword("t1-k0",
+                                keyword("t1-k12",
+                                        page("t1-p22")
+                                )
+                        )
+                ),
+                keyword("t1",
+                        keyword("t1-k0",
+                                keyword("t1-k14",
+                                        page("t1-p22")
+                                )
+                        )
+                )
+        );
+        prepareDownstream("tcm:42-14-1024", "tcm:42-12-1024", "tcm:42-0-1024", "tcm:42-1-512");
+
+        SitemapRequestDto requestDto = SitemapRequestDto.builder(42)
+                .sitemapId("t1-p22")
+                .navigationFilter(new NavigationFilter().setWithAncestors(true).setDescendantLevels(1))
+                .build();
+
+        //when
+        getOptionalSubtree(requestDto);
+
+        //then
+        ArgumentCaptor<Keyword> captor = ArgumentCaptor.forClass(Keyword.class);
+        verify(pageMetaFactory, atLeastOnce()).getTaxonomyPages(captor.capture(), anyBoolean());
+        List<String> keywordUris = captor.getAllValues().stream().map(Keyword::getKeywordURI).collect(Collectors.toList());
+        assertEquals(new HashSet<>(keywordUris).size(), keywordUris.size());
+        assertTrue(keywordUris.containsAll(Arrays.asList("tcm:42-12-1024", "tcm:42-14-1024")));
+    }
+
+    @Test
+    public void shouldFindKeywordMetaUri_WithoutLoadedTaxonomyPages() throws StorageException {
+        //given
+        Keyword keyword = keyword("t1-k21", page("t1-p31"), page("t1-p33"));
+        SitemapRequestDto requestDto = SitemapRequestDto.builder(42).build();
+        List<SitemapItemModelData> children = new ArrayList<>();
+
+        //when
+        String uri = navigationModelProvider.getKeywordMetaUri("1", requestDto, children, keyword, true);
+
+        //then
+        assertEquals("/p31", uri);
+        assertEquals(2, children.size());
+        verify(pageMetaFactory).getTaxonomyPages(same(keyword), anyBoolean());
+    }
+
+    @Test
+    public void shouldBuildNavigationModel_WithOverriddenKeywordMetaUri() {
+        //given
+        List<String> keywords = new ArrayList<>();
+        DynamicNavigationModelProviderImpl provider = new DynamicNavigationModelProviderImpl(taxonomyFactory, relationManager) {
+            @Override
+            protected String getKeywordMetaUri(String taxonomyId, SitemapRequestDto requestDto, List<SitemapItemModelData> children,
+                                               Keyword keyword, boolean needsToAddChildren) {
+                keywords.add(keyword.getKeywordURI());
+                return super.getKeywordMetaUri(taxonomyId, requestDto, children, keyword, needsToAddChildren);
+            }
+        };
+        ReflectionTestUtils.setField(provider, "taxonomyNavigationMarker", "[Taxonomy]");
+        ReflectionTestUtils.setField(provider, "sitemapItemTypePage", "Page");
+        ReflectionTestUtils.setField(provider, "sitemapItemTypeTaxonomyNode", "TaxonomyNode");
+        SitemapRequestDto requestDto = SitemapRequestDto.builder(42).navigationFilter(new NavigationFilter().setDescendantLevels(-1)).build();
+
+        //when
+        Optional<TaxonomyNodeModelData> model = provider.getNavigationModel(requestDto);
+
+        //then
+        assertTrue(model.isPresent());
+        assertTrue(keywords.containsAll(Arrays.asList("tcm:42-1-512", "tcm:42-12-1024", "tcm:42-21-1024")));
+        assertIdAndItemsSize(model.get().getItems().first(), "t1-k0", 5);
+    }
+
     @Test
     public void shouldExpandAncestors_MultiPage_DescendantsZero() throws StorageException {
         //given
@@ -946,7 +1028,10 @@ public class DynamicNavigationModelProviderTest {
         List<Keyword> keywords = Stream.of(children).filter(Keyword.class::isInstance).map(Keyword.class::cast).collect(Collectors.toList());
         List<PageMeta> pages = Stream.of(children).filter(PageMeta.class::isInstance).map(PageMeta.class::cast).collect(Collectors.toList());
         doReturn(keywords).when(keyword).getKeywordChildren();
-        doReturn(pages.toArray(new PageMeta[pages.size()])).when(pageMetaFactory).getTaxonomyPages(same(keyword), anyBoolean());
+
+        // broker returns pages of a keyword by its URI, so the keyword of an ancestors tree has the same pages as the known one
+        PageMeta[] taxonomyPages = knownPages.computeIfAbsent(keyword.getKeywordURI(), uri -> pages.toArray(new PageMeta[pages.size()]));
+        doReturn(taxonomyPages).when(pageMetaFactory).getTaxonomyPages(same(keyword), anyBoolean());
 
         keywords.forEach(k -> doReturn(keyword).when(k).getParentKeyword());
 
@@ -1,14 +1,21 @@
 package com.sdl.dxa.tridion;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sdl.dxa.tridion.modelservice.ModelServiceConfiguration;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -19,9 +26,12 @@ public class R2SpringConfiguration {
     @Qualifier("dxaR2ObjectMapper")
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private ModelServiceConfiguration modelServiceConfiguration;
+
     @Bean
     public RestTemplate modelServiceRestTemplate() {
-        RestTemplate restTemplate = new RestTemplate();
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(modelServiceHttpClient()));
         // replace the default JSON message converter with R2 on the right place in collection
         restTemplate.setMessageConverters(
                 restTemplate.getMessageConverters().stream()
@@ -31,6 +41,39 @@ public class R2SpringConfiguration {
         return restTemplate;
     }
 
+    /**
+     * HTTP client of the Model Service {@link RestTemplate}. Connections are pooled and kept alive between requests,
+     * so that a page request doesn't pay for a TCP (and TLS) handshake for each model it fetches.
+     * Pool size, timeouts and gzip come from {@link ModelServiceConfiguration}, connections idle for longer than
+     * {@code dxa.model.service.http.pool.idle-timeout} are closed in background.
+     *
+     * @return pooling HTTP client closed on shutdown
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient modelServiceHttpClient() {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(modelServiceConfiguration.getMaxConnectionsTotal());
+        connectionManager.setDefaultMaxPerRoute(modelServiceConfiguration.getMaxConnectionsPerRoute());
+
+        HttpClientBuilder builder = HttpClientBuilder.create()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout(modelServiceConfiguration.getConnectTimeoutMillis())
+                        .setConnectionRequestTimeout(modelServiceConfiguration.getConnectTimeoutMillis())
+                        .setSocketTimeout(modelServiceConfiguration.getReadTimeoutMillis())
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(modelServiceConfiguration.getIdleTimeoutSeconds(), TimeUnit.SECONDS);
+        if (!modelServiceConfiguration.isGzipEnabled()) {
+            builder.disableContentCompression();
+        }
+
+        log.info("Model Service HTTP client uses a pool of {} connections per route ({} in total), gzip is {}",
+                modelServiceConfiguration.getMaxConnectionsPerRoute(), modelServiceConfiguration.getMaxConnectionsTotal(),
+                modelServiceConfiguration.isGzipEnabled() ? "enabled" : "disabled");
+        return builder.build();
+    }
+
     @Bean
     public MappingJackson2HttpMessageConverter dxaR2MappingJackson2HttpMessageConverter() {
         MappingJackson2HttpMessageConverter jsonConverter = new MappingJackson2HttpMessageConverter();
@@ -3,10 +3,14 @@ package com.sdl.dxa.tridion.mapping.converter;
 import com.sdl.dxa.api.datamodel.model.ContentModelData;
 import com.sdl.dxa.api.datamodel.model.EntityModelData;
 import com.sdl.dxa.api.datamodel.model.PageModelData;
+import com.sdl.dxa.api.datamodel.model.RegionModelData;
 import com.sdl.dxa.tridion.mapping.ModelBuilderPipeline;
 import com.sdl.dxa.tridion.mapping.impl.DefaultSemanticFieldDataProvider;
 import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.content.LinkRequest;
 import com.sdl.webapp.common.api.content.LinkResolver;
+import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingRegistry;
+import com.sdl.webapp.common.api.mapping.semantic.config.FieldSemantics;
 import com.sdl.webapp.common.api.mapping.semantic.config.SemanticField;
 import com.sdl.webapp.common.api.model.EntityModel;
 import com.sdl.webapp.common.api.model.entity.Link;
@@ -16,13 +20,20 @@ import com.sdl.webapp.tridion.fields.exceptions.FieldConverterException;
 import com.sdl.webapp.tridion.fields.exceptions.UnsupportedTargetTypeException;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.stereotype.Service;
 
+import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 import static com.sdl.dxa.tridion.mapping.converter.SemanticModelConverter.getTypeInformation;
 
@@ -35,18 +46,69 @@ import static com.sdl.dxa.tridion.mapping.converter.SemanticModelConverter.getTy
 @Slf4j
 public class GenericSemanticModelDataConverter {
 
+    private static final String SELF_PROPERTY = "_self";
+
     @Autowired
     private WebRequestContext webRequestContext;
 
     @Autowired
     private LinkResolver linkResolver;
 
+    @Autowired
+    private SemanticMappingRegistry semanticMappingRegistry;
+
     private Map<Class<?>, SemanticModelConverter<?>> converters = new HashMap<>();
 
+    private final ConcurrentMap<Class<?>, Boolean> selfLinkedTypes = new ConcurrentHashMap<>();
+
     private static String resolveLink(String itemId, WebRequestContext webRequestContext, LinkResolver linkResolver) {
         String publicationId = webRequestContext.getLocalization().getId();
-        String url = TcmUtils.isTcmUri(itemId) ? itemId : TcmUtils.buildTcmUri(publicationId, itemId);
-        return linkResolver.resolveLink(url, publicationId);
+        // the full signature is called on the resolver bean, so that the call goes through its cache and a self-link
+        // is cached like any other resolved link, a prefetched self-link is taken from there
+        return linkResolver.resolveLink(toSelfLinkUrl(itemId, publicationId), publicationId, false);
+    }
+
+    private static String toSelfLinkUrl(String itemId, String publicationId) {
+        return TcmUtils.isTcmUri(itemId) ? itemId : TcmUtils.buildTcmUri(publicationId, itemId);
+    }
+
+    private static boolean isComponentId(String itemId) {
+        return TcmUtils.isTcmUri(itemId) ? TcmUtils.getItemType(itemId) == TcmUtils.COMPONENT_ITEM_TYPE :
+                !itemId.isEmpty() && itemId.chars().allMatch(Character::isDigit);
+    }
+
+    private void collectSelfLinks(List<RegionModelData> regions, String publicationId,
+                                  Function<EntityModelData, Class<?>> entityModelType, List<LinkRequest> linkRequests) {
+        if (regions == null) {
+            return;
+        }
+        for (RegionModelData region : regions) {
+            if (region.getEntities() != null) {
+                for (EntityModelData entity : region.getEntities()) {
+                    if (entity.getId() != null && isComponentId(entity.getId()) && isSelfLinked(entityModelType.apply(entity))) {
+                        linkRequests.add(LinkRequest.of(toSelfLinkUrl(entity.getId(), publicationId), publicationId));
+                    }
+                }
+            }
+            collectSelfLinks(region.getRegions(), publicationId, entityModelType, linkRequests);
+        }
+    }
+
+    private boolean isSelfLinked(@Nullable Class<?> modelType) {
+        return modelType != null && selfLinkedTypes.computeIfAbsent(modelType, this::hasSelfProperty);
+    }
+
+    private boolean hasSelfProperty(Class<?> modelType) {
+        for (Class<?> type = modelType; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                for (FieldSemantics fieldSemantics : semanticMappingRegistry.getFieldSemantics(field)) {
+                    if (SELF_PROPERTY.equals(fieldSemantics.getPropertyName())) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
     }
 
     @Autowired
@@ -78,6 +140,27 @@ public class GenericSemanticModelDataConverter {
         return semanticModelConverter;
     }
 
+    /**
+     * Collects self-links of the entities of the page that have a {@code _self} semantic property and resolves them
+     * in one batch before the page is mapped, so that {@link #selfLink(Object, TypeDescriptor, ModelBuilderPipeline)}
+     * called for these entities during the mapping takes already resolved links from cache instead of resolving them
+     * one by one. Only entities with component IDs are collected, other IDs don't resolve to links.
+     *
+     * @param pageModelData   page data to prefetch links for
+     * @param entityModelType resolves the model type an entity is mapped to, or {@code null} if it is unknown
+     *                        or the self-link of the entity is not needed
+     */
+    public void prefetchSelfLinks(PageModelData pageModelData, Function<EntityModelData, Class<?>> entityModelType) {
+        String publicationId = webRequestContext.getLocalization().getId();
+        List<LinkRequest> linkRequests = new ArrayList<>();
+        collectSelfLinks(pageModelData.getRegions(), publicationId, entityModelType, linkRequests);
+
+        if (!linkRequests.isEmpty()) {
+            log.trace("Prefetching {} self-links for page {}", linkRequests.size(), pageModelData.getId());
+            linkResolver.resolveLinks(linkRequests);
+        }
+    }
+
     public Object selfLink(Object toLink, TypeDescriptor targetType, ModelBuilderPipeline pipeline) throws DxaException {
         Class<?> objectType = getClassForSelfLinking(toLink, targetType);
 
@@ -18,6 +18,7 @@ import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.content.ConditionalEntityEvaluator;
 import com.sdl.webapp.common.api.content.ContentProvider;
 import com.sdl.webapp.common.api.content.ContentProviderException;
+import com.sdl.webapp.common.api.content.LinkRequest;
 import com.sdl.webapp.common.api.content.LinkResolver;
 import com.sdl.webapp.common.api.content.StaticContentItem;
 import com.sdl.webapp.common.api.localization.Localization;
@@ -52,9 +53,13 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -75,6 +80,9 @@ import static com.sdl.dxa.common.dto.PageRequestDto.PageInclusion.INCLUDE;
 @Slf4j
 public class DefaultContentProvider implements ContentProvider {
 
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS")
+            .withZone(ZoneId.systemDefault());
+
     private final ModelBuilderPipeline builderPipeline;
 
     private final ModelServiceProvider modelService;
@@ -134,7 +142,6 @@ public class DefaultContentProvider implements ContentProvider {
     private ContentModelData getContentModelData(ComponentMetadata metadata) {
         ContentModelData outer = new ContentModelData();
         ContentModelData standardMetaContents = new ContentModelData();
-        String dateTimeStringFormat = "yyyy-MM-dd'T'HH:mm:ss.SSS";
 
         metadata.getCustom().entrySet()
                 .forEach(entry -> {
@@ -143,7 +150,7 @@ public class DefaultContentProvider implements ContentProvider {
                         Object value = data.getValue();
                         String field;
                         if (data.getMetaType() == ComponentMetadata.MetaType.DATE) {
-                            field = new DateTime(value).toString(dateTimeStringFormat);
+                            field = formatDate(value);
                         } else {
                             field = value.toString();
                         }
@@ -153,7 +160,7 @@ public class DefaultContentProvider implements ContentProvider {
                 });
 
         if (!standardMetaContents.containsKey("dateCreated")) {
-            standardMetaContents.put("dateCreated", new DateTime(metadata.getLastPublicationDate()).toString(dateTimeStringFormat));
+            standardMetaContents.put("dateCreated", formatDate(metadata.getLastPublicationDate()));
         }
 
         if (!standardMetaContents.containsKey("name")) {
@@ -164,6 +171,12 @@ public class DefaultContentProvider implements ContentProvider {
         return outer;
     }
 
+    private static String formatDate(Object value) {
+        // dates in metadata are normally java.util.Date, other values are converted the way Joda-Time did it before
+        Instant instant = value instanceof Date ? ((Date) value).toInstant() : new DateTime(value).toDate().toInstant();
+        return DATE_TIME_FORMATTER.format(instant);
+    }
+
     @Autowired(required = false)
     public void setEntityEvaluators(List<ConditionalEntityEvaluator> entityEvaluators) {
         this.entityEvaluators = entityEvaluators;
@@ -271,6 +284,8 @@ public class DefaultContentProvider implements ContentProvider {
 
     /**
      * Executes the given query on a specific version of Tridion and returns a list of metadata.
+     * <p>Metadata of every component is requested once and only until the page is full,
+     * links to all components are resolved in one batch.</p>
      *
      * @param simpleBrokerQuery query to execute
      * @return a list of metadata, never returns <code>null</code>
@@ -278,17 +293,43 @@ public class DefaultContentProvider implements ContentProvider {
     @Contract("_ -> !null")
     protected List<ComponentMetadata> executeMetadataQuery(SimpleBrokerQuery simpleBrokerQuery) {
         List<String> ids = executeQuery(simpleBrokerQuery);
-
-        final WebComponentMetaFactory cmf = new WebComponentMetaFactoryImpl(simpleBrokerQuery.getPublicationId());
         simpleBrokerQuery.setHasMore(ids.size() > simpleBrokerQuery.getPageSize());
 
-        return ids.stream()
-                .filter(id -> cmf.getMeta(id) != null)
-                .limit(simpleBrokerQuery.getPageSize())
-                .map(id -> convert(cmf.getMeta(id)))
+        WebComponentMetaFactory cmf = createComponentMetaFactory(simpleBrokerQuery.getPublicationId());
+        List<ComponentMeta> componentMetas = new ArrayList<>();
+        for (String id : ids) {
+            if (componentMetas.size() >= simpleBrokerQuery.getPageSize()) {
+                break;
+            }
+            ComponentMeta componentMeta = cmf.getMeta(id);
+            if (componentMeta != null) {
+                componentMetas.add(componentMeta);
+            }
+        }
+
+        Map<LinkRequest, String> componentUrls = linkResolver.resolveLinks(componentMetas.stream()
+                .map(DefaultContentProvider::componentLinkRequest)
+                .collect(Collectors.toList()));
+
+        return componentMetas.stream()
+                .map(componentMeta -> convert(componentMeta, componentUrls.get(componentLinkRequest(componentMeta))))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Creates a factory of component metadata for the given publication.
+     *
+     * @param publicationId publication ID
+     * @return component metadata factory
+     */
+    protected WebComponentMetaFactory createComponentMetaFactory(int publicationId) {
+        return new WebComponentMetaFactoryImpl(publicationId);
+    }
+
+    private static LinkRequest componentLinkRequest(ComponentMeta compMeta) {
+        return LinkRequest.of("tcm:" + compMeta.getPublicationId() + '-' + compMeta.getId(), null);
+    }
+
     private Criteria buildCriteria(@NotNull SimpleBrokerQuery query) {
         final List<Criteria> children = new ArrayList<>();
 
@@ -319,7 +360,7 @@ public class DefaultContentProvider implements ContentProvider {
         return new SortParameter(getSortColumn(simpleBrokerQuery), dir);
     }
 
-    private ComponentMetadata convert(ComponentMeta compMeta) {
+    private ComponentMetadata convert(ComponentMeta compMeta, String componentUrl) {
         Map<String, ComponentMetadata.MetaEntry> custom = new HashMap<>(compMeta.getCustomMeta().getNameValues().size());
         for (Map.Entry<String, NameValuePair> entry : compMeta.getCustomMeta().getNameValues().entrySet()) {
             ComponentMetadata.MetaType metaType;
@@ -341,7 +382,7 @@ public class DefaultContentProvider implements ContentProvider {
 
         return ComponentMetadata.builder()
                 .id(String.valueOf(compMeta.getId()))
-                .componentUrl(linkResolver.resolveLink("tcm:" + compMeta.getPublicationId() + '-' + compMeta.getId(), null))
+                .componentUrl(componentUrl)
                 .publicationId(String.valueOf(compMeta.getPublicationId()))
                 .owningPublicationId(String.valueOf(compMeta.getOwningPublicationId()))
                 .schemaId(String.valueOf(compMeta.getSchemaId()))
@@ -1,5 +1,6 @@
 package com.sdl.dxa.tridion.mapping.impl;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.sdl.dxa.api.datamodel.model.BinaryContentData;
 import com.sdl.dxa.api.datamodel.model.EntityModelData;
 import com.sdl.dxa.api.datamodel.model.ExternalContentData;
@@ -11,12 +12,16 @@ import com.sdl.dxa.api.datamodel.model.util.ListWrapper;
 import com.sdl.dxa.caching.ConditionalKey;
 import com.sdl.dxa.caching.ConditionalKey.ConditionalKeyBuilder;
 import com.sdl.dxa.caching.LocalizationAwareCacheKey;
-import com.sdl.dxa.caching.NeverCached;
+import com.sdl.dxa.caching.NeverCachedTypes;
 import com.sdl.dxa.caching.wrapper.EntitiesCache;
 import com.sdl.dxa.caching.wrapper.PagesCopyingCache;
+import com.sdl.dxa.metrics.MetricsRegistry;
+import com.sdl.dxa.metrics.NoOpMetricsRegistry;
+import com.sdl.dxa.metrics.Timer;
 import com.sdl.dxa.tridion.mapping.EntityModelBuilder;
 import com.sdl.dxa.tridion.mapping.ModelBuilderPipeline;
 import com.sdl.dxa.tridion.mapping.PageModelBuilder;
+import com.sdl.dxa.tridion.mapping.converter.GenericSemanticModelDataConverter;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.api.mapping.semantic.SemanticMapper;
@@ -44,14 +49,21 @@ import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PreDestroy;
 import java.lang.reflect.InvocationTargetException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.stream.Collectors;
 
+import static com.sdl.dxa.metrics.MetricNames.MODEL_BUILD;
+import static com.sdl.dxa.metrics.MetricNames.TAG_TYPE;
 import static com.sdl.webapp.common.api.model.mvcdata.MvcDataCreator.creator;
 import static com.sdl.webapp.common.util.StringUtils.dashify;
 
@@ -82,6 +94,23 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
     @Autowired
     private EntitiesCache entitiesCache;
 
+    @Autowired
+    private GenericSemanticModelDataConverter genericSemanticModelDataConverter;
+
+    @Autowired(required = false)
+    private MetricsRegistry metricsRegistry = NoOpMetricsRegistry.INSTANCE;
+
+    @Value("${dxa.web.link-resolver.prefetch-self-links:#{true}}")
+    private boolean prefetchSelfLinks = true;
+
+    @Value("${dxa.web.model-builder.parallel.enabled:#{false}}")
+    private boolean parallelBuild = false;
+
+    @Value("${dxa.web.model-builder.parallel.threads:#{8}}")
+    private int parallelThreads = 8;
+
+    private volatile ExecutorService parallelExecutor;
+
     @Override
     public int getOrder() {
         return HIGHEST_PRECEDENCE;
@@ -95,7 +124,6 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
     @Override
     public <T extends EntityModel> T buildEntityModel(@Nullable T originalEntityModel, EntityModelData modelData,
                                                       @Nullable Class<T> expectedClass) throws DxaException {
-        T entityModel;
         try {
             MvcData mvcData = null;
             Class<? extends ViewModel> modelType;
@@ -114,16 +142,21 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
                     (expectedClass != null
                             ? " from pre-selected class " + expectedClass.getCanonicalName()
                             : " from MvcData class " + mvcData.getClass().getCanonicalName()));
-            LocalizationAwareCacheKey key = entitiesCache.getSpecificKey(modelData,expectedClass);
-            synchronized (this) {
-                if (entitiesCache.containsKey(key)) {
-                    //noinspection unchecked
-                    return (T) entitiesCache.get(key);
-                }
-            }
+            LocalizationAwareCacheKey key = entitiesCache.getSpecificKey(modelData, expectedClass);
+            MvcData entityMvcData = mvcData;
 
             //noinspection unchecked
-            entityModel = (T) createViewModel(modelType, modelData);
+            return (T) entitiesCache.getOrLoad(key, () -> _createEntityModel(key, modelType, entityMvcData, modelData));
+        } catch (DxaException e) {
+            throw new DxaException("Exception happened while creating a entity model from: " + modelData, e);
+        }
+    }
+
+    private EntityModel _createEntityModel(LocalizationAwareCacheKey key, Class<? extends ViewModel> modelType,
+                                           MvcData mvcData, EntityModelData modelData) throws DxaException {
+        Timer.Sample sample = metricsRegistry.timer(MODEL_BUILD, TAG_TYPE, "entity").start();
+        try {
+            EntityModel entityModel = (EntityModel) createViewModel(modelType, modelData);
             entityModel.setMvcData(mvcData);
 
             ((AbstractEntityModel) entityModel).setId(modelData.getId());
@@ -131,11 +164,33 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
 
             _processMediaItem(modelData, entityModel);
 
-            entitiesCache.addAndGet(key, entityModel);
+            return entitiesCache.addAndGet(key, entityModel);
+        } finally {
+            sample.stop();
+        }
+    }
+
+    /**
+     * Returns the model type of an entity to prefetch its self-link, or {@code null} if it is unknown or if the entity
+     * is taken from the entities cache, which doesn't resolve its self-link again.
+     */
+    @Nullable
+    private Class<? extends ViewModel> _getEntityModelType(EntityModelData entityModelData) {
+        if (entityModelData.getMvcData() == null || _isEntityCached(entityModelData)) {
+            return null;
+        }
+        try {
+            return viewModelRegistry.getViewModelType(createMvcData(entityModelData.getMvcData(), DefaultsMvcData.ENTITY));
         } catch (DxaException e) {
-            throw new DxaException("Exception happened while creating a entity model from: " + modelData, e);
+            log.debug("Cannot determine model type of entity {}, its self-link is not prefetched", entityModelData.getId(), e);
+            return null;
         }
-        return entityModel;
+    }
+
+    private boolean _isEntityCached(EntityModelData entityModelData) {
+        // not counted as a cache lookup, the entity is looked up again when it is built
+        return entitiesCache.isCachingEnabled()
+                && entitiesCache.getCache().containsKey(entitiesCache.getSpecificKey(entityModelData));
     }
 
     @NotNull
@@ -158,7 +213,7 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
             Map<FieldSemantics, SemanticField> semanticFields = getAllSemanticFields(semanticSchema, modelData);
 
             return semanticMapper.createEntity(viewModelType, semanticFields,
-                    DefaultSemanticFieldDataProvider.getFor(modelData, semanticSchema));
+                    createDataProvider(modelData, semanticSchema));
         } catch (SemanticMappingException e) {
             String message = "Cannot do a semantic mapping for class '" + viewModelType +
                     "', model data '" + modelData + "', localization '" + localization + "'";
@@ -194,6 +249,12 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
         return semanticFields;
     }
 
+    @Nullable
+    private DefaultSemanticFieldDataProvider createDataProvider(ViewModelData modelData, SemanticSchema semanticSchema) {
+        return DefaultSemanticFieldDataProvider.getFor(modelData, semanticSchema,
+                genericSemanticModelDataConverter, modelBuilderPipeline, webRequestContext);
+    }
+
     private void fillViewModel(ViewModel viewModel, ViewModelData modelData) {
         if (modelData.getExtensionData() != null) {
             modelData.getExtensionData().forEach(viewModel::addExtensionData);
@@ -244,12 +305,18 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
     @Override
     public PageModel buildPageModel(@Nullable PageModel originalPageModel, PageModelData modelData) {
         LocalizationAwareCacheKey cacheKey = pagesCopyingCache.getSpecificKey(modelData);
-        synchronized (this) {
-            if (pagesCopyingCache.containsKey(cacheKey)) {
-                return pagesCopyingCache.get(cacheKey);
+        return pagesCopyingCache.getOrLoad(cacheKey, () -> {
+            Timer.Sample sample = metricsRegistry.timer(MODEL_BUILD, TAG_TYPE, "page").start();
+            try {
+                return _createPageModel(cacheKey, originalPageModel, modelData);
+            } finally {
+                sample.stop();
             }
-        }
+        });
+    }
 
+    @Nullable
+    private PageModel _createPageModel(LocalizationAwareCacheKey cacheKey, @Nullable PageModel originalPageModel, PageModelData modelData) {
         ConditionalKeyBuilder keyBuilder = ConditionalKey.builder().key(cacheKey);
         PageModel pageModel = instantiatePageModel(originalPageModel, modelData);
 
@@ -266,9 +333,15 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
         pageModel.setUrl(modelData.getUrlPath());
 
         if (modelData.getRegions() != null) {
+            if (prefetchSelfLinks) {
+                genericSemanticModelDataConverter.prefetchSelfLinks(modelData, this::_getEntityModelType);
+            }
+            RegionEntitiesBuilder entitiesBuilder = new RegionEntitiesBuilder(this::createEntityModel,
+                    parallelBuild ? _getParallelExecutor() : null);
             modelData.getRegions().stream()
-                    .map(regionModelData -> createRegionModel(regionModelData, keyBuilder))
+                    .map(regionModelData -> createRegionModel(regionModelData, keyBuilder, entitiesBuilder))
                     .forEach(pageModel.getRegions()::add);
+            entitiesBuilder.complete();
         }
         if (isNeverCached(pageModel)) {
             keyBuilder.skipCaching(true);
@@ -315,7 +388,8 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
         return title + separator + postfix;
     }
 
-    private RegionModel createRegionModel(RegionModelData regionModelData, ConditionalKeyBuilder keyBuilder) {
+    private RegionModel createRegionModel(RegionModelData regionModelData, ConditionalKeyBuilder keyBuilder,
+                                          RegionEntitiesBuilder entitiesBuilder) {
         MvcData mvcData = createMvcData(regionModelData.getMvcData(), DefaultsMvcData.REGION);
         log.debug("MvcData '{}' for RegionModel {}", mvcData, regionModelData);
 
@@ -339,7 +413,7 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
 
                     semanticMapper.mapSemanticFields(viewModelType,
                             semanticFields,
-                            DefaultSemanticFieldDataProvider.getFor(regionModelData, semanticSchema),
+                            createDataProvider(regionModelData, semanticSchema),
                             regionModel);
                 }
                 catch (Exception e) {
@@ -358,17 +432,19 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
 
             if (regionModelData.getRegions() != null) {
                 regionModelData.getRegions().stream()
-                        .map(regionModelData1 -> createRegionModel(regionModelData1, keyBuilder))
+                        .map(regionModelData1 -> createRegionModel(regionModelData1, keyBuilder, entitiesBuilder))
                         .forEach(regionModel.getRegions()::add);
             }
 
             if (regionModelData.getEntities() != null) {
-                regionModelData.getEntities().stream()
-                        .map(entityModelData -> {
-                            EntityModel entityModel = createEntityModel(entityModelData, keyBuilder);
+                regionModelData.getEntities().forEach(entityModelData ->
+                        entitiesBuilder.add(entityModelData, entityModel -> {
+                            if (isNeverCached(entityModel)) {
+                                keyBuilder.skipCaching(true);
+                            }
                             entityModel.setMvcData(creator(entityModel.getMvcData()).builder().regionName(regionModelData.getName()).build());
-                            return entityModel;
-                        }).forEach(regionModel::addEntity);
+                            regionModel.addEntity(entityModel);
+                        }));
             }
 
             return regionModel;
@@ -381,13 +457,9 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
         }
     }
 
-    private EntityModel createEntityModel(EntityModelData entityModelData, ConditionalKeyBuilder cacheRequest) {
+    private EntityModel createEntityModel(EntityModelData entityModelData) {
         try {
-            EntityModel entityModel = modelBuilderPipeline.createEntityModel(entityModelData);
-            if (isNeverCached(entityModel)) {
-                cacheRequest.skipCaching(true);
-            }
-            return entityModel;
+            return modelBuilderPipeline.createEntityModel(entityModelData);
         } catch (Exception e) {
             log.warn("Cannot create an entity model for model data {}", entityModelData, e);
             return new ExceptionEntity(e);
@@ -395,6 +467,41 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
     }
 
     private boolean isNeverCached(@NotNull Object object) {
-        return object.getClass().isAnnotationPresent(NeverCached.class);
+        return NeverCachedTypes.isNeverCached(object.getClass());
+    }
+
+    private ExecutorService _getParallelExecutor() {
+        if (parallelExecutor == null) {
+            synchronized (this) {
+                if (parallelExecutor == null) {
+                    parallelExecutor = Executors.newFixedThreadPool(Math.max(1, parallelThreads), _createThreadFactory());
+                }
+            }
+        }
+        return parallelExecutor;
+    }
+
+    /**
+     * Creates a factory of virtual threads if the runtime supports them (Java 21+), or of daemon platform threads otherwise.
+     * The number of threads is bounded by the pool in both cases.
+     */
+    private static ThreadFactory _createThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, "dxa-model-builder-", 0L);
+            log.info("Parallel model building uses virtual threads");
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            log.info("Virtual threads are not supported by the runtime, parallel model building uses platform threads");
+            return new ThreadFactoryBuilder().setDaemon(true).setNameFormat("dxa-model-builder-%d").build();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (parallelExecutor != null) {
+            parallelExecutor.shutdownNow();
+        }
     }
 }
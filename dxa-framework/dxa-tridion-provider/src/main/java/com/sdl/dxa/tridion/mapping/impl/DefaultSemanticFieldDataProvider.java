@@ -37,43 +37,89 @@ import java.util.stream.Stream;
 
 import static com.sdl.webapp.common.util.ApplicationContextHolder.getContext;
 
+/**
+ * {@link SemanticFieldDataProvider} of view models coming from the model service.
+ * <p>Data providers of list items and embedded values are created out of the data provider of their parent
+ * with {@link #iteration(Object, SemanticField, int)} and {@link #embedded(Object)}. All data providers of the same
+ * tree share the collaborators resolved for the root one, so no bean lookup happens per list item or per embedding
+ * level.</p>
+ */
 @Slf4j
 public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvider {
 
-    private ModelDataWrapper dataWrapper;
+    private final ModelDataWrapper dataWrapper;
 
     @Getter
-    private SemanticSchema semanticSchema;
+    private final SemanticSchema semanticSchema;
 
-    private GenericSemanticModelDataConverter genericSemanticModelDataConverter;
-
-    private ModelBuilderPipeline pipeline;
+    private final Collaborators collaborators;
 
     private int embeddingLevel = 0;
 
     private int iteration = 0;
 
-    private String context = null;
+    @Nullable
+    private XPathContext context = null;
 
-    private DefaultSemanticFieldDataProvider(ModelDataWrapper dataWrapper, SemanticSchema semanticSchema) {
+    private DefaultSemanticFieldDataProvider(ModelDataWrapper dataWrapper, SemanticSchema semanticSchema, Collaborators collaborators) {
         this.dataWrapper = dataWrapper;
         this.semanticSchema = semanticSchema;
-        this.genericSemanticModelDataConverter = getContext().getBean(GenericSemanticModelDataConverter.class);
-        this.pipeline = getContext().getBean(ModelBuilderPipeline.class);
+        this.collaborators = collaborators;
     }
 
+    /**
+     * Creates a data provider for the given model resolving its collaborators from the application context.
+     *
+     * @param model          model to provide data of
+     * @param semanticSchema semantic schema of the model
+     * @return data provider or {@code null} if the model is not supported
+     */
     @Nullable
     public static DefaultSemanticFieldDataProvider getFor(ViewModelData model, SemanticSchema semanticSchema) {
-        return _getFor(model, semanticSchema);
+        if (!(model instanceof CanWrapContentAndMetadata)) {
+            return _getFor(model, semanticSchema, null);
+        }
+        return _getFor(model, semanticSchema, new Collaborators(
+                getContext().getBean(GenericSemanticModelDataConverter.class),
+                getContext().getBean(ModelBuilderPipeline.class), null));
+    }
+
+    /**
+     * Creates a data provider for the given model with the given collaborators, which are then shared
+     * by all data providers created out of it.
+     *
+     * @param model                             model to provide data of
+     * @param semanticSchema                    semantic schema of the model
+     * @param genericSemanticModelDataConverter converter of the field values
+     * @param pipeline                          model builder pipeline to build the nested models
+     * @param webRequestContext                 current request context
+     * @return data provider or {@code null} if the model is not supported
+     */
+    @Nullable
+    public static DefaultSemanticFieldDataProvider getFor(ViewModelData model, SemanticSchema semanticSchema,
+                                                          GenericSemanticModelDataConverter genericSemanticModelDataConverter,
+                                                          ModelBuilderPipeline pipeline, WebRequestContext webRequestContext) {
+        return _getFor(model, semanticSchema, new Collaborators(genericSemanticModelDataConverter, pipeline, webRequestContext));
     }
 
     @Nullable
-    private static DefaultSemanticFieldDataProvider _getFor(@NotNull Object model, SemanticSchema semanticSchema) {
+    private static DefaultSemanticFieldDataProvider _getFor(@NotNull Object model, SemanticSchema semanticSchema, Collaborators collaborators) {
         if (!(model instanceof CanWrapContentAndMetadata)) {
             log.debug("Type {} is not supported by embedded SemanticFieldDataProvider", model.getClass());
             return null;
         }
-        return new DefaultSemanticFieldDataProvider(((CanWrapContentAndMetadata) model).getDataWrapper(), semanticSchema);
+        return new DefaultSemanticFieldDataProvider(((CanWrapContentAndMetadata) model).getDataWrapper(), semanticSchema, collaborators);
+    }
+
+    /**
+     * Creates a data provider for another model of the same semantic schema, sharing the collaborators of this data provider.
+     *
+     * @param model model to provide data of
+     * @return data provider or {@code null} if the model is not supported
+     */
+    @Nullable
+    public DefaultSemanticFieldDataProvider forModel(ViewModelData model) {
+        return _getFor(model, semanticSchema, collaborators);
     }
 
     /**
@@ -86,11 +132,11 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
      */
     @Nullable
     public DefaultSemanticFieldDataProvider iteration(Object model, SemanticField semanticField, int index) {
-        DefaultSemanticFieldDataProvider provider = _getFor(model, semanticSchema);
+        DefaultSemanticFieldDataProvider provider = _getFor(model, semanticSchema, collaborators);
         if (provider != null) {
             provider.embeddingLevel = this.embeddingLevel;
             provider.iteration = index + 1;
-            provider.context = semanticField.getXPath(this.context) + "[" + provider.iteration + "]";
+            provider.context = new XPathContext(this.context, semanticField, provider.iteration);
             log.trace("Iterating over some list, current index = {}, item = {}, embedding level = {}, context = {}",
                     index, model, this.embeddingLevel, provider.context);
         }
@@ -105,7 +151,7 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
      */
     @Nullable
     public DefaultSemanticFieldDataProvider embedded(Object value) {
-        DefaultSemanticFieldDataProvider provider = _getFor(value, this.semanticSchema);
+        DefaultSemanticFieldDataProvider provider = _getFor(value, this.semanticSchema, collaborators);
         if (provider != null) {
             provider.iteration = this.iteration;
             provider.context = this.context;
@@ -120,23 +166,24 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
     public FieldData getFieldData(SemanticField semanticField, TypeDescriptor targetType) throws SemanticMappingException {
         log.trace("semanticField: {}, targetType: {}", semanticField, targetType);
 
-        ContentModelData data = semanticField.getPath().isMetadata() ? dataWrapper.getMetadata() : dataWrapper.getContent();
-        FieldPath path = getCurrentPath(semanticField);
-
-        if (path == null) {
+        FieldPath path = semanticField.getPath();
+        // the first segment is the name of the root entity, and every embedding level skips one more
+        int depth = embeddingLevel + 1;
+        if (depth >= path.getLength()) {
             log.warn("Path is null for semantic field {}, embedding level {}", semanticField, embeddingLevel);
             return null;
         }
 
-        Optional<Object> field = findField(data, path);
-        if (!field.isPresent()) {
-            log.debug("No data is found for path {} for semantic field", path, semanticField);
+        ContentModelData data = path.isMetadata() ? dataWrapper.getMetadata() : dataWrapper.getContent();
+        Object field = findField(data, path, depth);
+        if (field == null) {
+            log.debug("No data is found for path {} at depth {} for semantic field {}", path, depth, semanticField);
             return null;
         }
 
-        Object value = genericSemanticModelDataConverter.convert(field.get(), targetType, semanticField, pipeline, this);
+        Object value = collaborators.genericSemanticModelDataConverter.convert(field, targetType, semanticField, collaborators.pipeline, this);
 
-        return new FieldData(value, semanticField.getXPath(this.context));
+        return new FieldData(value, semanticField.getXPath(context == null ? null : context.toString()));
     }
 
     @Override
@@ -144,7 +191,7 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
         Class<?> objectType = targetType.getObjectType();
         if (MediaItem.class.isAssignableFrom(objectType) || Link.class.isAssignableFrom(objectType) || String.class.isAssignableFrom(objectType)) {
             try {
-                return genericSemanticModelDataConverter.selfLink(dataWrapper.getWrappedModel(), targetType, pipeline);
+                return collaborators.genericSemanticModelDataConverter.selfLink(dataWrapper.getWrappedModel(), targetType, collaborators.pipeline);
             } catch (DxaException e) {
                 throw new SemanticMappingException("Failed self-linking " + targetType, e);
             }
@@ -184,7 +231,7 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
             {
                 if (value instanceof KeywordModelData) 
                 {
-                    T keyword = (T) genericSemanticModelDataConverter.convert(value, TypeDescriptor.valueOf(KeywordModel.class), null, pipeline, this);
+                    T keyword = (T) collaborators.genericSemanticModelDataConverter.convert(value, TypeDescriptor.valueOf(KeywordModel.class), null, collaborators.pipeline, this);
                     
                     fieldData.put(entry.getKey(), keyword);
                 }             
@@ -193,8 +240,8 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
             {
                 Optional<T> emdTcmUri = (Optional<T>) getEntityModelDataTcmUriOrNull(value);
                 fieldData.put(entry.getKey(), emdTcmUri.orElse(
-                    (T) genericSemanticModelDataConverter.convert(value, TypeDescriptor.valueOf(String.class), null,
-                            pipeline, this)));
+                    (T) collaborators.genericSemanticModelDataConverter.convert(value, TypeDescriptor.valueOf(String.class), null,
+                            collaborators.pipeline, this)));
             }   
         }
     }
@@ -212,36 +259,82 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
             return Optional.empty();
         }
 
-        String localizationId = getContext().getBean(WebRequestContext.class).getLocalization().getId();
+        String localizationId = collaborators.getWebRequestContext().getLocalization().getId();
         return Optional.of(TcmUtils.buildTcmUri(localizationId, modelData.getId()));
     }
 
     @Nullable
-    private FieldPath getCurrentPath(SemanticField semanticField) {
-        FieldPath _path = semanticField.getPath().getTail();
-        for (int i = 0; i < embeddingLevel && _path != null; i++) {
-            _path = _path.getTail();
+    private static Object findField(final ContentModelData data, FieldPath fieldPath, int depth) {
+        ContentModelData current = data;
+        int last = fieldPath.getLength() - 1;
+        for (int i = depth; i < last; i++) {
+            if (current == null || current.isEmpty()) {
+                return null;
+            }
+
+            Object field = current.get(fieldPath.getHead(i));
+            if (field instanceof ListWrapper) {
+                field = ((ListWrapper) field).get(0);
+                log.debug("Field with path {} has multiple values at depth {}, getting first {}", fieldPath, i, field);
+            }
+            current = (ContentModelData) field;
         }
-        return _path;
+        return current == null || current.isEmpty() ? null : current.get(fieldPath.getHead(last));
     }
 
-    @NotNull
-    private Optional<Object> findField(final ContentModelData data, FieldPath fieldPath) {
-        if (data == null || data.isEmpty() || fieldPath == null) {
-            return Optional.empty();
+    /**
+     * Collaborators resolved once for the root data provider and shared by all data providers created out of it.
+     */
+    private static final class Collaborators {
+
+        private final GenericSemanticModelDataConverter genericSemanticModelDataConverter;
+
+        private final ModelBuilderPipeline pipeline;
+
+        private WebRequestContext webRequestContext;
+
+        private Collaborators(GenericSemanticModelDataConverter genericSemanticModelDataConverter,
+                              ModelBuilderPipeline pipeline, @Nullable WebRequestContext webRequestContext) {
+            this.genericSemanticModelDataConverter = genericSemanticModelDataConverter;
+            this.pipeline = pipeline;
+            this.webRequestContext = webRequestContext;
         }
 
-        Object field = data.get(fieldPath.getHead());
-        if (fieldPath.hasTail()) {
-            if (field instanceof ListWrapper) {
-                field = ((ListWrapper) field).get(0);
-                log.debug("Field with path {} has multiple values, getting first {}", fieldPath, field);
+        private WebRequestContext getWebRequestContext() {
+            // only needed for linked entities, so it is not resolved upfront
+            if (webRequestContext == null) {
+                webRequestContext = getContext().getBean(WebRequestContext.class);
             }
-
-            return findField((ContentModelData) field, fieldPath.getTail());
-        } else {
-            return Optional.ofNullable(field);
+            return webRequestContext;
         }
     }
 
+    /**
+     * XPath context of a list item: the XPath of the list field in the context of the parent with the item index
+     * as a predicate. It is only rendered to a string when the XPath of a field is requested, and then only once.
+     */
+    private static final class XPathContext {
+
+        private final XPathContext parent;
+
+        private final SemanticField field;
+
+        private final int index;
+
+        private String xPath;
+
+        private XPathContext(@Nullable XPathContext parent, SemanticField field, int index) {
+            this.parent = parent;
+            this.field = field;
+            this.index = index;
+        }
+
+        @Override
+        public String toString() {
+            if (xPath == null) {
+                xPath = field.getXPath(parent == null ? null : parent.toString()) + "[" + index + "]";
+            }
+            return xPath;
+        }
+    }
 }
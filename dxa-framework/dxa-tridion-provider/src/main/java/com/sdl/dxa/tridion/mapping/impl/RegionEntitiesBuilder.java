@@ -0,0 +1,105 @@
+package com.sdl.dxa.tridion.mapping.impl;
+
+import com.sdl.dxa.api.datamodel.model.EntityModelData;
+import com.sdl.webapp.common.api.model.EntityModel;
+import com.sdl.webapp.common.api.model.entity.ExceptionEntity;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Builds entities of all regions of a page while the regions themselves are being built.
+ * <p>Without an executor every entity is built right away when it's added. With an executor the entities are built
+ * in parallel, and {@link #complete()} waits for them and hands them over to their regions in the order they were added,
+ * so the result is the same as of the sequential build. Request attributes of the calling thread are propagated
+ * to the threads building the entities, so that request-scoped beans like {@code WebRequestContext} keep working.</p>
+ * <p>Only entities are built in parallel; regions are still built by the calling thread, so a task never waits
+ * for another task and the executor cannot deadlock.</p>
+ */
+@Slf4j
+final class RegionEntitiesBuilder {
+
+    private final Function<EntityModelData, EntityModel> entityBuilder;
+
+    private final Executor executor;
+
+    private final RequestAttributes requestAttributes;
+
+    private final List<PendingEntity> pending = new ArrayList<>();
+
+    /**
+     * Creates a builder.
+     *
+     * @param entityBuilder builder of a single entity, should not throw but return an {@link ExceptionEntity} instead
+     * @param executor      executor to build entities on, or {@code null} to build them sequentially
+     */
+    RegionEntitiesBuilder(Function<EntityModelData, EntityModel> entityBuilder, @Nullable Executor executor) {
+        this.entityBuilder = entityBuilder;
+        this.executor = executor;
+        this.requestAttributes = executor == null ? null : RequestContextHolder.getRequestAttributes();
+    }
+
+    /**
+     * Adds an entity to build.
+     *
+     * @param entityModelData model data of the entity
+     * @param consumer        consumer of the built entity, always called on the calling thread
+     */
+    void add(EntityModelData entityModelData, Consumer<EntityModel> consumer) {
+        if (executor == null) {
+            consumer.accept(entityBuilder.apply(entityModelData));
+            return;
+        }
+
+        CompletableFuture<EntityModel> future = CompletableFuture.supplyAsync(() -> _build(entityModelData), executor);
+        pending.add(new PendingEntity(entityModelData, future, consumer));
+    }
+
+    /**
+     * Waits for all entities added so far and passes them to their consumers in the order they were added.
+     * A failure of one entity only replaces this entity with an {@link ExceptionEntity}.
+     */
+    void complete() {
+        for (PendingEntity entity : pending) {
+            EntityModel entityModel;
+            try {
+                entityModel = entity.future.join();
+            } catch (CompletionException e) {
+                log.warn("Cannot create an entity model for model data {}", entity.modelData, e.getCause());
+                entityModel = new ExceptionEntity(e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+            }
+            entity.consumer.accept(entityModel);
+        }
+        pending.clear();
+    }
+
+    private EntityModel _build(EntityModelData entityModelData) {
+        RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+        try {
+            return entityBuilder.apply(entityModelData);
+        } finally {
+            RequestContextHolder.setRequestAttributes(previous);
+        }
+    }
+
+    @AllArgsConstructor
+    private static final class PendingEntity {
+
+        private final EntityModelData modelData;
+
+        private final CompletableFuture<EntityModel> future;
+
+        private final Consumer<EntityModel> consumer;
+    }
+}
@@ -5,6 +5,9 @@ import com.sdl.dxa.api.datamodel.model.EntityModelData;
 import com.sdl.dxa.api.datamodel.model.PageModelData;
 import com.sdl.dxa.common.dto.EntityRequestDto;
 import com.sdl.dxa.common.dto.PageRequestDto;
+import com.sdl.dxa.metrics.MetricsRegistry;
+import com.sdl.dxa.metrics.NoOpMetricsRegistry;
+import com.sdl.dxa.metrics.Timer;
 import com.sdl.dxa.modelservice.service.ModelServiceProvider;
 import com.sdl.dxa.tridion.modelservice.exceptions.ItemNotFoundInModelServiceException;
 import com.sdl.dxa.tridion.modelservice.exceptions.ModelServiceInternalServerErrorException;
@@ -19,6 +22,10 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import static com.sdl.dxa.metrics.MetricNames.MODEL_FETCH;
+import static com.sdl.dxa.metrics.MetricNames.TAG_ENDPOINT;
+import static com.sdl.dxa.metrics.MetricNames.TAG_SERVICE;
+
 @Slf4j
 @Service(value = "DefaultModelService")
 @Profile("cil.providers.active")
@@ -28,12 +35,19 @@ public class DefaultModelServiceProvider implements ModelServiceProvider {
 
     private final ModelServiceClient modelServiceClient;
 
+    private MetricsRegistry metricsRegistry = NoOpMetricsRegistry.INSTANCE;
+
     @Autowired
     public DefaultModelServiceProvider(ModelServiceConfiguration configuration, ModelServiceClient modelServiceClient) {
         this.configuration = configuration;
         this.modelServiceClient = modelServiceClient;
     }
 
+    @Autowired(required = false)
+    public void setMetricsRegistry(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
     @NotNull
     @Override
     public PageModelData loadPageModel(PageRequestDto pageRequest) throws ContentProviderException {
@@ -56,6 +70,7 @@ public class DefaultModelServiceProvider implements ModelServiceProvider {
     }
 
     private <T> T _loadPage(String serviceUrl, Class<T> type, PageRequestDto pageRequest) throws ContentProviderException {
+        Timer.Sample sample = _startFetch(type == String.class ? "page-content" : "page");
         try {
             T page = modelServiceClient.getForType(serviceUrl, type,
                     pageRequest.getUriType(),
@@ -68,9 +83,15 @@ public class DefaultModelServiceProvider implements ModelServiceProvider {
             throw new ContentProviderException("Cannot load page from model service", e);
         } catch (ItemNotFoundInModelServiceException e) {
             throw new PageNotFoundException("Cannot load page '" + pageRequest + "'", e);
+        } finally {
+            sample.stop();
         }
     }
 
+    private Timer.Sample _startFetch(String endpoint) {
+        return metricsRegistry.timer(MODEL_FETCH, TAG_SERVICE, "modelservice", TAG_ENDPOINT, endpoint).start();
+    }
+
     private String removeLeadingAndEndingSlash(String path) {
         if (Strings.isNullOrEmpty(path)) return "";
         return path.replaceAll("^/+([^/].*)", "$1").replaceAll("(.*[^/])/+$", "$1");
@@ -90,6 +111,7 @@ public class DefaultModelServiceProvider implements ModelServiceProvider {
     @NotNull
     @Override
     public EntityModelData loadEntity(EntityRequestDto entityRequest) throws ContentProviderException {
+        Timer.Sample sample = _startFetch("entity");
         try {
             EntityModelData modelData = modelServiceClient.getForType(configuration.getEntityModelUrl(), EntityModelData.class,
                     entityRequest.getUriType(),
@@ -100,6 +122,8 @@ public class DefaultModelServiceProvider implements ModelServiceProvider {
             return modelData;
         } catch (ItemNotFoundInModelServiceException e) {
             throw new DxaItemNotFoundException("Entity " + entityRequest + " not found in the Model Service", e);
+        } finally {
+            sample.stop();
         }
     }
 }
\ No newline at end of file
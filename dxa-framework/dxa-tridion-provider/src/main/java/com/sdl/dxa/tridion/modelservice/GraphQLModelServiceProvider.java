@@ -15,6 +15,9 @@ import com.sdl.dxa.api.datamodel.model.EntityModelData;
 import com.sdl.dxa.api.datamodel.model.PageModelData;
 import com.sdl.dxa.common.dto.EntityRequestDto;
 import com.sdl.dxa.common.dto.PageRequestDto;
+import com.sdl.dxa.metrics.MetricsRegistry;
+import com.sdl.dxa.metrics.NoOpMetricsRegistry;
+import com.sdl.dxa.metrics.Timer;
 import com.sdl.dxa.modelservice.service.ModelServiceProvider;
 import com.sdl.dxa.tridion.pcaclient.ApiClientProvider;
 import com.sdl.web.pca.client.ApiClient;
@@ -37,6 +40,9 @@ import org.springframework.stereotype.Service;
 import java.io.IOException;
 
 import static com.sdl.dxa.common.util.PathUtils.normalizePathToDefaults;
+import static com.sdl.dxa.metrics.MetricNames.MODEL_FETCH;
+import static com.sdl.dxa.metrics.MetricNames.TAG_ENDPOINT;
+import static com.sdl.dxa.metrics.MetricNames.TAG_SERVICE;
 import static org.springframework.util.ClassUtils.forName;
 import static org.springframework.util.ClassUtils.getDefaultClassLoader;
 
@@ -51,6 +57,8 @@ public class GraphQLModelServiceProvider implements ModelServiceProvider {
 
     private ObjectMapper mapper;
 
+    private MetricsRegistry metricsRegistry = NoOpMetricsRegistry.INSTANCE;
+
     GraphQLModelServiceProvider() {
         this.mapper = getObjectMapper();
     }
@@ -62,6 +70,11 @@ public class GraphQLModelServiceProvider implements ModelServiceProvider {
         this.mapper = getObjectMapper();
     }
 
+    @Autowired(required = false)
+    public void setMetricsRegistry(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
     @NotNull
     @Override
     public PageModelData loadPageModel(PageRequestDto pageRequest) throws ContentProviderException {
@@ -94,6 +107,7 @@ public class GraphQLModelServiceProvider implements ModelServiceProvider {
     // To determine this, DXA first tries the regular Page and if it doesn't exist, it appends /index.html and tries again.
     // TODO: The above should be handled by GraphQL (See CRQ-11703)
     private <T> T _loadPage(Class<T> type, PageRequestDto pageRequest, ContentType contentType) throws ContentProviderException {
+        Timer.Sample sample = _startFetch(contentType == ContentType.RAW ? "page-content" : "page");
         try {
             JsonNode pageNode = pcaClient.getPageModelData(
                     ContentNamespace.Sites,
@@ -129,14 +143,24 @@ public class GraphQLModelServiceProvider implements ModelServiceProvider {
             } catch (IOException ex) {
                 throw new PageNotFoundException("Unable to load page, by request " + pageRequest, ex);
             }
+        } finally {
+            sample.stop();
         }
     }
 
-    private <T> T mapToType(Class<T> type, JsonNode result) throws IOException {
+    private Timer.Sample _startFetch(String endpoint) {
+        return metricsRegistry.timer(MODEL_FETCH, TAG_SERVICE, "graphql", TAG_ENDPOINT, endpoint).start();
+    }
+
+    /**
+     * Converts the JSON tree returned by the API client to the given type. The tree is read directly
+     * without serializing it to a String and parsing it again.
+     */
+    <T> T mapToType(Class<T> type, JsonNode result) throws IOException {
         if (type.equals(String.class)) {
             return (T) result.toString();
         }
-        return mapper.readValue(result.toString(), type);
+        return mapper.treeToValue(result, type);
     }
 
     /**
@@ -153,6 +177,7 @@ public class GraphQLModelServiceProvider implements ModelServiceProvider {
     @NotNull
     @Override
     public EntityModelData loadEntity(EntityRequestDto entityRequest) throws ContentProviderException {
+        Timer.Sample sample = _startFetch("entity");
         try {
             JsonNode node = pcaClient.getEntityModelData(
                     ContentNamespace.Sites,
@@ -166,11 +191,13 @@ public class GraphQLModelServiceProvider implements ModelServiceProvider {
                     null
             );
 
-            EntityModelData modelData = mapper.readValue(node.toString(), EntityModelData.class);
+            EntityModelData modelData = mapToType(EntityModelData.class, node);
             log.trace("Loaded '{}' for entityId '{}'", modelData, entityRequest.getComponentId());
             return modelData;
         } catch (IOException e) {
             throw new ContentProviderException("Entity " + entityRequest + " not found", e);
+        } finally {
+            sample.stop();
         }
     }
 
@@ -8,20 +8,21 @@ import com.sdl.webapp.common.api.localization.LocalizationFactory;
 import com.sdl.webapp.common.api.localization.LocalizationFactoryException;
 import com.sdl.webapp.common.api.localization.LocalizationResolver;
 import com.sdl.webapp.common.api.localization.LocalizationResolverException;
+import com.sdl.webapp.common.impl.localization.LocalizationCache;
+import com.sdl.webapp.common.impl.localization.PublicationMappingCache;
 import com.tridion.configuration.ConfigurationException;
 import lombok.AllArgsConstructor;
 import lombok.SneakyThrows;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import org.springframework.web.util.UriUtils;
 
+import javax.annotation.PreDestroy;
 import java.io.UnsupportedEncodingException;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Implementation of {@code LocalizationResolver} that uses the Tridion API to determine the localization for a request.
@@ -32,7 +33,9 @@ public class TridionLocalizationResolver implements LocalizationResolver {
 
     private static final Logger LOG = LoggerFactory.getLogger(TridionLocalizationResolver.class);
 
-    private final Map<String, Localization> localizations = Collections.synchronizedMap(new HashMap<String, Localization>());
+    private final LocalizationCache localizations = new LocalizationCache(this::createLocalization);
+
+    private PublicationMappingCache<PublicationMappingData> publicationMappings;
 
     @Autowired
     private LocalizationFactory localizationFactory;
@@ -40,6 +43,25 @@ public class TridionLocalizationResolver implements LocalizationResolver {
     @Autowired
     private DynamicMappingsRetriever dynamicMappingsRetriever;
 
+    /**
+     * Sets up the cache of publication mappings.
+     *
+     * @param ttlSeconds  time in seconds after which a cached publication mapping is reloaded, {@code 0} disables caching
+     * @param maximumSize maximum number of cached publication mapping paths
+     */
+    @Autowired
+    public void setPublicationMappingCache(@Value("${dxa.web.publication-mapping.cache.ttl:#{60}}") long ttlSeconds,
+                                           @Value("${dxa.web.publication-mapping.cache.size:#{10000}}") long maximumSize) {
+        this.publicationMappings = new PublicationMappingCache<>(this::loadPublicationMappingData, data -> data.path, ttlSeconds, maximumSize);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (publicationMappings != null) {
+            publicationMappings.shutdown();
+        }
+    }
+
     /**
      * Gets the publication mapping path. The returned path always starts with a "/" and does not end with a "/", unless
      * the path is the root path "/" itself.
@@ -74,15 +96,12 @@ public class TridionLocalizationResolver implements LocalizationResolver {
             throw new LocalizationResolverException("Publication mapping is not resolved for URL: " + url);
         }
 
-        if (!localizations.containsKey(data.id)) {
-            localizations.put(data.id, createLocalization(data.id, data.path));
-        }
-
-        return localizations.get(data.id);
+        return localizations.get(data.id, data.path);
     }
 
     /**
      * {@inheritDoc}
+     * <p>The new localization is created before this method returns, requests keep getting the previous one meanwhile.</p>
      */
     @Override
     public boolean refreshLocalization(Localization localization) {
@@ -90,20 +109,37 @@ public class TridionLocalizationResolver implements LocalizationResolver {
             return false;
         }
         String localizationId = localization.getId();
-        if (localizations.remove(localizationId) != null) {
-            LOG.debug("Removed cached localization with id: {}", localizationId);
+        publicationMappings.invalidateAll();
+        if (localizations.refresh(localizationId)) {
+            LOG.debug("Refreshed cached localization with id: {}", localizationId);
             return true;
         }
         return false;
     }
 
     protected PublicationMappingData getPublicationMappingData(String url) throws PublicationMappingNotFoundException {
+        PublicationMappingData data;
+        try {
+            data = publicationMappings.get(url);
+        } catch (PublicationMappingNotFoundException e) {
+            throw e;
+        } catch (LocalizationResolverException e) {
+            throw new PublicationMappingNotFoundException("Error found during fetch publication mapping not found for URL: " + url, e);
+        }
+
+        if (data == null) {
+            throw new PublicationMappingNotFoundException("Publication mapping not found. There is no any publication mapping " +
+                    "that matches this URL: " + url);
+        }
+        return data;
+    }
+
+    private PublicationMappingData loadPublicationMappingData(String url) throws PublicationMappingNotFoundException {
         try {
             PublicationMapping publicationMapping = dynamicMappingsRetriever.getPublicationMapping(url);
 
             if (publicationMapping == null) {
-                throw new PublicationMappingNotFoundException("Publication mapping not found. There is no any publication mapping " +
-                        "that matches this URL: " + url);
+                return null;
             }
 
             return new PublicationMappingData(String.valueOf(publicationMapping.getPublicationId()),
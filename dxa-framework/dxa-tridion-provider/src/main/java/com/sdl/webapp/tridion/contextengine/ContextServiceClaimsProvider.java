@@ -1,6 +1,9 @@
 package com.sdl.webapp.tridion.contextengine;
 
 import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.sdl.context.api.Aspect;
 import com.sdl.context.api.ContextMap;
 import com.sdl.context.api.exception.ResolverException;
@@ -11,6 +14,9 @@ import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.contextengine.ContextClaimsProvider;
 import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.exceptions.DxaException;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -22,6 +28,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @Slf4j
@@ -41,6 +49,28 @@ public class ContextServiceClaimsProvider implements ContextClaimsProvider {
     @Autowired
     private HttpServletRequest request;
 
+    private Cache<Evidences, Map<String, Object>> claimsCache = _createClaimsCache(300, 10000);
+
+    /**
+     * Sets up the cache of resolved context claims. Claims are cached per set of evidences sent to the Context Service,
+     * which is the User-Agent, the {@code context} cookie and, if expected, the publication ID.
+     *
+     * @param ttlSeconds  time in seconds after which resolved claims are resolved again, {@code 0} disables caching
+     * @param maximumSize maximum number of cached sets of evidences
+     */
+    @Autowired
+    public void setClaimsCache(@Value("${dxa.context.service.claims.cache.ttl:#{300}}") long ttlSeconds,
+                               @Value("${dxa.context.service.claims.cache.size:#{10000}}") long maximumSize) {
+        this.claimsCache = _createClaimsCache(ttlSeconds, maximumSize);
+    }
+
+    private static Cache<Evidences, Map<String, Object>> _createClaimsCache(long ttlSeconds, long maximumSize) {
+        return ttlSeconds <= 0 ? null : CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
     private static Map<String, Object> getClaimsMap(ContextMap<? extends Aspect> contextMap, String aspectName) {
 
         log.trace("#getClaimsMap(ContextMap<? extends Aspect> {}, String {})", contextMap, aspectName);
@@ -76,20 +106,56 @@ public class ContextServiceClaimsProvider implements ContextClaimsProvider {
 
     @Override
     public Map<String, Object> getContextClaims(String aspectName) throws DxaException {
-        EvidenceBuilder evidenceBuilder = new EvidenceBuilder()
-                .with("user-agent", request.getHeader("user-agent"));
+        Evidences evidences = _getEvidences();
+
+        Map<String, Object> claims;
+        if (claimsCache == null) {
+            claims = _resolveClaims(evidences);
+        } else {
+            try {
+                claims = claimsCache.get(evidences, () -> _resolveClaims(evidences));
+            } catch (ExecutionException | UncheckedExecutionException e) {
+                if (e.getCause() instanceof DxaException) {
+                    throw (DxaException) e.getCause();
+                }
+                throw new DxaException("An error occurred while resolving evidence using the Context Service.", e.getCause());
+            }
+        }
+
+        return _filterClaims(claims, aspectName);
+    }
 
-        if (request.getCookies() != null) {
-            for (Cookie cookie : request.getCookies()) {
+    private Evidences _getEvidences() {
+        String contextCookie = null;
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
                 if (CONTEXT_COOKIE_NAME.equals(cookie.getName())) {
-                    evidenceBuilder.with("cookie", CONTEXT_COOKIE_NAME + '=' + cookie.getValue());
+                    contextCookie = cookie.getValue();
                 }
             }
         }
 
+        Integer publicationId = null;
         if (isPublicationIdExpected) {
             Localization localization = webRequestContext.getLocalization();
-            evidenceBuilder.withPublicationId(Integer.valueOf(localization.getId()));
+            publicationId = Integer.valueOf(localization.getId());
+        }
+
+        // many User-Agents differ in surrounding whitespace only, which the Context Service ignores anyway
+        return new Evidences(Strings.nullToEmpty(request.getHeader("user-agent")).trim(), contextCookie, publicationId);
+    }
+
+    private Map<String, Object> _resolveClaims(Evidences evidences) throws DxaException {
+        EvidenceBuilder evidenceBuilder = new EvidenceBuilder()
+                .with("user-agent", evidences.getUserAgent());
+
+        if (evidences.getContextCookie() != null) {
+            evidenceBuilder.with("cookie", CONTEXT_COOKIE_NAME + '=' + evidences.getContextCookie());
+        }
+
+        if (evidences.getPublicationId() != null) {
+            evidenceBuilder.withPublicationId(evidences.getPublicationId());
         }
 
         ContextMap<? extends Aspect> contextMap;
@@ -100,16 +166,50 @@ public class ContextServiceClaimsProvider implements ContextClaimsProvider {
             }
             contextMap = oDataContextEngine.resolve(evidence);
             log.trace("Current data context engine impl is {}", oDataContextEngine.getClass());
-            log.debug("Requested context map for aspect {} with evidence {}, and got {}", aspectName, evidence, contextMap);
+            log.debug("Requested context map with evidence {}, and got {}", evidence, contextMap);
         } catch (ResolverException e) {
             throw new DxaException("An error occurred while resolving evidence using the Context Service.", e);
         }
 
-        return getClaimsMap(contextMap, aspectName);
+        return Collections.unmodifiableMap(getClaimsMap(contextMap, null));
+    }
+
+    /**
+     * Returns a copy of the claims of the given aspect, or of all claims if the aspect is not set.
+     * Claims are copied as the cached ones are shared between requests.
+     */
+    private static Map<String, Object> _filterClaims(Map<String, Object> claims, String aspectName) {
+        if (Strings.isNullOrEmpty(aspectName)) {
+            return new HashMap<>(claims);
+        }
+
+        String prefix = aspectName + '.';
+        Map<String, Object> result = new HashMap<>();
+        for (Map.Entry<String, Object> entry : claims.entrySet()) {
+            if (entry.getKey().startsWith(prefix)) {
+                result.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return result;
     }
 
     @Override
     public String getDeviceFamily() {
         return null;
     }
+
+    /**
+     * Evidences sent to the Context Service, which is the key of resolved claims in the cache.
+     */
+    @Getter
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class Evidences {
+
+        private final String userAgent;
+
+        private final String contextCookie;
+
+        private final Integer publicationId;
+    }
 }
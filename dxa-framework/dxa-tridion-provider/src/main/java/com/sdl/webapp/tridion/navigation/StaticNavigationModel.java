@@ -0,0 +1,152 @@
+package com.sdl.webapp.tridion.navigation;
+
+import com.sdl.webapp.common.api.model.entity.Link;
+import com.sdl.webapp.common.api.model.entity.SitemapItem;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static com.sdl.webapp.tridion.navigation.StaticNavigationProvider.TYPE_STRUCTURE_GROUP;
+
+/**
+ * Parsed navigation model of a localization with links already resolved, indexed for navigation lookups.
+ * <p>The tree is never modified after the model is created and is never exposed directly,
+ * use {@link #copyNavigationModel()} to get a copy callers are free to modify.</p>
+ * <p>Navigation items match a request path if their lower-cased URL is a prefix of the request path.
+ * Instead of walking the whole tree, the model looks up all prefixes of the request path in the URL index
+ * and then descends only through the matching items, so the result is the same as of a tree walk.</p>
+ */
+final class StaticNavigationModel {
+
+    private final SitemapItem root;
+
+    private final Map<String, List<SitemapItem>> itemsByUrl = new HashMap<>();
+
+    private final Map<SitemapItem, SitemapItem> parents = new IdentityHashMap<>();
+
+    private final Map<SitemapItem, Integer> positions = new IdentityHashMap<>();
+
+    StaticNavigationModel(@NotNull SitemapItem root) {
+        this.root = root;
+        index(root, null, 0);
+    }
+
+    private void index(SitemapItem item, @Nullable SitemapItem parent, int position) {
+        if (item.getUrl() != null) {
+            itemsByUrl.computeIfAbsent(item.getUrl().toLowerCase(), url -> new ArrayList<>()).add(item);
+        }
+        parents.put(item, parent);
+        positions.put(item, position);
+
+        int childPosition = 0;
+        for (SitemapItem child : item.getItems()) {
+            index(child, item, childPosition++);
+        }
+    }
+
+    /**
+     * Returns a deep copy of the navigation tree.
+     *
+     * @return copy of the navigation model
+     */
+    SitemapItem copyNavigationModel() {
+        return copy(root);
+    }
+
+    List<Link> getTopNavigationLinks() {
+        return createLinksForVisibleItems(root.getItems());
+    }
+
+    List<Link> getContextNavigationLinks(String requestPath) {
+        Set<SitemapItem> matching = findMatchingItems(requestPath);
+        Predicate<SitemapItem> isMatchingGroup = item -> matching.contains(item) && Objects.equals(item.getType(), TYPE_STRUCTURE_GROUP);
+
+        if (!isMatchingGroup.test(root)) {
+            return Collections.emptyList();
+        }
+
+        // Descend to the first matching structure group on every level
+        SitemapItem current = root;
+        SitemapItem next;
+        while ((next = firstMatchingChild(current, matching, 0, isMatchingGroup)) != null) {
+            current = next;
+        }
+        return createLinksForVisibleItems(current.getItems());
+    }
+
+    List<Link> getBreadcrumbNavigationLinks(String requestPath) {
+        Set<SitemapItem> matching = findMatchingItems(requestPath);
+
+        if (!matching.contains(root)) {
+            return Collections.emptyList();
+        }
+
+        // First child of an item is its index page that is represented by the item itself, skip it
+        List<Link> links = new ArrayList<>();
+        SitemapItem current = root;
+        while (current != null) {
+            links.add(linkForItem(current));
+            current = firstMatchingChild(current, matching, 1, matching::contains);
+        }
+        return links;
+    }
+
+    @Nullable
+    private SitemapItem firstMatchingChild(SitemapItem parent, Set<SitemapItem> matching, int minPosition,
+                                           Predicate<SitemapItem> predicate) {
+        SitemapItem first = null;
+        for (SitemapItem item : matching) {
+            if (parents.get(item) == parent && positions.get(item) >= minPosition && predicate.test(item)
+                    && (first == null || positions.get(item) < positions.get(first))) {
+                first = item;
+            }
+        }
+        return first;
+    }
+
+    private Set<SitemapItem> findMatchingItems(String requestPath) {
+        Set<SitemapItem> matching = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i <= requestPath.length(); i++) {
+            List<SitemapItem> items = itemsByUrl.get(requestPath.substring(0, i));
+            if (items != null) {
+                matching.addAll(items);
+            }
+        }
+        return matching;
+    }
+
+    private static SitemapItem copy(SitemapItem item) {
+        SitemapItem copy = new SitemapItem(item);
+        copy.setItems(null);
+        for (SitemapItem child : item.getItems()) {
+            copy.addItem(copy(child));
+        }
+        return copy;
+    }
+
+    private static List<Link> createLinksForVisibleItems(Iterable<SitemapItem> items) {
+        List<Link> links = new ArrayList<>();
+        for (SitemapItem item : items) {
+            if (item.isVisible()) {
+                links.add(linkForItem(item));
+            }
+        }
+        return links;
+    }
+
+    private static Link linkForItem(SitemapItem item) {
+        Link link = new Link();
+        link.setUrl(item.getUrl());
+        link.setLinkText(item.getTitle());
+        return link;
+    }
+}
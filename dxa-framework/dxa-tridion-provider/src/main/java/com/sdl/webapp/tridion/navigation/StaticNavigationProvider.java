@@ -1,18 +1,19 @@
 package com.sdl.webapp.tridion.navigation;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.sdl.dxa.common.dto.PageRequestDto;
 import com.sdl.dxa.modelservice.service.ModelServiceProvider;
 import com.sdl.webapp.common.api.content.ContentProviderException;
 import com.sdl.webapp.common.api.content.LinkResolver;
 import com.sdl.webapp.common.api.localization.Localization;
-import com.sdl.webapp.common.api.model.entity.Link;
 import com.sdl.webapp.common.api.model.entity.NavigationLinks;
 import com.sdl.webapp.common.api.model.entity.SitemapItem;
 import com.sdl.webapp.common.api.navigation.NavigationProvider;
 import com.sdl.webapp.common.api.navigation.NavigationProviderException;
 import lombok.extern.slf4j.Slf4j;
-import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -21,11 +22,8 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Iterator;
-import java.util.List;
-import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Implementation of {@link NavigationProvider} based on statically generated (published) <code>Navigation.json</code>.
@@ -45,6 +43,8 @@ public class StaticNavigationProvider implements NavigationProvider {
     @Value("${dxa.tridion.navigation.modelUrl}")
     private String navigationModelUrl;
 
+    private Cache<Localization, StaticNavigationModel> navigationModels = _createNavigationModelsCache(300);
+
     @Autowired
     public StaticNavigationProvider(ObjectMapper objectMapper,
                                     LinkResolver linkResolver,
@@ -54,112 +54,70 @@ public class StaticNavigationProvider implements NavigationProvider {
         this.modelService = modelService;
     }
 
-    private static List<Link> createLinksForVisibleItems(Iterable<SitemapItem> items) {
-        final List<Link> links = new ArrayList<>();
-        for (SitemapItem item : items) {
-            if (item.isVisible()) {
-                links.add(linkForItem(item));
-            }
-        }
-        return links;
-    }
-
-    private static SitemapItem findContextNavigationStructureGroup(SitemapItem item, String requestPath) {
-        if (Objects.equals(item.getType(), TYPE_STRUCTURE_GROUP) && requestPath.startsWith(item.getUrl().toLowerCase())) {
-            // Check if there is a matching subitem, if yes, then return it
-            for (SitemapItem subItem : item.getItems()) {
-                final SitemapItem matchingSubItem = findContextNavigationStructureGroup(subItem, requestPath);
-                if (matchingSubItem != null) {
-                    return matchingSubItem;
-                }
-            }
-
-            // Otherwise return this matching item
-            return item;
-        }
-
-        // No matching item
-        return null;
-    }
-
-    private static boolean createBreadcrumbLinks(SitemapItem item, String requestPath, List<Link> links) {
-        if (requestPath.startsWith(item.getUrl().toLowerCase())) {
-            // Add link for this matching item
-            links.add(linkForItem(item));
-
-            // Add links for the following matching subitems
-            // first element was just added, skip it
-            Iterator<SitemapItem> iterator = sitemapIteratorWithoutFirst(item);
-            while (iterator.hasNext()) {
-                if (createBreadcrumbLinks(iterator.next(), requestPath, links)) {
-                    return true;
-                }
-            }
-            return true;
-        }
-
-        return false;
-    }
-
-    @NotNull
-    private static Iterator<SitemapItem> sitemapIteratorWithoutFirst(SitemapItem item) {
-        if (item.getItems().isEmpty()) {
-            return Collections.<SitemapItem>emptyList().iterator();
-        } else {
-            Iterator<SitemapItem> iterator = item.getItems().iterator();
-            if (iterator.hasNext()) {
-                iterator.next();
-            }
-            return iterator;
-        }
-    }
-
-    private static Link linkForItem(SitemapItem item) {
-        Link link = new Link();
-        link.setUrl(item.getUrl());
-        link.setLinkText(item.getTitle());
-        return link;
+    /**
+     * Sets for how long a parsed navigation model of a localization is kept in memory.
+     * A refreshed localization always loads its navigation model again.
+     *
+     * @param seconds expiration time in seconds, {@code 0} disables caching
+     */
+    @Value("${dxa.tridion.navigation.static.cache.expiration:#{300}}")
+    public void setNavigationModelExpiration(long seconds) {
+        this.navigationModels = _createNavigationModelsCache(seconds);
     }
 
     @Override
     public SitemapItem getNavigationModel(Localization localization) throws NavigationProviderException {
-        try {
-            final String path = localization.localizePath(navigationModelUrl);
-
-            return resolveLinks(objectMapper.readValue(getPageContent(path, localization), SitemapItem.class), localization);
-        } catch (ContentProviderException | IOException e) {
-            throw new NavigationProviderException("Exception while loading navigation model", e);
-        }
+        return _getNavigationModel(localization).copyNavigationModel();
     }
 
     @Override
     public NavigationLinks getTopNavigationLinks(String requestPath, Localization localization)
             throws NavigationProviderException {
-        final SitemapItem navigationModel = getNavigationModel(localization);
-
-        return new NavigationLinks(createLinksForVisibleItems(navigationModel.getItems()));
+        return new NavigationLinks(_getNavigationModel(localization).getTopNavigationLinks());
     }
 
     @Override
     public NavigationLinks getContextNavigationLinks(String requestPath, Localization localization)
             throws NavigationProviderException {
-        final SitemapItem navigationModel = getNavigationModel(localization);
-        final SitemapItem contextNavigationItem = findContextNavigationStructureGroup(navigationModel, requestPath);
-
-        final List<Link> links = contextNavigationItem != null ? createLinksForVisibleItems(contextNavigationItem.getItems()) : Collections.emptyList();
-
-        return new NavigationLinks(links);
+        return new NavigationLinks(_getNavigationModel(localization).getContextNavigationLinks(requestPath));
     }
 
     @Override
     public NavigationLinks getBreadcrumbNavigationLinks(String requestPath, Localization localization)
             throws NavigationProviderException {
-        final SitemapItem navigationModel = getNavigationModel(localization);
+        return new NavigationLinks(_getNavigationModel(localization).getBreadcrumbNavigationLinks(requestPath));
+    }
 
-        final List<Link> links = new ArrayList<>();
-        createBreadcrumbLinks(navigationModel, requestPath, links);
+    private StaticNavigationModel _getNavigationModel(Localization localization) throws NavigationProviderException {
+        try {
+            return navigationModels.get(localization, () -> _loadNavigationModel(localization));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof NavigationProviderException) {
+                throw (NavigationProviderException) e.getCause();
+            }
+            throw new NavigationProviderException("Exception while loading navigation model", e.getCause());
+        }
+    }
+
+    private StaticNavigationModel _loadNavigationModel(Localization localization) throws NavigationProviderException {
+        try {
+            final String path = localization.localizePath(navigationModelUrl);
+
+            return new StaticNavigationModel(resolveLinks(objectMapper.readValue(getPageContent(path, localization), SitemapItem.class), localization));
+        } catch (ContentProviderException | IOException e) {
+            throw new NavigationProviderException("Exception while loading navigation model", e);
+        }
+    }
 
-        return new NavigationLinks(links);
+    /**
+     * Navigation models are cached per localization instance, so a refreshed localization never sees
+     * a model loaded for its previous instance.
+     */
+    private static Cache<Localization, StaticNavigationModel> _createNavigationModelsCache(long expirationSeconds) {
+        return CacheBuilder.newBuilder()
+                .weakKeys()
+                .expireAfterWrite(expirationSeconds, TimeUnit.SECONDS)
+                .build();
     }
 
     private SitemapItem resolveLinks(SitemapItem sitemapItem, Localization localization) {
@@ -3,7 +3,9 @@ package com.sdl.webapp.tridion.xpm;
 import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.sdl.dxa.caching.SingleFlight;
 import com.sdl.webapp.common.api.content.ContentProvider;
 import com.sdl.webapp.common.api.content.ContentProviderException;
 import com.sdl.webapp.common.api.content.StaticContentItem;
@@ -20,24 +22,33 @@ import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 @Component
 /**
  * <p>XpmRegionConfigImpl class.</p>
+ * <p>Regions of a localization are loaded once from {@code /system/mappings/regions.json} and kept in an unmodifiable
+ * map, so reading them takes no lock. Only one request at a time loads the regions of the same localization, while
+ * localizations are loaded independently of each other. When a localization is refreshed, the resolver creates a new
+ * {@link Localization} object and its regions are loaded again on the first request for it.</p>
  */
 public class XpmRegionConfigImpl implements XpmRegionConfig {
     private static final Logger LOG = LoggerFactory.getLogger(XpmRegionConfigImpl.class);
 
     private static final String REGIONS_PATH = "/system/mappings/regions.json";
 
-    private final Map<String, Map<String, XpmRegion>> regionsByLocalization = new HashMap<>();
+    private final ConcurrentMap<String, LocalizationRegions> regionsByLocalization = new ConcurrentHashMap<>();
+
+    private final SingleFlight<String> singleFlight = new SingleFlight<>();
 
     private final ContentProvider contentProvider;
 
-    private final ObjectMapper objectMapper;
+    private final ObjectReader regionsReader;
 
     /**
      * <p>Constructor for XpmRegionConfigImpl.</p>
@@ -49,26 +60,46 @@ public class XpmRegionConfigImpl implements XpmRegionConfig {
     public XpmRegionConfigImpl(ContentProvider contentProvider,
                                ObjectMapper objectMapper) {
         this.contentProvider = contentProvider;
-        this.objectMapper = objectMapper;
+
+        SimpleModule module = new SimpleModule("ComponentTypeMapper", Version.unknownVersion());
+        module.addAbstractTypeMapping(ComponentType.class, ComponentTypeImpl.class);
+        module.addAbstractTypeMapping(OccurrenceConstraint.class, OccurrenceConstraintImpl.class);
+        objectMapper.registerModule(module); // important, otherwise won't have any effect on mapper's configuration
+        this.regionsReader = objectMapper.readerFor(new TypeReference<List<XpmRegionImpl>>() {
+        });
     }
 
     /**
      * {@inheritDoc}
      */
-    public synchronized XpmRegion getXpmRegion(String regionName, Localization localization) {
-        final String localizationId = localization.getId();
-        if (!regionsByLocalization.containsKey(localizationId)) {
-            final Map<String, XpmRegion> regionsByName = new HashMap<>();
-            List<XpmRegion> xpmRegions = loadXpmRegions(localization);
-            if (xpmRegions != null) {
-                for (XpmRegion region : xpmRegions) {
-                    regionsByName.put(region.getRegionName(), region);
-                }
+    public XpmRegion getXpmRegion(String regionName, Localization localization) {
+        LocalizationRegions regions = regionsByLocalization.get(localization.getId());
+        if (regions == null || regions.localization != localization) {
+            regions = singleFlight.execute(localization.getId(), () -> _loadRegions(localization));
+        }
+        return regions.regionsByName.get(regionName);
+    }
+
+    private LocalizationRegions _loadRegions(Localization localization) {
+        String localizationId = localization.getId();
+        LocalizationRegions regions = regionsByLocalization.get(localizationId);
+        if (regions != null && regions.localization == localization) {
+            // loaded by another request while this one was waiting
+            return regions;
+        }
+
+        final Map<String, XpmRegion> regionsByName = new HashMap<>();
+        List<XpmRegion> xpmRegions = loadXpmRegions(localization);
+        if (xpmRegions != null) {
+            for (XpmRegion region : xpmRegions) {
+                regionsByName.put(region.getRegionName(), region);
             }
-            regionsByLocalization.put(localizationId, regionsByName);
         }
 
-        return regionsByLocalization.get(localizationId).get(regionName);
+        regions = new LocalizationRegions(localization, Collections.unmodifiableMap(regionsByName));
+        regionsByLocalization.put(localizationId, regions);
+        LOG.debug("Loaded {} XPM regions for localization {}", regions.regionsByName.size(), localizationId);
+        return regions;
     }
 
     private List<XpmRegion> loadXpmRegions(Localization localization) {
@@ -81,15 +112,25 @@ public class XpmRegionConfigImpl implements XpmRegionConfig {
             return null;
         }
         try (final InputStream in = item.getContent();) {
-            SimpleModule module = new SimpleModule("ComponentTypeMapper", Version.unknownVersion());
-            module.addAbstractTypeMapping(ComponentType.class, ComponentTypeImpl.class);
-            module.addAbstractTypeMapping(OccurrenceConstraint.class, OccurrenceConstraintImpl.class);
-            objectMapper.registerModule(module); // important, otherwise won't have any effect on mapper's configuration
-            return objectMapper.readValue(in, new TypeReference<List<XpmRegionImpl>>() {
-            });
+            return regionsReader.readValue(in);
         } catch (IOException e) {
             LOG.error(message, e);
             return null;
         }
     }
+
+    /**
+     * Regions of a localization together with the localization they were loaded for.
+     */
+    private static final class LocalizationRegions {
+
+        private final Localization localization;
+
+        private final Map<String, XpmRegion> regionsByName;
+
+        private LocalizationRegions(Localization localization, Map<String, XpmRegion> regionsByName) {
+            this.localization = localization;
+            this.regionsByName = regionsByName;
+        }
+    }
 }
@@ -0,0 +1,145 @@
+package com.sdl.dxa.tridion;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sdl.dxa.tridion.modelservice.ModelServiceConfiguration;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class R2SpringConfigurationTest {
+
+    private static final String BODY = "{\"Title\":\"Model\"}";
+
+    private HttpServer server;
+
+    private Set<InetSocketAddress> clients = ConcurrentHashMap.newKeySet();
+
+    private List<String> acceptEncodings = new CopyOnWriteArrayList<>();
+
+    private R2SpringConfiguration configuration;
+
+    private ModelServiceConfiguration modelServiceConfiguration;
+
+    private CloseableHttpClient httpClient;
+
+    @Before
+    public void init() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+
+        configuration = new R2SpringConfiguration();
+        ReflectionTestUtils.setField(configuration, "objectMapper", new ObjectMapper());
+        modelServiceConfiguration = mock(ModelServiceConfiguration.class);
+        when(modelServiceConfiguration.getMaxConnectionsTotal()).thenReturn(200);
+        when(modelServiceConfiguration.getMaxConnectionsPerRoute()).thenReturn(100);
+        when(modelServiceConfiguration.getIdleTimeoutSeconds()).thenReturn(30L);
+        when(modelServiceConfiguration.getConnectTimeoutMillis()).thenReturn(5000);
+        when(modelServiceConfiguration.getReadTimeoutMillis()).thenReturn(30000);
+        when(modelServiceConfiguration.isGzipEnabled()).thenReturn(true);
+        ReflectionTestUtils.setField(configuration, "modelServiceConfiguration", modelServiceConfiguration);
+    }
+
+    @After
+    public void shutdown() throws IOException {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+        server.stop(0);
+    }
+
+    @Test
+    public void shouldReuseConnections_ForSubsequentRequests() {
+        //given
+        RestTemplate restTemplate = restTemplate();
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            assertEquals(BODY, restTemplate.getForObject(url("/PageModel/" + i), String.class));
+        }
+
+        //then
+        assertEquals(1, clients.size());
+    }
+
+    @Test
+    public void shouldDecompressGzipResponses_IfEnabled() {
+        //given
+        RestTemplate restTemplate = restTemplate();
+
+        //when
+        String body = restTemplate.getForObject(url("/PageModel/1"), String.class);
+
+        //then
+        assertEquals(BODY, body);
+        assertTrue(acceptEncodings.get(0).contains("gzip"));
+    }
+
+    @Test
+    public void shouldNotRequestGzip_IfDisabled() {
+        //given
+        when(modelServiceConfiguration.isGzipEnabled()).thenReturn(false);
+        RestTemplate restTemplate = restTemplate();
+
+        //when
+        String body = restTemplate.getForObject(url("/PageModel/1"), String.class);
+
+        //then
+        assertEquals(BODY, body);
+        assertNull(acceptEncodings.get(0));
+    }
+
+    private RestTemplate restTemplate() {
+        RestTemplate restTemplate = configuration.modelServiceRestTemplate();
+        httpClient = (CloseableHttpClient) ((HttpComponentsClientHttpRequestFactory) restTemplate.getRequestFactory()).getHttpClient();
+        return restTemplate;
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        clients.add(exchange.getRemoteAddress());
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        acceptEncodings.add(acceptEncoding);
+
+        byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(body);
+            }
+            body = compressed.toByteArray();
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+}
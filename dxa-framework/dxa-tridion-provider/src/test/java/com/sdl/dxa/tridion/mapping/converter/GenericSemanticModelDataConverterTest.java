@@ -0,0 +1,259 @@
+package com.sdl.dxa.tridion.mapping.converter;
+
+import com.sdl.dxa.api.datamodel.model.EntityModelData;
+import com.sdl.dxa.api.datamodel.model.PageModelData;
+import com.sdl.dxa.api.datamodel.model.RegionModelData;
+import com.sdl.dxa.tridion.mapping.ModelBuilderPipeline;
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.content.LinkRequest;
+import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingRegistry;
+import com.sdl.webapp.common.api.mapping.semantic.annotations.SemanticEntity;
+import com.sdl.webapp.common.api.mapping.semantic.annotations.SemanticProperty;
+import com.sdl.webapp.common.api.model.entity.AbstractEntityModel;
+import com.sdl.webapp.common.impl.mapping.SemanticMappingRegistryImpl;
+import com.sdl.webapp.tridion.linking.AbstractLinkResolver;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.support.PropertySourcesPlaceholderConfigurer;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static com.sdl.webapp.common.api.mapping.semantic.config.SemanticVocabulary.SDL_CORE;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = GenericSemanticModelDataConverterTest.SpringConfigurationContext.class)
+@ActiveProfiles("test")
+public class GenericSemanticModelDataConverterTest {
+
+    @Autowired
+    private GenericSemanticModelDataConverter converter;
+
+    @Autowired
+    private CountingLinkResolver linkResolver;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final Function<EntityModelData, Class<?>> entityModelType =
+            entity -> "4".equals(entity.getId()) ? NotSelfLinkedEntity.class : SelfLinkedEntity.class;
+
+    @Before
+    public void init() {
+        cacheManager.getCache("defaultCache").clear();
+        linkResolver.reset();
+    }
+
+    @Test
+    public void shouldResolveSelfLink_FromCache_AfterPrefetch() throws Exception {
+        //given
+        EntityModelData entity = new EntityModelData().setId("2");
+        converter.prefetchSelfLinks(page(entity), entityModelType);
+
+        //when
+        Object link = converter.selfLink(entity, TypeDescriptor.valueOf(String.class), mock(ModelBuilderPipeline.class));
+
+        //then
+        assertEquals("/resolved/2", link);
+        assertEquals(1, linkResolver.getBatches().size());
+        assertEquals(0, linkResolver.getSingleResolutions());
+    }
+
+    @Test
+    public void shouldPrefetchOnlySelfLinkedEntities_WithComponentIds() {
+        //given
+        PageModelData page = page(
+                new EntityModelData().setId("2"),
+                new EntityModelData().setId("tcm:1-3"),
+                new EntityModelData().setId("4"),
+                new EntityModelData().setId("1458-9195"));
+
+        //when
+        converter.prefetchSelfLinks(page, entityModelType);
+
+        //then
+        assertEquals(Collections.singletonList(Arrays.asList(
+                LinkRequest.of("tcm:1-2", "1"), LinkRequest.of("tcm:1-3", "1"))), linkResolver.getBatches());
+        assertEquals(0, linkResolver.getSingleResolutions());
+    }
+
+    @Test
+    public void shouldResolveSelfLink_OneByOne_WithoutPrefetch() throws Exception {
+        //given
+        EntityModelData entity = new EntityModelData().setId("2");
+
+        //when
+        Object link = converter.selfLink(entity, TypeDescriptor.valueOf(String.class), mock(ModelBuilderPipeline.class));
+
+        //then
+        assertEquals("/resolved/2", link);
+        assertEquals(1, linkResolver.getSingleResolutions());
+    }
+
+    @Test
+    public void shouldCacheSelfLink_LikeOtherResolvedLinks() throws Exception {
+        //given
+        EntityModelData entity = new EntityModelData().setId("2");
+        converter.selfLink(entity, TypeDescriptor.valueOf(String.class), mock(ModelBuilderPipeline.class));
+
+        //when
+        Object link = converter.selfLink(entity, TypeDescriptor.valueOf(String.class), mock(ModelBuilderPipeline.class));
+
+        //then
+        assertEquals("/resolved/2", link);
+        assertEquals(1, linkResolver.getSingleResolutions());
+    }
+
+    private static PageModelData page(EntityModelData... entities) {
+        RegionModelData region = new RegionModelData();
+        region.setEntities(Arrays.asList(entities));
+        PageModelData page = new PageModelData();
+        page.setId("640");
+        page.setRegions(Collections.singletonList(region));
+        return page;
+    }
+
+    @SemanticEntity(entityName = "SelfLinkedEntity", vocabulary = SDL_CORE, prefix = "s")
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class SelfLinkedEntity extends AbstractEntityModel {
+
+        @SemanticProperty("s:_self")
+        private String link;
+    }
+
+    @SemanticEntity(entityName = "NotSelfLinkedEntity", vocabulary = SDL_CORE, prefix = "n")
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class NotSelfLinkedEntity extends AbstractEntityModel {
+
+        @SemanticProperty("n:headline")
+        private String headline;
+    }
+
+    public static class CountingLinkResolver extends AbstractLinkResolver {
+
+        private final List<List<LinkRequest>> batches = new ArrayList<>();
+
+        private final AtomicInteger singleResolutions = new AtomicInteger();
+
+        // accessors instead of fields, because the test sees the caching proxy of the resolver
+        public List<List<LinkRequest>> getBatches() {
+            return batches;
+        }
+
+        public int getSingleResolutions() {
+            return singleResolutions.get();
+        }
+
+        public void reset() {
+            batches.clear();
+            singleResolutions.set(0);
+        }
+
+        @Override
+        public Map<LinkRequest, String> resolveLinks(Collection<LinkRequest> linkRequests) {
+            batches.add(new ArrayList<>(linkRequests));
+            return super.resolveLinks(linkRequests);
+        }
+
+        @Override
+        protected Map<BatchedLink, String> _resolveBatch(Collection<BatchedLink> links) {
+            Map<BatchedLink, String> resolved = new HashMap<>();
+            links.forEach(link -> resolved.put(link, "/resolved/" + link.getData().getItemId()));
+            return resolved;
+        }
+
+        @Override
+        protected Function<ResolvingData, Optional<String>> _componentResolver() {
+            return data -> {
+                singleResolutions.incrementAndGet();
+                return Optional.of("/resolved/" + data.getItemId());
+            };
+        }
+
+        @Override
+        protected Function<ResolvingData, Optional<String>> _pageResolver() {
+            return _componentResolver();
+        }
+
+        @Override
+        protected Function<ResolvingData, Optional<String>> _binaryResolver() {
+            return _componentResolver();
+        }
+    }
+
+    @Configuration
+    @Profile("test")
+    @EnableCaching(proxyTargetClass = true)
+    public static class SpringConfigurationContext {
+
+        @Bean
+        public static PropertySourcesPlaceholderConfigurer propertySourcesPlaceholderConfigurer() {
+            return new PropertySourcesPlaceholderConfigurer();
+        }
+
+        @Bean
+        public CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager("defaultCache");
+        }
+
+        @Bean
+        public CountingLinkResolver linkResolver() {
+            return new CountingLinkResolver();
+        }
+
+        @Bean
+        public GenericSemanticModelDataConverter genericSemanticModelDataConverter() {
+            return new GenericSemanticModelDataConverter();
+        }
+
+        @Bean
+        public StringModelConverter stringConverter() {
+            return new StringModelConverter();
+        }
+
+        @Bean
+        public SemanticMappingRegistry semanticMappingRegistry() {
+            SemanticMappingRegistryImpl registry = new SemanticMappingRegistryImpl();
+            registry.registerEntity(SelfLinkedEntity.class);
+            registry.registerEntity(NotSelfLinkedEntity.class);
+            return registry;
+        }
+
+        @Bean
+        public WebRequestContext webRequestContext() {
+            Localization localization = mock(Localization.class);
+            when(localization.getId()).thenReturn("1");
+            WebRequestContext webRequestContext = mock(WebRequestContext.class);
+            when(webRequestContext.getLocalization()).thenReturn(localization);
+            return webRequestContext;
+        }
+    }
+}
@@ -6,13 +6,20 @@ import com.sdl.dxa.common.dto.StaticContentRequestDto;
 import com.sdl.dxa.tridion.content.StaticContentResolver;
 import com.sdl.dxa.tridion.mapping.ModelBuilderPipeline;
 import com.sdl.dxa.tridion.modelservice.DefaultModelServiceProvider;
+import com.sdl.web.api.meta.WebComponentMetaFactory;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.content.ConditionalEntityEvaluator;
 import com.sdl.webapp.common.api.content.ContentProviderException;
+import com.sdl.webapp.common.api.content.LinkRequest;
+import com.sdl.webapp.common.api.content.LinkResolver;
 import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.api.model.EntityModel;
 import com.sdl.webapp.common.api.model.PageModel;
+import com.sdl.webapp.common.api.model.query.ComponentMetadata;
+import com.sdl.webapp.common.api.model.query.SimpleBrokerQuery;
 import com.sdl.webapp.common.exceptions.DxaException;
+import com.tridion.meta.ComponentMeta;
+import com.tridion.meta.CustomMeta;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -21,15 +28,27 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyCollectionOf;
+import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -122,4 +141,58 @@ public class DefaultContentProviderTest {
                 .baseUrl("baseUrl")
                 .build()));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldFetchMetadataOncePerComponent_AndResolveLinksInBatch() {
+        //given
+        WebComponentMetaFactory metaFactory = mock(WebComponentMetaFactory.class);
+        for (int id = 1; id <= 5; id++) {
+            ComponentMeta componentMeta = componentMeta(id);
+            when(metaFactory.getMeta("tcm:42-" + id)).thenReturn(id == 3 ? null : componentMeta);
+        }
+
+        LinkResolver linkResolver = mock(LinkResolver.class);
+        when(linkResolver.resolveLinks(anyCollectionOf(LinkRequest.class))).thenAnswer(invocation -> {
+            Map<LinkRequest, String> resolved = new LinkedHashMap<>();
+            for (LinkRequest request : (Collection<LinkRequest>) invocation.getArguments()[0]) {
+                resolved.put(request, "/resolved/" + request.getUrl());
+            }
+            return resolved;
+        });
+
+        DefaultContentProvider provider = spy(new DefaultContentProvider(webRequestContext, null, linkResolver,
+                modelBuilderPipeline, defaultModelService));
+        doReturn(Arrays.asList("tcm:42-1", "tcm:42-2", "tcm:42-3", "tcm:42-4", "tcm:42-5"))
+                .when(provider).executeQuery(any(SimpleBrokerQuery.class));
+        doReturn(metaFactory).when(provider).createComponentMetaFactory(anyInt());
+
+        SimpleBrokerQuery query = new SimpleBrokerQuery();
+        query.setPublicationId(42);
+        query.setPageSize(3);
+
+        //when
+        List<ComponentMetadata> metadata = provider.executeMetadataQuery(query);
+
+        //then
+        assertEquals(3, metadata.size());
+        assertEquals("4", metadata.get(2).getId());
+        assertEquals("/resolved/tcm:42-1", metadata.get(0).getComponentUrl());
+        assertTrue(query.isHasMore());
+        for (int id = 1; id <= 4; id++) {
+            verify(metaFactory, times(1)).getMeta("tcm:42-" + id);
+        }
+        verify(metaFactory, never()).getMeta("tcm:42-5");
+        verify(linkResolver, times(1)).resolveLinks(anyCollectionOf(LinkRequest.class));
+        verify(linkResolver, never()).resolveLink(anyString(), anyString(), anyBoolean());
+    }
+
+    private static ComponentMeta componentMeta(int id) {
+        CustomMeta customMeta = mock(CustomMeta.class);
+        when(customMeta.getNameValues()).thenReturn(Collections.emptyMap());
+        ComponentMeta componentMeta = mock(ComponentMeta.class);
+        when(componentMeta.getId()).thenReturn(id);
+        when(componentMeta.getPublicationId()).thenReturn(42);
+        when(componentMeta.getCustomMeta()).thenReturn(customMeta);
+        return componentMeta;
+    }
+}
@@ -5,9 +5,11 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
 import com.sdl.dxa.api.datamodel.DataModelSpringConfiguration;
 import com.sdl.dxa.api.datamodel.model.EntityModelData;
+import com.sdl.dxa.api.datamodel.model.MvcModelData;
 import com.sdl.dxa.api.datamodel.model.PageModelData;
 import com.sdl.dxa.api.datamodel.model.RegionModelData;
 import com.sdl.dxa.api.datamodel.model.ViewModelData;
+import com.sdl.dxa.caching.LocalizationAwareCacheKey;
 import com.sdl.dxa.caching.LocalizationAwareKeyGenerator;
 import com.sdl.dxa.caching.LocalizationIdProvider;
 import com.sdl.dxa.caching.NamedCacheProvider;
@@ -53,6 +55,7 @@ import org.springframework.core.io.ClassPathResource;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.cache.Cache;
 import java.io.IOException;
@@ -61,6 +64,7 @@ import java.util.Collections;
 import static com.sdl.webapp.common.api.mapping.semantic.config.SemanticVocabulary.SDL_CORE_VOCABULARY;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyBoolean;
 import static org.mockito.Matchers.anyString;
@@ -188,7 +192,38 @@ public class DefaultModelBuilderTest {
 
 //        ((ItemList) pageModel.getRegions().get("Hero").getEntity("1472"))
 
-        verify(pagesCopyingCache).containsKey(eq(pagesCopyingCache.getSpecificKey(pageModelData)));
+        LocalizationAwareCacheKey pageKey = pagesCopyingCache.getSpecificKey(pageModelData);
+        verify(pagesCopyingCache).getOrLoad(eq(pageKey), any());
+    }
+
+    @Test
+    public void shouldNotPrefetchSelfLinks_OfCachedEntities() {
+        //given
+        EntityModelData entity = new EntityModelData().setId("4838");
+        entity.setMvcData(MvcModelData.builder().viewName("TestClassView").build());
+        Object notCached = ReflectionTestUtils.invokeMethod(modelBuilder, "_getEntityModelType", entity);
+
+        NamedCacheProvider cacheProvider = mock(NamedCacheProvider.class);
+        Cache cache = mock(Cache.class);
+        when(cacheProvider.getCache(anyString(), any(), any())).thenReturn(cache);
+        when(cacheProvider.isCacheEnabled("entities")).thenReturn(true);
+        when(cache.containsKey(any())).thenReturn(true);
+        EntitiesCache cachedEntities = new EntitiesCache();
+        cachedEntities.setCacheProvider(cacheProvider);
+        cachedEntities.setKeyGenerator(mock(LocalizationAwareKeyGenerator.class));
+
+        //when
+        Object cached;
+        ReflectionTestUtils.setField(modelBuilder, "entitiesCache", cachedEntities);
+        try {
+            cached = ReflectionTestUtils.invokeMethod(modelBuilder, "_getEntityModelType", entity);
+        } finally {
+            ReflectionTestUtils.setField(modelBuilder, "entitiesCache", entitiesCache);
+        }
+
+        //then
+        assertEquals(TestEntity.class, notCached);
+        assertNull(cached);
     }
 
     private void assertEqualsAndNotNull(Object expected, Object actual) {
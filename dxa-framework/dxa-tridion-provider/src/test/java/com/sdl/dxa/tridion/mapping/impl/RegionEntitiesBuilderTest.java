@@ -0,0 +1,127 @@
+package com.sdl.dxa.tridion.mapping.impl;
+
+import com.sdl.dxa.api.datamodel.model.EntityModelData;
+import com.sdl.webapp.common.api.model.EntityModel;
+import com.sdl.webapp.common.api.model.entity.ExceptionEntity;
+import com.sdl.webapp.common.api.model.entity.Link;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class RegionEntitiesBuilderTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void shouldPassEntitiesInOrderTheyWereAdded() {
+        //given
+        RegionEntitiesBuilder builder = new RegionEntitiesBuilder(modelData -> {
+            sleep(100 - Integer.parseInt(modelData.getId()) * 10);
+            return link(modelData.getId());
+        }, executor);
+        List<String> ids = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < 8; i++) {
+            builder.add(EntityModelData.builder().id(String.valueOf(i)).build(), entity -> ids.add(entity.getId()));
+        }
+        builder.complete();
+
+        //then
+        assertEquals(8, ids.size());
+        for (int i = 0; i < 8; i++) {
+            assertEquals(String.valueOf(i), ids.get(i));
+        }
+    }
+
+    @Test
+    public void shouldReplaceFailedEntityWithExceptionEntity() {
+        //given
+        RegionEntitiesBuilder builder = new RegionEntitiesBuilder(modelData -> {
+            if ("2".equals(modelData.getId())) {
+                throw new IllegalStateException("Broken entity");
+            }
+            return link(modelData.getId());
+        }, executor);
+        List<EntityModel> entities = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < 3; i++) {
+            builder.add(EntityModelData.builder().id(String.valueOf(i)).build(), entities::add);
+        }
+        builder.complete();
+
+        //then
+        assertEquals(3, entities.size());
+        assertEquals("1", entities.get(1).getId());
+        assertTrue(entities.get(2) instanceof ExceptionEntity);
+    }
+
+    @Test
+    public void shouldPropagateRequestAttributesToWorkers() {
+        //given
+        RequestAttributes attributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(attributes);
+        List<RequestAttributes> seen = new ArrayList<>();
+        RegionEntitiesBuilder builder = new RegionEntitiesBuilder(modelData -> {
+            synchronized (seen) {
+                seen.add(RequestContextHolder.getRequestAttributes());
+            }
+            return link(modelData.getId());
+        }, executor);
+
+        //when
+        builder.add(EntityModelData.builder().id("1").build(), entity -> { });
+        builder.complete();
+
+        //then
+        assertEquals(1, seen.size());
+        assertSame(attributes, seen.get(0));
+    }
+
+    @Test
+    public void shouldBuildImmediatelyWithoutExecutor() {
+        //given
+        RegionEntitiesBuilder builder = new RegionEntitiesBuilder(modelData -> link(modelData.getId()), null);
+        List<EntityModel> entities = new ArrayList<>();
+
+        //when
+        builder.add(EntityModelData.builder().id("1").build(), entities::add);
+
+        //then
+        assertEquals(1, entities.size());
+    }
+
+    private static Link link(String id) {
+        Link link = new Link();
+        link.setId(id);
+        return link;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
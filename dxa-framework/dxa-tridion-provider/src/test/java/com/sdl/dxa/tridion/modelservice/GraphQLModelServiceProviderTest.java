@@ -144,4 +144,19 @@ public class GraphQLModelServiceProviderTest {
         assertEquals("/about", result.getLinkUrl());
         assertEquals("tcm", result.getNamespace());
     }
+
+    @Test
+    public void shouldMapTreeTheSameWayAsParsedString() throws Exception {
+        //given
+        JsonNode page = mapper.readTree(new ClassPathResource("pcaPageModel.json").getInputStream());
+        JsonNode entity = mapper.readTree(new ClassPathResource("pcaEntityModel.json").getInputStream());
+
+        //when
+        PageModelData pageModelData = modelServiceProvider.mapToType(PageModelData.class, page);
+        EntityModelData entityModelData = modelServiceProvider.mapToType(EntityModelData.class, entity);
+
+        //then
+        assertEquals(mapper.readValue(page.toString(), PageModelData.class), pageModelData);
+        assertEquals(mapper.readValue(entity.toString(), EntityModelData.class), entityModelData);
+    }
 }
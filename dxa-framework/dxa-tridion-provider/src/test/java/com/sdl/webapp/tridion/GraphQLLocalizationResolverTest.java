@@ -8,6 +8,7 @@ import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.api.localization.LocalizationFactory;
 import com.sdl.webapp.common.api.localization.LocalizationFactoryException;
 import com.sdl.webapp.common.api.localization.LocalizationResolverException;
+import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -16,7 +17,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -43,6 +57,12 @@ public class GraphQLLocalizationResolverTest {
     @Before
     public void setup(){
         when(apiClientProvider.getClient()).thenReturn(publicContentApi);
+        pcaLocalizationResolver.setPublicationMappingCache(60, 10000);
+    }
+
+    @After
+    public void shutdown() {
+        pcaLocalizationResolver.shutdown();
     }
 
     @Test
@@ -58,4 +78,80 @@ public class GraphQLLocalizationResolverTest {
 
         Assert.assertNotNull(pcaLocalizationResolver.getLocalization(testUrl));
     }
+
+    @Test
+    public void shouldRequestPublicationMappingOncePerPrefix() throws LocalizationFactoryException, LocalizationResolverException {
+        //given
+        when(localizationFactory.createLocalization("5", "/")).thenReturn(localization);
+        when(localization.getId()).thenReturn("5");
+        when(publicationMapping.getPublicationId()).thenReturn(5);
+        when(publicationMapping.getPath()).thenReturn("/");
+        when(publicContentApi.getPublicationMapping(eq(ContentNamespace.Sites), anyString())).thenReturn(publicationMapping);
+
+        //when
+        pcaLocalizationResolver.getLocalization("http://localhost:8882/index.html");
+        pcaLocalizationResolver.getLocalization("http://localhost:8882/about.html");
+        pcaLocalizationResolver.refreshLocalization(localization);
+        pcaLocalizationResolver.getLocalization("http://localhost:8882/index.html");
+
+        //then
+        verify(publicContentApi, times(2)).getPublicationMapping(eq(ContentNamespace.Sites), anyString());
+        verify(publicContentApi, times(2)).getPublicationMapping(ContentNamespace.Sites, "http://localhost:8882/index.html");
+        verify(localizationFactory, times(2)).createLocalization("5", "/");
+    }
+
+    @Test
+    public void shouldCacheUnmappedUrls() throws LocalizationResolverException {
+        //given
+        when(publicContentApi.getPublicationMapping(eq(ContentNamespace.Sites), anyString())).thenReturn(null);
+
+        //when
+        for (int i = 0; i < 2; i++) {
+            try {
+                pcaLocalizationResolver.getLocalization("http://localhost:8882/random/wp-login.php");
+                Assert.fail("Publication mapping is not expected to be found");
+            } catch (PublicationMappingNotFoundException e) {
+                //expected
+            }
+        }
+
+        //then
+        verify(publicContentApi, times(1)).getPublicationMapping(eq(ContentNamespace.Sites), anyString());
+    }
+
+    @Test
+    public void shouldCreateLocalizationOnce_ForConcurrentFirstRequests() throws Exception {
+        //given
+        int requests = 200;
+        when(localizationFactory.createLocalization("5", "/")).thenAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(100);
+            return localization;
+        });
+        when(publicationMapping.getPublicationId()).thenReturn(5);
+        when(publicationMapping.getPath()).thenReturn("/");
+        when(publicContentApi.getPublicationMapping(eq(ContentNamespace.Sites), anyString())).thenReturn(publicationMapping);
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+
+        //when
+        List<Future<Localization>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < requests; i++) {
+                String url = "http://localhost:8882/page" + i + ".html";
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return pcaLocalizationResolver.getLocalization(url);
+                }));
+            }
+            start.countDown();
+
+            //then
+            for (Future<Localization> result : results) {
+                assertSame(localization, result.get(10, TimeUnit.SECONDS));
+            }
+            verify(localizationFactory, times(1)).createLocalization(anyString(), anyString());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
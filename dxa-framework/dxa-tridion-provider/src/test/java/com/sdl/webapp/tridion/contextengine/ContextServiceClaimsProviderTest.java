@@ -1,5 +1,8 @@
 package com.sdl.webapp.tridion.contextengine;
 
+import com.google.common.collect.Sets;
+import com.sdl.context.api.Aspect;
+import com.sdl.context.api.ContextMap;
 import com.sdl.context.api.exception.ResolverException;
 import com.sdl.context.api.resolution.Evidence;
 import com.sdl.context.odata.client.api.ODataContextEngine;
@@ -19,13 +22,19 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 import java.util.Map;
 
 import static org.apache.commons.collections4.MapUtils.isEmpty;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.argThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -114,4 +123,68 @@ public class ContextServiceClaimsProviderTest {
             }
         }));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldResolveClaimsOnce_PerDistinctEvidences() throws DxaException, ResolverException {
+        //given
+        when(httpServletRequest.getHeader("user-agent")).thenReturn("Agent A", " Agent A ", "Agent B", "Agent A", "Agent A");
+        when(httpServletRequest.getCookies()).thenReturn(null, null, null,
+                new Cookie[]{new Cookie("context", "dw~1920")}, new Cookie[]{new Cookie("other", "value")});
+
+        //when
+        for (int i = 0; i < 5; i++) {
+            contextServiceClaimsProvider.getContextClaims(null);
+        }
+
+        //then
+        verify(oDataContextEngine, times(3)).resolve(any(Evidence.class));
+    }
+
+    @Test
+    public void shouldReturnClaimsOfAspect_FromCachedClaims() throws DxaException, ResolverException {
+        //given
+        ContextMap<?> contextMap = contextMap();
+        doReturn(contextMap).when(oDataContextEngine).resolve(any(Evidence.class));
+
+        //when
+        Map<String, Object> all = contextServiceClaimsProvider.getContextClaims(null);
+        Map<String, Object> browser = contextServiceClaimsProvider.getContextClaims("browser");
+        all.clear();
+        Map<String, Object> again = contextServiceClaimsProvider.getContextClaims(null);
+
+        //then
+        assertEquals(1, browser.size());
+        assertEquals("Chrome", browser.get("browser.model"));
+        assertEquals(2, again.size());
+        verify(oDataContextEngine, times(1)).resolve(any(Evidence.class));
+    }
+
+    @Test
+    public void shouldResolveClaimsEveryTime_IfCacheIsDisabled() throws DxaException, ResolverException {
+        //given
+        contextServiceClaimsProvider.setClaimsCache(0, 10);
+
+        //when
+        contextServiceClaimsProvider.getContextClaims(null);
+        contextServiceClaimsProvider.getContextClaims(null);
+
+        //then
+        verify(oDataContextEngine, times(2)).resolve(any(Evidence.class));
+    }
+
+    private static ContextMap<?> contextMap() {
+        Aspect browser = mock(Aspect.class);
+        when(browser.keySet()).thenReturn(Sets.newHashSet("model"));
+        when(browser.get("model")).thenReturn("Chrome");
+
+        Aspect device = mock(Aspect.class);
+        when(device.keySet()).thenReturn(Sets.newHashSet("mobile"));
+        when(device.get("mobile")).thenReturn(false);
+
+        ContextMap<?> contextMap = mock(ContextMap.class);
+        when(contextMap.keySet()).thenReturn(Sets.newHashSet("browser", "device"));
+        doReturn(browser).when(contextMap).get("browser");
+        doReturn(device).when(contextMap).get("device");
+        return contextMap;
+    }
+}
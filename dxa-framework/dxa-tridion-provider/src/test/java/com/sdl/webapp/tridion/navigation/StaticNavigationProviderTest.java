@@ -35,6 +35,7 @@ import java.util.List;
 import static com.sdl.webapp.tridion.navigation.StaticNavigationProvider.TYPE_STRUCTURE_GROUP;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
@@ -171,6 +172,46 @@ public class StaticNavigationProviderTest {
         //exception
     }
 
+    @Test
+    public void shouldLoadNavigationModelOnceForLocalization() throws ContentProviderException {
+        //when
+        provider.getNavigationModel(localization);
+        provider.getTopNavigationLinks("", localization);
+        provider.getContextNavigationLinks("parent/child1", localization);
+        provider.getBreadcrumbNavigationLinks("parent/child1", localization);
+
+        //then
+        verify(provider, times(1)).getPageContent(eq(NORMALIZED_PATH), eq(localization));
+        verify(linkResolver, times(2)).resolveLink(eq("parent"), eq("1"));
+    }
+
+    @Test
+    public void shouldReturnCopyOfNavigationModel() throws NavigationProviderException {
+        //given
+        SitemapItem navigationModel = provider.getNavigationModel(localization);
+
+        //when
+        navigationModel.getItems().clear();
+        navigationModel.setUrl("changed");
+
+        //then
+        SitemapItem another = provider.getNavigationModel(localization);
+        assertEquals("parent", another.getUrl());
+        assertEquals(3, another.getItems().size());
+        assertEquals(another, another.getItems().iterator().next().getParent());
+    }
+
+    @Test
+    public void shouldNotFindNavigationLinksForNotMatchingPath() throws NavigationProviderException {
+        //when
+        NavigationLinks context = provider.getContextNavigationLinks("other", localization);
+        NavigationLinks breadcrumb = provider.getBreadcrumbNavigationLinks("other", localization);
+
+        //then
+        assertTrue(context.getItems().isEmpty());
+        assertTrue(breadcrumb.getItems().isEmpty());
+    }
+
     @Test
     public void shouldGetNavigationLinksForTopLevel() throws NavigationProviderException {
         //when
@@ -0,0 +1,201 @@
+package com.sdl.webapp.tridion.xpm;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sdl.webapp.common.api.content.ContentProvider;
+import com.sdl.webapp.common.api.content.StaticContentItem;
+import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.xpm.XpmRegion;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class XpmRegionConfigImplTest {
+
+    private static final int THREADS = 8;
+
+    private static final String REGIONS_PATH = "/system/mappings/regions.json";
+
+    private ContentProvider contentProvider;
+
+    private XpmRegionConfigImpl xpmRegionConfig;
+
+    private ExecutorService executor;
+
+    @Before
+    public void init() {
+        contentProvider = mock(ContentProvider.class);
+        xpmRegionConfig = new XpmRegionConfigImpl(contentProvider, new ObjectMapper());
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @After
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldLoadRegionsOfLocalizationOnce() throws Exception {
+        //given
+        Localization localization = localization("1");
+        when(contentProvider.getStaticContent(REGIONS_PATH, "1", "/1")).thenAnswer(invocation -> regions("Main", "Hero"));
+
+        //when
+        XpmRegion main = xpmRegionConfig.getXpmRegion("Main", localization);
+        XpmRegion hero = xpmRegionConfig.getXpmRegion("Hero", localization);
+        XpmRegion unknown = xpmRegionConfig.getXpmRegion("Unknown", localization);
+
+        //then
+        assertEquals("Main", main.getRegionName());
+        assertEquals("Hero", hero.getRegionName());
+        assertNull(unknown);
+        verify(contentProvider, times(1)).getStaticContent(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    public void shouldReloadRegions_WhenLocalizationIsRefreshed() throws Exception {
+        //given
+        Localization localization = localization("1");
+        Localization refreshed = localization("1");
+        when(contentProvider.getStaticContent(REGIONS_PATH, "1", "/1"))
+                .thenAnswer(invocation -> regions("Main"))
+                .thenAnswer(invocation -> regions("Main", "Hero"));
+
+        //when
+        XpmRegion before = xpmRegionConfig.getXpmRegion("Hero", localization);
+        XpmRegion after = xpmRegionConfig.getXpmRegion("Hero", refreshed);
+
+        //then
+        assertNull(before);
+        assertNotNull(after);
+        verify(contentProvider, times(2)).getStaticContent(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    public void shouldLoadRegionsOnce_ForConcurrentRequestsOfSameLocalization() throws Exception {
+        //given
+        Localization localization = localization("1");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(contentProvider.getStaticContent(REGIONS_PATH, "1", "/1")).thenAnswer(invocation -> {
+            loads.incrementAndGet();
+            release.await();
+            return regions("Main");
+        });
+
+        //when
+        List<Future<XpmRegion>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return xpmRegionConfig.getXpmRegion("Main", localization);
+            }));
+        }
+        start.countDown();
+        TimeUnit.MILLISECONDS.sleep(200);
+        release.countDown();
+
+        //then
+        XpmRegion region = results.get(0).get(5, TimeUnit.SECONDS);
+        assertNotNull(region);
+        for (Future<XpmRegion> result : results) {
+            assertSame(region, result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void shouldNotBlockOtherLocalizations_WhileRegionsAreLoaded() throws Exception {
+        //given
+        Localization slow = localization("1");
+        Localization fast = localization("2");
+        Localization loaded = localization("3");
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        CountDownLatch releaseSlow = new CountDownLatch(1);
+        when(contentProvider.getStaticContent(REGIONS_PATH, "1", "/1")).thenAnswer(invocation -> {
+            slowStarted.countDown();
+            releaseSlow.await();
+            return regions("Main");
+        });
+        when(contentProvider.getStaticContent(REGIONS_PATH, "2", "/2")).thenAnswer(invocation -> regions("Main"));
+        when(contentProvider.getStaticContent(REGIONS_PATH, "3", "/3")).thenAnswer(invocation -> regions("Main"));
+        xpmRegionConfig.getXpmRegion("Main", loaded);
+
+        //when
+        Future<XpmRegion> slowRegion = executor.submit(() -> xpmRegionConfig.getXpmRegion("Main", slow));
+        assertTrue(slowStarted.await(5, TimeUnit.SECONDS));
+        XpmRegion fastRegion = executor.submit(() -> xpmRegionConfig.getXpmRegion("Main", fast)).get(5, TimeUnit.SECONDS);
+        XpmRegion loadedRegion = executor.submit(() -> xpmRegionConfig.getXpmRegion("Main", loaded)).get(5, TimeUnit.SECONDS);
+
+        //then
+        assertNotNull(fastRegion);
+        assertNotNull(loadedRegion);
+        assertFalse(slowRegion.isDone());
+        releaseSlow.countDown();
+        assertNotNull(slowRegion.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void shouldNotLoadAgain_WhenRegionsCannotBeRead() throws Exception {
+        //given
+        Localization localization = localization("1");
+        StaticContentItem broken = mock(StaticContentItem.class);
+        when(broken.getContent()).thenReturn(new ByteArrayInputStream("not json".getBytes(StandardCharsets.UTF_8)));
+        when(contentProvider.getStaticContent(eq(REGIONS_PATH), eq("1"), eq("/1"))).thenReturn(broken);
+
+        //when
+        XpmRegion first = xpmRegionConfig.getXpmRegion("Main", localization);
+        XpmRegion second = xpmRegionConfig.getXpmRegion("Main", localization);
+
+        //then
+        assertNull(first);
+        assertNull(second);
+        verify(contentProvider, times(1)).getStaticContent(anyString(), anyString(), anyString());
+    }
+
+    private static Localization localization(String id) {
+        Localization localization = mock(Localization.class);
+        when(localization.getId()).thenReturn(id);
+        when(localization.getPath()).thenReturn("/" + id);
+        return localization;
+    }
+
+    private static StaticContentItem regions(String... names) throws Exception {
+        StringBuilder json = new StringBuilder("[");
+        for (String name : names) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append("{\"Region\":\"").append(name).append("\",\"ComponentTypes\":[]}");
+        }
+        json.append(']');
+
+        StaticContentItem item = mock(StaticContentItem.class);
+        when(item.getContent()).thenReturn(new ByteArrayInputStream(json.toString().getBytes(StandardCharsets.UTF_8)));
+        return item;
+    }
+}
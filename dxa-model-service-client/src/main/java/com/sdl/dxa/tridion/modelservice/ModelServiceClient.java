@@ -7,6 +7,7 @@ import com.sdl.web.client.impl.OAuthTokenProvider;
 import com.tridion.ambientdata.AmbientDataContext;
 import com.tridion.ambientdata.claimstore.ClaimStore;
 import com.tridion.ambientdata.web.WebClaims;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
@@ -15,14 +16,17 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
 import javax.cache.annotation.CacheResult;
+import java.lang.reflect.Method;
 import java.net.URI;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -43,6 +47,16 @@ public class ModelServiceClient {
     @Autowired(required = false)
     private RestTemplate restTemplate = new RestTemplate();
 
+    /**
+     * Request without preview token and module specific headers, reused as long as the access token doesn't change.
+     */
+    private volatile SharedRequest sharedRequest;
+
+    /**
+     * Whether a subclass adds module specific headers, only then {@link #processModuleSpecificCookies(HttpHeaders)} is called.
+     */
+    private final boolean moduleSpecificCookies = _overridesModuleSpecificCookies(getClass());
+
     @Autowired
     public ModelServiceClient(ModelServiceConfiguration configuration) {
         this.configuration = configuration;
@@ -56,12 +70,9 @@ public class ModelServiceClient {
 
     private <T> T _makeRequest(String serviceUrl, Class<T> type, boolean isRetry, Object... params) throws ItemNotFoundInModelServiceException {
         try {
-            HttpHeaders headers = new HttpHeaders();
-            processModuleSpecificCookies(headers);
-            processPreviewToken(headers);
-            processAccessToken(headers, isRetry);
+            HttpEntity<?> request = _createRequest(isRetry);
             log.debug("Sending GET request to " + serviceUrl + " with parameters: " + Arrays.toString(params));
-            ResponseEntity<T> response = restTemplate.exchange(serviceUrl, HttpMethod.GET, new HttpEntity<>(null, headers), type, params);
+            ResponseEntity<T> response = restTemplate.exchange(serviceUrl, HttpMethod.GET, request, type, params);
             return response.getBody();
         } catch (HttpStatusCodeException e) {
             HttpStatus statusCode = e.getStatusCode();
@@ -86,6 +97,38 @@ public class ModelServiceClient {
         }
     }
 
+    /**
+     * Creates the request entity with headers for a request. Unless a module adds its own headers, requests without
+     * a preview token only differ by the access token, so their headers are computed once and the entity is reused
+     * until the token changes. The reused entity holds a read-only copy of its headers, so it is safe to share between
+     * request threads. Only the preview session and the access token are checked per request.
+     */
+    private HttpEntity<?> _createRequest(boolean isRetry) {
+        String previewToken = _getPreviewToken();
+        String accessToken = _getAccessToken(isRetry);
+        if (moduleSpecificCookies || previewToken != null) {
+            HttpHeaders headers = new HttpHeaders();
+            processModuleSpecificCookies(headers);
+            processPreviewToken(headers, previewToken);
+            processAccessToken(headers, accessToken);
+            return new HttpEntity<>(null, headers);
+        }
+
+        SharedRequest shared = this.sharedRequest;
+        if (shared == null || !Objects.equals(shared.accessToken, accessToken)) {
+            HttpHeaders headers = new HttpHeaders();
+            processAccessToken(headers, accessToken);
+            shared = new SharedRequest(accessToken, new HttpEntity<>(null, HttpHeaders.readOnlyHttpHeaders(headers)));
+            this.sharedRequest = shared;
+        }
+        return shared.request;
+    }
+
+    private static boolean _overridesModuleSpecificCookies(Class<?> clientClass) {
+        Method method = ReflectionUtils.findMethod(clientClass, "processModuleSpecificCookies", HttpHeaders.class);
+        return method != null && method.getDeclaringClass() != ModelServiceClient.class;
+    }
+
     /**
      * This method is subject to extend the behaviour of ModelService Client.
      * @param headers Http Headers to be extended in particular module
@@ -93,14 +136,21 @@ public class ModelServiceClient {
     protected void processModuleSpecificCookies(HttpHeaders headers) {
     }
 
-    private void processPreviewToken(HttpHeaders headers) {
+    @Nullable
+    private String _getPreviewToken() {
+        ClaimStore claimStore = AmbientDataContext.getCurrentClaimStore();
+        if (claimStore == null) {
+            return null;
+        }
         //noinspection unchecked
-        String previewToken = _getClaimValue(WebClaims.REQUEST_HEADERS, X_PREVIEW_SESSION_TOKEN,
+        return _getClaimValue(claimStore, WebClaims.REQUEST_HEADERS, X_PREVIEW_SESSION_TOKEN,
                 claim -> Optional.of(((List<String>) claim).get(0)))
-                .orElseGet(() -> _getClaimValue(WebClaims.REQUEST_COOKIES, PREVIEW_SESSION_TOKEN,
+                .orElseGet(() -> _getClaimValue(claimStore, WebClaims.REQUEST_COOKIES, PREVIEW_SESSION_TOKEN,
                         claim -> Optional.of(claim.toString()))
                         .orElse(null));
+    }
 
+    private void processPreviewToken(HttpHeaders headers, @Nullable String previewToken) {
         if (previewToken != null) {
             // commented because of bug in CIS https://jira.sdl.com/browse/CRQ-3935
             // headers.add(X_PREVIEW_SESSION_TOKEN, previewToken);
@@ -108,21 +158,39 @@ public class ModelServiceClient {
         }
     }
 
-    private void processAccessToken(HttpHeaders headers, boolean isRetry) {
+    @Nullable
+    private String _getAccessToken(boolean isRetry) {
         OAuthTokenProvider authTokenProvider = configuration.getOAuthTokenProvider();
-        if (authTokenProvider != null) {
-            log.trace("Request is secured, adding security token, it is retry: {}", isRetry);
-            headers.add("Authorization", "Bearer" + authTokenProvider.getToken());
+        if (authTokenProvider == null) {
+            return null;
         }
+        log.trace("Request is secured, adding security token, it is retry: {}", isRetry);
+        return authTokenProvider.getToken();
     }
 
-    private Optional<String> _getClaimValue(URI uri, String key, Function<Object, Optional<String>> deriveValue) {
-        ClaimStore claimStore = AmbientDataContext.getCurrentClaimStore();
-        if (claimStore == null) return Optional.empty();
+    private void processAccessToken(HttpHeaders headers, @Nullable String accessToken) {
+        if (accessToken != null) {
+            headers.add("Authorization", "Bearer" + accessToken);
+        }
+    }
+
+    private Optional<String> _getClaimValue(ClaimStore claimStore, URI uri, String key, Function<Object, Optional<String>> deriveValue) {
         Map claims = claimStore.get(uri, Map.class);
         if (claims != null && claims.containsKey(key)) {
             return deriveValue.apply(claims.get(key));
         }
         return Optional.empty();
     }
+
+    private static final class SharedRequest {
+
+        private final String accessToken;
+
+        private final HttpEntity<?> request;
+
+        private SharedRequest(@Nullable String accessToken, HttpEntity<?> request) {
+            this.accessToken = accessToken;
+            this.request = request;
+        }
+    }
 }
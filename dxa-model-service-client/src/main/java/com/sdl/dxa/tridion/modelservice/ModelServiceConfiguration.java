@@ -37,6 +37,24 @@ public class ModelServiceConfiguration extends BaseClientConfigurationLoader {
 
     private String serviceUrl;
 
+    @Value("${dxa.model.service.http.pool.max-total:200}")
+    private int maxConnectionsTotal = 200;
+
+    @Value("${dxa.model.service.http.pool.max-per-route:100}")
+    private int maxConnectionsPerRoute = 100;
+
+    @Value("${dxa.model.service.http.pool.idle-timeout:30}")
+    private long idleTimeoutSeconds = 30;
+
+    @Value("${dxa.model.service.http.connect-timeout:5000}")
+    private int connectTimeoutMillis = 5000;
+
+    @Value("${dxa.model.service.http.read-timeout:30000}")
+    private int readTimeoutMillis = 30000;
+
+    @Value("${dxa.model.service.http.gzip:true}")
+    private boolean gzipEnabled = true;
+
     public ModelServiceConfiguration(
             @Value("${dxa.model.service.url.page.model}") String pageModelUrl,
             @Value("${dxa.model.service.url.entity.model}") String entityModelUrl,
@@ -113,6 +131,60 @@ public class ModelServiceConfiguration extends BaseClientConfigurationLoader {
         return oAuthTokenProvider;
     }
 
+    /**
+     * Returns the max number of pooled connections to Model Service in total, never less than per route.
+     *
+     * @return max number of connections
+     */
+    public int getMaxConnectionsTotal() {
+        return Math.max(maxConnectionsTotal, maxConnectionsPerRoute);
+    }
+
+    /**
+     * Returns the max number of pooled connections to a single Model Service host.
+     *
+     * @return max number of connections per host
+     */
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    /**
+     * Returns the time in seconds after which an idle pooled connection is closed.
+     *
+     * @return idle timeout in seconds
+     */
+    public long getIdleTimeoutSeconds() {
+        return idleTimeoutSeconds;
+    }
+
+    /**
+     * Returns the connect timeout, which is also the max time to wait for a free connection of the pool.
+     *
+     * @return connect timeout in milliseconds
+     */
+    public int getConnectTimeoutMillis() {
+        return connectTimeoutMillis;
+    }
+
+    /**
+     * Returns the read timeout of a request to Model Service.
+     *
+     * @return read timeout in milliseconds
+     */
+    public int getReadTimeoutMillis() {
+        return readTimeoutMillis;
+    }
+
+    /**
+     * Returns whether gzip-compressed responses are requested and decompressed.
+     *
+     * @return whether gzip is enabled
+     */
+    public boolean isGzipEnabled() {
+        return gzipEnabled;
+    }
+
     @Nullable
     private String loadServiceUrlFromCapability(String modelServiceKey) {
         try {
@@ -0,0 +1,180 @@
+package com.sdl.dxa.tridion.modelservice;
+
+import com.sdl.web.client.impl.OAuthTokenProvider;
+import com.tridion.ambientdata.AmbientDataContext;
+import com.tridion.ambientdata.claimstore.ClaimStore;
+import com.tridion.ambientdata.web.WebClaims;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ModelServiceClientTest {
+
+    private static final String URL = "http://localhost:8998/PageModel/{id}";
+
+    private RestTemplate restTemplate = mock(RestTemplate.class);
+
+    private OAuthTokenProvider tokenProvider = mock(OAuthTokenProvider.class);
+
+    private ModelServiceClient client;
+
+    @Before
+    public void init() {
+        ModelServiceConfiguration configuration = mock(ModelServiceConfiguration.class);
+        when(configuration.getOAuthTokenProvider()).thenReturn(tokenProvider);
+        when(tokenProvider.getToken()).thenReturn("token1");
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class), any(Object[].class)))
+                .thenReturn(new ResponseEntity<>("model", HttpStatus.OK));
+
+        client = new ModelServiceClient(configuration);
+        ReflectionTestUtils.setField(client, "restTemplate", restTemplate);
+    }
+
+    @After
+    public void resetClaimStore() {
+        AmbientDataContext.setCurrentClaimStore(null);
+    }
+
+    @Test
+    public void shouldReuseRequest_WithoutPreview() throws Exception {
+        //when
+        client.getForType(URL, String.class, 1);
+        client.getForType(URL, String.class, 2);
+
+        //then
+        List<HttpEntity> requests = captureRequests(2);
+        assertSame(requests.get(0), requests.get(1));
+        assertEquals("Bearertoken1", requests.get(0).getHeaders().getFirst("Authorization"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotAllowChangingHeadersOfReusedRequest() throws Exception {
+        //given
+        client.getForType(URL, String.class, 1);
+
+        //when
+        captureRequests(1).get(0).getHeaders().add("Authorization", "Bearerother");
+    }
+
+    @Test
+    public void shouldSendNewAccessToken_IfItChanged() throws Exception {
+        //given
+        client.getForType(URL, String.class, 1);
+        when(tokenProvider.getToken()).thenReturn("token2");
+
+        //when
+        client.getForType(URL, String.class, 2);
+
+        //then
+        List<HttpEntity> requests = captureRequests(2);
+        assertNotSame(requests.get(0), requests.get(1));
+        assertEquals("Bearertoken1", requests.get(0).getHeaders().getFirst("Authorization"));
+        assertEquals("Bearertoken2", requests.get(1).getHeaders().getFirst("Authorization"));
+    }
+
+    @Test
+    public void shouldRetryWithNewAccessToken_OnUnauthorized() throws Exception {
+        //given
+        when(tokenProvider.getToken()).thenReturn("expired", "token2");
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class), any(Object[].class)))
+                .thenThrow(new HttpClientErrorException(HttpStatus.UNAUTHORIZED))
+                .thenReturn(new ResponseEntity<>("model", HttpStatus.OK));
+
+        //when
+        String model = client.getForType(URL, String.class, 1);
+
+        //then
+        assertEquals("model", model);
+        assertEquals("Bearertoken2", captureRequests(2).get(1).getHeaders().getFirst("Authorization"));
+    }
+
+    @Test
+    public void shouldSendPreviewToken_OnlyWithPreviewSession() throws Exception {
+        //given
+        ClaimStore claimStore = mock(ClaimStore.class);
+        when(claimStore.get(WebClaims.REQUEST_COOKIES, Map.class))
+                .thenReturn(Collections.singletonMap("preview-session-token", "preview"));
+        client.getForType(URL, String.class, 1);
+        AmbientDataContext.setCurrentClaimStore(claimStore);
+
+        //when
+        client.getForType(URL, String.class, 2);
+
+        //then
+        List<HttpEntity> requests = captureRequests(2);
+        assertNull(requests.get(0).getHeaders().getFirst(HttpHeaders.COOKIE));
+        assertEquals("preview-session-token=preview", requests.get(1).getHeaders().getFirst(HttpHeaders.COOKIE));
+        assertEquals("Bearertoken1", requests.get(1).getHeaders().getFirst("Authorization"));
+    }
+
+    @Test
+    public void shouldReuseRequest_IfSubclassDoesNotAddModuleSpecificHeaders() throws Exception {
+        //given
+        ModelServiceConfiguration configuration = mock(ModelServiceConfiguration.class);
+        when(configuration.getOAuthTokenProvider()).thenReturn(tokenProvider);
+        client = new ModelServiceClient(configuration) {
+        };
+        ReflectionTestUtils.setField(client, "restTemplate", restTemplate);
+
+        //when
+        client.getForType(URL, String.class, 1);
+        client.getForType(URL, String.class, 2);
+
+        //then
+        List<HttpEntity> requests = captureRequests(2);
+        assertSame(requests.get(0), requests.get(1));
+    }
+
+    @Test
+    public void shouldSendModuleSpecificHeaders() throws Exception {
+        //given
+        ModelServiceConfiguration configuration = mock(ModelServiceConfiguration.class);
+        client = new ModelServiceClient(configuration) {
+            @Override
+            protected void processModuleSpecificCookies(HttpHeaders headers) {
+                headers.add(HttpHeaders.COOKIE, "module=value");
+            }
+        };
+        ReflectionTestUtils.setField(client, "restTemplate", restTemplate);
+
+        //when
+        client.getForType(URL, String.class, 1);
+        client.getForType(URL, String.class, 2);
+
+        //then
+        List<HttpEntity> requests = captureRequests(2);
+        assertEquals(Collections.singletonList("module=value"), requests.get(0).getHeaders().get(HttpHeaders.COOKIE));
+        assertEquals(Collections.singletonList("module=value"), requests.get(1).getHeaders().get(HttpHeaders.COOKIE));
+    }
+
+    private List<HttpEntity> captureRequests(int count) {
+        ArgumentCaptor<HttpEntity> captor = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate, times(count)).exchange(anyString(), eq(HttpMethod.GET), captor.capture(), eq(String.class), any(Object[].class));
+        return captor.getAllValues();
+    }
+}
@@ -1,13 +1,21 @@
 package org.example.controller;
 
+import com.sdl.dxa.caching.CacheWarmUpService;
+import com.sdl.dxa.caching.CacheWarmUpStatus;
+import com.sdl.dxa.metrics.MetricSnapshot;
+import com.sdl.dxa.metrics.MetricsRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.example.service.AdminService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.ResponseBody;
 
 import javax.cache.CacheManager;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Admin controller that provides access for administrator.
@@ -16,14 +24,24 @@ import javax.cache.CacheManager;
 @Controller
 public class AdminController {
 
+    private static final CacheWarmUpStatus DISABLED_WARM_UP =
+            new CacheWarmUpStatus(CacheWarmUpStatus.State.DISABLED, true, 0, 0, 0, 0, 0);
+
     @Autowired
     private AdminService adminService;
 
     @Autowired(required = false)
     private CacheManager cacheManager;
 
+    @Autowired(required = false)
+    private MetricsRegistry metricsRegistry;
+
+    @Autowired(required = false)
+    private CacheWarmUpService cacheWarmUpService;
+
     /**
-     * Refreshes the current localization and redirects to the given path.
+     * Refreshes the current localization and redirects to the given path. Caches are warmed up again
+     * if the cache warm-up is enabled with {@code dxa.caching.warmup.enabled}.
      *
      * @return the redirect command for Spring MVC
      */
@@ -32,6 +50,50 @@ public class AdminController {
         if (cacheManager != null) {
             cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
         }
-        return "redirect:" + adminService.refreshLocalization();
+        String path = adminService.refreshLocalization();
+        if (cacheWarmUpService != null) {
+            cacheWarmUpService.start();
+        }
+        return "redirect:" + path;
+    }
+
+    /**
+     * Returns a read-only snapshot of DXA metrics, which is empty unless metrics are enabled with {@code dxa.metrics.enabled}.
+     *
+     * @return current values of all metrics
+     */
+    @RequestMapping(method = RequestMethod.GET, value = {"/admin/metrics", "/*/admin/metrics"},
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public List<MetricSnapshot> handleMetrics() {
+        return metricsRegistry != null ? metricsRegistry.snapshot() : Collections.emptyList();
+    }
+
+    /**
+     * Returns the progress and duration of the current or the last cache warm-up.
+     *
+     * @return status of the cache warm-up
+     */
+    @RequestMapping(method = RequestMethod.GET, value = {"/admin/warmup", "/*/admin/warmup"},
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public CacheWarmUpStatus handleWarmUpStatus() {
+        return cacheWarmUpService != null ? cacheWarmUpService.getStatus() : DISABLED_WARM_UP;
+    }
+
+    /**
+     * Starts a cache warm-up unless one is already running, and returns its status.
+     *
+     * @return status of the cache warm-up
+     */
+    @RequestMapping(method = RequestMethod.GET, value = {"/admin/warmup/start", "/*/admin/warmup/start"},
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public CacheWarmUpStatus handleWarmUpStart() {
+        if (cacheWarmUpService == null) {
+            return DISABLED_WARM_UP;
+        }
+        cacheWarmUpService.start();
+        return cacheWarmUpService.getStatus();
     }
 }
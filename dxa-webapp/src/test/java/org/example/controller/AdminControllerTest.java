@@ -1,17 +1,26 @@
 package org.example.controller;
 
+import com.sdl.dxa.caching.CacheWarmUpService;
+import com.sdl.dxa.caching.CacheWarmUpStatus;
+import com.sdl.dxa.metrics.InMemoryMetricsRegistry;
+import com.sdl.dxa.metrics.MetricSnapshot;
+import com.sdl.dxa.metrics.MetricsRegistry;
 import org.example.service.AdminService;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import javax.cache.Cache;
 import javax.cache.CacheManager;
 import java.util.Collections;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -26,6 +35,12 @@ public class AdminControllerTest {
     @Mock
     private CacheManager cacheManager;
 
+    @Mock
+    private CacheWarmUpService cacheWarmUpService;
+
+    @Spy
+    private MetricsRegistry metricsRegistry = new InMemoryMetricsRegistry();
+
     @InjectMocks
     private AdminController adminController;
 
@@ -45,5 +60,72 @@ public class AdminControllerTest {
         verify(adminService).refreshLocalization();
         assertEquals("Should redirect to expected path", "redirect:/index", redirectString);
         verify(cache).clear();
+        verify(cacheWarmUpService).start();
+    }
+
+    @Test
+    public void shouldReturnMetricsSnapshot() {
+        //given
+        metricsRegistry.counter("dxa.cache", "cache", "pages", "result", "hit").increment();
+
+        //when
+        List<MetricSnapshot> metrics = adminController.handleMetrics();
+
+        //then
+        assertEquals(1, metrics.size());
+        assertEquals("dxa.cache", metrics.get(0).getName());
+        assertEquals(1, metrics.get(0).getCount());
+    }
+
+    @Test
+    public void shouldReturnEmptyMetrics_IfNoRegistry() {
+        //given
+        AdminController controller = new AdminController();
+
+        //when
+        List<MetricSnapshot> metrics = controller.handleMetrics();
+
+        //then
+        assertTrue(metrics.isEmpty());
+    }
+
+    @Test
+    public void shouldReturnWarmUpStatus() {
+        //given
+        CacheWarmUpStatus status = new CacheWarmUpStatus(CacheWarmUpStatus.State.RUNNING, false, 10, 4, 1, 1000L, 500L);
+        when(cacheWarmUpService.getStatus()).thenReturn(status);
+
+        //when
+        CacheWarmUpStatus result = adminController.handleWarmUpStatus();
+
+        //then
+        assertSame(status, result);
+    }
+
+    @Test
+    public void shouldStartWarmUp() {
+        //given
+        CacheWarmUpStatus status = new CacheWarmUpStatus(CacheWarmUpStatus.State.RUNNING, true, 0, 0, 0, 1000L, 0L);
+        when(cacheWarmUpService.getStatus()).thenReturn(status);
+
+        //when
+        CacheWarmUpStatus result = adminController.handleWarmUpStart();
+
+        //then
+        verify(cacheWarmUpService).start();
+        assertSame(status, result);
+    }
+
+    @Test
+    public void shouldReturnDisabledWarmUp_IfNoWarmUpService() {
+        //given
+        AdminController controller = new AdminController();
+
+        //when
+        CacheWarmUpStatus status = controller.handleWarmUpStatus();
+
+        //then
+        assertEquals(CacheWarmUpStatus.State.DISABLED, status.getState());
+        assertTrue(status.isReady());
     }
-}
\ No newline at end of file
+}